@@ -1,12 +1,16 @@
 package de.t0bx.eindino;
 
-import com.destroystokyo.paper.profile.PlayerProfile;
 import de.eindino.server.api.ServerAPI;
 import de.eindino.server.api.database.IMySQLManager;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.commands.*;
+import de.t0bx.eindino.config.BalanceManager;
 import de.t0bx.eindino.config.ConfigManager;
+import de.t0bx.eindino.config.ConfigWatcher;
 import de.t0bx.eindino.config.SpawnManager;
-import de.t0bx.eindino.game.GameHandler;
+import de.t0bx.eindino.database.DatabaseConnector;
+import de.t0bx.eindino.database.MigrationRunner;
 import de.t0bx.eindino.inventory.InventoryProvider;
 import de.t0bx.eindino.inventory.inventories.MapVotingInventory;
 import de.t0bx.eindino.inventory.inventories.NavigatorInventory;
@@ -18,15 +22,21 @@ import de.t0bx.eindino.listener.lobby.LobbyInventoryClickListener;
 import de.t0bx.eindino.listener.lobby.PlayerLobbyInteractListener;
 import de.t0bx.eindino.listener.lobby.PlayerLobbyMoveListener;
 import de.t0bx.eindino.manager.ParkourManager;
-import de.t0bx.eindino.map.MapData;
+import de.t0bx.eindino.manager.Top5WallManager;
 import de.t0bx.eindino.map.MapHandler;
-import de.t0bx.eindino.player.BedwarsPlayer;
+import de.t0bx.eindino.map.MapIndexEntry;
+import de.t0bx.eindino.match.MatchHistoryRepository;
 import de.t0bx.eindino.player.PlayerHandler;
+import de.t0bx.eindino.player.ProfileResolver;
 import de.t0bx.eindino.scoreboard.ScoreboardBuilder;
-import de.t0bx.eindino.spectator.SpectatorHandler;
+import de.t0bx.eindino.stats.FileStatsRepository;
+import de.t0bx.eindino.stats.InMemoryStatsRepository;
+import de.t0bx.eindino.stats.JournaledStatsRepository;
+import de.t0bx.eindino.stats.MySQLStatsRepository;
+import de.t0bx.eindino.stats.StatsJournal;
+import de.t0bx.eindino.stats.StatsRepository;
 import de.t0bx.eindino.team.TeamHandler;
-import de.t0bx.eindino.utils.NameFetcher;
-import de.t0bx.eindino.vote.VotingHandler;
+import de.t0bx.eindino.utils.ProfileCache;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -37,49 +47,52 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.*;
-import org.bukkit.block.Block;
-import org.bukkit.block.BlockFace;
-import org.bukkit.block.Sign;
-import org.bukkit.block.Skull;
-import org.bukkit.block.data.Directional;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.profile.PlayerTextures;
 
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 
 @Getter
 public final class BedWarsPlugin extends JavaPlugin {
 
+    private static final long STATS_FLUSH_INTERVAL = 20L * 30;
+    private static final long MATCH_HISTORY_SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final long STATS_SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final long JOURNAL_REPLAY_TIMEOUT_SECONDS = 10;
+
     @Getter
     private static BedWarsPlugin instance;
 
     private CloudServiceProvider cloudServiceProvider;
     private PlayerManager playerManager;
     private IMySQLManager mySQLManager;
+    private DatabaseConnector databaseConnector;
+    private MatchHistoryRepository matchHistoryRepository;
 
     @Setter
     private String prefix;
 
     private ConfigManager configManager;
+    private BalanceManager balanceManager;
+    private ConfigWatcher configWatcher;
     private List<String> teamNames;
     private SpawnManager spawnManager;
+    private StatsRepository statsRepository;
     private PlayerHandler playerHandler;
+    private ProfileResolver profileResolver;
 
     private MapHandler mapHandler;
-    private VotingHandler votingHandler;
+    private ArenaManager arenaManager;
 
-    private TeamHandler teamHandler;
     private ScoreboardBuilder scoreboardBuilder;
-    private GameHandler gameHandler;
-
-    private SpectatorHandler spectatorHandler;
 
     private InventoryProvider inventoryProvider;
     private ShopInventory shopInventory;
@@ -88,7 +101,8 @@ public final class BedWarsPlugin extends JavaPlugin {
 
     private ParkourManager parkourManager;
 
-    @Setter
+    private Top5WallManager top5WallManager;
+
     private List<UUID> top5Hologram;
 
     @Override
@@ -99,25 +113,51 @@ public final class BedWarsPlugin extends JavaPlugin {
         var serviceRegistry = InjectionLayer.boot().instance(ServiceRegistry.class);
         this.playerManager = serviceRegistry.defaultInstance(PlayerManager.class);
 
-        this.mySQLManager = ServerAPI.getInstance().getMySQLManager();
-        this.createDefaultSQLTables();
+        ProfileCache.getInstance().load(new File(this.getDataFolder(), "profile-cache.bin"));
+
         this.configManager = new ConfigManager();
+        this.mySQLManager = ServerAPI.getInstance().getMySQLManager();
+        if (this.isMySQLBackend()) {
+            this.databaseConnector = new DatabaseConnector();
+            // reading from the ServerAPI while writing to another database would split the stats silently
+            if (!this.databaseConnector.isConfigured()) {
+                this.getLogger().severe("The MySQL backend needs a configured database.json, disabling Bedwars");
+                Bukkit.getPluginManager().disablePlugin(this);
+                return;
+            }
+            if (!this.runMigrations()) {
+                this.databaseConnector.close();
+                Bukkit.getPluginManager().disablePlugin(this);
+                return;
+            }
+            this.matchHistoryRepository = new MatchHistoryRepository(this.databaseConnector);
+        }
+        this.statsRepository = this.createStatsRepository();
+        if (this.statsRepository == null) {
+            Bukkit.getPluginManager().disablePlugin(this);
+            return;
+        }
+        this.statsRepository.runMaintenance();
+
+        this.balanceManager = new BalanceManager();
         this.spawnManager = new SpawnManager();
+        this.configWatcher = new ConfigWatcher(this.getDataFolder().toPath());
+        this.configWatcher.register(this.configManager.getFile().getName(), this.configManager::reload);
+        this.configWatcher.register(this.balanceManager.getFile().getName(), this.balanceManager::reload);
+        this.configWatcher.register(this.spawnManager.getFile().getName(), this.spawnManager::reload);
+        this.configWatcher.start();
 
         this.playerHandler = new PlayerHandler();
+        this.profileResolver = new ProfileResolver();
+        this.loadRankIndex();
         this.mapHandler = new MapHandler(this.getDataFolder());
-        this.votingHandler = new VotingHandler();
-        this.teamHandler = new TeamHandler();
+        this.arenaManager = new ArenaManager(this.mapHandler);
         this.teamNames = this.initializePlayType(this.configManager.getPlayType());
-
-        for (String teamName : this.teamNames) {
-            this.createTeamsForPlayType(teamName, this.configManager.getPlayType());
+        for (int i = 1; i <= this.configManager.getArenaCount(); i++) {
+            this.createArena("arena-" + i);
         }
-        this.teamHandler.createTeam("999spectator", MiniMessage.miniMessage().deserialize("<gray>"), NamedTextColor.GRAY, 50);
 
-        this.scoreboardBuilder = new ScoreboardBuilder(this.teamHandler);
-        this.gameHandler = new GameHandler(this.configManager.getPlayType());
-        this.spectatorHandler = new SpectatorHandler();
+        this.scoreboardBuilder = new ScoreboardBuilder();
         this.inventoryProvider = new InventoryProvider();
         this.shopInventory = new ShopInventory();
         this.mapVotingInventory = new MapVotingInventory();
@@ -126,17 +166,53 @@ public final class BedWarsPlugin extends JavaPlugin {
         this.parkourManager = new ParkourManager();
 
         this.setupWorldRules();
-        this.setupTop5Wall();
+        this.top5WallManager = new Top5WallManager(this.playerHandler);
+        this.top5WallManager.update();
         this.initListener();
         this.initCommands();
         this.top5Hologram = this.spawnHolograms();
+        this.startStatsFlushTask();
 
         this.getLogger().info("Bedwars enabled");
     }
 
     @Override
     public void onDisable() {
-        this.teamHandler.deleteAllTeams();
+        if (this.configWatcher != null) {
+            this.configWatcher.stop();
+        }
+        if (this.playerHandler == null) return;
+
+        try {
+            this.playerHandler.flushStats().get(STATS_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception exception) {
+            this.getLogger().log(Level.WARNING, "Failed to flush the stats on shutdown", exception);
+        }
+        this.statsRepository.close();
+        if (this.matchHistoryRepository != null) {
+            this.matchHistoryRepository.awaitPendingWrites(MATCH_HISTORY_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        if (this.databaseConnector != null) {
+            this.databaseConnector.close();
+        }
+        ProfileCache.getInstance().save();
+        for (Arena arena : this.arenaManager.getArenas()) {
+            arena.getTeamHandler().deleteAllTeams();
+        }
+    }
+
+    /**
+     * Creates an arena running rounds of the configured play type, together with its teams.
+     * Players are assigned to the arenas when they join, see {@link ArenaManager#joinArena(org.bukkit.entity.Player)}.
+     *
+     * @param name the unique name of the arena
+     */
+    private void createArena(String name) {
+        Arena arena = this.arenaManager.createArena(name, this.configManager.getPlayType());
+        for (String teamName : this.teamNames) {
+            this.createTeamsForPlayType(arena.getTeamHandler(), teamName);
+        }
+        arena.getTeamHandler().createTeam("999spectator", MiniMessage.miniMessage().deserialize("<gray>"), NamedTextColor.GRAY, 50);
     }
 
     private void initListener() {
@@ -148,10 +224,10 @@ public final class BedWarsPlugin extends JavaPlugin {
         pluginManager.registerEvents(new LobbyInventoryClickListener(), this);
         pluginManager.registerEvents(new PlayerPreLoginListener(), this);
         pluginManager.registerEvents(new WorldCancelListener(), this);
-        pluginManager.registerEvents(new PlayerLobbyMoveListener(this.gameHandler, this.parkourManager), this);
+        pluginManager.registerEvents(new PlayerLobbyMoveListener(this.arenaManager, this.parkourManager), this);
 
-        pluginManager.registerEvents(new PlayerNickListener(this.teamHandler), this);
-        pluginManager.registerEvents(new PlayerUnNickListener(this.teamHandler), this);
+        pluginManager.registerEvents(new PlayerNickListener(this.arenaManager), this);
+        pluginManager.registerEvents(new PlayerUnNickListener(this.arenaManager), this);
 
         pluginManager.registerEvents(new PlayerClickNPCListener(), this);
         pluginManager.registerEvents(new GameInventoryClickListener(), this);
@@ -161,6 +237,7 @@ public final class BedWarsPlugin extends JavaPlugin {
         pluginManager.registerEvents(new SpectatorCancelListener(), this);
         pluginManager.registerEvents(new PlayerChatListener(), this);
         pluginManager.registerEvents(new TeamChestListener(), this);
+        pluginManager.registerEvents(new WorldRollbackListener(), this);
     }
 
     private void initCommands() {
@@ -170,6 +247,7 @@ public final class BedWarsPlugin extends JavaPlugin {
         new ForceMapCommand(this, "forcemap");
         new StatsCommand(this, "stats");
         new TrollCommand(this, "troll");
+        new StatsBenchmarkCommand(this, "statsbenchmark");
     }
 
     private void setupWorldRules() {
@@ -194,8 +272,8 @@ public final class BedWarsPlugin extends JavaPlugin {
             world.setGameRule(GameRule.FALL_DAMAGE, false);
         }
 
-        for (MapData maps : this.mapHandler.getAllMaps()) {
-            World mapWorld = maps.getShops().getFirst().getWorld();
+        for (MapIndexEntry maps : this.mapHandler.getMapIndex()) {
+            World mapWorld = maps.worlds().isEmpty() ? null : Bukkit.getWorld(maps.worlds().getFirst());
             if (mapWorld != null) {
                 mapWorld.getEntities().forEach(Entity::remove);
                 mapWorld.setDifficulty(Difficulty.PEACEFUL);
@@ -216,18 +294,80 @@ public final class BedWarsPlugin extends JavaPlugin {
         }
     }
 
-    private void createDefaultSQLTables() {
-        String playerTable = """
-                CREATE TABLE IF NOT EXISTS bedwars_players(
-                uuid VARCHAR(36) PRIMARY KEY,
-                kills INT(100) DEFAULT 0,
-                deaths INT(100) DEFAULT 0,
-                wins INT(100) DEFAULT 0,
-                gamesPlayed INT(100) DEFAULT 0,
-                bedsDestroyed INT(100) DEFAULT 0)
-                """;
-
-        this.mySQLManager.asyncUpdate(playerTable);
+    /**
+     * Checks whether the stats are stored in MySQL. Only then the schema is migrated
+     * and the match history is written, the other backends run without a database.
+     *
+     * @return true if the configured stats backend is MySQL, otherwise false
+     */
+    public boolean isMySQLBackend() {
+        return !this.configManager.getStatsBackend().equalsIgnoreCase("memory")
+                && !this.configManager.getStatsBackend().equalsIgnoreCase("file");
+    }
+
+    private StatsRepository createStatsRepository() {
+        String backend = this.configManager.getStatsBackend();
+        switch (backend.toLowerCase()) {
+            case "memory" -> {
+                return new InMemoryStatsRepository();
+            }
+            case "file" -> {
+                try {
+                    return new FileStatsRepository(new File(this.getDataFolder(), "stats.log"));
+                } catch (IOException exception) {
+                    // falling back to another backend would silently split the stats across two stores
+                    this.getLogger().log(Level.SEVERE, "Failed to open the stats file, disabling the plugin", exception);
+                    return null;
+                }
+            }
+            default -> {
+                return this.createJournaledRepository(new MySQLStatsRepository(this.mySQLManager, this.databaseConnector));
+            }
+        }
+    }
+
+    private StatsRepository createJournaledRepository(StatsRepository delegate) {
+        try {
+            JournaledStatsRepository repository = new JournaledStatsRepository(delegate, new StatsJournal(new File(this.getDataFolder(), "stats-journal.log")));
+            try {
+                repository.replay().get(JOURNAL_REPLAY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (Exception exception) {
+                this.getLogger().log(Level.WARNING, "Failed to replay the stats journal, pending batches are retried later", exception);
+            }
+            return repository;
+        } catch (IOException exception) {
+            this.getLogger().log(Level.SEVERE, "Failed to open the stats journal, writing stats without it", exception);
+            return delegate;
+        }
+    }
+
+    private void loadRankIndex() {
+        this.playerHandler.loadRankIndex().whenComplete((ignored, exception) -> {
+            if (exception == null) return;
+
+            this.getLogger().log(Level.WARNING, "Failed to seed the leaderboard index, placements are not available", exception);
+        });
+    }
+
+    private void startStatsFlushTask() {
+        Bukkit.getScheduler().runTaskTimerAsynchronously(this, () -> {
+            this.playerHandler.flushStats();
+            this.playerHandler.cleanUpCaches();
+            if (this.statsRepository instanceof JournaledStatsRepository journaledStatsRepository) {
+                journaledStatsRepository.retryPending();
+            }
+            ProfileCache.getInstance().save();
+        }, STATS_FLUSH_INTERVAL, STATS_FLUSH_INTERVAL);
+    }
+
+    private boolean runMigrations() {
+        try {
+            new MigrationRunner(this.databaseConnector).migrate();
+            return true;
+        } catch (Exception exception) {
+            this.getLogger().log(Level.SEVERE, "Failed to migrate the database, disabling Bedwars", exception);
+            return false;
+        }
     }
 
     private List<String> initializePlayType(String playType) {
@@ -240,19 +380,14 @@ public final class BedWarsPlugin extends JavaPlugin {
     }
 
     public int maxPlayerCount() {
-        String playType = this.configManager.getPlayType();
-        String[] playTypeArray = playType.split("\\s*[xX]\\s*");
-
-        return Integer.parseInt(playTypeArray[0]) * Integer.parseInt(playTypeArray[1]);
+        return this.configManager.getSnapshot().maxPlayers();
     }
 
-    private void createTeamsForPlayType(String teamName, String playType) {
+    private void createTeamsForPlayType(TeamHandler teamHandler, String teamName) {
         this.getLogger().info("Creating team " + teamName);
         NamedTextColor color = getTeamColor(teamName);
         Component displayName = MiniMessage.miniMessage().deserialize(this.getTeamNameColored(teamName));
-        String[] playTypeArray = playType.split("\\s*[xX]\\s*");
-
-        this.teamHandler.createTeam(teamName, displayName, color, Integer.parseInt(playTypeArray[1]));
+        teamHandler.createTeam(teamName, displayName, color, this.configManager.getSnapshot().playersPerTeam());
     }
 
     private NamedTextColor getTeamColor(String teamName) {
@@ -291,98 +426,7 @@ public final class BedWarsPlugin extends JavaPlugin {
         };
     }
 
-    private void setupTop5Wall() {
-        PlayerProfile unknownProfile = Bukkit.createProfile(UUID.randomUUID());
-        PlayerTextures textures = unknownProfile.getTextures();
-
-        URL url = null;
-        try {
-            url = new URL("http://textures.minecraft.net/texture/d34e063cafb467a5c8de43ec78619399f369f4a52434da8017a983cdd92516a0");
-        } catch (MalformedURLException e) {
-            e.printStackTrace();
-        }
-        textures.setSkin(url);
-        unknownProfile.setTextures(textures);
-        Bukkit.getScheduler().runTaskAsynchronously(this, () -> {
-            unknownProfile.complete();
-        });
-
-        World world = Bukkit.getWorld("world");
-        final List<Location> top5HeadLocations = List.of(
-                new Location(world, 81, 78, 43),
-                new Location(world, 82, 78, 43),
-                new Location(world, 83, 78, 43),
-                new Location(world, 84, 78, 43),
-                new Location(world, 85, 78, 43)
-        );
-        this.playerHandler.getTop5().thenAccept(top5 -> {
-            for (int i = 0; i < top5HeadLocations.size(); i++) {
-                int finalI = i;
-                if (i < top5.size()) {
-                    BedwarsPlayer player = top5.get(i);
-
-                    NameFetcher.getNameAsync(player.getUuid()).thenAccept(name -> {
-                        Bukkit.getScheduler().runTask(this, () -> {
-                            Location headLocation = top5HeadLocations.get(finalI);
-                            Location signLocation = headLocation.clone().add(0, -1, 0);
-
-                            Block headBlock = headLocation.getBlock();
-                            headBlock.setType(Material.PLAYER_WALL_HEAD);
-
-                            Skull skull = (Skull) headBlock.getState();
-
-                            Directional directional = (Directional) skull.getBlockData();
-                            directional.setFacing(BlockFace.SOUTH);
-                            skull.setBlockData(directional);
-
-                            PlayerProfile profile = Bukkit.createProfile(player.getUuid());
-                            Bukkit.getScheduler().runTaskAsynchronously(this, () -> {
-                                profile.complete();
-                            });
-
-                            skull.setOwnerProfile(profile);
-                            skull.update();
-
-                            Block signBlock = signLocation.getBlock();
-
-                            if (signBlock.getState() instanceof Sign sign) {
-                                sign.setLine(0, "§6#" + (finalI + 1));
-                                sign.setLine(1, "§e" + name);
-                                sign.setLine(2, "§7" + player.getWins() + " Wins");
-                                sign.setLine(3, "§7" + this.getRoundedKD(player.getKills(), player.getDeaths()) + " K/D");
-                                sign.update();
-                            }
-                        });
-                    });
-                } else {
-                    Bukkit.getScheduler().runTask(this, () -> {
-                        Location headLocation = top5HeadLocations.get(finalI);
-                        Location signLocation = headLocation.clone().add(0, -1, 0);
-
-                        Block headBlock = headLocation.getBlock();
-                        headBlock.setType(Material.PLAYER_WALL_HEAD);
-
-                        Skull skull = (Skull) headBlock.getState();
-
-                        Directional directional = (Directional) skull.getBlockData();
-                        directional.setFacing(BlockFace.SOUTH);
-                        skull.setBlockData(directional);
-
-                        skull.setOwnerProfile(unknownProfile);
-                        skull.update();
-
-                        Block signBlock = signLocation.getBlock();
-                        if (signBlock.getState() instanceof Sign sign) {
-                            sign.setLine(0, "§6#???");
-                            sign.update();
-                        }
-                    });
-                }
-            }
-        });
-    }
-
-    public List<UUID> spawnHolograms() {
+    private List<UUID> spawnHolograms() {
         Location location = new Location(Bukkit.getWorld("world"), 83.570, 79, 43.302);
         ArmorStand armorStand = (ArmorStand) location.getWorld().spawnEntity(location, EntityType.ARMOR_STAND);
         armorStand.setVisible(false);
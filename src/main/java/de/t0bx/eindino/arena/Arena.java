@@ -0,0 +1,135 @@
+package de.t0bx.eindino.arena;
+
+import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.game.GameHandler;
+import de.t0bx.eindino.spectator.SpectatorHandler;
+import de.t0bx.eindino.team.TeamHandler;
+import de.t0bx.eindino.vote.VotingHandler;
+import lombok.AccessLevel;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+public class Arena {
+
+    private final String name;
+    private final String playType;
+    private final TeamHandler teamHandler;
+    private final VotingHandler votingHandler;
+    private final GameHandler gameHandler;
+    private final SpectatorHandler spectatorHandler;
+
+    @Getter(AccessLevel.NONE)
+    private final Set<UUID> playerIds;
+    private boolean statsEnabled;
+
+    /**
+     * Constructs a new arena which runs its own rounds: it owns the game state and tasks, the teams,
+     * the voting, the spectators and the players of its rounds. The map worlds of the running round are
+     * bound to the arena by the {@link ArenaManager}. The teams of the play type still have to be created
+     * on the team handler.
+     *
+     * @param name the unique name of the arena
+     * @param playType the play type of the arena's rounds, e.g. {@code 4x2}
+     */
+    public Arena(String name, String playType) {
+        this.name = name;
+        this.playType = playType;
+        this.playerIds = new LinkedHashSet<>();
+        this.statsEnabled = true;
+        this.teamHandler = new TeamHandler(this);
+        this.votingHandler = new VotingHandler(this);
+        this.gameHandler = new GameHandler(this);
+        this.spectatorHandler = new SpectatorHandler(this);
+    }
+
+    /**
+     * Adds a player to this arena. Countdowns, messages and start checks of the arena only
+     * reach its own players. Players are assigned by {@link ArenaManager#joinArena(Player)}.
+     * Must be called on the main thread.
+     *
+     * @param player the player joining the arena
+     */
+    public void addPlayer(Player player) {
+        this.playerIds.add(player.getUniqueId());
+    }
+
+    /**
+     * Removes a player from this arena, e.g. when the player leaves the server.
+     *
+     * @param player the player leaving the arena
+     */
+    public void removePlayer(Player player) {
+        this.playerIds.remove(player.getUniqueId());
+    }
+
+    /**
+     * Checks whether the given player belongs to this arena.
+     *
+     * @param uuid the unique identifier of the player
+     * @return true if the player belongs to this arena, otherwise false
+     */
+    public boolean containsPlayer(UUID uuid) {
+        return this.playerIds.contains(uuid);
+    }
+
+    /**
+     * Retrieves the online players of this arena.
+     *
+     * @return a new list of the players in the order they joined
+     */
+    public List<Player> getPlayers() {
+        List<Player> players = new ArrayList<>(this.playerIds.size());
+        for (UUID uuid : this.playerIds) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Retrieves the number of players of this arena.
+     *
+     * @return the number of players
+     */
+    public int getPlayerCount() {
+        return this.playerIds.size();
+    }
+
+    /**
+     * Sends a message to all players of this arena.
+     *
+     * @param message the message to send
+     */
+    public void broadcast(Component message) {
+        for (Player player : this.getPlayers()) {
+            player.sendMessage(message);
+        }
+    }
+
+    /**
+     * Enables the statistics again for the next round of this arena.
+     */
+    public void enableStats() {
+        this.statsEnabled = true;
+    }
+
+    /**
+     * Disables the statistics for the running round of this arena. The changes buffered for the players
+     * of this arena are dropped and reverted, the statistics of other arenas are not touched.
+     */
+    public void disableStats() {
+        this.statsEnabled = false;
+        BedWarsPlugin.getInstance().getPlayerHandler().discardStats(this.playerIds);
+    }
+}
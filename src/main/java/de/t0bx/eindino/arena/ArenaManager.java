@@ -0,0 +1,274 @@
+package de.t0bx.eindino.arena;
+
+import de.eindino.server.api.ServerAPI;
+import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.game.GameState;
+import de.t0bx.eindino.map.MapHandler;
+import de.t0bx.eindino.map.MapIndexEntry;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.modules.bridge.BridgeServiceHelper;
+import net.asyncproxy.nicksystem.NickSystem;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ArenaManager {
+
+    private final MapHandler mapHandler;
+    private final Map<String, Arena> arenas;
+    private final Map<World, Arena> arenasByWorld;
+    private final Map<UUID, Arena> arenasByPlayer;
+    private final BridgeServiceHelper bridgeServiceHelper;
+
+    private boolean tabListActive;
+    private boolean inGame;
+
+    /**
+     * Constructs a new ArenaManager which keeps track of all arenas of this server, of the players
+     * of each arena and of the map worlds their running rounds are played in, so events can be routed
+     * to the arena by player or by world.
+     *
+     * @param mapHandler the map handler used to look up the worlds of a map
+     */
+    public ArenaManager(MapHandler mapHandler) {
+        this.mapHandler = mapHandler;
+        this.arenas = new LinkedHashMap<>();
+        this.arenasByWorld = new ConcurrentHashMap<>();
+        this.arenasByPlayer = new ConcurrentHashMap<>();
+        this.bridgeServiceHelper = InjectionLayer.ext().instance(BridgeServiceHelper.class);
+        this.tabListActive = true;
+        this.inGame = false;
+    }
+
+    /**
+     * Creates a new arena. The first arena created is the default arena, which handles events
+     * which can not be routed to the arena of a player or of a map world.
+     *
+     * @param name the unique name of the arena
+     * @param playType the play type of the arena's rounds
+     * @return the created arena
+     * @throws IllegalArgumentException if an arena with this name exists already
+     */
+    public Arena createArena(String name, String playType) {
+        if (this.arenas.containsKey(name)) {
+            throw new IllegalArgumentException("Arena " + name + " exists already");
+        }
+
+        Arena arena = new Arena(name, playType);
+        this.arenas.put(name, arena);
+        return arena;
+    }
+
+    /**
+     * Retrieves the arena with the given name.
+     *
+     * @param name the name of the arena
+     * @return the arena, or null if there is no arena with this name
+     */
+    public Arena getArena(String name) {
+        return this.arenas.get(name);
+    }
+
+    /**
+     * Retrieves the arena whose running round is played in the given world.
+     * Worlds which are not bound to a round, like the lobby, belong to the default arena.
+     *
+     * @param world the world an event happened in
+     * @return the arena responsible for the world
+     */
+    public Arena getArena(World world) {
+        Arena arena = this.arenasByWorld.get(world);
+        return arena != null ? arena : this.getDefaultArena();
+    }
+
+    /**
+     * Retrieves the arena whose running round is played in the given world.
+     *
+     * @param world the world an event happened in
+     * @return the arena playing in the world, or null if the world is not bound to a round, e.g. the lobby
+     */
+    public Arena getBoundArena(World world) {
+        return this.arenasByWorld.get(world);
+    }
+
+    /**
+     * Retrieves the arena the given player belongs to, see {@link #joinArena(Player)}.
+     * Players without an arena, e.g. while they are still logging in, belong to the default arena.
+     * Safe to call from any thread.
+     *
+     * @param uuid the unique identifier of the player
+     * @return the arena of the player
+     */
+    public Arena getArena(UUID uuid) {
+        Arena arena = this.arenasByPlayer.get(uuid);
+        return arena != null ? arena : this.getDefaultArena();
+    }
+
+    /**
+     * Assigns a joining player to an arena. The player joins the lobby with free slots which has the most
+     * players already, so rounds fill up and start one after another. If no lobby has a free slot,
+     * the player watches the running round with the fewest players instead.
+     *
+     * @param player the joining player
+     * @return the arena the player was assigned to
+     */
+    public Arena joinArena(Player player) {
+        Arena arena = this.getOpenLobby();
+        if (arena == null) {
+            arena = this.arenas.values().stream()
+                    .filter(candidate -> candidate.getGameHandler().getCurrentGameState() != GameState.LOBBY)
+                    .min(Comparator.comparingInt(Arena::getPlayerCount))
+                    .orElseGet(() -> this.arenas.values().stream().min(Comparator.comparingInt(Arena::getPlayerCount)).orElseThrow());
+        }
+
+        arena.addPlayer(player);
+        this.arenasByPlayer.put(player.getUniqueId(), arena);
+        return arena;
+    }
+
+    /**
+     * Removes a leaving player from the arena the player belongs to.
+     *
+     * @param player the leaving player
+     * @return the arena the player belonged to
+     */
+    public Arena leaveArena(Player player) {
+        Arena arena = this.getArena(player.getUniqueId());
+        arena.removePlayer(player);
+        this.arenasByPlayer.remove(player.getUniqueId());
+        return arena;
+    }
+
+    /**
+     * Retrieves the arena a joining player would wait in: the lobby with free slots which has the most players.
+     *
+     * @return the arena, or null if every lobby is full or all arenas are playing
+     */
+    public Arena getOpenLobby() {
+        int maxPlayers = BedWarsPlugin.getInstance().maxPlayerCount();
+        Arena openLobby = null;
+        for (Arena arena : this.arenas.values()) {
+            if (arena.getGameHandler().getCurrentGameState() != GameState.LOBBY) continue;
+            if (arena.getPlayerCount() >= maxPlayers) continue;
+
+            if (openLobby == null || arena.getPlayerCount() > openLobby.getPlayerCount()) {
+                openLobby = arena;
+            }
+        }
+        return openLobby;
+    }
+
+    /**
+     * Checks whether at least one arena waits for players in its lobby.
+     *
+     * @return true if an arena is in the lobby phase, otherwise false
+     */
+    public boolean hasLobby() {
+        for (Arena arena : this.arenas.values()) {
+            if (arena.getGameHandler().getCurrentGameState() == GameState.LOBBY) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the state shared by all arenas of this server after an arena changed its game state.
+     * The tab list of the lobby stays active while any arena is not playing a round. The server only
+     * counts as in-game towards the nick system and the cloud once no arena waits in its lobby anymore,
+     * so players can still be sent to an open lobby while other arenas play. Both are only changed when
+     * the state of the server actually changes. Must be called on the main thread.
+     */
+    public void updateServerState() {
+        boolean tabListActive = false;
+        boolean inGame = true;
+        for (Arena arena : this.arenas.values()) {
+            GameState gameState = arena.getGameHandler().getCurrentGameState();
+            if (gameState != GameState.IN_GAME) tabListActive = true;
+            if (gameState == GameState.LOBBY) inGame = false;
+        }
+
+        if (tabListActive != this.tabListActive) {
+            this.tabListActive = tabListActive;
+            ServerAPI.getInstance().setActiveTabList(tabListActive);
+        }
+
+        if (inGame != this.inGame) {
+            this.inGame = inGame;
+            NickSystem.getInstance().getNickManager().setGame(inGame);
+            if (inGame) {
+                this.bridgeServiceHelper.changeToIngame();
+            } else {
+                this.bridgeServiceHelper.state().set("LOBBY");
+            }
+        }
+    }
+
+    /**
+     * Retrieves the arena created first, see {@link #createArena(String, String)}.
+     *
+     * @return the default arena
+     */
+    public Arena getDefaultArena() {
+        return this.arenas.values().iterator().next();
+    }
+
+    /**
+     * Retrieves all arenas of this server.
+     *
+     * @return an unmodifiable collection of all arenas in the order they were created
+     */
+    public Collection<Arena> getArenas() {
+        return Collections.unmodifiableCollection(this.arenas.values());
+    }
+
+    /**
+     * Binds the worlds of the map an arena is about to play on to the arena, so events in these
+     * worlds are routed to it until {@link #unbindWorlds(Arena)} is called.
+     *
+     * @param arena the arena starting a round
+     * @param worlds the worlds of the arena's map
+     */
+    public void bindWorlds(Arena arena, Collection<World> worlds) {
+        for (World world : worlds) {
+            this.arenasByWorld.put(world, arena);
+        }
+    }
+
+    /**
+     * Releases all worlds bound to the given arena after its round has been reset.
+     *
+     * @param arena the arena whose round has ended
+     */
+    public void unbindWorlds(Arena arena) {
+        this.arenasByWorld.values().removeIf(bound -> bound == arena);
+    }
+
+    /**
+     * Checks whether a world of the given map is used by the running round of another arena.
+     * Such a map can't be played by the given arena until the other round has ended.
+     *
+     * @param mapName the name of the map
+     * @param arena the arena which wants to play the map
+     * @return true if another arena plays in one of the map's worlds, otherwise false
+     */
+    public boolean isMapInUse(String mapName, Arena arena) {
+        MapIndexEntry entry = this.mapHandler.getIndexEntry(mapName);
+        if (entry == null) return false;
+
+        for (String worldName : entry.worlds()) {
+            World world = Bukkit.getWorld(worldName);
+            if (world == null) continue;
+
+            Arena owner = this.arenasByWorld.get(world);
+            if (owner != null && owner != arena) return true;
+        }
+        return false;
+    }
+}
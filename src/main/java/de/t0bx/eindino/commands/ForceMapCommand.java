@@ -2,6 +2,7 @@ package de.t0bx.eindino.commands;
 
 import de.eindino.server.api.command.AbstractCommandBase;
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.map.MapHandler;
 import de.t0bx.eindino.vote.VotingHandler;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -14,15 +15,13 @@ import java.util.List;
 
 public class ForceMapCommand extends AbstractCommandBase {
 
-    private final String prefix;
     private final MiniMessage mm;
-    private final VotingHandler votingHandler;
+    private final ArenaManager arenaManager;
     private final MapHandler mapHandler;
 
     public ForceMapCommand(JavaPlugin plugin, String commandName) {
         super(plugin, commandName);
-        this.prefix = BedWarsPlugin.getInstance().getPrefix();
-        this.votingHandler = BedWarsPlugin.getInstance().getVotingHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
         this.mm = MiniMessage.miniMessage();
         this.mapHandler = BedWarsPlugin.getInstance().getMapHandler();
     }
@@ -30,40 +29,46 @@ public class ForceMapCommand extends AbstractCommandBase {
     @Override
     public boolean execute(CommandSender sender, String[] args) {
         if (!(sender instanceof Player player)) {
-            sender.sendMessage(this.mm.deserialize(this.prefix + "<red>Only players can use this command!"));
+            sender.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Only players can use this command!"));
             return true;
         }
 
         if (!player.hasPermission("bedwars.vip")) {
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du hast keine Rechte auf diesen Befehl."));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du hast keine Rechte auf diesen Befehl."));
             return true;
         }
 
         if (args.length != 1) {
-            player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/forcemap <Mapname>"));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/forcemap <Mapname>"));
             return true;
         }
 
-        if (this.votingHandler.isForceMap()) {
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es wird bereits schon für eine Map gevotet."));
+        VotingHandler votingHandler = this.arenaManager.getArena(player.getUniqueId()).getVotingHandler();
+        if (votingHandler.isForceMap()) {
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es wird bereits schon für eine Map gevotet."));
             return true;
         }
 
         String mapName = args[0];
         if (!this.mapHandler.hasMap(mapName)) {
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert keine Map mit dem Namen " + mapName));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert keine Map mit dem Namen " + mapName));
             return true;
         }
 
-        this.votingHandler.forceMap(mapName);
-        player.sendMessage(this.mm.deserialize(this.prefix + "Es wird nun auf der Map <green>" + mapName + " gespielt!"));
+        if (!votingHandler.getMapPool().contains(mapName)) {
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Die Map " + mapName + " ist in diesem Modus nicht spielbar."));
+            return true;
+        }
+
+        votingHandler.forceMap(mapName);
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Es wird nun auf der Map <green>" + mapName + " gespielt!"));
         return false;
     }
 
     @Override
     public List<String> tabComplete(CommandSender sender, String[] args) {
-        if (args.length == 1) {
-            return this.mapHandler.getMapNames();
+        if (args.length == 1 && sender instanceof Player player) {
+            return this.arenaManager.getArena(player.getUniqueId()).getVotingHandler().getMapPool();
         }
 
         return Collections.emptyList();
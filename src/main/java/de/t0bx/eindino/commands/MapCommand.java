@@ -15,29 +15,28 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.IOException;
+import java.util.List;
 
 public class MapCommand extends AbstractCommandBase {
 
     private final MapHandler mapHandler;
-    private final String prefix;
     private final MiniMessage mm;
 
     public MapCommand(JavaPlugin plugin, String commandName) {
         super(plugin, commandName);
         this.mapHandler = BedWarsPlugin.getInstance().getMapHandler();
-        this.prefix = BedWarsPlugin.getInstance().getPrefix();
         this.mm = MiniMessage.miniMessage();
     }
 
     @Override
     public boolean execute(CommandSender sender, String[] args) {
         if (!(sender instanceof Player player)) {
-            sender.sendMessage(this.mm.deserialize(this.prefix + "Only players can use this command"));
+            sender.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Only players can use this command"));
             return true;
         }
 
         if (!player.hasPermission("bedwars.admin")) {
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du hast keine Rechte diesen Befehl auszuführen!"));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du hast keine Rechte diesen Befehl auszuführen!"));
             return true;
         }
 
@@ -49,108 +48,108 @@ public class MapCommand extends AbstractCommandBase {
         switch (args[0].toLowerCase()) {
             case "create" -> {
                 if (args.length != 3) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map create <Map-Name> <PlayType>"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map create <Map-Name> <PlayType>"));
                     return true;
                 }
 
                 String mapName = args[1];
                 if (this.mapHandler.hasMap(mapName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert bereits eine Map mit dem Namen " + mapName + "!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert bereits eine Map mit dem Namen " + mapName + "!"));
                     return true;
                 }
 
                 String playType = args[2];
                 this.mapHandler.createMap(mapName, playType);
-                player.sendMessage(this.mm.deserialize(this.prefix + "<green>Die Map " + mapName + " wurde erfolgreich erstellt!"));
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Die Map " + mapName + " wurde erfolgreich erstellt!"));
             }
 
             case "remove" -> {
                 if (args.length != 2) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map remove <Map-Name>"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map remove <Map-Name>"));
                     return true;
                 }
 
                 String mapName = args[1];
                 if (!this.mapHandler.hasMap(mapName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
                     return true;
                 }
 
                 this.mapHandler.removeMap(mapName);
-                player.sendMessage(this.mm.deserialize(this.prefix + "<green>Die Map " + mapName + " wurde erfolgreich gelöscht!"));
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Die Map " + mapName + " wurde erfolgreich gelöscht!"));
             }
 
             case "addteam" -> {
                 if (args.length != 3) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map addTeam <Map-Name> <Team>"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map addTeam <Map-Name> <Team>"));
                     return true;
                 }
 
                 String mapName = args[1];
                 if (!this.mapHandler.hasMap(mapName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
                     return true;
                 }
 
                 String teamName = args[2];
                 if (this.mapHandler.getMap(mapName).hasTeam(teamName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert bereits ein Team mit dem Namen " + teamName));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert bereits ein Team mit dem Namen " + teamName));
                     return true;
                 }
 
                 this.mapHandler.getMap(mapName).addTeam(teamName, new TeamConfig());
-                player.sendMessage(this.mm.deserialize(this.prefix + "<green>Das Team " + teamName + " wurde erfolgreich erstellt!"));
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Das Team " + teamName + " wurde erfolgreich erstellt!"));
             }
 
             case "setspawn" -> {
                 if (args.length != 3) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map setspawn <Map-Name> <Team>"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map setspawn <Map-Name> <Team>"));
                     return true;
                 }
 
                 String mapName = args[1];
                 if (!this.mapHandler.hasMap(mapName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
                     return true;
                 }
 
                 String teamName = args[2];
                 if (!this.mapHandler.getMap(mapName).hasTeam(teamName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert kein Team mit dem Namen " + teamName));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert kein Team mit dem Namen " + teamName));
                     return true;
                 }
 
                 this.mapHandler.getMap(mapName).getTeam(teamName).setSpawnLocation(player.getLocation());
-                player.sendMessage(this.mm.deserialize(this.prefix + "<green>Du hast den Spawnpunkt für das Team " + teamName + " erfolgreich gesetzt!"));
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Du hast den Spawnpunkt für das Team " + teamName + " erfolgreich gesetzt!"));
             }
 
             case "setbed" -> {
                 if (args.length != 3) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map setbed <Map-Name> <Team>"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map setbed <Map-Name> <Team>"));
                     return true;
                 }
 
                 String mapName = args[1];
                 if (!this.mapHandler.hasMap(mapName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
                     return true;
                 }
 
                 String teamName = args[2];
                 if (!this.mapHandler.getMap(mapName).hasTeam(teamName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert kein Team mit dem Namen " + teamName));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert kein Team mit dem Namen " + teamName));
                     return true;
                 }
 
                 Block block = player.getTargetBlockExact(20);
                 if (block == null || !block.getType().toString().endsWith("_BED")) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du musst auf ein Bett schauen!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du musst auf ein Bett schauen!"));
                     return true;
                 }
 
                 BlockData blockData = block.getBlockData();
                 if (!(blockData instanceof Bed bed)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du musst auf ein Bett schauen!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du musst auf ein Bett schauen!"));
                     return true;
                 }
 
@@ -171,34 +170,34 @@ public class MapCommand extends AbstractCommandBase {
                     this.mapHandler.getMap(mapName).getTeam(teamName).setBedTop(otherPart.getLocation());
                 }
 
-                player.sendMessage(this.mm.deserialize(this.prefix + "<green>Du hast das Bett für das Team " + teamName + " erfolgreich gesetzt!"));
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Du hast das Bett für das Team " + teamName + " erfolgreich gesetzt!"));
             }
 
             case "setshop" -> {
                 if (args.length != 2) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map setshop <Map-Name>"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map setshop <Map-Name>"));
                     return true;
                 }
 
                 String mapName = args[1];
                 if (!this.mapHandler.hasMap(mapName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
                     return true;
                 }
 
                 this.mapHandler.getMap(mapName).addShop(player.getLocation());
-                player.sendMessage(this.mm.deserialize(this.prefix + "<green>Du hast erfolgreich ein Shop gesetzt! Anzahl an Shops in der Maps: " +  this.mapHandler.getMap(mapName).getShops().size()));
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Du hast erfolgreich ein Shop gesetzt! Anzahl an Shops in der Maps: " +  this.mapHandler.getMap(mapName).getShops().size()));
             }
 
             case "setspawner" -> {
                 if (args.length != 3) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map setspawner <Map-Name> <Spawner>"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map setspawner <Map-Name> <Spawner>"));
                     return true;
                 }
 
                 String mapName = args[1];
                 if (!this.mapHandler.hasMap(mapName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
                     return true;
                 }
 
@@ -206,65 +205,88 @@ public class MapCommand extends AbstractCommandBase {
                 if (!type.equalsIgnoreCase("bronze") &&
                         !type.equalsIgnoreCase("iron") &&
                         !type.equalsIgnoreCase("gold")) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Ungültiger Spawner Typ!"));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Folgende Sind erlaubt: Bronze, Iron, Gold"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Ungültiger Spawner Typ!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Folgende Sind erlaubt: Bronze, Iron, Gold"));
                     return true;
                 }
 
                 this.mapHandler.getMap(mapName).addSpawner(type.toLowerCase(), player.getLocation());
-                player.sendMessage(this.mm.deserialize(this.prefix + "<green>Du hast erfolgreich ein neuen Spawner hinzugefügt!"));
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Du hast erfolgreich ein neuen Spawner hinzugefügt!"));
             }
 
             case "setspectator" -> {
                 if (args.length != 2) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map setspectator <Map-Name>"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map setspectator <Map-Name>"));
                     return true;
                 }
 
                 String mapName = args[1];
                 if (!this.mapHandler.hasMap(mapName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
                     return true;
                 }
 
                 this.mapHandler.getMap(mapName).setSpectatorLocation(player.getLocation());
-                player.sendMessage(this.mm.deserialize(this.prefix + "<green>Du hast den Spectator Spawnpunkt gesetzt!"));
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Du hast den Spectator Spawnpunkt gesetzt!"));
             }
 
             case "save" -> {
                 if (args.length != 2) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map save <Map-Name>"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map save <Map-Name>"));
                     return true;
                 }
 
                 String mapName = args[1];
                 if (!this.mapHandler.hasMap(mapName)) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es existiert keine Map mit dem Namen " + mapName + "!"));
                     return true;
                 }
 
                 try {
                     this.mapHandler.saveMap(this.mapHandler.getMap(mapName));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<green>Du hast erfolgreich die Map " + mapName + " die Map ist nun bereit zum spielen!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Du hast erfolgreich die Map " + mapName + " die Map ist nun bereit zum spielen!"));
                 } catch (IOException e) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es ist ein Fehler aufgetreten die Map zu speichern!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es ist ein Fehler aufgetreten die Map zu speichern!"));
                 }
             }
 
+            case "compile" -> {
+                if (args.length > 2) {
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map compile [Map-Name]"));
+                    return true;
+                }
+
+                List<String> mapNames = args.length == 2 ? List.of(args[1]) : this.mapHandler.getMapNames();
+                int compiled = 0;
+                for (String mapName : mapNames) {
+                    try {
+                        if (this.mapHandler.compileMap(mapName)) {
+                            compiled++;
+                        } else {
+                            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Die Map " + mapName + " wurde noch nicht gespeichert!"));
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Die Map " + mapName + " konnte nicht kompiliert werden: " + e.getMessage()));
+                    }
+                }
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Es wurden " + compiled + " Maps kompiliert."));
+            }
+
             default -> this.sendHelp(player);
         }
         return false;
     }
 
     private void sendHelp(Player player) {
-        player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map create <Map-Name> <PlayType>"));
-        player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map remove <Map-Name>"));
-        player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map addTeam <Map-Name> <Team>"));
-        player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map setspawn <Map-Name> <Team>"));
-        player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map setbed <Map-Name> <Team>"));
-        player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map setshop <Map-Name>"));
-        player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map setspawner <Map-Name> <Spawner>"));
-        player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map setspectator <Map-Name>"));
-        player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/map save <Map-Name>"));
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map create <Map-Name> <PlayType>"));
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map remove <Map-Name>"));
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map addTeam <Map-Name> <Team>"));
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map setspawn <Map-Name> <Team>"));
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map setbed <Map-Name> <Team>"));
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map setshop <Map-Name>"));
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map setspawner <Map-Name> <Spawner>"));
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map setspectator <Map-Name>"));
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map save <Map-Name>"));
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/map compile [Map-Name]"));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package de.t0bx.eindino.commands;
 
 import de.eindino.server.api.command.AbstractCommandBase;
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.game.GameHandler;
 import de.t0bx.eindino.game.GameState;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -12,15 +13,13 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 public class StartCommand extends AbstractCommandBase {
 
-    private final GameHandler gameHandler;
+    private final ArenaManager arenaManager;
     private final MiniMessage mm;
-    private final String prefix;
 
     public StartCommand(JavaPlugin plugin, String commandName) {
         super(plugin, commandName);
-        this.gameHandler = BedWarsPlugin.getInstance().getGameHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
         this.mm = MiniMessage.miniMessage();
-        this.prefix = BedWarsPlugin.getInstance().getPrefix();
     }
 
     @Override
@@ -30,51 +29,57 @@ public class StartCommand extends AbstractCommandBase {
         }
 
         if (!player.hasPermission("bedwars.vip")) {
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du hast keine Rechte auf diesen Befehl!"));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du hast keine Rechte auf diesen Befehl!"));
             return true;
         }
 
+        GameHandler gameHandler = this.arenaManager.getArena(player.getUniqueId()).getGameHandler();
         if (!player.hasPermission("bedwars.admin")) {
-            if (this.gameHandler.getCurrentGameState() != GameState.LOBBY) {
-                player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du kannst das Spiel nur in der Lobby verkürzen!"));
+            if (gameHandler.getCurrentGameState() != GameState.LOBBY) {
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du kannst das Spiel nur in der Lobby verkürzen!"));
                 return true;
             }
 
-            if (this.gameHandler.getCountdown().get() <= 15) {
-                player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du kannst das Spiel nicht mehr verkürzen."));
+            if (gameHandler.getCountdown().get() <= 15) {
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du kannst das Spiel nicht mehr verkürzen."));
                 return true;
             }
 
-            if (!this.gameHandler.checkIfAbleToStart()) {
-                player.sendMessage(this.mm.deserialize(this.prefix + "<red>Es sind zu wenig Spieler in der Runde um das Spiel zu starten!"));
+            if (!gameHandler.checkIfAbleToStart()) {
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es sind zu wenig Spieler in der Runde um das Spiel zu starten!"));
                 return true;
             }
 
-            this.gameHandler.getCountdown().set(15);
-            player.sendMessage(this.mm.deserialize(this.prefix + "<green>Du hast das Spiel verkürzt!"));
+            gameHandler.getCountdown().set(15);
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Du hast das Spiel verkürzt!"));
             player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.3F, 1.0F);
             return true;
         }
 
-        if (this.gameHandler.getCurrentGameState() != GameState.LOBBY) {
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du kannst das Spiel nur in der Lobby verkürzen!"));
+        if (gameHandler.getCurrentGameState() != GameState.LOBBY) {
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du kannst das Spiel nur in der Lobby verkürzen!"));
             return true;
         }
 
-        if (this.gameHandler.getCountdown().get() <= 15) {
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du kannst das Spiel nicht mehr verkürzen."));
+        if (gameHandler.getCountdown().get() <= 15) {
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du kannst das Spiel nicht mehr verkürzen."));
             return true;
         }
 
-        this.gameHandler.getCountdown().set(15);
-        player.sendMessage(this.mm.deserialize(this.prefix + "<green>Du hast das Spiel verkürzt!"));
+        gameHandler.getCountdown().set(15);
+        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Du hast das Spiel verkürzt!"));
         player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.3F, 1.0F);
-        if (!this.gameHandler.checkIfAbleToStart()) {
-            this.gameHandler.setForceStart(true);
-            this.gameHandler.startCountdown();
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red><b>Das Spiel wurde mit der nicht benötigten Spieleranzahl gestartet!"));
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red><b>Dies ist nur möglich da du die benötigte Berechtigung hast!"));
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red><b>Unerwartete Fehler können auf treten!"));
+        if (!gameHandler.checkIfAbleToStart()) {
+            gameHandler.setForceStart(true);
+            gameHandler.startCountdown();
+            // the arena's players were told already if there is no map to start on
+            if (gameHandler.getTask() == null) {
+                gameHandler.setForceStart(false);
+                return true;
+            }
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red><b>Das Spiel wurde mit der nicht benötigten Spieleranzahl gestartet!"));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red><b>Dies ist nur möglich da du die benötigte Berechtigung hast!"));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red><b>Unerwartete Fehler können auf treten!"));
         }
         return false;
     }
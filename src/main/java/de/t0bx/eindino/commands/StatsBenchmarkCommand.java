@@ -0,0 +1,115 @@
+package de.t0bx.eindino.commands;
+
+import de.eindino.server.api.command.AbstractCommandBase;
+import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.stats.FileStatsRepository;
+import de.t0bx.eindino.stats.InMemoryStatsRepository;
+import de.t0bx.eindino.stats.StatsBenchmark;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+public class StatsBenchmarkCommand extends AbstractCommandBase {
+
+    private static final int DEFAULT_PLAYERS = 10_000;
+    private static final int MAX_PLAYERS = 100_000;
+
+    private final MiniMessage mm;
+    private final AtomicBoolean running;
+
+    /**
+     * Constructs a new StatsBenchmarkCommand which compares the stats backends with a {@link StatsBenchmark}.
+     * The memory and file backends are measured on throwaway repositories. MySQL is only measured
+     * with reads when it is the configured backend, since the benchmark must not write synthetic players
+     * into the live leaderboard.
+     *
+     * @param plugin the plugin owning the command
+     * @param commandName the name of the command
+     */
+    public StatsBenchmarkCommand(JavaPlugin plugin, String commandName) {
+        super(plugin, commandName);
+        this.mm = MiniMessage.miniMessage();
+        this.running = new AtomicBoolean();
+    }
+
+    @Override
+    public boolean execute(CommandSender sender, String[] args) {
+        String prefix = BedWarsPlugin.getInstance().getPrefix();
+        if (!sender.hasPermission("bedwars.admin")) {
+            sender.sendMessage(this.mm.deserialize(prefix + "<red>Du hast keine Rechte auf diesen Befehl!"));
+            return true;
+        }
+
+        int players = DEFAULT_PLAYERS;
+        if (args.length > 0) {
+            try {
+                players = Integer.parseInt(args[0]);
+            } catch (NumberFormatException exception) {
+                players = -1;
+            }
+            if (players < 1 || players > MAX_PLAYERS) {
+                sender.sendMessage(this.mm.deserialize(prefix + "<red>Bitte gib eine Spieleranzahl zwischen 1 und " + MAX_PLAYERS + " an!"));
+                return true;
+            }
+        }
+
+        if (!this.running.compareAndSet(false, true)) {
+            sender.sendMessage(this.mm.deserialize(prefix + "<red>Es läuft bereits ein Benchmark!"));
+            return true;
+        }
+
+        sender.sendMessage(this.mm.deserialize(prefix + "Benchmark mit <aqua>" + players + " <gray>Spielern gestartet..."));
+        StatsBenchmark benchmark = new StatsBenchmark(players);
+        Bukkit.getScheduler().runTaskAsynchronously(BedWarsPlugin.getInstance(), () -> {
+            try {
+                List<String> lines = this.runBenchmark(benchmark);
+                Bukkit.getScheduler().runTask(BedWarsPlugin.getInstance(), () -> {
+                    for (String line : lines) {
+                        sender.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<aqua>" + line));
+                    }
+                });
+            } finally {
+                this.running.set(false);
+            }
+        });
+        return true;
+    }
+
+    private List<String> runBenchmark(StatsBenchmark benchmark) {
+        List<String> lines = new ArrayList<>();
+        lines.add(benchmark.run("memory", new InMemoryStatsRepository()).format());
+
+        File file = new File(BedWarsPlugin.getInstance().getDataFolder(), "stats-benchmark.log");
+        try {
+            FileStatsRepository repository = new FileStatsRepository(file);
+            try {
+                lines.add(benchmark.run("file", repository).format());
+            } finally {
+                repository.close();
+            }
+        } catch (IOException | RuntimeException exception) {
+            BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "Failed to benchmark the file backend", exception);
+            lines.add("file: fehlgeschlagen, siehe Konsole");
+        } finally {
+            file.delete();
+        }
+
+        if (BedWarsPlugin.getInstance().isMySQLBackend()) {
+            try {
+                lines.add(benchmark.runReadOnly("mysql (read only)", BedWarsPlugin.getInstance().getStatsRepository()).format());
+            } catch (RuntimeException exception) {
+                BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "Failed to benchmark the MySQL backend", exception);
+                lines.add("mysql: fehlgeschlagen, siehe Konsole");
+            }
+        }
+        return lines;
+    }
+}
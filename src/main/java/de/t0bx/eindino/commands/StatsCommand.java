@@ -4,7 +4,8 @@ import de.eindino.server.api.command.AbstractCommandBase;
 import de.t0bx.eindino.BedWarsPlugin;
 import de.t0bx.eindino.player.BedwarsPlayer;
 import de.t0bx.eindino.player.PlayerHandler;
-import de.t0bx.eindino.utils.UUIDFetcher;
+import de.t0bx.eindino.player.ProfileResolver;
+import de.t0bx.eindino.stats.RankType;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
@@ -18,43 +19,46 @@ import java.util.concurrent.CompletableFuture;
 public class StatsCommand extends AbstractCommandBase {
 
     private final PlayerHandler playerHandler;
+    private final ProfileResolver profileResolver;
     private final MiniMessage mm;
-    private final String prefix;
 
     public StatsCommand(JavaPlugin plugin, String commandName) {
         super(plugin, commandName);
         this.playerHandler = BedWarsPlugin.getInstance().getPlayerHandler();
+        this.profileResolver = BedWarsPlugin.getInstance().getProfileResolver();
         this.mm = MiniMessage.miniMessage();
-        this.prefix = BedWarsPlugin.getInstance().getPrefix();
     }
 
     @Override
     public boolean execute(CommandSender sender, String[] args) {
         if (!(sender instanceof Player player)) {
-            sender.sendMessage(this.mm.deserialize(this.prefix + "Only players can execute this command!"));
+            sender.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Only players can execute this command!"));
             return true;
         }
 
         if (args.length == 0) {
-            this.playerHandler.getPlacement(player.getUniqueId()).thenAccept(placement -> {
-                BedwarsPlayer bedwarsPlayer = this.playerHandler.getBedwarsPlayer(player.getUniqueId());
-                Bukkit.getScheduler().runTask(this.plugin, () -> {
-                    player.sendMessage(this.mm.deserialize(this.prefix + " "));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Deine Platzierung » <green>#" + placement));
-                    player.sendMessage(this.mm.deserialize(this.prefix + " "));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Kills » <green>" + bedwarsPlayer.getKills()));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Tode » <green>" + bedwarsPlayer.getDeaths()));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "K/D » <green>" + this.getRoundedKD(bedwarsPlayer.getKills(), bedwarsPlayer.getDeaths())));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Gespielte Spiele » <green>" + bedwarsPlayer.getGamesPlayed()));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Gewonnene Spiele » <green>" + bedwarsPlayer.getWins()));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Sieges Quote » <green>" + this.calculateWinRate(bedwarsPlayer.getWins(), bedwarsPlayer.getGamesPlayed()) + "%"));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Zerstörte Betten » <green>" + bedwarsPlayer.getBedsDestroyed()));
-                    player.sendMessage(this.mm.deserialize(this.prefix + " "));
-                });
-            });
+            BedwarsPlayer bedwarsPlayer = this.playerHandler.getBedwarsPlayer(player.getUniqueId());
+            if (bedwarsPlayer == null) {
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Deine Statistiken werden noch geladen!"));
+                return true;
+            }
+
+            int placement = this.playerHandler.getPlacement(player.getUniqueId());
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + " "));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Deine Platzierung » <green>" + this.formatPlacement(placement)));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + " "));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Kills » <green>" + bedwarsPlayer.getKills()));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Tode » <green>" + bedwarsPlayer.getDeaths()));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "K/D » <green>" + this.getRoundedKD(bedwarsPlayer.getKills(), bedwarsPlayer.getDeaths())));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Gespielte Spiele » <green>" + bedwarsPlayer.getGamesPlayed()));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Gewonnene Spiele » <green>" + bedwarsPlayer.getWins()));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Sieges Quote » <green>" + this.calculateWinRate(bedwarsPlayer.getWins(), bedwarsPlayer.getGamesPlayed()) + "%"));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Zerstörte Betten » <green>" + bedwarsPlayer.getBedsDestroyed()));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Wertung » <green>" + bedwarsPlayer.getRating()));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + " "));
         } else {
             if (args.length != 1) {
-                player.sendMessage(this.mm.deserialize(this.prefix + "Verwendung: <green>/stats <Spielername>"));
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Verwendung: <green>/stats <Spielername>"));
                 return true;
             }
 
@@ -65,26 +69,21 @@ public class StatsCommand extends AbstractCommandBase {
     }
 
     public void fetchAndSendStats(Player player, String playerName) {
-        UUIDFetcher.getUUIDAsync(playerName)
+        this.profileResolver.resolveUUID(playerName)
                 .thenCompose(uuid -> {
                     if (uuid == null) {
                         sendPlayerNotFoundMessage(player, playerName);
                         return CompletableFuture.completedFuture(null);
                     }
 
-                    return playerHandler.doesPlayerExist(uuid)
-                            .thenApply(exists -> exists ? uuid : null);
-                })
-                .thenCompose(uuid -> {
-                    if (uuid == null) return CompletableFuture.completedFuture(null);
-
-                    if (!playerHandler.isLoaded(uuid)) {
-                        playerHandler.loadPlayer(uuid);
-                    }
+                    return playerHandler.lookupPlayer(uuid).thenApply(bedwarsPlayer -> {
+                        if (bedwarsPlayer == null) {
+                            sendPlayerNotFoundMessage(player, playerName);
+                            return null;
+                        }
 
-                    BedwarsPlayer bedwarsPlayer = playerHandler.getBedwarsPlayer(uuid);
-                    return playerHandler.getPlacement(uuid)
-                            .thenApply(placement -> new PlayerStatsResult(uuid, bedwarsPlayer, placement));
+                        return new PlayerStatsResult(uuid, bedwarsPlayer, playerHandler.getPlacement(bedwarsPlayer, RankType.WINS));
+                    });
                 })
                 .thenAccept(result -> {
                     if (result == null) return;
@@ -99,17 +98,18 @@ public class StatsCommand extends AbstractCommandBase {
 
     private void sendPlayerNotFoundMessage(Player player, String playerName) {
         Bukkit.getScheduler().runTask(plugin, () -> {
-            player.sendMessage(mm.deserialize(prefix + "<red>Der Spieler " + playerName + " existiert nicht!"));
+            player.sendMessage(mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Der Spieler " + playerName + " existiert nicht!"));
         });
     }
 
     private void sendPlayerStats(Player player, String playerName, PlayerStatsResult result) {
         BedwarsPlayer bedwarsPlayer = result.bedwarsPlayer();
         int placement = result.placement();
+        String prefix = BedWarsPlugin.getInstance().getPrefix();
 
         player.sendMessage(mm.deserialize(prefix + "Statistiken von » <green>" + playerName));
         player.sendMessage(mm.deserialize(prefix + " "));
-        player.sendMessage(mm.deserialize(prefix + "Platzierung » <green>#" + placement));
+        player.sendMessage(mm.deserialize(prefix + "Platzierung » <green>" + this.formatPlacement(placement)));
         player.sendMessage(mm.deserialize(prefix + " "));
         player.sendMessage(mm.deserialize(prefix + "Kills » <green>" + bedwarsPlayer.getKills()));
         player.sendMessage(mm.deserialize(prefix + "Tode » <green>" + bedwarsPlayer.getDeaths()));
@@ -118,9 +118,14 @@ public class StatsCommand extends AbstractCommandBase {
         player.sendMessage(mm.deserialize(prefix + "Gewonnene Spiele » <green>" + bedwarsPlayer.getWins()));
         player.sendMessage(mm.deserialize(prefix + "Sieges Quote » <green>" + calculateWinRate(bedwarsPlayer.getWins(), bedwarsPlayer.getGamesPlayed()) + "%"));
         player.sendMessage(mm.deserialize(prefix + "Zerstörte Betten » <green>" + bedwarsPlayer.getBedsDestroyed()));
+        player.sendMessage(mm.deserialize(prefix + "Wertung » <green>" + bedwarsPlayer.getRating()));
         player.sendMessage(mm.deserialize(prefix + " "));
     }
 
+    private String formatPlacement(int placement) {
+        return placement > 0 ? "#" + placement : "-";
+    }
+
     private record PlayerStatsResult(UUID uuid, BedwarsPlayer bedwarsPlayer, int placement) {}
 
     public double getRoundedKD(int kills, int deaths) {
@@ -0,0 +1,195 @@
+package de.t0bx.eindino.config;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import de.t0bx.eindino.utils.JsonDocument;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The game balance of a round: timings, spawner rates and shop prices. Instances are immutable
+ * and validated when they are parsed, the {@link BalanceManager} swaps them atomically on reload.
+ *
+ * @param timings the durations of the lobby countdown, the round and the time blocks
+ * @param spawners the intervals of the resource spawners
+ * @param shopPrices the price of every shop offer by its key
+ */
+public record BalanceConfig(GameTimings timings, SpawnerRates spawners, Map<String, ShopPrice> shopPrices) {
+
+    private static final BalanceConfig DEFAULTS = new BalanceConfig(
+            new GameTimings(30, 1800, 5000),
+            new SpawnerRates(15, 300, 40),
+            defaultShopPrices()
+    );
+
+    public BalanceConfig {
+        shopPrices = Collections.unmodifiableMap(new LinkedHashMap<>(shopPrices));
+    }
+
+    /**
+     * Retrieves the balance the plugin was shipped with.
+     *
+     * @return the default balance
+     */
+    public static BalanceConfig defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Parses and validates a balance from the given document. Missing values fall back to the defaults,
+     * so new shop offers work without touching an existing file.
+     *
+     * @param jsonDocument the loaded {@code balance.json}
+     * @return the parsed balance
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    public static BalanceConfig parse(JsonDocument jsonDocument) {
+        JsonObject timings = jsonDocument.hasKey("timings") ? jsonDocument.get("timings").getAsJsonObject() : new JsonObject();
+        JsonObject spawners = jsonDocument.hasKey("spawners") ? jsonDocument.get("spawners").getAsJsonObject() : new JsonObject();
+        JsonObject shop = jsonDocument.hasKey("shop") ? jsonDocument.get("shop").getAsJsonObject() : new JsonObject();
+
+        GameTimings gameTimings = new GameTimings(
+                getInt(timings, "lobbyCountdownSeconds", DEFAULTS.timings.lobbyCountdownSeconds()),
+                getInt(timings, "gameDurationSeconds", DEFAULTS.timings.gameDurationSeconds()),
+                getInt(timings, "timeBlockLifetimeMillis", DEFAULTS.timings.timeBlockLifetimeMillis())
+        );
+        SpawnerRates spawnerRates = new SpawnerRates(
+                getInt(spawners, "copperIntervalTicks", DEFAULTS.spawners.copperIntervalTicks()),
+                getInt(spawners, "ironIntervalTicks", DEFAULTS.spawners.ironIntervalTicks()),
+                getInt(spawners, "goldIntervalSeconds", DEFAULTS.spawners.goldIntervalSeconds())
+        );
+
+        Map<String, ShopPrice> shopPrices = new LinkedHashMap<>(DEFAULTS.shopPrices);
+        for (Map.Entry<String, JsonElement> entry : shop.entrySet()) {
+            if (!shopPrices.containsKey(entry.getKey())) {
+                throw new IllegalArgumentException("Unknown shop offer " + entry.getKey());
+            }
+            shopPrices.put(entry.getKey(), ShopPrice.parse(entry.getValue().getAsString()));
+        }
+        return new BalanceConfig(gameTimings, spawnerRates, shopPrices);
+    }
+
+    /**
+     * Writes the balance into a document, used to create {@code balance.json} on the first start.
+     *
+     * @return a document containing all values of this balance
+     */
+    public JsonDocument toDocument() {
+        JsonObject timings = new JsonObject();
+        timings.addProperty("lobbyCountdownSeconds", this.timings.lobbyCountdownSeconds());
+        timings.addProperty("gameDurationSeconds", this.timings.gameDurationSeconds());
+        timings.addProperty("timeBlockLifetimeMillis", this.timings.timeBlockLifetimeMillis());
+
+        JsonObject spawners = new JsonObject();
+        spawners.addProperty("copperIntervalTicks", this.spawners.copperIntervalTicks());
+        spawners.addProperty("ironIntervalTicks", this.spawners.ironIntervalTicks());
+        spawners.addProperty("goldIntervalSeconds", this.spawners.goldIntervalSeconds());
+
+        JsonObject shop = new JsonObject();
+        this.shopPrices.forEach((key, price) -> shop.addProperty(key, price.toData()));
+
+        JsonDocument jsonDocument = new JsonDocument();
+        jsonDocument.set("timings", timings);
+        jsonDocument.set("spawners", spawners);
+        jsonDocument.set("shop", shop);
+        return jsonDocument;
+    }
+
+    /**
+     * Retrieves the price of a shop offer.
+     *
+     * @param key the key of the offer, e.g. {@code glass}
+     * @return the price of the offer
+     * @throws IllegalArgumentException if there is no offer with this key
+     */
+    public ShopPrice getPrice(String key) {
+        ShopPrice price = this.shopPrices.get(key);
+        if (price == null) throw new IllegalArgumentException("Unknown shop offer " + key);
+
+        return price;
+    }
+
+    private static int getInt(JsonObject jsonObject, String key, int defaultValue) {
+        return jsonObject.has(key) ? jsonObject.get(key).getAsInt() : defaultValue;
+    }
+
+    private static Map<String, ShopPrice> defaultShopPrices() {
+        Map<String, ShopPrice> prices = new LinkedHashMap<>();
+        prices.put("building_block", new ShopPrice(Currency.COPPER, 1));
+        prices.put("time_block", new ShopPrice(Currency.COPPER, 4));
+        prices.put("end_stone", new ShopPrice(Currency.IRON, 3));
+        prices.put("iron_block", new ShopPrice(Currency.IRON, 6));
+        prices.put("glass", new ShopPrice(Currency.COPPER, 4));
+        prices.put("glowstone", new ShopPrice(Currency.COPPER, 8));
+        prices.put("leather_helmet", new ShopPrice(Currency.COPPER, 6));
+        prices.put("leather_leggings", new ShopPrice(Currency.COPPER, 6));
+        prices.put("leather_boots", new ShopPrice(Currency.COPPER, 6));
+        prices.put("chainmail_chestplate", new ShopPrice(Currency.IRON, 3));
+        prices.put("chainmail_chestplate_1", new ShopPrice(Currency.IRON, 5));
+        prices.put("chainmail_chestplate_2", new ShopPrice(Currency.IRON, 8));
+        prices.put("chainmail_chestplate_3", new ShopPrice(Currency.GOLD, 2));
+        prices.put("wooden_pickaxe", new ShopPrice(Currency.COPPER, 4));
+        prices.put("stone_pickaxe", new ShopPrice(Currency.IRON, 3));
+        prices.put("iron_pickaxe", new ShopPrice(Currency.GOLD, 1));
+        prices.put("stick", new ShopPrice(Currency.COPPER, 3));
+        prices.put("wooden_sword", new ShopPrice(Currency.IRON, 3));
+        prices.put("stone_sword", new ShopPrice(Currency.IRON, 6));
+        prices.put("stone_sword_2", new ShopPrice(Currency.IRON, 10));
+        prices.put("iron_sword", new ShopPrice(Currency.GOLD, 3));
+        prices.put("arrows", new ShopPrice(Currency.IRON, 2));
+        prices.put("bow_1", new ShopPrice(Currency.GOLD, 1));
+        prices.put("bow_2", new ShopPrice(Currency.GOLD, 3));
+        prices.put("bow_3", new ShopPrice(Currency.GOLD, 12));
+        prices.put("bread", new ShopPrice(Currency.COPPER, 5));
+        prices.put("porkchop", new ShopPrice(Currency.IRON, 3));
+        prices.put("steak", new ShopPrice(Currency.IRON, 3));
+        prices.put("golden_apple", new ShopPrice(Currency.GOLD, 1));
+        prices.put("chest", new ShopPrice(Currency.IRON, 4));
+        prices.put("team_chest", new ShopPrice(Currency.GOLD, 1));
+        prices.put("healing_potion", new ShopPrice(Currency.IRON, 2));
+        prices.put("splash_healing_potion", new ShopPrice(Currency.IRON, 4));
+        prices.put("regeneration_potion", new ShopPrice(Currency.IRON, 5));
+        prices.put("splash_strength_potion", new ShopPrice(Currency.GOLD, 3));
+        prices.put("invisibility_potion", new ShopPrice(Currency.GOLD, 6));
+        prices.put("rescue_platform", new ShopPrice(Currency.IRON, 10));
+        prices.put("cobweb", new ShopPrice(Currency.IRON, 8));
+        prices.put("ender_pearl", new ShopPrice(Currency.GOLD, 3));
+        prices.put("alarm_block", new ShopPrice(Currency.IRON, 5));
+        prices.put("mobile_shop", new ShopPrice(Currency.GOLD, 8));
+        return prices;
+    }
+
+    /**
+     * @param lobbyCountdownSeconds the length of the lobby countdown, longer than the 10 seconds after the voting
+     * @param gameDurationSeconds the maximum length of a round
+     * @param timeBlockLifetimeMillis the time after which a placed time block disappears
+     */
+    public record GameTimings(int lobbyCountdownSeconds, int gameDurationSeconds, int timeBlockLifetimeMillis) {
+        public GameTimings {
+            if (lobbyCountdownSeconds <= 10) {
+                throw new IllegalArgumentException("lobbyCountdownSeconds must be greater than 10, the voting ends 10 seconds before the start");
+            }
+            requirePositive("gameDurationSeconds", gameDurationSeconds);
+            requirePositive("timeBlockLifetimeMillis", timeBlockLifetimeMillis);
+        }
+    }
+
+    /**
+     * @param copperIntervalTicks the ticks between two copper drops
+     * @param ironIntervalTicks the ticks between two iron drops
+     * @param goldIntervalSeconds the seconds between two gold drops
+     */
+    public record SpawnerRates(int copperIntervalTicks, int ironIntervalTicks, int goldIntervalSeconds) {
+        public SpawnerRates {
+            requirePositive("copperIntervalTicks", copperIntervalTicks);
+            requirePositive("ironIntervalTicks", ironIntervalTicks);
+            requirePositive("goldIntervalSeconds", goldIntervalSeconds);
+        }
+    }
+
+    private static void requirePositive(String name, int value) {
+        if (value <= 0) throw new IllegalArgumentException(name + " must be positive, was " + value);
+    }
+}
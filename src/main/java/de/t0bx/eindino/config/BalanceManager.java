@@ -0,0 +1,90 @@
+package de.t0bx.eindino.config;
+
+import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.utils.JsonDocument;
+import lombok.Getter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+public class BalanceManager {
+
+    @Getter
+    private final File file;
+    private final AtomicReference<BalanceConfig> balance;
+
+    /**
+     * Constructs a new BalanceManager and loads the game balance from {@code balance.json}
+     * in the plugin's data folder. If the file does not exist, it is created with the default balance.
+     */
+    public BalanceManager() {
+        this.file = new File(BedWarsPlugin.getInstance().getDataFolder(), "balance.json");
+        this.balance = new AtomicReference<>(BalanceConfig.defaults());
+        this.loadBalance();
+    }
+
+    /**
+     * Loads the balance file once on startup. A missing file is created with the default balance,
+     * an invalid file is reported and the default balance is used until the file is fixed.
+     */
+    private void loadBalance() {
+        JsonDocument jsonDocument = JsonDocument.loadDocument(this.file);
+
+        if (jsonDocument == null) {
+            try {
+                BalanceConfig.defaults().toDocument().save(this.file);
+            } catch (IOException exception) {
+                exception.printStackTrace();
+            }
+            return;
+        }
+
+        try {
+            this.balance.set(BalanceConfig.parse(jsonDocument));
+        } catch (RuntimeException exception) {
+            BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "balance.json is invalid, using the default balance", exception);
+        }
+    }
+
+    /**
+     * Parses the balance file again and swaps the balance atomically. Called by the {@link ConfigWatcher}
+     * on the main thread when the file has changed. An invalid file keeps the current balance. The running round
+     * of every arena is told about the new balance, so the spawners pick up changed intervals immediately.
+     */
+    public void reload() {
+        JsonDocument jsonDocument = JsonDocument.loadDocument(this.file);
+        if (jsonDocument == null) {
+            BedWarsPlugin.getInstance().getLogger().warning("balance.json could not be read, keeping the current balance");
+            return;
+        }
+
+        BalanceConfig reloaded;
+        try {
+            reloaded = BalanceConfig.parse(jsonDocument);
+        } catch (RuntimeException exception) {
+            BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "balance.json is invalid, keeping the current balance", exception);
+            return;
+        }
+
+        BalanceConfig previous = this.balance.getAndSet(reloaded);
+        BedWarsPlugin.getInstance().getLogger().info("Reloaded balance.json");
+
+        if (BedWarsPlugin.getInstance().getArenaManager() == null) return;
+
+        for (Arena arena : BedWarsPlugin.getInstance().getArenaManager().getArenas()) {
+            arena.getGameHandler().onBalanceReload(previous, reloaded);
+        }
+    }
+
+    /**
+     * Retrieves the current balance without touching the file system.
+     *
+     * @return the current immutable balance
+     */
+    public BalanceConfig getBalance() {
+        return this.balance.get();
+    }
+}
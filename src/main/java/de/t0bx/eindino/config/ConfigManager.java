@@ -2,14 +2,18 @@ package de.t0bx.eindino.config;
 
 import de.t0bx.eindino.BedWarsPlugin;
 import de.t0bx.eindino.utils.JsonDocument;
+import lombok.Getter;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
 
 public class ConfigManager {
 
+    @Getter
     private final File file;
-    private JsonDocument jsonDocument;
+    private final AtomicReference<ConfigSnapshot> snapshot;
 
     /**
      * Default constructor for the ConfigManager class.
@@ -19,11 +23,12 @@ public class ConfigManager {
      */
     public ConfigManager() {
         this.file = new File(BedWarsPlugin.getInstance().getDataFolder(), "config.json");
+        this.snapshot = new AtomicReference<>();
         this.loadConfig();
     }
 
     /**
-     * Loads the configuration file and initializes the JsonDocument object.
+     * Loads the configuration file and parses it into the initial {@link ConfigSnapshot}.
      * If the configuration file does not exist or is empty, a new JsonDocument object
      * is created with default configuration values, including a "prefix" and "playType".
      * The new configuration is then saved to the file system.
@@ -33,37 +38,99 @@ public class ConfigManager {
      * In case of IOException during file operations, the exception stack trace is printed.
      */
     private void loadConfig() {
-        try {
-            this.jsonDocument = JsonDocument.loadDocument(this.file);
+        JsonDocument jsonDocument = JsonDocument.loadDocument(this.file);
 
-            if (this.jsonDocument == null) {
-                this.jsonDocument = new JsonDocument();
+        if (jsonDocument == null) {
+            jsonDocument = new JsonDocument();
 
-                this.jsonDocument.setString("prefix", "<gradient:#00aaaa:#55ffff>BedWars</gradient> <dark_gray>| <gray>");
-                this.jsonDocument.setString("playType", "2x1");
-                this.jsonDocument.save(this.file);
+            jsonDocument.setString("prefix", ConfigSnapshot.DEFAULT_PREFIX);
+            jsonDocument.setString("playType", ConfigSnapshot.DEFAULT_PLAY_TYPE);
+            jsonDocument.setString("statsBackend", ConfigSnapshot.DEFAULT_STATS_BACKEND);
+            jsonDocument.setNumber("arenas", ConfigSnapshot.DEFAULT_ARENA_COUNT);
+            try {
+                jsonDocument.save(this.file);
+            } catch (IOException exception) {
+                exception.printStackTrace();
             }
+        }
+
+        this.snapshot.set(ConfigSnapshot.parse(jsonDocument));
+        BedWarsPlugin.getInstance().setPrefix(this.snapshot.get().prefix());
+    }
+
+    /**
+     * Parses the configuration file again and swaps the snapshot atomically. Called by the
+     * {@link ConfigWatcher} when the file has changed. An invalid file keeps the current snapshot.
+     * The play type decides which teams exist, the stats backend which storage was opened and the
+     * number of arenas which rounds run, so changes of these only take effect after a restart. The new prefix is used by the next message.
+     */
+    public void reload() {
+        JsonDocument jsonDocument = JsonDocument.loadDocument(this.file);
+        if (jsonDocument == null) {
+            BedWarsPlugin.getInstance().getLogger().warning("config.json could not be read, keeping the current configuration");
+            return;
+        }
+
+        ConfigSnapshot current = this.snapshot.get();
+        ConfigSnapshot reloaded;
+        try {
+            reloaded = ConfigSnapshot.parse(jsonDocument);
+        } catch (RuntimeException exception) {
+            BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "config.json is invalid, keeping the current configuration", exception);
+            return;
+        }
 
-            BedWarsPlugin.getInstance().setPrefix(this.jsonDocument.get("prefix").getAsString());
-        } catch (IOException exception) {
-            exception.printStackTrace();
+        if (!reloaded.playType().equalsIgnoreCase(current.playType())) {
+            BedWarsPlugin.getInstance().getLogger().warning("The playType changed to " + reloaded.playType() + ", it takes effect after a restart");
         }
+        if (!reloaded.statsBackend().equalsIgnoreCase(current.statsBackend())) {
+            BedWarsPlugin.getInstance().getLogger().warning("The statsBackend changed to " + reloaded.statsBackend() + ", it takes effect after a restart");
+        }
+        if (reloaded.arenaCount() != current.arenaCount()) {
+            BedWarsPlugin.getInstance().getLogger().warning("The number of arenas changed to " + reloaded.arenaCount() + ", it takes effect after a restart");
+        }
+        reloaded = new ConfigSnapshot(reloaded.prefix(), current.playType(), current.statsBackend(), current.teamCount(), current.playersPerTeam(), current.arenaCount());
+
+        this.snapshot.set(reloaded);
+        BedWarsPlugin.getInstance().setPrefix(reloaded.prefix());
+        BedWarsPlugin.getInstance().getLogger().info("Reloaded config.json");
     }
 
     /**
-     * Retrieves the "playType" value from the JSON configuration file.
+     * Retrieves the current configuration without touching the file system.
      *
-     * The method reloads the internal JSON document from the associated file and then
-     * retrieves the value associated with the "playType" key. If the file is not properly
-     * loaded or the document is null, it returns {@code null}.
+     * @return the current immutable configuration snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return this.snapshot.get();
+    }
+
+    /**
+     * Retrieves the "playType" value from the current configuration snapshot.
      *
-     * @return the "playType" value as a String, or {@code null} if the JSON document is null
-     *         or the "playType" key does not exist.
+     * @return the "playType" value as a String
      */
     public String getPlayType() {
-        this.jsonDocument = JsonDocument.loadDocument(this.file);
-        if (this.jsonDocument == null) return null;
+        return this.snapshot.get().playType();
+    }
 
-        return this.jsonDocument.get("playType").getAsString();
+    /**
+     * Retrieves the "arenas" value from the current configuration snapshot, the number of arenas
+     * whose rounds run side by side on this server.
+     *
+     * @return the number of arenas, or 1 if the key does not exist
+     */
+    public int getArenaCount() {
+        return this.snapshot.get().arenaCount();
+    }
+
+    /**
+     * Retrieves the "statsBackend" value from the current configuration snapshot, which selects
+     * the storage of the player statistics: {@code mysql}, {@code memory} or {@code file}.
+     *
+     * @return the configured backend, or {@code mysql} if the key does not exist
+     */
+    public String getStatsBackend() {
+        return this.snapshot.get().statsBackend();
     }
 }
@@ -0,0 +1,54 @@
+package de.t0bx.eindino.config;
+
+import de.t0bx.eindino.utils.JsonDocument;
+
+/**
+ * An immutable view of {@code config.json}. The snapshot is parsed once per file change and
+ * swapped atomically by the {@link ConfigManager}, so readers never touch the file system.
+ *
+ * @param prefix the chat prefix of all plugin messages
+ * @param playType the play type, e.g. {@code 4x2} for four teams of two players
+ * @param statsBackend the storage of the player statistics
+ * @param teamCount the number of teams, parsed from the play type
+ * @param playersPerTeam the number of players per team, parsed from the play type
+ * @param arenaCount the number of arenas running their rounds side by side on this server
+ */
+public record ConfigSnapshot(String prefix, String playType, String statsBackend, int teamCount, int playersPerTeam, int arenaCount) {
+
+    static final String DEFAULT_PREFIX = "<gradient:#00aaaa:#55ffff>BedWars</gradient> <dark_gray>| <gray>";
+    static final String DEFAULT_PLAY_TYPE = "2x1";
+    static final String DEFAULT_STATS_BACKEND = "mysql";
+    static final int DEFAULT_ARENA_COUNT = 1;
+
+    /**
+     * Parses a snapshot from the given document, missing keys fall back to their defaults.
+     *
+     * @param jsonDocument the loaded {@code config.json}
+     * @return the parsed snapshot
+     * @throws IllegalArgumentException if the play type is not of the form {@code <teams>x<players>} or there is no arena
+     */
+    public static ConfigSnapshot parse(JsonDocument jsonDocument) {
+        String prefix = jsonDocument.hasKey("prefix") ? jsonDocument.get("prefix").getAsString() : DEFAULT_PREFIX;
+        String playType = jsonDocument.hasKey("playType") ? jsonDocument.get("playType").getAsString() : DEFAULT_PLAY_TYPE;
+        String statsBackend = jsonDocument.hasKey("statsBackend") ? jsonDocument.get("statsBackend").getAsString() : DEFAULT_STATS_BACKEND;
+        int arenaCount = jsonDocument.hasKey("arenas") ? jsonDocument.get("arenas").getAsInt() : DEFAULT_ARENA_COUNT;
+        if (arenaCount < 1) {
+            throw new IllegalArgumentException("Invalid arenas " + arenaCount);
+        }
+
+        String[] playTypeArray = playType.split("\\s*[xX]\\s*");
+        if (playTypeArray.length != 2) {
+            throw new IllegalArgumentException("Invalid playType " + playType);
+        }
+        return new ConfigSnapshot(prefix, playType, statsBackend, Integer.parseInt(playTypeArray[0]), Integer.parseInt(playTypeArray[1]), arenaCount);
+    }
+
+    /**
+     * Retrieves the maximum number of players of a round, i.e. of one arena.
+     *
+     * @return the number of teams multiplied by the number of players per team
+     */
+    public int maxPlayers() {
+        return this.teamCount * this.playersPerTeam;
+    }
+}
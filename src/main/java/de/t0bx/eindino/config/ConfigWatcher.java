@@ -0,0 +1,121 @@
+package de.t0bx.eindino.config;
+
+import de.t0bx.eindino.BedWarsPlugin;
+import org.bukkit.Bukkit;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+public class ConfigWatcher {
+
+    private static final long DEBOUNCE_MILLIS = 250;
+
+    private final Path directory;
+    private final Map<String, Runnable> reloaders;
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * Constructs a new ConfigWatcher which watches the plugin's data folder and reloads a file
+     * once it was changed. Editors often write a file in several steps, so all events of a file
+     * within a short window are merged into a single reload. The directory is watched on a daemon thread,
+     * the reloads are scheduled on the main thread.
+     *
+     * @param directory the directory containing the watched files
+     */
+    public ConfigWatcher(Path directory) {
+        this.directory = directory;
+        this.reloaders = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers the action that reloads the given file.
+     *
+     * @param fileName the name of the file inside the watched directory
+     * @param reloader called on the main thread after the file has changed
+     */
+    public void register(String fileName, Runnable reloader) {
+        this.reloaders.put(fileName, reloader);
+    }
+
+    /**
+     * Starts watching the directory on a daemon thread.
+     */
+    public void start() {
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            this.directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException exception) {
+            BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "Failed to watch the config files, changes require a restart", exception);
+            return;
+        }
+
+        this.thread = new Thread(this::run, "bedwars-config-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stops watching the directory.
+     */
+    public void stop() {
+        if (this.watchService == null) return;
+
+        try {
+            this.watchService.close();
+        } catch (IOException exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = this.watchService.take();
+                Set<String> changed = new HashSet<>();
+                this.collect(key, changed);
+
+                // merge the events of the same save into one reload
+                WatchKey next;
+                while ((next = this.watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    this.collect(next, changed);
+                }
+
+                for (String fileName : changed) {
+                    Runnable reloader = this.reloaders.get(fileName);
+                    // the reloaders swap state read by the game, so they run on the main thread like every other change
+                    Bukkit.getScheduler().runTask(BedWarsPlugin.getInstance(), () -> {
+                        try {
+                            reloader.run();
+                        } catch (RuntimeException exception) {
+                            BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "Failed to reload " + fileName, exception);
+                        }
+                    });
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+            // the watcher was stopped
+        }
+    }
+
+    private void collect(WatchKey key, Set<String> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path && this.reloaders.containsKey(path.toString())) {
+                changed.add(path.toString());
+            }
+        }
+        key.reset();
+    }
+}
@@ -0,0 +1,37 @@
+package de.t0bx.eindino.config;
+
+import lombok.Getter;
+import org.bukkit.Material;
+
+@Getter
+public enum Currency {
+    COPPER("copper", "§7", "Kupfer", Material.COPPER_INGOT),
+    IRON("iron", "§8", "Eisen", Material.IRON_INGOT),
+    GOLD("gold", "§6", "Gold", Material.GOLD_INGOT);
+
+    private final String key;
+    private final String color;
+    private final String displayName;
+    private final Material material;
+
+    Currency(String key, String color, String displayName, Material material) {
+        this.key = key;
+        this.color = color;
+        this.displayName = displayName;
+        this.material = material;
+    }
+
+    /**
+     * Retrieves the currency with the given key.
+     *
+     * @param key the key used in the balance config and the shop items, e.g. {@code copper}
+     * @return the matching currency
+     * @throws IllegalArgumentException if no currency has this key
+     */
+    public static Currency fromKey(String key) {
+        for (Currency currency : values()) {
+            if (currency.key.equalsIgnoreCase(key.trim())) return currency;
+        }
+        throw new IllegalArgumentException("Unknown currency " + key);
+    }
+}
@@ -0,0 +1,47 @@
+package de.t0bx.eindino.config;
+
+/**
+ * The price of a single shop offer.
+ *
+ * @param currency the resource the offer is paid with
+ * @param amount the number of resources one purchase costs, always positive
+ */
+public record ShopPrice(Currency currency, int amount) {
+
+    public ShopPrice {
+        if (currency == null) throw new IllegalArgumentException("currency must not be null");
+        if (amount <= 0) throw new IllegalArgumentException("amount must be positive, was " + amount);
+    }
+
+    /**
+     * Parses a price in the format used by the shop items, e.g. {@code copper:4}.
+     *
+     * @param value the price to parse
+     * @return the parsed price
+     * @throws IllegalArgumentException if the format, the currency or the amount is invalid
+     */
+    public static ShopPrice parse(String value) {
+        String[] parts = value.split(":");
+        if (parts.length != 2) throw new IllegalArgumentException("Invalid shop price " + value);
+
+        return new ShopPrice(Currency.fromKey(parts[0]), Integer.parseInt(parts[1].trim()));
+    }
+
+    /**
+     * Formats the price for the persistent data of a shop item, which is read by the click listener.
+     *
+     * @return the price in the format {@code currency:amount}
+     */
+    public String toData() {
+        return this.currency.getKey() + ":" + this.amount;
+    }
+
+    /**
+     * Formats the price as the lore line shown below a shop item.
+     *
+     * @return the price in the format shown to players, e.g. {@code §74 Kupfer}
+     */
+    public String toLore() {
+        return this.currency.getColor() + this.amount + " " + this.currency.getDisplayName();
+    }
+}
@@ -2,7 +2,8 @@ package de.t0bx.eindino.config;
 
 import de.t0bx.eindino.BedWarsPlugin;
 import de.t0bx.eindino.utils.JsonDocument;
-import org.bukkit.Bukkit;
+import de.t0bx.eindino.utils.LocationData;
+import lombok.Getter;
 import org.bukkit.Location;
 
 import java.io.File;
@@ -10,16 +11,18 @@ import java.io.IOException;
 
 public class SpawnManager {
 
+    @Getter
     private final File file;
-    private JsonDocument jsonDocument;
+    private volatile Location spawn;
 
     /**
      * Constructs a new instance of SpawnManager.
      * This constructor initializes a file instance pointing to "spawn.json"
-     * located in the data folder of the BedWarsPlugin.
+     * located in the data folder of the BedWarsPlugin and loads the spawn once.
      */
     public SpawnManager() {
         this.file = new File(BedWarsPlugin.getInstance().getDataFolder(), "spawn.json");
+        this.reload();
     }
 
     /**
@@ -31,42 +34,44 @@ public class SpawnManager {
      */
     public void setSpawn(Location location) {
         try {
-            this.jsonDocument = JsonDocument.loadDocument(this.file);
-
-            if (this.jsonDocument == null) {
-                this.jsonDocument = new JsonDocument();
-            }
-
-            this.jsonDocument.setNumber("x", location.getX());
-            this.jsonDocument.setNumber("y", location.getY());
-            this.jsonDocument.setNumber("z", location.getZ());
-            this.jsonDocument.setNumber("yaw", location.getYaw());
-            this.jsonDocument.setNumber("pitch", location.getPitch());
-            this.jsonDocument.setString("world", location.getWorld().getName());
-            this.jsonDocument.save(this.file);
-
+            JsonDocument.save(this.file, LocationData.of(location));
+            this.spawn = location.clone();
         } catch (IOException exception) {
             exception.printStackTrace();
         }
     }
 
     /**
-     * Retrieves the spawn location from the stored JSON document.
-     * If the JSON document is not available or an error occurs, this method will return null.
+     * Parses the spawn file again and replaces the cached spawn. Called once on startup
+     * and by the {@link ConfigWatcher} when the file has changed. A missing, empty or invalid
+     * file keeps the current spawn.
+     */
+    public void reload() {
+        LocationData locationData;
+        try {
+            locationData = JsonDocument.load(this.file, LocationData.class);
+        } catch (IOException | RuntimeException exception) {
+            BedWarsPlugin.getInstance().getLogger().warning("spawn.json is invalid, keeping the current spawn");
+            return;
+        }
+
+        if (locationData == null) {
+            // a missing or emptied file must not remove the spawn players are teleported to
+            if (this.spawn != null) {
+                BedWarsPlugin.getInstance().getLogger().warning("spawn.json is missing or empty, keeping the current spawn");
+            }
+            return;
+        }
+        this.spawn = locationData.toLocation();
+    }
+
+    /**
+     * Retrieves the cached spawn location without touching the file system.
      *
-     * @return the Location representing the spawn point, or null if the JSON document is unavailable or invalid.
+     * @return a copy of the spawn point, or null if no spawn is set.
      */
     public Location getSpawn() {
-        this.jsonDocument = JsonDocument.loadDocument(this.file);
-        if (this.jsonDocument == null) return null;
-
-        return new Location(
-                Bukkit.getWorld(this.jsonDocument.get("world").getAsString()),
-                this.jsonDocument.get("x").getAsDouble(),
-                this.jsonDocument.get("y").getAsDouble(),
-                this.jsonDocument.get("z").getAsDouble(),
-                this.jsonDocument.get("yaw").getAsFloat(),
-                this.jsonDocument.get("pitch").getAsFloat()
-        );
+        Location location = this.spawn;
+        return location != null ? location.clone() : null;
     }
 }
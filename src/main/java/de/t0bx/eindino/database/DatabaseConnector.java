@@ -0,0 +1,121 @@
+package de.t0bx.eindino.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.utils.JsonDocument;
+import lombok.Getter;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.logging.Level;
+
+public class DatabaseConnector {
+
+    private static final String DRIVER_CLASS = "com.mysql.cj.jdbc.Driver";
+    private static final int MAXIMUM_POOL_SIZE = 3;
+
+    @Getter
+    private final File file;
+    private final HikariDataSource dataSource;
+
+    /**
+     * Constructs a new DatabaseConnector which pools the connections used for transactions, i.e. the schema
+     * migrations, the stat flushes and the match history. The ServerAPI only offers single statements
+     * without a connection of their own, so these connections are opened with the credentials from
+     * {@code database.json} in the plugin's data folder, which must point to the database of the ServerAPI.
+     * There are no default credentials: if the file does not exist, an empty template is created and
+     * the connector stays unconfigured until the file has been filled in, see {@link #isConfigured()}.
+     * The driver and the pool are loaded by the server from the {@code libraries} of the plugin.yml.
+     */
+    public DatabaseConnector() {
+        this.file = new File(BedWarsPlugin.getInstance().getDataFolder(), "database.json");
+        DatabaseSettings settings = this.loadSettings();
+        this.dataSource = settings != null ? this.createDataSource(settings) : null;
+    }
+
+    /**
+     * Checks whether {@code database.json} was configured and the pool could be created.
+     * The MySQL backend must not be used otherwise.
+     *
+     * @return true if connections can be requested, otherwise false
+     */
+    public boolean isConfigured() {
+        return this.dataSource != null;
+    }
+
+    /**
+     * Borrows a connection from the pool. Connections are only needed once per flush interval,
+     * per finished round and on startup, so the pool is small; the caller must close the connection
+     * to return it.
+     *
+     * @return a pooled connection with auto commit enabled
+     * @throws SQLException if the connector is not configured or no connection could be opened
+     */
+    public Connection getConnection() throws SQLException {
+        if (this.dataSource == null) {
+            throw new SQLException("database.json is not configured");
+        }
+        return this.dataSource.getConnection();
+    }
+
+    /**
+     * Closes the pool and all of its connections. Called on shutdown after all writes have finished.
+     */
+    public void close() {
+        if (this.dataSource != null) {
+            this.dataSource.close();
+        }
+    }
+
+    private HikariDataSource createDataSource(DatabaseSettings settings) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("bedwars");
+        config.setDriverClassName(DRIVER_CLASS);
+        config.setJdbcUrl(settings.toJdbcUrl());
+        config.setUsername(settings.user());
+        config.setPassword(settings.password());
+        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        config.setMinimumIdle(1);
+        try {
+            return new HikariDataSource(config);
+        } catch (RuntimeException exception) {
+            BedWarsPlugin.getInstance().getLogger().log(Level.SEVERE, "Failed to connect to the database configured in database.json", exception);
+            return null;
+        }
+    }
+
+    private DatabaseSettings loadSettings() {
+        if (!this.file.exists()) {
+            try {
+                DatabaseSettings.template().toDocument().save(this.file);
+            } catch (IOException exception) {
+                exception.printStackTrace();
+            }
+            BedWarsPlugin.getInstance().getLogger().severe("database.json was created, fill in the credentials of the ServerAPI database to use the MySQL backend");
+            return null;
+        }
+
+        JsonDocument jsonDocument = JsonDocument.loadDocument(this.file);
+        if (jsonDocument == null) {
+            BedWarsPlugin.getInstance().getLogger().severe("database.json could not be read");
+            return null;
+        }
+
+        DatabaseSettings settings;
+        try {
+            settings = DatabaseSettings.parse(jsonDocument);
+        } catch (RuntimeException exception) {
+            BedWarsPlugin.getInstance().getLogger().log(Level.SEVERE, "database.json is invalid", exception);
+            return null;
+        }
+
+        if (!settings.isComplete()) {
+            BedWarsPlugin.getInstance().getLogger().severe("database.json is not filled in, host, database and user are required");
+            return null;
+        }
+        return settings;
+    }
+}
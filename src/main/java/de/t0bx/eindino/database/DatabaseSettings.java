@@ -0,0 +1,85 @@
+package de.t0bx.eindino.database;
+
+import de.t0bx.eindino.utils.JsonDocument;
+
+/**
+ * An immutable view of {@code database.json}, the credentials of the connections the plugin opens itself
+ * for statements which have to run in a transaction. All other statements go through the ServerAPI,
+ * so the settings must point to the same database as the ServerAPI.
+ *
+ * @param host the host of the MySQL server
+ * @param port the port of the MySQL server
+ * @param database the name of the database holding the bedwars tables
+ * @param user the user to log in with
+ * @param password the password of the user
+ */
+public record DatabaseSettings(String host, int port, String database, String user, String password) {
+
+    private static final String[] KEYS = {"host", "port", "database", "user", "password"};
+
+    /**
+     * Retrieves the settings written to a newly created {@code database.json}. Host, database and user
+     * are left empty, so the file has to be filled in before the MySQL backend can be used.
+     *
+     * @return the settings of the template
+     */
+    public static DatabaseSettings template() {
+        return new DatabaseSettings("", 3306, "", "", "");
+    }
+
+    /**
+     * Parses the settings from the given document. There are no defaults, every key has to be present.
+     *
+     * @param jsonDocument the loaded {@code database.json}
+     * @return the parsed settings
+     * @throws IllegalArgumentException if a key is missing
+     */
+    public static DatabaseSettings parse(JsonDocument jsonDocument) {
+        for (String key : KEYS) {
+            if (!jsonDocument.hasKey(key)) {
+                throw new IllegalArgumentException("database.json is missing the key " + key);
+            }
+        }
+
+        return new DatabaseSettings(
+                jsonDocument.get("host").getAsString(),
+                jsonDocument.get("port").getAsInt(),
+                jsonDocument.get("database").getAsString(),
+                jsonDocument.get("user").getAsString(),
+                jsonDocument.get("password").getAsString()
+        );
+    }
+
+    /**
+     * Checks whether the settings were filled in, i.e. host, database and user are set.
+     *
+     * @return true if the settings can be used to connect, otherwise false
+     */
+    public boolean isComplete() {
+        return !this.host.isBlank() && !this.database.isBlank() && !this.user.isBlank();
+    }
+
+    /**
+     * Converts the settings into a document which can be saved as {@code database.json}.
+     *
+     * @return the document holding all settings
+     */
+    public JsonDocument toDocument() {
+        JsonDocument jsonDocument = new JsonDocument();
+        jsonDocument.setString("host", this.host);
+        jsonDocument.setNumber("port", this.port);
+        jsonDocument.setString("database", this.database);
+        jsonDocument.setString("user", this.user);
+        jsonDocument.setString("password", this.password);
+        return jsonDocument;
+    }
+
+    /**
+     * Builds the JDBC url of the configured database.
+     *
+     * @return the url passed to the driver
+     */
+    public String toJdbcUrl() {
+        return "jdbc:mysql://" + this.host + ":" + this.port + "/" + this.database;
+    }
+}
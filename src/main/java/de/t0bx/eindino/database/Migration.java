@@ -0,0 +1,57 @@
+package de.t0bx.eindino.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A single schema change. Migrations are applied in ascending order of their version
+ * and every version is applied exactly once per database.
+ *
+ * @param version the version of the schema after this migration was applied
+ * @param description a short description which is stored in the schema_version table
+ * @param steps the steps to execute, in order
+ */
+public record Migration(int version, String description, List<Step> steps) {
+
+    public Migration(int version, String description, String... statements) {
+        this(version, description, Arrays.stream(statements).map(Migration::statement).toList());
+    }
+
+    public Migration(int version, String description, Step... steps) {
+        this(version, description, List.of(steps));
+    }
+
+    /**
+     * Creates a step which executes a single statement.
+     *
+     * @param sql the statement to execute
+     * @return the step executing the statement
+     */
+    public static Step statement(String sql) {
+        return connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            }
+        };
+    }
+
+    /**
+     * A part of a migration. DDL statements are committed implicitly by MySQL, so a migration
+     * consisting of several steps can fail halfway and is run again on the next start.
+     * Steps which can not simply be repeated have to check the schema before they change it.
+     */
+    @FunctionalInterface
+    public interface Step {
+
+        /**
+         * Applies this step.
+         *
+         * @param connection the connection the migrations run on
+         * @throws SQLException if the step fails
+         */
+        void apply(Connection connection) throws SQLException;
+    }
+}
@@ -0,0 +1,280 @@
+package de.t0bx.eindino.database;
+
+import de.t0bx.eindino.BedWarsPlugin;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class MigrationRunner {
+
+    private static final String CREATE_VERSION_TABLE = """
+            CREATE TABLE IF NOT EXISTS bedwars_schema_version(
+            version INT PRIMARY KEY,
+            description VARCHAR(128) NOT NULL,
+            appliedAt BIGINT NOT NULL)
+            """;
+
+    private final DatabaseConnector databaseConnector;
+    private final List<Migration> migrations;
+
+    /**
+     * Constructs a new MigrationRunner which brings the database schema to the latest version.
+     * The applied versions are tracked in the {@code bedwars_schema_version} table, so every
+     * migration runs exactly once per database. New migrations must be appended with the next
+     * higher version, existing migrations must never be changed once they were released.
+     *
+     * @param databaseConnector the connector opening the connection the migrations run on
+     */
+    public MigrationRunner(DatabaseConnector databaseConnector) {
+        this.databaseConnector = databaseConnector;
+        this.migrations = new ArrayList<>();
+
+        this.migrations.add(new Migration(1, "initial tables",
+                """
+                CREATE TABLE IF NOT EXISTS bedwars_players(
+                uuid VARCHAR(36) PRIMARY KEY,
+                kills INT(100) DEFAULT 0,
+                deaths INT(100) DEFAULT 0,
+                wins INT(100) DEFAULT 0,
+                gamesPlayed INT(100) DEFAULT 0,
+                bedsDestroyed INT(100) DEFAULT 0)
+                """,
+                """
+                CREATE TABLE IF NOT EXISTS bedwars_matches(
+                gameId VARCHAR(16) PRIMARY KEY,
+                map VARCHAR(64) NULL,
+                playType VARCHAR(16) NOT NULL,
+                goldActive BOOLEAN NOT NULL,
+                ranked BOOLEAN NOT NULL,
+                startedAt BIGINT NOT NULL,
+                duration INT NOT NULL,
+                winnerTeam VARCHAR(32) NULL)
+                """,
+                """
+                CREATE TABLE IF NOT EXISTS bedwars_match_players(
+                gameId VARCHAR(16) NOT NULL,
+                uuid VARCHAR(36) NOT NULL,
+                team VARCHAR(32) NOT NULL,
+                kills INT NOT NULL DEFAULT 0,
+                deaths INT NOT NULL DEFAULT 0,
+                bedsDestroyed INT NOT NULL DEFAULT 0,
+                won BOOLEAN NOT NULL DEFAULT FALSE,
+                leftEarly BOOLEAN NOT NULL DEFAULT FALSE,
+                PRIMARY KEY (gameId, uuid),
+                INDEX idx_match_players_uuid (uuid))
+                """
+        ));
+
+        this.migrations.add(new Migration(2, "binary uuids and plain int columns",
+                this::convertPlayers,
+                this::convertMatchPlayers
+        ));
+
+        this.migrations.add(new Migration(3, "leaderboard indexes",
+                this.createIndex("bedwars_players", "idx_players_wins", "wins"),
+                this.createIndex("bedwars_players", "idx_players_kills", "kills")
+        ));
+
+        this.migrations.add(new Migration(4, "applied stat batches",
+                """
+                CREATE TABLE IF NOT EXISTS bedwars_stat_batches(
+                batchId BINARY(16) PRIMARY KEY,
+                appliedAt BIGINT NOT NULL,
+                INDEX idx_stat_batches_applied (appliedAt))
+                """
+        ));
+
+        this.migrations.add(new Migration(5, "player rating",
+                this.addColumn("bedwars_players", "rating", "INT NOT NULL DEFAULT 1000"),
+                this.createIndex("bedwars_players", "idx_players_rating", "rating")
+        ));
+
+        this.migrations.add(new Migration(6, "player names",
+                """
+                CREATE TABLE IF NOT EXISTS bedwars_player_names(
+                uuid BINARY(16) PRIMARY KEY,
+                name VARCHAR(32) NOT NULL,
+                updatedAt BIGINT NOT NULL,
+                INDEX idx_player_names_name (name))
+                """
+        ));
+
+        this.migrations.sort(Comparator.comparingInt(Migration::version));
+    }
+
+    /**
+     * Applies all migrations which have not been applied yet. This method blocks and must be
+     * called during startup before any player can join or any statement touches the tables.
+     *
+     * @throws SQLException if a migration fails, the failed migration is not recorded and is retried on the next start
+     */
+    public void migrate() throws SQLException {
+        try (Connection connection = this.databaseConnector.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_VERSION_TABLE);
+            }
+
+            int currentVersion = this.getCurrentVersion(connection);
+            for (Migration migration : this.migrations) {
+                if (migration.version() <= currentVersion) continue;
+
+                this.apply(connection, migration);
+                BedWarsPlugin.getInstance().getLogger().info("Applied database migration " + migration.version() + " (" + migration.description() + ")");
+            }
+        }
+    }
+
+    private int getCurrentVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(version), 0) AS version FROM bedwars_schema_version")) {
+            return resultSet.next() ? resultSet.getInt("version") : 0;
+        }
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        for (Migration.Step step : migration.steps()) {
+            step.apply(connection);
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO bedwars_schema_version (version, description, appliedAt) VALUES (?, ?, ?)")) {
+            statement.setInt(1, migration.version());
+            statement.setString(2, migration.description());
+            statement.setLong(3, System.currentTimeMillis());
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Copies {@code bedwars_players} into a new table with binary uuids and swaps both tables.
+     * Each part checks the schema first, so the step can be run again after it failed halfway:
+     * the copy only runs while the live table still has text uuids, and the old table is only
+     * dropped once it holds exactly as many convertible rows as the live table.
+     */
+    private void convertPlayers(Connection connection) throws SQLException {
+        if ("varchar".equals(this.getColumnType(connection, "bedwars_players", "uuid"))) {
+            this.execute(connection, "DROP TABLE IF EXISTS bedwars_players_new");
+            this.execute(connection, """
+                    CREATE TABLE bedwars_players_new(
+                    uuid BINARY(16) PRIMARY KEY,
+                    kills INT NOT NULL DEFAULT 0,
+                    deaths INT NOT NULL DEFAULT 0,
+                    wins INT NOT NULL DEFAULT 0,
+                    gamesPlayed INT NOT NULL DEFAULT 0,
+                    bedsDestroyed INT NOT NULL DEFAULT 0)
+                    """);
+            this.execute(connection, """
+                    INSERT INTO bedwars_players_new (uuid, kills, deaths, wins, gamesPlayed, bedsDestroyed)
+                    SELECT UNHEX(REPLACE(uuid, '-', '')), COALESCE(kills, 0), COALESCE(deaths, 0), COALESCE(wins, 0),
+                    COALESCE(gamesPlayed, 0), COALESCE(bedsDestroyed, 0)
+                    FROM bedwars_players
+                    WHERE CHAR_LENGTH(uuid) = 36
+                    """);
+            this.execute(connection, "RENAME TABLE bedwars_players TO bedwars_players_old, bedwars_players_new TO bedwars_players");
+        }
+
+        if (!this.tableExists(connection, "bedwars_players_old")) return;
+
+        long oldRows = this.count(connection, "SELECT COUNT(*) FROM bedwars_players_old WHERE CHAR_LENGTH(uuid) = 36");
+        long newRows = this.count(connection, "SELECT COUNT(*) FROM bedwars_players");
+        if (oldRows != newRows) {
+            throw new SQLException("bedwars_players holds " + newRows + " rows but bedwars_players_old holds " + oldRows
+                    + ", keeping bedwars_players_old until the copy is checked manually");
+        }
+        this.execute(connection, "DROP TABLE bedwars_players_old");
+    }
+
+    /**
+     * Converts the uuid column of {@code bedwars_match_players} to binary in place. Each part checks
+     * the schema first, so the step can be run again after it failed halfway.
+     */
+    private void convertMatchPlayers(Connection connection) throws SQLException {
+        if (!"varchar".equals(this.getColumnType(connection, "bedwars_match_players", "uuid"))) return;
+
+        if (this.getColumnType(connection, "bedwars_match_players", "uuid_bin") == null) {
+            this.execute(connection, "ALTER TABLE bedwars_match_players ADD COLUMN uuid_bin BINARY(16) NULL AFTER gameId");
+        }
+        this.execute(connection, "UPDATE bedwars_match_players SET uuid_bin = UNHEX(REPLACE(uuid, '-', ''))");
+        this.execute(connection, """
+                ALTER TABLE bedwars_match_players
+                DROP PRIMARY KEY,
+                DROP INDEX idx_match_players_uuid,
+                DROP COLUMN uuid,
+                CHANGE uuid_bin uuid BINARY(16) NOT NULL,
+                ADD PRIMARY KEY (gameId, uuid),
+                ADD INDEX idx_match_players_uuid (uuid)
+                """);
+    }
+
+    /**
+     * Creates a step adding an index, which is skipped if the index exists already,
+     * so a migration which failed after this step can be run again.
+     */
+    private Migration.Step createIndex(String table, String index, String column) {
+        return connection -> {
+            if (this.indexExists(connection, table, index)) return;
+
+            this.execute(connection, "CREATE INDEX " + index + " ON " + table + " (" + column + ")");
+        };
+    }
+
+    /**
+     * Creates a step adding a column, which is skipped if the column exists already,
+     * so a migration which failed after this step can be run again.
+     */
+    private Migration.Step addColumn(String table, String column, String definition) {
+        return connection -> {
+            if (this.getColumnType(connection, table, column) != null) return;
+
+            this.execute(connection, "ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        };
+    }
+
+    private String getColumnType(Connection connection, String table, String column) throws SQLException {
+        String sql = "SELECT DATA_TYPE FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, table);
+            statement.setString(2, column);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString("DATA_TYPE").toLowerCase() : null;
+            }
+        }
+    }
+
+    private boolean indexExists(Connection connection, String table, String index) throws SQLException {
+        String sql = "SELECT 1 FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, table);
+            statement.setString(2, index);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private boolean tableExists(Connection connection, String table) throws SQLException {
+        String sql = "SELECT 1 FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private long count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        Migration.statement(sql).apply(connection);
+    }
+}
@@ -2,15 +2,24 @@ package de.t0bx.eindino.game;
 
 import de.eindino.server.api.ServerAPI;
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.config.BalanceConfig;
+import de.t0bx.eindino.map.BlockPositionSet;
+import de.t0bx.eindino.map.ChunkWarmer;
+import de.t0bx.eindino.map.MapData;
 import de.t0bx.eindino.map.MapHandler;
+import de.t0bx.eindino.map.RegionIndex;
+import de.t0bx.eindino.map.WorldRollback;
+import de.t0bx.eindino.match.MatchHistoryRepository;
+import de.t0bx.eindino.match.MatchParticipant;
+import de.t0bx.eindino.match.MatchRecord;
+import de.t0bx.eindino.match.RatingEngine;
 import de.t0bx.eindino.player.PlayerHandler;
 import de.t0bx.eindino.team.TeamData;
 import de.t0bx.eindino.team.TeamHandler;
 import de.t0bx.eindino.utils.ItemProvider;
 import de.t0bx.eindino.vote.VotingHandler;
 import de.t0bx.sentienceEntity.SentienceEntity;
-import eu.cloudnetservice.driver.inject.InjectionLayer;
-import eu.cloudnetservice.modules.bridge.BridgeServiceHelper;
 import lombok.Getter;
 import lombok.Setter;
 import net.asyncproxy.nicksystem.NickSystem;
@@ -20,7 +29,6 @@ import net.kyori.adventure.title.Title;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.entity.ArmorStand;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -29,6 +37,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -38,6 +47,7 @@ public class GameHandler {
     @Setter
     private GameState currentGameState;
 
+    private final Arena arena;
     private final String playType;
 
     @Setter
@@ -53,7 +63,6 @@ public class GameHandler {
     private BukkitTask task;
     private final AtomicInteger countdown;
     private final MiniMessage mm;
-    private final String prefix;
     private final MapHandler mapHandler;
     private final TeamHandler teamHandler;
     private final VotingHandler votingHandler;
@@ -62,38 +71,55 @@ public class GameHandler {
     private BukkitTask bronzeTask;
     private BukkitTask ironTask;
     private BukkitTask goldTask;
+    private List<Location> copperLocations;
+    private List<Location> ironLocations;
 
     private final Map<Block, Long> timeBlocks;
+    private final BlockPositionSet placedBlocks;
+    private final Map<Location, TeamData> alarmBlocks;
     private final List<ArmorStand> armorStands;
 
-    private final BridgeServiceHelper bridgeServiceHelper;
-
-    private final String gameId;
+    private String gameId;
+    private MatchRecord matchRecord;
+    private final RatingEngine ratingEngine;
+    private final ChunkWarmer chunkWarmer;
+    private final WorldRollback worldRollback;
+    private RegionIndex protectedRegions;
+    private int mapSetupGeneration;
+    private boolean mapReady;
 
     private final List<UUID> wasInSpectator;
 
     /**
-     * Initializes a new instance of the GameHandler class with the specified play type.
+     * Initializes a new instance of the GameHandler class for the rounds of the specified arena.
+     * The arena's team and voting handler must exist already.
      *
-     * @param playType The type of the game being played. It cannot be null.
+     * @param arena The arena this handler runs the rounds of. It cannot be null.
      */
-    public GameHandler(@NotNull String playType) {
+    public GameHandler(@NotNull Arena arena) {
         this.currentGameState = GameState.LOBBY;
-        this.playType = playType;
-        this.countdown = new AtomicInteger(30);
+        this.arena = arena;
+        this.playType = arena.getPlayType();
+        this.countdown = new AtomicInteger(this.balance().timings().lobbyCountdownSeconds());
         this.playerHandler = BedWarsPlugin.getInstance().getPlayerHandler();
         this.mm = MiniMessage.miniMessage();
-        this.prefix = BedWarsPlugin.getInstance().getPrefix();
         this.mapHandler = BedWarsPlugin.getInstance().getMapHandler();
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
-        this.votingHandler = BedWarsPlugin.getInstance().getVotingHandler();
+        this.teamHandler = arena.getTeamHandler();
+        this.votingHandler = arena.getVotingHandler();
         this.timeBlocks = new ConcurrentHashMap<>();
+        this.placedBlocks = new BlockPositionSet();
+        this.alarmBlocks = new ConcurrentHashMap<>();
         this.armorStands = new ArrayList<>();
-        this.bridgeServiceHelper = InjectionLayer.ext().instance(BridgeServiceHelper.class);
         this.setForceStart(false);
         this.setGoldActive(false);
         this.gameId = this.generateGameId();
         this.wasInSpectator = new ArrayList<>();
+        this.ratingEngine = new RatingEngine();
+        this.chunkWarmer = new ChunkWarmer(BedWarsPlugin.getInstance());
+        this.worldRollback = new WorldRollback(BedWarsPlugin.getInstance());
+        this.protectedRegions = new RegionIndex();
+        this.copperLocations = List.of();
+        this.ironLocations = List.of();
     }
 
     /**
@@ -101,7 +127,7 @@ public class GameHandler {
      * providing messages and actions at specific intervals to prepare players for the game start.
      * It includes the following behaviors:
      *
-     * - Resets any existing countdown task and initializes the countdown timer to 30 seconds.
+     * - Resets any existing countdown task and initializes the countdown timer to the configured lobby countdown.
      * - Cancels the countdown and terminates if certain conditions (such as the readiness of players) are not met.
      * - Broadcasts messages and plays sounds to players at specific intervals (e.g., 30, 20, 15, 10 seconds).
      * - Ends voting for the game map and other settings, notifying players of the selected options.
@@ -118,7 +144,12 @@ public class GameHandler {
             this.task = null;
         }
 
-        this.countdown.set(30);
+        if (this.votingHandler.getMapPool().isEmpty()) {
+            this.arena.broadcast(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Es ist keine Map für diesen Spielmodus verfügbar, das Spiel kann nicht starten!"));
+            return;
+        }
+
+        this.countdown.set(this.balance().timings().lobbyCountdownSeconds());
         this.task = Bukkit.getScheduler().runTaskTimer(BedWarsPlugin.getInstance(), () -> {
             int currentCountdown = this.countdown.getAndDecrement();
             if (!this.isForceStart()) {
@@ -129,73 +160,109 @@ public class GameHandler {
             }
 
             if (currentCountdown <= 0) {
+                MapData mapData = this.getCurrentMap() != null ? this.mapHandler.getMap(this.getCurrentMap()) : null;
+                if (mapData == null) {
+                    this.cancelCountdownWithoutMap();
+                    return;
+                }
+
+                // the chunks may still be loading, the teams need the spawns of the map either way
+                this.setupMap(mapData, this.mapSetupGeneration);
                 List<Player> notInTeams = new ArrayList<>();
-                for (Player player : Bukkit.getOnlinePlayers()) {
+                for (Player player : this.arena.getPlayers()) {
                     if (this.teamHandler.getPlayerTeam(player) == null) {
                         notInTeams.add(player);
                     }
                     player.setLevel(0);
                     player.getInventory().clear();
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<green>Das Spiel startet jetzt!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Das Spiel startet jetzt!"));
                     player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.8f, 1.0f);
                 }
-                this.teamHandler.distributePlayers(notInTeams);
+                this.teamHandler.distributePlayers(notInTeams, player -> this.playerHandler.getRating(player.getUniqueId()));
                 this.task.cancel();
                 this.startGame();
                 return;
             }
 
-            for (Player player : Bukkit.getOnlinePlayers()) {
+            for (Player player : this.arena.getPlayers()) {
                 player.setLevel(currentCountdown);
             }
 
             if (currentCountdown == 20 || currentCountdown == 30) {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Das Spiel startet in <green>" + currentCountdown + " <gray>Sekunden!"));
+                for (Player player : this.arena.getPlayers()) {
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Das Spiel startet in <green>" + currentCountdown + " <gray>Sekunden!"));
                     player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                 }
             }
 
             if (currentCountdown == 15 || currentCountdown == 25) {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Die Voting-Phase endet in <green>" + (currentCountdown - 10) + " <gray>Sekunden!"));
+                for (Player player : this.arena.getPlayers()) {
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Die Voting-Phase endet in <green>" + (currentCountdown - 10) + " <gray>Sekunden!"));
                     player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                 }
             }
 
             if (currentCountdown == 10) {
-                this.setCurrentMap(this.votingHandler.getVotedMap());
+                // the pool may have run empty since the countdown started, e.g. because another arena took the last map
+                MapData mapData = this.mapHandler.getMap(this.votingHandler.getVotedMap());
+                if (mapData == null) {
+                    this.cancelCountdownWithoutMap();
+                    return;
+                }
+
+                this.setCurrentMap(mapData.getMapName());
                 this.setGoldActive(this.votingHandler.getVotedGold());
 
-                for (Player player : Bukkit.getOnlinePlayers()) {
+                for (Player player : this.arena.getPlayers()) {
                     player.getInventory().setItem(4, null);
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Die Voting-Phase ist jetzt beendet!"));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Die Voting-Phase ist jetzt beendet!"));
                     player.playSound(player.getLocation(), Sound.BLOCK_ANVIL_PLACE, 0.6f, 1.0f);
                     player.showTitle(Title.title(this.mm.deserialize("<gray>Es wird auf der Map"), this.mm.deserialize("<green>" + this.getCurrentMap() + " <gray>gespielt.")));
-                    player.sendMessage(this.mm.deserialize(this.prefix + " "));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Map <dark_gray>» <green>" + this.getCurrentMap() + "<gray>."));
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Gold <dark_gray>» <green>" + (this.isGoldActive() ? "<green>Aktiviert" : "<red>Deaktiviert")));
-                    player.sendMessage(this.mm.deserialize(this.prefix + " "));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + " "));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Map <dark_gray>» <green>" + this.getCurrentMap() + "<gray>."));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Gold <dark_gray>» <green>" + (this.isGoldActive() ? "<green>Aktiviert" : "<red>Deaktiviert")));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + " "));
                 }
-                this.mapHandler.setupMapForGame(this.mapHandler.getMap(this.getCurrentMap()), this.teamHandler);
+                int setupGeneration = ++this.mapSetupGeneration;
+                this.mapReady = false;
+                // the setup places shops and holograms, so it waits until the chunks of the map are loaded
+                this.chunkWarmer.warm(mapData).whenComplete((ignored, exception) ->
+                        Bukkit.getScheduler().runTask(BedWarsPlugin.getInstance(), () -> this.setupMap(mapData, setupGeneration)));
             }
 
             if (currentCountdown > 1 && currentCountdown < 10) {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Das Spiel startet in <green>" + currentCountdown + " <gray>Sekunden!"));
+                for (Player player : this.arena.getPlayers()) {
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Das Spiel startet in <green>" + currentCountdown + " <gray>Sekunden!"));
                     player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                 }
             }
 
             if (currentCountdown == 1) {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Das Spiel startet in <green>" + currentCountdown + " <gray>Sekunde!"));
+                for (Player player : this.arena.getPlayers()) {
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Das Spiel startet in <green>" + currentCountdown + " <gray>Sekunde!"));
                     player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                 }
             }
         }, 0L, 20L);
     }
 
+    /**
+     * Sets up the map of the upcoming round: spawns its shops and holograms, builds the protected regions
+     * and routes the events of its worlds to this arena. Runs once the chunks warmed at the end of the
+     * voting are loaded, or when the countdown ends if they are still loading. A setup belonging to a
+     * replaced warm-up or to a round which was reset is skipped, and the map is never set up twice.
+     *
+     * @param mapData the map of the upcoming round
+     * @param setupGeneration the warm-up the setup belongs to
+     */
+    private void setupMap(MapData mapData, int setupGeneration) {
+        if (setupGeneration != this.mapSetupGeneration || this.mapReady) return;
+
+        this.protectedRegions = this.mapHandler.setupMapForGame(mapData, this.teamHandler);
+        BedWarsPlugin.getInstance().getArenaManager().bindWorlds(this.arena, mapData.getWorlds());
+        this.mapReady = true;
+    }
+
     /**
      * Starts the game, initializing all necessary game states, tasks, and configurations.
      *
@@ -203,15 +270,14 @@ public class GameHandler {
      * and handling the state of teams and players.
      *
      * Responsibilities:
-     * - Changes the game state to "In Game".
-     * - Disables the active tab list feature via the server API.
-     * - Configures the nickname system for game mode.
+     * - Changes the game state to "In Game" and starts recording the changes to the map for the rollback after the round.
+     * - Lets the {@link de.t0bx.eindino.arena.ArenaManager} switch the tab list, the nickname system and the cloud state
+     *   of the server to in-game once no other arena needs the lobby anymore.
      * - Updates the bed destruction and player state for all teams.
      * - Initiates various resources spawners (copper, iron, gold if active) for the game duration.
      * - Constructs in-game scoreboards for each player.
      * - Ensures parkour mode handling for players is reset for in-game activities.
      * - Establishes countdown timers to manage game timing events such as the auto-end condition.
-     * - Clears and removes entities associated with pre-game spawning (e.g., holograms).
      *
      * In the course of game timing:
      * - Sends action bar notifications to players indicating remaining time and other relevant data.
@@ -219,22 +285,25 @@ public class GameHandler {
      */
     public void startGame() {
         this.setCurrentGameState(GameState.IN_GAME);
-        ServerAPI.getInstance().setActiveTabList(false);
-        NickSystem.getInstance().getNickManager().setGame(true);
-        this.bridgeServiceHelper.changeToIngame();
+        this.worldRollback.track(this.mapHandler.getMap(this.getCurrentMap()));
+        BedWarsPlugin.getInstance().getArenaManager().updateServerState();
         for (TeamData teams : this.teamHandler.getAllTeams()) {
             if (teams.getPlayerCount() <= 0) {
-                teams.getBedLocation()[0].getBlock().setType(Material.AIR);
-                teams.getBedLocation()[1].getBlock().setType(Material.AIR);
+                for (Location bedLocation : teams.getBedLocation()) {
+                    this.worldRollback.recordBlock(bedLocation.getBlock());
+                    bedLocation.getBlock().setType(Material.AIR);
+                }
                 continue;
             }
 
             teams.setBedDestroyed(false);
         }
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        this.matchRecord = new MatchRecord(this.gameId, this.currentMap, this.playType, this.isGoldActive());
+        for (Player player : this.arena.getPlayers()) {
             if (this.teamHandler.getPlayerTeam(player) == null) continue;
 
+            this.matchRecord.addParticipant(player.getUniqueId(), this.teamHandler.getPlayerTeam(player).getName(), this.playerHandler.getRating(player.getUniqueId()));
             this.playerHandler.addGamesPlayed(player.getUniqueId(), 1);
             this.teamHandler.getPlayerTeam(player).getPlayersAlive().add(player);
             player.teleport(this.teamHandler.getPlayerTeam(player).getSpawnLocation());
@@ -243,22 +312,15 @@ public class GameHandler {
             BedWarsPlugin.getInstance().getParkourManager().removePlayerFromParkour(player, true);
         }
 
-        this.countdown.set(1800);
+        this.countdown.set(this.balance().timings().gameDurationSeconds());
+        this.copperLocations = this.getDropLocations("bronze");
+        this.ironLocations = this.getDropLocations("iron");
         this.startCopperTask();
         this.startIronTask();
         this.startGameTask();
         if (this.isGoldActive()) {
             this.startGoldTask();
         }
-        Location location = BedWarsPlugin.getInstance().getSpawnManager().getSpawn();
-        if (location != null) {
-            for (UUID uuid : BedWarsPlugin.getInstance().getTop5Hologram()) {
-                Entity entity = location.getWorld().getEntity(uuid);
-                if (entity != null) {
-                    entity.remove();
-                }
-            }
-        }
         this.task = Bukkit.getScheduler().runTaskTimer(BedWarsPlugin.getInstance(), () -> {
             if (Bukkit.isStopping()) {
                 this.task.cancel();
@@ -278,33 +340,36 @@ public class GameHandler {
                 return;
             }
 
-            for (Player player : Bukkit.getOnlinePlayers()) {
+            for (Player player : this.arena.getPlayers()) {
                 player.sendActionBar(this.mm.deserialize("<dark_gray>» <gray>Das Spiel endet in <green>" + this.convertGameCountdown(currentCountdown) + " <dark_gray>| <gray>GameId: <green>" + this.gameId + " <dark_gray>«"));
             }
         }, 0L, 20L);
     }
 
     /**
-     * Ends the current game session, performs all necessary cleanup, and initiates server shutdown.
+     * Ends the current game session, performs all necessary cleanup, and returns the server to the lobby phase.
      * This method notifies all players, resets their state (inventory, health, etc.), and performs team-related and game state-related operations.
      * If a winning team is provided, rewards are distributed and a winning announcement is made.
-     * The method schedules a countdown timer to shut down the server after a specified time.
+     * All buffered stat changes of the round are flushed to the database and the match record
+     * of the round is written in a single transaction.
+     * The map is rolled back in the background while a countdown runs, afterwards the next round
+     * can start on the same server, see {@link #resetToLobby()}.
      *
      * @param teamData the team that won the game, or null if there is no winner
      */
     public void endGame(@Nullable TeamData teamData) {
         this.setCurrentGameState(GameState.END);
         this.task.cancel();
+        this.gameTask.cancel();
         this.bronzeTask.cancel();
         this.ironTask.cancel();
         if (this.goldTask != null) {
             this.goldTask.cancel();
         }
 
-        BedWarsPlugin.getInstance().spawnHolograms();
-        ServerAPI.getInstance().setActiveTabList(true);
-        BedWarsPlugin.getInstance().getSpectatorHandler().removeAll();
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        BedWarsPlugin.getInstance().getArenaManager().updateServerState();
+        this.arena.getSpectatorHandler().removeAll();
+        for (Player player : this.arena.getPlayers()) {
             player.teleport(BedWarsPlugin.getInstance().getSpawnManager().getSpawn());
             player.getInventory().clear();
             player.setHealth(20);
@@ -313,9 +378,13 @@ public class GameHandler {
                 NickSystem.getInstance().getNickManager().unnickPlayer(player);
             }
         }
+        this.armorStands.forEach(ArmorStand::remove);
+        this.armorStands.clear();
+        this.mapHandler.cleanupMapAfterGame(this.mapHandler.getMap(this.getCurrentMap()));
+        CompletableFuture<Void> rollback = this.worldRollback.rollback().thenRun(this.chunkWarmer::release);
 
         if (teamData != null) {
-            for (Player players : Bukkit.getOnlinePlayers()) {
+            for (Player players : this.arena.getPlayers()) {
                 players.playSound(players.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
                 players.showTitle(Title.title(this.mm.deserialize("<gray>Team " + this.mm.serialize(teamData.getDisplayName())), this.mm.deserialize("<green>hat das Spiel gewonnen!")));
             }
@@ -327,7 +396,21 @@ public class GameHandler {
             }
         }
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        if (this.matchRecord != null) {
+            this.matchRecord.finish(teamData != null ? teamData.getName() : null, this.arena.isStatsEnabled());
+            if (this.matchRecord.isRanked()) {
+                this.applyRatings();
+            }
+        }
+        // the wall is queried from the repository, so it only shows the round once the flush is committed
+        this.playerHandler.flushStats().thenRun(() -> BedWarsPlugin.getInstance().getTop5WallManager().update());
+
+        MatchHistoryRepository matchHistoryRepository = BedWarsPlugin.getInstance().getMatchHistoryRepository();
+        if (this.matchRecord != null && matchHistoryRepository != null) {
+            matchHistoryRepository.save(this.matchRecord);
+        }
+
+        for (Player player : this.arena.getPlayers()) {
             if (this.teamHandler.getPlayerTeam(player) != null) {
                 this.teamHandler.removePlayerFromTeam(player);
                 ServerAPI.getInstance().getTabListManager().updateTab(player);
@@ -339,25 +422,77 @@ public class GameHandler {
             int currentCountdown = rest.getAndDecrement();
             if (currentCountdown <= 0) {
                 runnable.cancel();
-                Bukkit.getServer().shutdown();
+                rollback.thenRun(this::resetToLobby);
                 return;
             }
 
             if (currentCountdown == 1) {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    player.sendMessage(this.mm.deserialize(this.prefix + "Der Server schließt in <green>" + currentCountdown + " <gray>Sekunde!"));
+                for (Player player : this.arena.getPlayers()) {
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Die Wartelobby öffnet in <green>" + currentCountdown + " <gray>Sekunde!"));
                     player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                 }
                 return;
             }
 
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                player.sendMessage(this.mm.deserialize(this.prefix + "Der Server schließt in <green>" + currentCountdown + " <gray>Sekunden!"));
+            for (Player player : this.arena.getPlayers()) {
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Die Wartelobby öffnet in <green>" + currentCountdown + " <gray>Sekunden!"));
                 player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
             }
         }, 0L, 20L);
     }
 
+    /**
+     * Returns the server to the lobby phase once the map of the finished round has been rolled back,
+     * so the next round starts without restarting the server. Everything the finished round collected
+     * is reset: placed blocks, teams, votes, spectators and the match record, and statistics are enabled again. A new game id is generated.
+     * The players of the arena get their lobby items and scoreboard, and the countdown starts again as soon
+     * as enough players are in the arena.
+     */
+    private void resetToLobby() {
+        this.task = null;
+        this.timeBlocks.clear();
+        this.placedBlocks.clear();
+        this.alarmBlocks.clear();
+        this.protectedRegions = new RegionIndex();
+        this.copperLocations = List.of();
+        this.ironLocations = List.of();
+        this.mapSetupGeneration++;
+        this.mapReady = false;
+        this.wasInSpectator.clear();
+        this.playerHandler.getFightMap().clear();
+        // statistics disabled with /troll only apply to the round that has ended
+        this.arena.enableStats();
+        this.teamHandler.resetTeams();
+        this.votingHandler.resetVoting();
+        BedWarsPlugin.getInstance().getArenaManager().unbindWorlds(this.arena);
+        this.matchRecord = null;
+        this.gameId = this.generateGameId();
+        this.setCurrentMap(null);
+        this.setGoldActive(false);
+        this.setForceStart(false);
+        this.setCurrentGameState(GameState.LOBBY);
+        BedWarsPlugin.getInstance().getArenaManager().updateServerState();
+
+        for (Player player : this.arena.getPlayers()) {
+            player.setGameMode(GameMode.SURVIVAL);
+            player.setLevel(0);
+            this.givePlayerLobbyItems(player);
+            BedWarsPlugin.getInstance().getScoreboardBuilder().buildLobbyScoreboard(player);
+        }
+        this.teamHandler.updateScoreboardForAllPlayers();
+
+        if (this.checkIfAbleToStart()) {
+            this.startCountdown();
+            return;
+        }
+
+        if (this.getRestPlayersNeeded() == 1) {
+            this.arena.broadcast(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Es wird noch <green>1 <gray>weiterer Spieler benötigt damit das Spiel starten kann."));
+        } else {
+            this.arena.broadcast(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Es werden noch <green>" + this.getRestPlayersNeeded() + " <gray>weitere Spieler benötigt damit das Spiel starten kann."));
+        }
+    }
+
     /**
      * Initiates and manages the game task which recurrently processes specific in-game logic.
      *
@@ -393,13 +528,12 @@ public class GameHandler {
      * canceled before starting the new task.
      *
      * This method:
-     * - Retrieves all spawner locations for the "bronze" type from the current game map.
-     * - Adjusts the Y-coordinate of each spawner location slightly to ensure proper
-     *   item drop placement.
+     * - Uses the drop locations of the "bronze" spawners computed when the round started,
+     *   so rescheduling the task on a balance reload does not move them.
      * - Schedules a repeating task using the Bukkit scheduler, which periodically
      *   spawns {@code Material.COPPER_INGOT} items at the specified locations.
      *
-     * The task runs with an initial delay of 0 ticks and repeats every 15 ticks.
+     * The task runs with an initial delay of 0 ticks and repeats at the configured copper interval.
      *
      * Precondition:
      * - The map associated with the current game session must have valid "bronze"
@@ -415,14 +549,11 @@ public class GameHandler {
             this.bronzeTask.cancel();
         }
 
-        List<Location> locations = new ArrayList<>(this.mapHandler.getMap(this.getCurrentMap()).getSpawners("bronze"));
-        locations.forEach(location -> location.add(0, 0.2, 0));
-
         this.bronzeTask = Bukkit.getScheduler().runTaskTimer(BedWarsPlugin.getInstance(), () -> {
-            for (Location location : locations) {
+            for (Location location : this.copperLocations) {
                 location.getWorld().dropItem(location, item);
             }
-        }, 0L, 15L);
+        }, 0L, this.balance().spawners().copperIntervalTicks());
     }
 
     /**
@@ -431,16 +562,15 @@ public class GameHandler {
      *
      * The method performs the following sequence of actions:
      * - Cancels any existing iron task if one is active.
-     * - Retrieves the list of iron spawner locations from the current map.
-     * - Adjusts the Y-coordinate of the spawn locations by increasing it by 0.2 units.
-     * - Schedules a repeating task that spawns iron ingots at these locations every 300 ticks.
+     * - Uses the drop locations of the iron spawners computed when the round started,
+     *   so rescheduling the task on a balance reload does not move them.
+     * - Schedules a repeating task that spawns iron ingots at these locations at the configured interval.
      *
      * The task utilizes `BukkitScheduler` to handle scheduled execution.
      *
      * Note:
-     * - The current map is determined using the `getCurrentMap` method.
-     * - The iron spawner locations are retrieved using the `getSpawners("iron")` method
-     *   from the map data of the current map.
+     * - The drop locations are computed from the `getSpawners("iron")` locations of the current map
+     *   in {@link #startGame()}.
      */
     private void startIronTask() {
         ItemStack item = new ItemStack(Material.IRON_INGOT);
@@ -448,14 +578,12 @@ public class GameHandler {
             this.ironTask.cancel();
         }
 
-        List<Location> locations = new ArrayList<>(this.mapHandler.getMap(this.getCurrentMap()).getSpawners("iron"));
-        locations.forEach(location -> location.add(0, 0.2, 0));
-
+        long interval = this.balance().spawners().ironIntervalTicks();
         this.ironTask = Bukkit.getScheduler().runTaskTimer(BedWarsPlugin.getInstance(), () -> {
-            for (Location location : locations) {
+            for (Location location : this.ironLocations) {
                 location.getWorld().dropItem(location, item);
             }
-        }, 300L, 300L);
+        }, interval, interval);
     }
 
     /**
@@ -464,7 +592,7 @@ public class GameHandler {
      *
      * This method performs the following:
      * 1. Cancels any existing gold task if active.
-     * 2. Retrieves all "gold" spawner locations from the current map and adjusts their coordinates for spawning and holograms.
+     * 2. Retrieves all "gold" spawner locations from the current map and raises copies of them for spawning and holograms.
      * 3. Spawns holograms (armor stands) at each spawner location to display countdown information.
      * 4. Sets up a periodic task that:
      *    - Decrements a countdown timer.
@@ -481,15 +609,14 @@ public class GameHandler {
             this.goldTask.cancel();
         }
 
-        List<Location> locations = this.mapHandler.getMap(this.getCurrentMap()).getSpawners("gold");
-        locations.forEach(location -> location.add(0, 0.2, 0));
+        List<Location> locations = this.getDropLocations("gold");
 
         for (Location location : locations) {
             Location armorStandLocation = location.clone().add(0, 1, 0);
             this.armorStands.add(this.spawnGoldHologram(armorStandLocation));
         }
 
-        AtomicInteger goldCountdown = new AtomicInteger(40);
+        AtomicInteger goldCountdown = new AtomicInteger(this.balance().spawners().goldIntervalSeconds());
         this.goldTask = Bukkit.getScheduler().runTaskTimer(BedWarsPlugin.getInstance(), () -> {
             int currentGold = goldCountdown.getAndDecrement();
 
@@ -497,7 +624,7 @@ public class GameHandler {
                 for (Location location : locations) {
                     location.getWorld().dropItem(location, item);
                 }
-                goldCountdown.set(40);
+                goldCountdown.set(this.balance().spawners().goldIntervalSeconds());
             }
 
             Component customName = this.mm.deserialize("<#ffaa00>Gold <dark_gray>» <gray>" + convertGameCountdown(currentGold));
@@ -508,29 +635,68 @@ public class GameHandler {
     }
 
     /**
-     * Checks whether the game is ready to start based on the play type and the number of online players.
+     * Retrieves the locations the items of the given spawner type drop at, slightly above the spawners
+     * of the current map. The locations are copies, since the map data is kept across rounds and
+     * its spawner locations are also used for the protected regions.
+     *
+     * @param type the spawner type, e.g. {@code bronze}
+     * @return new locations 0.2 blocks above the spawners
+     */
+    private List<Location> getDropLocations(String type) {
+        return this.mapHandler.getMap(this.getCurrentMap()).getSpawners(type).stream()
+                .map(location -> location.clone().add(0, 0.2, 0))
+                .toList();
+    }
+
+    /**
+     * Applies a reloaded balance to the running round. The copper and iron spawners are rescheduled
+     * if their interval changed, the gold spawner reads its interval on every drop. Countdown and
+     * game length are read when they start, so they apply from the next countdown or round.
+     * Must be called on the main thread.
+     *
+     * @param previous the balance that was active before the reload
+     * @param current the reloaded balance
+     */
+    public void onBalanceReload(BalanceConfig previous, BalanceConfig current) {
+        if (this.getCurrentGameState() != GameState.IN_GAME) return;
+
+        if (previous.spawners().copperIntervalTicks() != current.spawners().copperIntervalTicks()) {
+            this.startCopperTask();
+        }
+
+        if (previous.spawners().ironIntervalTicks() != current.spawners().ironIntervalTicks()) {
+            this.startIronTask();
+        }
+    }
+
+    private BalanceConfig balance() {
+        return BedWarsPlugin.getInstance().getBalanceManager().getBalance();
+    }
+
+    /**
+     * Checks whether the game is ready to start based on the play type and the number of players in the arena.
      * It evaluates different conditions for specific play types and ensures the minimum or exact number
-     * of players required are online.
+     * of players required are in the arena.
      *
      * @return true if the game meets the conditions required for the specific play type to start, otherwise false
      */
     public synchronized boolean checkIfAbleToStart() {
         if (this.getPlayType().equalsIgnoreCase("2x1") ||
                 this.getPlayType().equalsIgnoreCase("4x1")) {
-            return Bukkit.getOnlinePlayers().size() >= 2;
+            return this.arena.getPlayerCount() >= 2;
         }
 
         if (this.getPlayType().equalsIgnoreCase("2x2")) {
-            return Bukkit.getOnlinePlayers().size() == 4;
+            return this.arena.getPlayerCount() == 4;
         }
 
         if (this.getPlayType().equalsIgnoreCase("8x1") ||
                 this.getPlayType().equalsIgnoreCase("4x2")) {
-            return Bukkit.getOnlinePlayers().size() >= 4;
+            return this.arena.getPlayerCount() >= 4;
         }
 
         if (this.getPlayType().equalsIgnoreCase("4x4")) {
-            return Bukkit.getOnlinePlayers().size() >= 8;
+            return this.arena.getPlayerCount() >= 8;
         }
 
         return false;
@@ -539,12 +705,12 @@ public class GameHandler {
     /**
      * Determines the number of additional players required to meet the player count
      * required to start the game based on the current play type. The result depends
-     * on the play type and the number of online players.
+     * on the play type and the number of players in the arena.
      *
      * @return the number of players still needed to start the game. Returns 1 for
      *         play types "2x1" and "4x1". For "8x1", "4x2", and "2x2", returns
-     *         4 minus the number of online players. For "4x4", returns 8 minus the
-     *         number of online players. Returns 0 if the play type does not match
+     *         4 minus the number of players in the arena. For "4x4", returns 8 minus the
+     *         number of players in the arena. Returns 0 if the play type does not match
      *         any of the predefined types.
      */
     public synchronized int getRestPlayersNeeded() {
@@ -556,11 +722,11 @@ public class GameHandler {
         if (this.getPlayType().equalsIgnoreCase("8x1") ||
                 this.getPlayType().equalsIgnoreCase("4x2") ||
                 this.getPlayType().equalsIgnoreCase("2x2")) {
-            return 4 - Bukkit.getOnlinePlayers().size();
+            return 4 - this.arena.getPlayerCount();
         }
 
         if (this.getPlayType().equalsIgnoreCase("4x4")) {
-            return 8 - Bukkit.getOnlinePlayers().size();
+            return 8 - this.arena.getPlayerCount();
         }
 
         return 0;
@@ -573,7 +739,7 @@ public class GameHandler {
      *
      * The method performs the following actions:
      * - Cancels the active countdown task and sets it to null.
-     * - Resets the level for all online players to 0.
+     * - Resets the level for all players of the arena to 0.
      * - Provides players with the appropriate lobby items.
      * - Broadcasts messages to inform players about the countdown cancellation and the
      *   number of players required to begin the game.
@@ -585,7 +751,7 @@ public class GameHandler {
      *
      * Postconditions:
      * - The countdown task is terminated, and the game state returns to its initial lobby state.
-     * - All online players receive lobby-specific items.
+     * - All players of the arena receive lobby-specific items.
      *
      * This method integrates with:
      * - `givePlayerLobbyItems(Player)` to equip players with lobby items.
@@ -594,19 +760,57 @@ public class GameHandler {
     public void killCountdown() {
         this.task.cancel();
         this.task = null;
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : this.arena.getPlayers()) {
             player.setLevel(0);
             this.givePlayerLobbyItems(player);
             player.playSound(player.getLocation(), Sound.BLOCK_ANVIL_BREAK, 1.0f, 1.0f);
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red>Der Countdown wurde abgebrochen da ein Spieler das Spiel verlassen hat!"));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Der Countdown wurde abgebrochen da ein Spieler das Spiel verlassen hat!"));
             if (this.getRestPlayersNeeded() == 1) {
-                Bukkit.broadcast(this.mm.deserialize(this.prefix + "Es wird noch <green>1 <gray>weiterer Spieler benötigt damit das Spiel starten kann."));
+                this.arena.broadcast(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Es wird noch <green>1 <gray>weiterer Spieler benötigt damit das Spiel starten kann."));
             } else {
-                Bukkit.broadcast(this.mm.deserialize(this.prefix + "Es werden noch <green>" + this.getRestPlayersNeeded() + " <gray>weitere Spieler benötigt damit das Spiel starten kann."));
+                this.arena.broadcast(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Es werden noch <green>" + this.getRestPlayersNeeded() + " <gray>weitere Spieler benötigt damit das Spiel starten kann."));
             }
         }
     }
 
+    /**
+     * Cancels the countdown because no map is available for the arena's play type, either since the
+     * voting pool ran empty or the voted map could not be loaded. The players get their lobby items back
+     * and the countdown starts again with the next player joining or with {@code /start}.
+     */
+    private void cancelCountdownWithoutMap() {
+        this.task.cancel();
+        this.task = null;
+        this.mapSetupGeneration++;
+        this.mapReady = false;
+        this.setCurrentMap(null);
+        for (Player player : this.arena.getPlayers()) {
+            player.setLevel(0);
+            this.givePlayerLobbyItems(player);
+            player.playSound(player.getLocation(), Sound.BLOCK_ANVIL_BREAK, 1.0f, 1.0f);
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Der Countdown wurde abgebrochen, da keine Map für diesen Spielmodus verfügbar ist!"));
+        }
+    }
+
+    /**
+     * Computes the rating changes of all participants of the finished round and adds them to the
+     * buffered statistics, so they are written in the same batch as the other stats of the round.
+     * Participants who are still online are told their new rating.
+     */
+    private void applyRatings() {
+        Map<UUID, Integer> changes = this.ratingEngine.computeChanges(this.matchRecord);
+        changes.forEach(this.playerHandler::addRating);
+
+        for (MatchParticipant participant : this.matchRecord.getParticipantList()) {
+            Player player = Bukkit.getPlayer(participant.getUuid());
+            if (player == null || !changes.containsKey(participant.getUuid())) continue;
+
+            int change = participant.getRatingChange();
+            String formattedChange = change >= 0 ? "<green>+" + change : "<red>" + change;
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Deine Wertung: <green>" + this.playerHandler.getRating(participant.getUuid()) + " <dark_gray>(" + formattedChange + "<dark_gray>)"));
+        }
+    }
+
     /**
      * Converts a total number of seconds into a formatted string representing minutes and seconds.
      * The format of the returned string is "MM:SS", where both minutes and seconds are always padded
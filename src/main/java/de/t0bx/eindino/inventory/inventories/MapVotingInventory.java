@@ -1,8 +1,8 @@
 package de.t0bx.eindino.inventory.inventories;
 
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.inventory.InventoryProvider;
-import de.t0bx.eindino.map.MapHandler;
 import de.t0bx.eindino.utils.ItemProvider;
 import de.t0bx.eindino.vote.VotingHandler;
 import org.bukkit.Material;
@@ -11,13 +11,11 @@ import org.bukkit.inventory.Inventory;
 
 public class MapVotingInventory {
 
-    private final MapHandler mapHandler;
-    private final VotingHandler votingHandler;
+    private final ArenaManager arenaManager;
     private final InventoryProvider inventoryProvider;
 
     public MapVotingInventory() {
-        this.mapHandler = BedWarsPlugin.getInstance().getMapHandler();
-        this.votingHandler = BedWarsPlugin.getInstance().getVotingHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
         this.inventoryProvider = BedWarsPlugin.getInstance().getInventoryProvider();
     }
 
@@ -32,9 +30,10 @@ public class MapVotingInventory {
 
     public void openGoldVoting(Player player) {
         Inventory inventory = this.inventoryProvider.getInventory(player, "gold_voting", 9, "<gray>» <green>Gold-Voting <gray>«");
+        VotingHandler votingHandler = this.arenaManager.getArena(player.getUniqueId()).getVotingHandler();
 
-        inventory.setItem(3, new ItemProvider(Material.EMERALD).setName("<gray>» <green>Für Gold stimmen").setLore("§7Stimmen: §a" +  + this.votingHandler.getVotesForGold(true)).build());
-        inventory.setItem(5, new ItemProvider(Material.REDSTONE).setName("<gray>» <green>Gegen Gold stimmen").setLore("§7Stimmen: §a" + this.votingHandler.getVotesForGold(false)).build());
+        inventory.setItem(3, new ItemProvider(Material.EMERALD).setName("<gray>» <green>Für Gold stimmen").setLore("§7Stimmen: §a" +  + votingHandler.getVotesForGold(true)).build());
+        inventory.setItem(5, new ItemProvider(Material.REDSTONE).setName("<gray>» <green>Gegen Gold stimmen").setLore("§7Stimmen: §a" + votingHandler.getVotesForGold(false)).build());
 
         player.openInventory(inventory);
     }
@@ -44,11 +43,12 @@ public class MapVotingInventory {
 
         int[] slots = {0, 1, 2, 3, 4, 5, 6, 7, 8};
         int slotIndex = 0;
+        VotingHandler votingHandler = this.arenaManager.getArena(player.getUniqueId()).getVotingHandler();
 
-        for (String mapName : this.mapHandler.getMapNames()) {
+        for (String mapName : votingHandler.getMapPool()) {
             inventory.setItem(slots[slotIndex], new ItemProvider(Material.PAPER)
                     .setName("<green>" + mapName)
-                    .setLore("§7Stimmen: §a" + this.votingHandler.getVotesFromMap(mapName))
+                    .setLore("§7Stimmen: §a" + votingHandler.getVotesFromMap(mapName))
                     .setPersistentData("bedwars", "votes", mapName)
                     .build()
             );
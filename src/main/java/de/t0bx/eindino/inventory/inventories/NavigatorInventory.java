@@ -1,9 +1,9 @@
 package de.t0bx.eindino.inventory.inventories;
 
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.inventory.InventoryProvider;
 import de.t0bx.eindino.team.TeamData;
-import de.t0bx.eindino.team.TeamHandler;
 import de.t0bx.eindino.utils.ItemProvider;
 import net.asyncproxy.nicksystem.NickSystem;
 import net.asyncproxy.nicksystem.nick.NickManager;
@@ -14,12 +14,12 @@ import org.bukkit.inventory.Inventory;
 
 public class NavigatorInventory {
 
-    private final TeamHandler teamHandler;
+    private final ArenaManager arenaManager;
     private final InventoryProvider inventoryProvider;
     private final NickManager nickManager;
 
     public NavigatorInventory() {
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
         this.inventoryProvider = BedWarsPlugin.getInstance().getInventoryProvider();
         this.nickManager = NickSystem.getInstance().getNickManager();
     }
@@ -29,7 +29,7 @@ public class NavigatorInventory {
 
         inventory.clear();
         int index = 0;
-        for (TeamData teamData : this.teamHandler.getRemainingTeams()) {
+        for (TeamData teamData : this.arenaManager.getArena(player.getWorld()).getTeamHandler().getRemainingTeams()) {
             for (Player players : teamData.getPlayersAlive()) {
                 if (this.nickManager.isNickedPlayer(players)) {
                     inventory.setItem(index, ItemProvider.createPlayerSkull(this.nickManager.getNick(players))
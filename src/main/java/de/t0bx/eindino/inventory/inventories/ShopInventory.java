@@ -1,8 +1,9 @@
 package de.t0bx.eindino.inventory.inventories;
 
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.ArenaManager;
+import de.t0bx.eindino.config.BalanceConfig;
 import de.t0bx.eindino.inventory.InventoryProvider;
-import de.t0bx.eindino.team.TeamHandler;
 import de.t0bx.eindino.utils.ItemProvider;
 import org.bukkit.Color;
 import org.bukkit.Material;
@@ -14,11 +15,11 @@ import org.bukkit.potion.PotionType;
 public class ShopInventory {
 
     private final InventoryProvider inventoryProvider;
-    private final TeamHandler teamHandler;
+    private final ArenaManager arenaManager;
 
     public ShopInventory() {
         this.inventoryProvider = BedWarsPlugin.getInstance().getInventoryProvider();
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
     }
 
     public void openInventory(Player player) {
@@ -26,40 +27,42 @@ public class ShopInventory {
 
         this.setTopItems(player, inventory);
 
+        BalanceConfig balance = BedWarsPlugin.getInstance().getBalanceManager().getBalance();
+
         inventory.setItem(10, new ItemProvider(this.getPlayerTeamBlockConcrete(player))
-                .setPersistentData("bedwars", "shop", "copper:1")
-                .setLore("§71 Kupfer")
+                .setPersistentData("bedwars", "shop", balance.getPrice("building_block").toData())
+                .setLore(balance.getPrice("building_block").toLore())
                 .setName("<green>Baublock")
                 .setAmount(2)
                 .build());
 
         inventory.setItem(11, new ItemProvider(this.getPlayerTeamBlockWool(player))
-                .setPersistentData("bedwars", "shop", "copper:4")
-                .setLore("§74 Kupfer", " ", "§eDieser Block verschwindet automatisch nach 5 Sekunden.")
+                .setPersistentData("bedwars", "shop", balance.getPrice("time_block").toData())
+                .setLore(balance.getPrice("time_block").toLore(), " ", "§eDieser Block verschwindet automatisch nach " + balance.timings().timeBlockLifetimeMillis() / 1000 + " Sekunden.")
                 .setName("<green>Zeitblock")
                 .build());
 
         inventory.setItem(12, new ItemProvider(Material.END_STONE)
-                .setPersistentData("bedwars", "shop", "iron:3")
-                .setLore("§83 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("end_stone").toData())
+                .setLore(balance.getPrice("end_stone").toLore())
                 .setName("<green>Endgestein")
                 .build());
 
         inventory.setItem(13, new ItemProvider(Material.IRON_BLOCK)
-                .setPersistentData("bedwars", "shop", "iron:6")
-                .setLore("§86 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("iron_block").toData())
+                .setLore(balance.getPrice("iron_block").toLore())
                 .setName("<green>Eisenblock")
                 .build());
 
         inventory.setItem(14, new ItemProvider(this.getPlayerTeamBlockGlass(player))
-                .setPersistentData("bedwars", "shop", "copper:4")
-                .setLore("§74 Kupfer")
+                .setPersistentData("bedwars", "shop", balance.getPrice("glass").toData())
+                .setLore(balance.getPrice("glass").toLore())
                 .setName("<green>Glas")
                 .build());
 
         inventory.setItem(15, new ItemProvider(Material.GLOWSTONE)
-                .setPersistentData("bedwars", "shop", "copper:8")
-                .setLore("§78 Kupfer")
+                .setPersistentData("bedwars", "shop", balance.getPrice("glowstone").toData())
+                .setLore(balance.getPrice("glowstone").toLore())
                 .setName("<green>Glowstone")
                 .setAmount(4)
                 .build());
@@ -72,54 +75,56 @@ public class ShopInventory {
 
         this.setTopItems(player, inventory);
 
+        BalanceConfig balance = BedWarsPlugin.getInstance().getBalanceManager().getBalance();
+
         inventory.setItem(10, new ItemProvider(Material.LEATHER_HELMET)
                 .setLeatherArmorColor(this.getPlayerTeamColorForArmor(player))
-                .setPersistentData("bedwars", "shop", "copper:6")
-                .setLore("§76 Kupfer")
+                .setPersistentData("bedwars", "shop", balance.getPrice("leather_helmet").toData())
+                .setLore(balance.getPrice("leather_helmet").toLore())
                 .setName("<green>Lederhelm")
                 .build());
 
         inventory.setItem(11, new ItemProvider(Material.LEATHER_LEGGINGS)
                 .setLeatherArmorColor(this.getPlayerTeamColorForArmor(player))
-                .setPersistentData("bedwars", "shop", "copper:6")
-                .setLore("§76 Kupfer")
+                .setPersistentData("bedwars", "shop", balance.getPrice("leather_leggings").toData())
+                .setLore(balance.getPrice("leather_leggings").toLore())
                 .setName("<green>Lederhose")
                 .build());
 
         inventory.setItem(12, new ItemProvider(Material.LEATHER_BOOTS)
                 .setLeatherArmorColor(this.getPlayerTeamColorForArmor(player))
-                .setPersistentData("bedwars", "shop", "copper:6")
-                .setLore("§76 Kupfer")
+                .setPersistentData("bedwars", "shop", balance.getPrice("leather_boots").toData())
+                .setLore(balance.getPrice("leather_boots").toLore())
                 .setName("<green>Lederschuhe")
                 .build());
 
         inventory.setItem(13, new ItemProvider(Material.CHAINMAIL_CHESTPLATE)
-                .setPersistentData("bedwars", "shop", "iron:3")
-                .setLore("§83 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("chainmail_chestplate").toData())
+                .setLore(balance.getPrice("chainmail_chestplate").toLore())
                 .setName("<green>Kettenrüstung")
                 .build());
 
         inventory.setItem(14, new ItemProvider(Material.CHAINMAIL_CHESTPLATE)
                 .setLeatherArmorColor(this.getPlayerTeamColorForArmor(player))
                 .addEnchantment(Enchantment.PROTECTION, 1)
-                .setPersistentData("bedwars", "shop", "iron:5")
-                .setLore("§85 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("chainmail_chestplate_1").toData())
+                .setLore(balance.getPrice("chainmail_chestplate_1").toLore())
                 .setName("<green>Kettenrüstung I")
                 .build());
 
         inventory.setItem(15, new ItemProvider(Material.CHAINMAIL_CHESTPLATE)
                 .setLeatherArmorColor(this.getPlayerTeamColorForArmor(player))
                 .addEnchantment(Enchantment.PROTECTION, 2)
-                .setPersistentData("bedwars", "shop", "iron:8")
-                .setLore("§88 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("chainmail_chestplate_2").toData())
+                .setLore(balance.getPrice("chainmail_chestplate_2").toLore())
                 .setName("<green>Kettenrüstung II")
                 .build());
 
         inventory.setItem(16, new ItemProvider(Material.CHAINMAIL_CHESTPLATE)
                 .setLeatherArmorColor(this.getPlayerTeamColorForArmor(player))
                 .addEnchantment(Enchantment.PROTECTION, 3)
-                .setPersistentData("bedwars", "shop", "gold:2")
-                .setLore("§62 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("chainmail_chestplate_3").toData())
+                .setLore(balance.getPrice("chainmail_chestplate_3").toLore())
                 .setName("<green>Kettenrüstung III")
                 .build());
 
@@ -131,21 +136,23 @@ public class ShopInventory {
 
         this.setTopItems(player, inventory);
 
+        BalanceConfig balance = BedWarsPlugin.getInstance().getBalanceManager().getBalance();
+
         inventory.setItem(12, new ItemProvider(Material.WOODEN_PICKAXE)
-                .setPersistentData("bedwars", "shop", "copper:4")
-                .setLore("§74 Kupfer")
+                .setPersistentData("bedwars", "shop", balance.getPrice("wooden_pickaxe").toData())
+                .setLore(balance.getPrice("wooden_pickaxe").toLore())
                 .setName("<green>Holzspitzhacke")
                 .build());
 
         inventory.setItem(13, new ItemProvider(Material.STONE_PICKAXE)
-                .setPersistentData("bedwars", "shop", "iron:3")
-                .setLore("§83 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("stone_pickaxe").toData())
+                .setLore(balance.getPrice("stone_pickaxe").toLore())
                 .setName("<green>Steinspitzhacke")
                 .build());
 
         inventory.setItem(14, new ItemProvider(Material.IRON_PICKAXE)
-                .setPersistentData("bedwars", "shop", "gold:1")
-                .setLore("§61 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("iron_pickaxe").toData())
+                .setLore(balance.getPrice("iron_pickaxe").toLore())
                 .setName("<green>Eisenspitzhacke")
                 .build());
 
@@ -157,36 +164,38 @@ public class ShopInventory {
 
         this.setTopItems(player, inventory);
 
+        BalanceConfig balance = BedWarsPlugin.getInstance().getBalanceManager().getBalance();
+
         inventory.setItem(11, new ItemProvider(Material.STICK)
-                .setPersistentData("bedwars", "shop", "copper:3")
-                .setLore("§73 Kupfer")
+                .setPersistentData("bedwars", "shop", balance.getPrice("stick").toData())
+                .setLore(balance.getPrice("stick").toLore())
                 .addEnchantment(Enchantment.KNOCKBACK, 1)
                 .setName("<green>Knüppel")
                 .build());
 
         inventory.setItem(12, new ItemProvider(Material.WOODEN_SWORD)
-                .setPersistentData("bedwars", "shop", "iron:3")
-                .setLore("§83 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("wooden_sword").toData())
+                .setLore(balance.getPrice("wooden_sword").toLore())
                 .setName("<green>Holzschwert")
                 .build());
 
         inventory.setItem(13, new ItemProvider(Material.STONE_SWORD)
-                .setPersistentData("bedwars", "shop", "iron:6")
-                .setLore("§86 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("stone_sword").toData())
+                .setLore(balance.getPrice("stone_sword").toLore())
                 .setName("<green>Steinschwert")
                 .build());
 
         inventory.setItem(14, new ItemProvider(Material.STONE_SWORD)
                 .addEnchantment(Enchantment.SHARPNESS, 1)
-                .setPersistentData("bedwars", "shop", "iron:10")
-                .setLore("§810 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("stone_sword_2").toData())
+                .setLore(balance.getPrice("stone_sword_2").toLore())
                 .setName("<green>Steinschwert II")
                 .build());
 
         inventory.setItem(15, new ItemProvider(Material.IRON_SWORD)
                 .addEnchantment(Enchantment.SHARPNESS, 1)
-                .setPersistentData("bedwars", "shop", "gold:3")
-                .setLore("§63 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("iron_sword").toData())
+                .setLore(balance.getPrice("iron_sword").toLore())
                 .setName("<green>Eisenschwert")
                 .build());
 
@@ -198,29 +207,31 @@ public class ShopInventory {
 
         this.setTopItems(player, inventory);
 
+        BalanceConfig balance = BedWarsPlugin.getInstance().getBalanceManager().getBalance();
+
         inventory.setItem(11, new ItemProvider(Material.ARROW)
-                .setPersistentData("bedwars", "shop", "iron:2")
-                .setLore("§82 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("arrows").toData())
+                .setLore(balance.getPrice("arrows").toLore())
                 .setName("<green>Pfeile")
                 .build());
 
         inventory.setItem(13, new ItemProvider(Material.BOW)
-                .setPersistentData("bedwars", "shop", "gold:1")
-                .setLore("§61 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("bow_1").toData())
+                .setLore(balance.getPrice("bow_1").toLore())
                 .setName("<green>Bogen I")
                 .build());
 
         inventory.setItem(14, new ItemProvider(Material.BOW)
                 .addEnchantment(Enchantment.POWER, 1)
-                .setPersistentData("bedwars", "shop", "gold:3")
-                .setLore("§63 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("bow_2").toData())
+                .setLore(balance.getPrice("bow_2").toLore())
                 .setName("<green>Bogen II")
                 .build());
 
         inventory.setItem(15, new ItemProvider(Material.BOW)
                 .addEnchantment(Enchantment.INFINITY, 1)
-                .setPersistentData("bedwars", "shop", "gold:12")
-                .setLore("§612 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("bow_3").toData())
+                .setLore(balance.getPrice("bow_3").toLore())
                 .setName("<green>Bogen III")
                 .build());
 
@@ -232,30 +243,32 @@ public class ShopInventory {
 
         this.setTopItems(player, inventory);
 
+        BalanceConfig balance = BedWarsPlugin.getInstance().getBalanceManager().getBalance();
+
         inventory.setItem(11, new ItemProvider(Material.BREAD)
-                .setPersistentData("bedwars", "shop", "copper:5")
-                .setLore("§75 Kupfer")
+                .setPersistentData("bedwars", "shop", balance.getPrice("bread").toData())
+                .setLore(balance.getPrice("bread").toLore())
                 .setName("<green>Brot")
                 .setAmount(4)
                 .build());
 
         inventory.setItem(13, new ItemProvider(Material.COOKED_PORKCHOP)
-                .setPersistentData("bedwars", "shop", "iron:3")
-                .setLore("§83 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("porkchop").toData())
+                .setLore(balance.getPrice("porkchop").toLore())
                 .setName("<green>Schweinefleisch")
                 .setAmount(4)
                 .build());
 
         inventory.setItem(14, new ItemProvider(Material.COOKED_BEEF)
-                .setPersistentData("bedwars", "shop", "iron:3")
-                .setLore("§83 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("steak").toData())
+                .setLore(balance.getPrice("steak").toLore())
                 .setName("<green>Steak")
                 .setAmount(4)
                 .build());
 
         inventory.setItem(15, new ItemProvider(Material.GOLDEN_APPLE)
-                .setPersistentData("bedwars", "shop", "gold:1")
-                .setLore("§61 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("golden_apple").toData())
+                .setLore(balance.getPrice("golden_apple").toLore())
                 .setName("<green>Goldapfel")
                 .build());
 
@@ -267,15 +280,17 @@ public class ShopInventory {
 
         this.setTopItems(player, inventory);
 
+        BalanceConfig balance = BedWarsPlugin.getInstance().getBalanceManager().getBalance();
+
         inventory.setItem(12, new ItemProvider(Material.CHEST)
-                .setPersistentData("bedwars", "shop", "iron:4")
-                .setLore("§84 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("chest").toData())
+                .setLore(balance.getPrice("chest").toLore())
                 .setName("<green>Kiste")
                 .build());
 
         inventory.setItem(14, new ItemProvider(Material.ENDER_CHEST)
-                .setPersistentData("bedwars", "shop", "gold:1")
-                .setLore("§61 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("team_chest").toData())
+                .setLore(balance.getPrice("team_chest").toLore())
                 .setName("<green>Team Kiste")
                 .build());
 
@@ -287,38 +302,40 @@ public class ShopInventory {
 
         this.setTopItems(player, inventory);
 
+        BalanceConfig balance = BedWarsPlugin.getInstance().getBalanceManager().getBalance();
+
         inventory.setItem(11, new ItemProvider(Material.POTION)
                 .setPotionType(PotionType.HEALING, false, false)
-                .setPersistentData("bedwars", "shop", "iron:2")
-                .setLore("§82 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("healing_potion").toData())
+                .setLore(balance.getPrice("healing_potion").toLore())
                 .setName("<green>Heiltrank")
                 .build());
 
         inventory.setItem(12, new ItemProvider(Material.SPLASH_POTION)
                 .setPotionType(PotionType.HEALING, false, false)
-                .setPersistentData("bedwars", "shop", "iron:4")
-                .setLore("§84 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("splash_healing_potion").toData())
+                .setLore(balance.getPrice("splash_healing_potion").toLore())
                 .setName("<green>Wurfheiltrank")
                 .build());
 
         inventory.setItem(13, new ItemProvider(Material.POTION)
                 .setPotionType(PotionType.REGENERATION, false, false)
-                .setPersistentData("bedwars", "shop", "iron:5")
-                .setLore("§85 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("regeneration_potion").toData())
+                .setLore(balance.getPrice("regeneration_potion").toLore())
                 .setName("<green>Regenerationstrank")
                 .build());
 
         inventory.setItem(14, new ItemProvider(Material.SPLASH_POTION)
                 .setPotionType(PotionType.STRENGTH, false, false)
-                .setPersistentData("bedwars", "shop", "gold:3")
-                .setLore("§63 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("splash_strength_potion").toData())
+                .setLore(balance.getPrice("splash_strength_potion").toLore())
                 .setName("<green>Wurfstärketrank")
                 .build());
 
         inventory.setItem(15, new ItemProvider(Material.POTION)
                 .setPotionType(PotionType.INVISIBILITY, false, false)
-                .setPersistentData("bedwars", "shop", "gold:6")
-                .setLore("§66 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("invisibility_potion").toData())
+                .setLore(balance.getPrice("invisibility_potion").toLore())
                 .setName("<green>Unsichtbarkeitstrank")
                 .build());
 
@@ -330,28 +347,30 @@ public class ShopInventory {
 
         this.setTopItems(player, inventory);
 
+        BalanceConfig balance = BedWarsPlugin.getInstance().getBalanceManager().getBalance();
+
         inventory.setItem(11, new ItemProvider(Material.BLAZE_ROD)
-                .setPersistentData("bedwars", "shop", "iron:10")
-                .setLore("§810 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("rescue_platform").toData())
+                .setLore(balance.getPrice("rescue_platform").toLore())
                 .setName("<green>Rettungsplatform")
                 .build());
 
         inventory.setItem(12, new ItemProvider(Material.COBWEB)
-                .setPersistentData("bedwars", "shop", "iron:8")
-                .setLore("§88 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("cobweb").toData())
+                .setLore(balance.getPrice("cobweb").toLore())
                 .setName("<green>Spinnennetz")
                 .setAmount(2)
                 .build());
 
         inventory.setItem(13, new ItemProvider(Material.ENDER_PEARL)
-                .setPersistentData("bedwars", "shop", "gold:3")
-                .setLore("§63 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("ender_pearl").toData())
+                .setLore(balance.getPrice("ender_pearl").toLore())
                 .setName("<green>Enderperle")
                 .build());
 
         inventory.setItem(14, new ItemProvider(this.getPlayerTeamBlockConcrete(player))
-                .setPersistentData("bedwars", "shop", "iron:5")
-                .setLore("§85 Eisen")
+                .setPersistentData("bedwars", "shop", balance.getPrice("alarm_block").toData())
+                .setLore(balance.getPrice("alarm_block").toLore())
                 .setName("<green>Alarmblock")
                 .build());
 
@@ -362,8 +381,8 @@ public class ShopInventory {
                 .build());*/
 
         inventory.setItem(15, new ItemProvider(Material.ARMOR_STAND)
-                .setPersistentData("bedwars", "shop", "gold:8")
-                .setLore("§68 Gold")
+                .setPersistentData("bedwars", "shop", balance.getPrice("mobile_shop").toData())
+                .setLore(balance.getPrice("mobile_shop").toLore())
                 .setName("<green>Mobiler Shop")
                 .build());
 
@@ -383,7 +402,7 @@ public class ShopInventory {
     }
 
     private Material getPlayerTeamBlockConcrete(Player player) {
-        return switch (this.teamHandler.getPlayerTeam(player).getName().toLowerCase()) {
+        return switch (this.arenaManager.getArena(player.getWorld()).getTeamHandler().getPlayerTeam(player).getName().toLowerCase()) {
             case "red" -> Material.RED_CONCRETE;
             case "green" -> Material.GREEN_CONCRETE;
             case "blue" -> Material.BLUE_CONCRETE;
@@ -401,7 +420,7 @@ public class ShopInventory {
     }
 
     private Material getPlayerTeamBlockWool(Player player) {
-        return switch (this.teamHandler.getPlayerTeam(player).getName().toLowerCase()) {
+        return switch (this.arenaManager.getArena(player.getWorld()).getTeamHandler().getPlayerTeam(player).getName().toLowerCase()) {
             case "red" -> Material.RED_WOOL;
             case "green" -> Material.GREEN_WOOL;
             case "blue" -> Material.BLUE_WOOL;
@@ -419,7 +438,7 @@ public class ShopInventory {
     }
 
     private Material getPlayerTeamBlockGlass(Player player) {
-        return switch (this.teamHandler.getPlayerTeam(player).getName().toLowerCase()) {
+        return switch (this.arenaManager.getArena(player.getWorld()).getTeamHandler().getPlayerTeam(player).getName().toLowerCase()) {
             case "red" -> Material.RED_STAINED_GLASS;
             case "green" -> Material.GREEN_STAINED_GLASS;
             case "blue" -> Material.BLUE_STAINED_GLASS;
@@ -437,7 +456,7 @@ public class ShopInventory {
     }
 
     private Color getPlayerTeamColorForArmor(Player player) {
-        return switch (this.teamHandler.getPlayerTeam(player).getName().toLowerCase()) {
+        return switch (this.arenaManager.getArena(player.getWorld()).getTeamHandler().getPlayerTeam(player).getName().toLowerCase()) {
             case "red" -> Color.RED;
             case "green" -> Color.GREEN;
             case "blue" -> Color.BLUE;
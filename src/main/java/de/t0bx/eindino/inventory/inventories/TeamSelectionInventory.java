@@ -1,9 +1,9 @@
 package de.t0bx.eindino.inventory.inventories;
 
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.inventory.InventoryProvider;
 import de.t0bx.eindino.team.TeamData;
-import de.t0bx.eindino.team.TeamHandler;
 import de.t0bx.eindino.utils.ItemProvider;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Material;
@@ -12,11 +12,11 @@ import org.bukkit.inventory.Inventory;
 
 public class TeamSelectionInventory {
 
-    private final TeamHandler teamHandler;
+    private final ArenaManager arenaManager;
     private final InventoryProvider inventoryProvider;
 
     public TeamSelectionInventory() {
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
         this.inventoryProvider = BedWarsPlugin.getInstance().getInventoryProvider();
     }
 
@@ -27,7 +27,7 @@ public class TeamSelectionInventory {
         int[] slots = {0, 1, 2, 3, 4, 5, 6, 7, 8};
         int slotIndex = 0;
 
-        for (TeamData teams : this.teamHandler.getAllTeams()) {
+        for (TeamData teams : this.arenaManager.getArena(player.getUniqueId()).getTeamHandler().getAllTeams()) {
             ItemProvider itemProvider = new ItemProvider(this.getTeamMaterial(teams.getName()))
                     .setName(MiniMessage.miniMessage().serialize(teams.getDisplayName()) + " <gray>- " + teams.getPlayerCount() + "/" + teams.getMaxPlayers())
                     .setPersistentData("bedwars", "teams", teams.getName());
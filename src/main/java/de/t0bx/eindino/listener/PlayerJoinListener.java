@@ -1,10 +1,11 @@
 package de.t0bx.eindino.listener;
 
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.config.SpawnManager;
 import de.t0bx.eindino.game.GameHandler;
 import de.t0bx.eindino.game.GameState;
-import de.t0bx.eindino.player.PlayerHandler;
 import de.t0bx.eindino.scoreboard.ScoreboardBuilder;
 import de.t0bx.eindino.utils.ItemProvider;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -20,24 +21,23 @@ import org.bukkit.event.player.PlayerJoinEvent;
 public class PlayerJoinListener implements Listener {
 
     private final SpawnManager spawnManager;
-    private final PlayerHandler playerHandler;
     private final ScoreboardBuilder scoreboardBuilder;
-    private final GameHandler gameHandler;
-    private final String prefix;
+    private final ArenaManager arenaManager;
     private final MiniMessage mm;
 
     public PlayerJoinListener() {
         this.spawnManager = BedWarsPlugin.getInstance().getSpawnManager();
-        this.playerHandler = BedWarsPlugin.getInstance().getPlayerHandler();
         this.scoreboardBuilder = BedWarsPlugin.getInstance().getScoreboardBuilder();
-        this.gameHandler = BedWarsPlugin.getInstance().getGameHandler();
-        this.prefix = BedWarsPlugin.getInstance().getPrefix();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
         this.mm = MiniMessage.miniMessage();
     }
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
+        BedWarsPlugin.getInstance().getPlayerHandler().markOnline(player.getUniqueId());
+        Arena arena = this.arenaManager.joinArena(player);
+        GameHandler gameHandler = arena.getGameHandler();
         event.joinMessage(null);
         player.getInventory().clear();
         player.setGameMode(GameMode.SURVIVAL);
@@ -45,17 +45,7 @@ public class PlayerJoinListener implements Listener {
         player.setFoodLevel(20);
         player.setLevel(0);
 
-        if (!this.playerHandler.isLoaded(player.getUniqueId())) {
-            this.playerHandler.doesPlayerExist(player.getUniqueId()).thenAccept(exists -> {
-               if (exists) {
-                   this.playerHandler.loadPlayer(player.getUniqueId());
-               } else {
-                   this.playerHandler.createDefaultPlayer(player.getUniqueId());
-               }
-            });
-        }
-
-        if (this.gameHandler.getCurrentGameState() == GameState.LOBBY) {
+        if (gameHandler.getCurrentGameState() == GameState.LOBBY) {
             this.givePlayerLobbyItems(player);
             Bukkit.getScheduler().runTaskLater(BedWarsPlugin.getInstance(), () -> {
                 Location spawn = this.spawnManager.getSpawn();
@@ -66,29 +56,29 @@ public class PlayerJoinListener implements Listener {
 
             Bukkit.getScheduler().runTaskLater(BedWarsPlugin.getInstance(), () -> {
                 this.scoreboardBuilder.buildLobbyScoreboard(player);
-                BedWarsPlugin.getInstance().getTeamHandler().updateScoreboardForAllPlayers();
+                arena.getTeamHandler().updateScoreboardForAllPlayers();
 
                 if (player.customName() != null) {
-                    Bukkit.broadcast(this.mm.deserialize(this.prefix + "Der Spieler " + this.mm.serialize(player.customName()) + " <gray>hat das Spiel betreten."));
+                    arena.broadcast(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Der Spieler " + this.mm.serialize(player.customName()) + " <gray>hat das Spiel betreten."));
                 } else {
-                    Bukkit.broadcast(this.mm.deserialize(this.prefix + "Der Spieler <green>" + player.customName() + " <gray>hat das Spiel betreten."));
+                    arena.broadcast(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Der Spieler <green>" + player.customName() + " <gray>hat das Spiel betreten."));
                 }
             }, 20L);
 
-            if (this.gameHandler.checkIfAbleToStart()) {
-                if (this.gameHandler.getTask() == null) {
-                    this.gameHandler.startCountdown();
+            if (gameHandler.checkIfAbleToStart()) {
+                if (gameHandler.getTask() == null) {
+                    gameHandler.startCountdown();
                 }
             } else {
-                if (this.gameHandler.getRestPlayersNeeded() == 1) {
-                    Bukkit.broadcast(this.mm.deserialize(this.prefix + "Es wird noch <green>1 <gray>weiterer Spieler benötigt damit das Spiel starten kann."));
+                if (gameHandler.getRestPlayersNeeded() == 1) {
+                    arena.broadcast(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Es wird noch <green>1 <gray>weiterer Spieler benötigt damit das Spiel starten kann."));
                 } else {
-                    Bukkit.broadcast(this.mm.deserialize(this.prefix + "Es werden noch <green>" + this.gameHandler.getRestPlayersNeeded() + " <gray>weitere Spieler benötigt damit das Spiel starten kann."));
+                    arena.broadcast(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Es werden noch <green>" + gameHandler.getRestPlayersNeeded() + " <gray>weitere Spieler benötigt damit das Spiel starten kann."));
                 }
             }
-        } else if (this.gameHandler.getCurrentGameState() == GameState.IN_GAME) {
+        } else if (gameHandler.getCurrentGameState() == GameState.IN_GAME) {
             Bukkit.getScheduler().runTaskLater(BedWarsPlugin.getInstance(), () -> {
-                BedWarsPlugin.getInstance().getSpectatorHandler().addSpectator(player);
+                arena.getSpectatorHandler().addSpectator(player);
             }, 5L);
 
             Bukkit.getScheduler().runTaskLater(BedWarsPlugin.getInstance(), () -> {
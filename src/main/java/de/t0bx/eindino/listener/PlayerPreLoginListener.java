@@ -1,39 +1,58 @@
 package de.t0bx.eindino.listener;
 
 import de.t0bx.eindino.BedWarsPlugin;
-import de.t0bx.eindino.game.GameHandler;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.game.GameState;
+import de.t0bx.eindino.player.PlayerHandler;
+import de.t0bx.eindino.utils.ProfileCache;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.luckperms.api.LuckPerms;
 import net.luckperms.api.LuckPermsProvider;
 import net.luckperms.api.model.group.Group;
 import net.luckperms.api.model.user.User;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerLoginEvent;
 
 public class PlayerPreLoginListener implements Listener {
 
-    private final GameHandler gameHandler;
+    private final ArenaManager arenaManager;
+    private final PlayerHandler playerHandler;
     private final LuckPerms luckPermsProvider;
 
     public PlayerPreLoginListener() {
-        this.gameHandler = BedWarsPlugin.getInstance().getGameHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
+        this.playerHandler = BedWarsPlugin.getInstance().getPlayerHandler();
         this.luckPermsProvider = LuckPermsProvider.get();
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+        this.playerHandler.loadOrCreatePlayer(event.getUniqueId());
+        this.playerHandler.saveName(event.getUniqueId(), event.getName());
+        ProfileCache.getInstance().put(event.getUniqueId(), event.getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLoginResult(PlayerLoginEvent event) {
+        if (event.getResult() == PlayerLoginEvent.Result.ALLOWED) return;
+
+        this.playerHandler.unloadPlayer(event.getPlayer().getUniqueId());
+    }
+
     @EventHandler
     public void onPlayerPreLogin(PlayerLoginEvent event) {
-        if (this.gameHandler.getCurrentGameState() != GameState.LOBBY) return;
+        // players only have to wait for a slot if every arena is still in its lobby or full,
+        // otherwise they join an open lobby or watch a running round
+        if (this.arenaManager.getOpenLobby() != null || !this.arenaManager.hasLobby()) return;
         Player player = event.getPlayer();
 
-        int maxPlayer = BedWarsPlugin.getInstance().maxPlayerCount();
-        int playerCount = Bukkit.getOnlinePlayers().size();
-
-        if (playerCount < maxPlayer) return;
-
         User joiningUser = luckPermsProvider.getUserManager().getUser(player.getUniqueId());
         if (joiningUser == null) {
             event.disallow(PlayerLoginEvent.Result.KICK_OTHER, MiniMessage.miniMessage().deserialize("<red>Dein Rang konnte nicht geladen werden."));
@@ -48,18 +67,23 @@ public class PlayerPreLoginListener implements Listener {
 
         Player kickTarget = null;
 
-        for (Player online : Bukkit.getOnlinePlayers()) {
-            User onlineUser = luckPermsProvider.getUserManager().getUser(online.getUniqueId());
-            if (onlineUser == null) continue;
+        for (Arena arena : this.arenaManager.getArenas()) {
+            if (arena.getGameHandler().getCurrentGameState() != GameState.LOBBY) continue;
+
+            for (Player online : arena.getPlayers()) {
+                User onlineUser = luckPermsProvider.getUserManager().getUser(online.getUniqueId());
+                if (onlineUser == null) continue;
 
-            Group onlineGroup = luckPermsProvider.getGroupManager().getGroup(onlineUser.getPrimaryGroup());
-            if (onlineGroup == null || onlineGroup.getWeight().isEmpty()) continue;
+                Group onlineGroup = luckPermsProvider.getGroupManager().getGroup(onlineUser.getPrimaryGroup());
+                if (onlineGroup == null || onlineGroup.getWeight().isEmpty()) continue;
 
-            int onlineWeight = onlineGroup.getWeight().getAsInt();
-            if (onlineWeight > 115) {
-                kickTarget = online;
-                break;
+                int onlineWeight = onlineGroup.getWeight().getAsInt();
+                if (onlineWeight > 115) {
+                    kickTarget = online;
+                    break;
+                }
             }
+            if (kickTarget != null) break;
         }
 
         if (kickTarget != null) {
@@ -1,6 +1,6 @@
 package de.t0bx.eindino.listener;
 
-import de.t0bx.eindino.team.TeamHandler;
+import de.t0bx.eindino.arena.ArenaManager;
 import net.asyncproxy.nicksystem.event.PlayerUnNickEvent;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -8,15 +8,15 @@ import org.bukkit.event.Listener;
 
 public class PlayerUnNickListener implements Listener {
 
-    private final TeamHandler teamHandler;
+    private final ArenaManager arenaManager;
 
-    public PlayerUnNickListener(TeamHandler teamHandler) {
-        this.teamHandler = teamHandler;
+    public PlayerUnNickListener(ArenaManager arenaManager) {
+        this.arenaManager = arenaManager;
     }
 
     @EventHandler
     public void onPlayerUnNick(PlayerUnNickEvent event) {
         Player player = event.getPlayer();
-        this.teamHandler.updatePlayerScoreboard(player);
+        this.arenaManager.getArena(player.getUniqueId()).getTeamHandler().updatePlayerScoreboard(player);
     }
 }
@@ -87,7 +87,7 @@ public class WorldCancelListener implements Listener {
     @EventHandler
     public void onEntityDamage(EntityDamageEvent event) {
         if (!(event.getEntity() instanceof Player player)) return;
-        if (BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
+        if (BedWarsPlugin.getInstance().getArenaManager().getArena(player.getWorld()).getSpectatorHandler().isSpectator(player)) {
             event.setCancelled(true);
         }
     }
@@ -95,13 +95,13 @@ public class WorldCancelListener implements Listener {
     @EventHandler
     public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
         if (event.getDamager() instanceof Player player) {
-            if (BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
+            if (BedWarsPlugin.getInstance().getArenaManager().getArena(player.getWorld()).getSpectatorHandler().isSpectator(player)) {
                 event.setCancelled(true);
             }
         }
 
         if (event.getEntity() instanceof Player player) {
-            if (BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
+            if (BedWarsPlugin.getInstance().getArenaManager().getArena(player.getWorld()).getSpectatorHandler().isSpectator(player)) {
                 event.setCancelled(true);
             }
         }
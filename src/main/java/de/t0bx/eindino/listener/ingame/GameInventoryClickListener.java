@@ -38,7 +38,7 @@ public class GameInventoryClickListener implements Listener {
         if (event.getCurrentItem().getItemMeta() == null) return;
         if (event.getCurrentItem().getItemMeta().customName() == null) return;
 
-        if (BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
+        if (BedWarsPlugin.getInstance().getArenaManager().getArena(player.getWorld()).getSpectatorHandler().isSpectator(player)) {
             event.setCancelled(true);
             if (event.getView().title().equals(MiniMessage.miniMessage().deserialize("<gray>» <red>Navigator <gray>«"))) {
                 if (event.getCurrentItem().getPersistentDataContainer().has(this.navigatorKey)) {
@@ -2,6 +2,9 @@ package de.t0bx.eindino.listener.ingame;
 
 import com.destroystokyo.paper.event.player.PlayerSetSpawnEvent;
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
+import de.t0bx.eindino.config.BalanceManager;
 import de.t0bx.eindino.game.GameHandler;
 import de.t0bx.eindino.game.GameState;
 import de.t0bx.eindino.map.MapHandler;
@@ -32,54 +35,45 @@ import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class GameListener implements Listener {
 
-    private final Queue<Block> placedBlocks;
-    private final GameHandler gameHandler;
+    private final ArenaManager arenaManager;
     private final PlayerHandler playerHandler;
-    private final TeamHandler teamHandler;
     private final MapHandler mapHandler;
-
-    private final Map<Location, TeamData> alarmBlocks;
+    private final BalanceManager balanceManager;
 
     public GameListener() {
-        this.placedBlocks = new ConcurrentLinkedQueue<>();
-        this.gameHandler = BedWarsPlugin.getInstance().getGameHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
         this.playerHandler = BedWarsPlugin.getInstance().getPlayerHandler();
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
         this.mapHandler = BedWarsPlugin.getInstance().getMapHandler();
-        this.alarmBlocks = new ConcurrentHashMap<>();
+        this.balanceManager = BedWarsPlugin.getInstance().getBalanceManager();
     }
 
-    private boolean isGame() {
-        return this.gameHandler.getCurrentGameState() == GameState.IN_GAME;
+    private boolean isGame(Arena arena) {
+        return arena.getGameHandler().getCurrentGameState() == GameState.IN_GAME;
     }
 
     @EventHandler
     public void onBlockPlace(BlockPlaceEvent event) {
-        if (isGame()) {
+        Arena arena = this.arenaManager.getArena(event.getBlock().getWorld());
+        if (isGame(arena)) {
             Player player = event.getPlayer();
-            if (BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
+            if (arena.getSpectatorHandler().isSpectator(player)) {
                 event.setCancelled(true);
                 return;
             }
 
+            GameHandler gameHandler = arena.getGameHandler();
             Block block = event.getBlock();
-            if (isTeamSpawn(block.getLocation()) ||
-                    isSpawner(block.getLocation()) ||
-                    isShop(block.getLocation())) {
+            if (gameHandler.getProtectedRegions().isInRegion(block)) {
                 event.setCancelled(true);
                 return;
             }
 
             event.setCancelled(false);
             if (block.getType().name().endsWith("_WOOL")) {
-                this.gameHandler.getTimeBlocks().put(block, System.currentTimeMillis() + 5000);
+                gameHandler.getTimeBlocks().put(block, System.currentTimeMillis() + this.balanceManager.getBalance().timings().timeBlockLifetimeMillis());
                 return;
             }
 
@@ -87,38 +81,40 @@ public class GameListener implements Listener {
             if (itemStack.getItemMeta() != null) {
                 if (itemStack.getItemMeta().customName() != null) {
                     if (itemStack.getItemMeta().customName().equals(MiniMessage.miniMessage().deserialize("<green>Alarmblock"))) {
-                        this.alarmBlocks.put(block.getLocation(), this.teamHandler.getPlayerTeam(player));
+                        gameHandler.getAlarmBlocks().put(block.getLocation(), arena.getTeamHandler().getPlayerTeam(player));
                     }
                 }
             }
 
-            this.placedBlocks.add(block);
+            gameHandler.getPlacedBlocks().add(block);
         }
     }
 
     @EventHandler
     public void onBlockBreak(BlockBreakEvent event) {
-        if (isGame()) {
+        Arena arena = this.arenaManager.getArena(event.getBlock().getWorld());
+        if (isGame(arena)) {
             Player player = event.getPlayer();
-            if (BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
+            if (arena.getSpectatorHandler().isSpectator(player)) {
                 event.setCancelled(true);
                 return;
             }
 
+            GameHandler gameHandler = arena.getGameHandler();
             Block block = event.getBlock();
             if (block.getType().name().endsWith("_BED")) return;
 
-            if (!this.placedBlocks.contains(block)) {
+            if (!gameHandler.getPlacedBlocks().contains(block)) {
                 event.setCancelled(true);
                 return;
             }
 
-            if (this.alarmBlocks.containsKey(block.getLocation())) {
+            if (gameHandler.getAlarmBlocks().containsKey(block.getLocation())) {
                 event.setCancelled(true);
-                TeamData teamData = this.alarmBlocks.remove(block.getLocation());
-                this.placedBlocks.remove(block);
+                TeamData teamData = gameHandler.getAlarmBlocks().remove(block.getLocation());
+                gameHandler.getPlacedBlocks().remove(block);
                 block.setType(Material.AIR);
-                block.getLocation().getWorld().dropItemNaturally(block.getLocation(), new ItemProvider(this.getPlayerTeamBlockConcrete(player)).setName("<green>Baublock").build());
+                block.getLocation().getWorld().dropItemNaturally(block.getLocation(), new ItemProvider(this.getPlayerTeamBlockConcrete(arena.getTeamHandler(), player)).setName("<green>Baublock").build());
                 if (teamData == null) return;
                 for (Player players : teamData.getPlayersAlive()) {
                     players.showTitle(Title.title(MiniMessage.miniMessage().deserialize("<red>Alarmblock"), MiniMessage.miniMessage().deserialize("<red>ausgelöst!")));
@@ -129,10 +125,10 @@ public class GameListener implements Listener {
             if (block.getType().name().endsWith("_CONCRETE")) {
                 event.setCancelled(true);
                 block.setType(Material.AIR);
-                block.getLocation().getWorld().dropItemNaturally(block.getLocation(), new ItemProvider(this.getPlayerTeamBlockConcrete(player)).setName("<green>Baublock").build());
+                block.getLocation().getWorld().dropItemNaturally(block.getLocation(), new ItemProvider(this.getPlayerTeamBlockConcrete(arena.getTeamHandler(), player)).setName("<green>Baublock").build());
             }
             event.setCancelled(false);
-            this.placedBlocks.remove(block);
+            gameHandler.getPlacedBlocks().remove(block);
         }
     }
 
@@ -145,7 +141,7 @@ public class GameListener implements Listener {
         if (event.getItem() == null) return;
 
         Player player = event.getPlayer();
-        if (BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) return;
+        if (this.arenaManager.getArena(player.getWorld()).getSpectatorHandler().isSpectator(player)) return;
 
         if (event.getItem().getType() == Material.ARMOR_STAND) {
             event.setCancelled(true);
@@ -159,9 +155,10 @@ public class GameListener implements Listener {
 
     @EventHandler
     public void onFoodLevelChange(FoodLevelChangeEvent event) {
-        if (this.gameHandler.getCurrentGameState() == GameState.IN_GAME) {
+        Arena arena = this.arenaManager.getArena(event.getEntity().getWorld());
+        if (isGame(arena)) {
             if (event.getEntity() instanceof Player player) {
-                if (BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
+                if (arena.getSpectatorHandler().isSpectator(player)) {
                     event.setCancelled(true);
                 }
             }
@@ -172,7 +169,7 @@ public class GameListener implements Listener {
     public void onPlayerBedEnter(PlayerBedEnterEvent event) {
         Player player = event.getPlayer();
 
-        if (BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
+        if (this.arenaManager.getArena(player.getWorld()).getSpectatorHandler().isSpectator(player)) {
             event.setCancelled(true);
             return;
         }
@@ -198,10 +195,11 @@ public class GameListener implements Listener {
 
     @EventHandler
     public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
-        if (isGame()) {
+        Arena arena = this.arenaManager.getArena(event.getEntity().getWorld());
+        if (isGame(arena)) {
             if (event.getEntity() instanceof Player victim && event.getDamager() instanceof Player damager) {
-                if (!BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(damager) &&
-                    !BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(victim)) {
+                if (!arena.getSpectatorHandler().isSpectator(damager) &&
+                    !arena.getSpectatorHandler().isSpectator(victim)) {
                     this.playerHandler.getFightMap().put(victim, damager);
                 }
             }
@@ -210,16 +208,17 @@ public class GameListener implements Listener {
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        if (isGame()) {
+        Arena arena = this.arenaManager.getArena(event.getPlayer().getWorld());
+        if (isGame(arena)) {
             Player player = event.getPlayer();
 
-            if (!BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
+            if (!arena.getSpectatorHandler().isSpectator(player)) {
                 if (player.getLocation().getY() <= 0) {
                     player.damage(20);
                 }
             } else {
                 if (player.getLocation().getY() <= 0) {
-                    player.teleport(this.mapHandler.getMap(this.gameHandler.getCurrentMap()).getSpectatorLocation());
+                    player.teleport(this.mapHandler.getMap(arena.getGameHandler().getCurrentMap()).getSpectatorLocation());
                 }
             }
         }
@@ -252,9 +251,10 @@ public class GameListener implements Listener {
             int platformY = location.getBlockY() - 4;
             int platformZ = location.getBlockZ();
 
-            List<Block> blocks = this.fillCircle(location.getWorld(), platformX, platformY, platformZ, 4, Material.SLIME_BLOCK);
+            GameHandler gameHandler = this.arenaManager.getArena(location.getWorld()).getGameHandler();
+            List<Block> blocks = this.fillCircle(gameHandler, location.getWorld(), platformX, platformY, platformZ, 4, Material.SLIME_BLOCK);
             for (Block block : blocks) {
-                this.gameHandler.getTimeBlocks().put(block, System.currentTimeMillis() + 5000);
+                gameHandler.getTimeBlocks().put(block, System.currentTimeMillis() + this.balanceManager.getBalance().timings().timeBlockLifetimeMillis());
             }
         }
 
@@ -263,7 +263,7 @@ public class GameListener implements Listener {
         }
     }
 
-    private List<Block> fillCircle(World world, int centerX, int centerY, int centerZ, int radius, Material material) {
+    private List<Block> fillCircle(GameHandler gameHandler, World world, int centerX, int centerY, int centerZ, int radius, Material material) {
         List<Block> blocksAffected = new ArrayList<>();
         for (int x = centerX - radius; x <= centerX + radius; x++) {
             for (int z = centerZ - radius; z <= centerZ + radius; z++) {
@@ -273,6 +273,7 @@ public class GameListener implements Listener {
                 if (dx * dx + dz * dz <= radius * radius) {
                     Block block = world.getBlockAt(x, centerY, z);
                     if (block.getType() != Material.AIR) continue;
+                    gameHandler.getWorldRollback().recordBlock(block);
                     block.setType(material);
                     blocksAffected.add(block);
                 }
@@ -281,65 +282,8 @@ public class GameListener implements Listener {
         return blocksAffected;
     }
 
-    private boolean isTeamSpawn(Location location) {
-        for (TeamData teams : this.teamHandler.getAllTeams()) {
-            Location spawn = teams.getSpawnLocation();
-
-            int dx = Math.abs(spawn.getBlockX() - location.getBlockX());
-            int dz = Math.abs(spawn.getBlockZ() - location.getBlockZ());
-
-            if (dx <= 3 && dz <= 3) {
-                int locY = location.getBlockY();
-                int spawnY = spawn.getBlockY();
-
-                if (locY >= spawnY && locY <= spawnY + 2) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    private boolean isSpawner(Location location) {
-        for (Map.Entry<String, List<Location>> entry : this.mapHandler.getMap(this.gameHandler.getCurrentMap()).getSpawners().entrySet()) {
-            List<Location> spawnerList = entry.getValue();
-
-            for (Location spawnerLoc : spawnerList) {
-                int dx = Math.abs(spawnerLoc.getBlockX() - location.getBlockX());
-                int dz = Math.abs(spawnerLoc.getBlockZ() - location.getBlockZ());
-
-                if (dx <= 2 && dz <= 2) {
-                    int locY = location.getBlockY();
-                    int spawnY = spawnerLoc.getBlockY();
-
-                    if (locY >= spawnY && locY <= spawnY + 2) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
-    }
-
-    private boolean isShop(Location location) {
-        for (Location locations : this.mapHandler.getMap(this.gameHandler.getCurrentMap()).getShops()) {
-            int dx = Math.abs(locations.getBlockX() - location.getBlockX());
-            int dz = Math.abs(locations.getBlockZ() - location.getBlockZ());
-
-            if (dx <= 2 && dz <= 2) {
-                int locY = location.getBlockY();
-                int spawnY = locations.getBlockY();
-
-                if (locY >= spawnY && locY <= spawnY + 2) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    private Material getPlayerTeamBlockConcrete(Player player) {
-        return switch (this.teamHandler.getPlayerTeam(player).getName().toLowerCase()) {
+    private Material getPlayerTeamBlockConcrete(TeamHandler teamHandler, Player player) {
+        return switch (teamHandler.getPlayerTeam(player).getName().toLowerCase()) {
             case "red" -> Material.RED_CONCRETE;
             case "green" -> Material.GREEN_CONCRETE;
             case "blue" -> Material.BLUE_CONCRETE;
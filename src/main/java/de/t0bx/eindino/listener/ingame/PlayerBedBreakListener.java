@@ -3,12 +3,14 @@ package de.t0bx.eindino.listener.ingame;
 import de.eindino.server.api.ServerAPI;
 import de.eindino.server.api.scoreboard.PlayerScore;
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
+import de.t0bx.eindino.game.GameHandler;
 import de.t0bx.eindino.player.PlayerHandler;
 import de.t0bx.eindino.team.TeamData;
 import de.t0bx.eindino.team.TeamHandler;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.title.Title;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Sound;
@@ -21,15 +23,13 @@ import java.util.Random;
 
 public class PlayerBedBreakListener implements Listener {
 
-    private final TeamHandler teamHandler;
+    private final ArenaManager arenaManager;
     private final MiniMessage mm;
-    private final String prefix;
     private final PlayerHandler playerHandler;
 
     public PlayerBedBreakListener() {
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
         this.mm = MiniMessage.miniMessage();
-        this.prefix = BedWarsPlugin.getInstance().getPrefix();
         this.playerHandler = BedWarsPlugin.getInstance().getPlayerHandler();
     }
 
@@ -38,7 +38,10 @@ public class PlayerBedBreakListener implements Listener {
         Player player = event.getPlayer();
         if (!event.getBlock().getType().name().endsWith("_BED")) return;
 
-        TeamData playerTeam = this.teamHandler.getPlayerTeam(player);
+        Arena arena = this.arenaManager.getArena(event.getBlock().getWorld());
+        TeamHandler teamHandler = arena.getTeamHandler();
+        GameHandler gameHandler = arena.getGameHandler();
+        TeamData playerTeam = teamHandler.getPlayerTeam(player);
         if (playerTeam == null) {
             event.setCancelled(true);
             return;
@@ -48,19 +51,22 @@ public class PlayerBedBreakListener implements Listener {
 
         if (this.isPlayerTeamBed(playerTeam, location)) {
             event.setCancelled(true);
-            player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du kannst dein eigenes Bett nicht zerstören!"));
+            player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du kannst dein eigenes Bett nicht zerstören!"));
             return;
         }
 
-        TeamData teamDestroyed = this.getBedFromTeam(location);
+        TeamData teamDestroyed = this.getBedFromTeam(teamHandler, location);
         if (teamDestroyed == null) return;
         if (teamDestroyed.isBedDestroyed()) return;
 
         event.setCancelled(false);
         teamDestroyed.setBedDestroyed(true);
-        teamDestroyed.getBedLocation()[0].getBlock().setType(Material.AIR);
-        teamDestroyed.getBedLocation()[1].getBlock().setType(Material.AIR);
+        for (Location bedLocation : teamDestroyed.getBedLocation()) {
+            gameHandler.getWorldRollback().recordBlock(bedLocation.getBlock());
+            bedLocation.getBlock().setType(Material.AIR);
+        }
         this.playerHandler.addBedsDestroyed(player.getUniqueId(), 1);
+        gameHandler.getMatchRecord().addBedDestroyed(player.getUniqueId());
         int nuggets = new Random().nextInt(10, 20);
         ServerAPI.getInstance().getNuggetManager().addNuggets(player.getUniqueId(), nuggets);
 
@@ -68,11 +74,11 @@ public class PlayerBedBreakListener implements Listener {
             players.showTitle(Title.title(this.mm.deserialize("<red>Dein Bett wurde zerstört."), this.mm.deserialize("")));
         }
 
-        for (Player players : Bukkit.getOnlinePlayers()) {
+        for (Player players : arena.getPlayers()) {
             players.playSound(players.getLocation(), Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.5f, 1.0f);
-            players.sendMessage(this.mm.deserialize(this.prefix + "Das Team " + this.mm.serialize(playerTeam.getDisplayName()) + " <gray>hat das Bett von Team " + this.mm.serialize(teamDestroyed.getDisplayName()) + " <gray>zerstört!"));
+            players.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Das Team " + this.mm.serialize(playerTeam.getDisplayName()) + " <gray>hat das Bett von Team " + this.mm.serialize(teamDestroyed.getDisplayName()) + " <gray>zerstört!"));
         }
-        this.updateScoreboard(teamDestroyed);
+        this.updateScoreboard(arena, teamDestroyed);
     }
 
 
@@ -91,9 +97,9 @@ public class PlayerBedBreakListener implements Listener {
         return false;
     }
 
-    private void updateScoreboard(TeamData team) {
+    private void updateScoreboard(Arena arena, TeamData team) {
         String display = MiniMessage.miniMessage().serialize(team.getDisplayName());
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : arena.getPlayers()) {
             if (player.hasMetadata("score")) {
                 PlayerScore score = (PlayerScore) player.getMetadata("score").getFirst().value();
                 if (score == null) continue;
@@ -111,8 +117,8 @@ public class PlayerBedBreakListener implements Listener {
         }
     }
 
-    private TeamData getBedFromTeam(Location location) {
-        for (TeamData teams : this.teamHandler.getAllTeams()) {
+    private TeamData getBedFromTeam(TeamHandler teamHandler, Location location) {
+        for (TeamData teams : teamHandler.getAllTeams()) {
             Location bedLoc1 = teams.getBedLocation()[0];
             Location bedLoc2 = teams.getBedLocation()[1];
 
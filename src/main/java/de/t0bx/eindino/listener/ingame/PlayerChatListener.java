@@ -2,49 +2,46 @@ package de.t0bx.eindino.listener.ingame;
 
 import de.eindino.server.api.ServerAPI;
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.game.GameHandler;
 import de.t0bx.eindino.game.GameState;
-import de.t0bx.eindino.spectator.SpectatorHandler;
 import de.t0bx.eindino.team.TeamData;
-import de.t0bx.eindino.team.TeamHandler;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
-import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PlayerChatListener implements Listener {
 
-    private final GameHandler gameHandler;
-    private final TeamHandler teamHandler;
-    private final SpectatorHandler spectatorHandler;
-    private final List<UUID> wroteGG;
+    private final ArenaManager arenaManager;
+    private final Map<UUID, String> wroteGG;
 
     public PlayerChatListener() {
-        this.gameHandler = BedWarsPlugin.getInstance().getGameHandler();
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
-        this.spectatorHandler = BedWarsPlugin.getInstance().getSpectatorHandler();
-        this.wroteGG = new ArrayList<>();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
+        this.wroteGG = new ConcurrentHashMap<>();
     }
 
     @EventHandler
     public void onAsyncPlayerChat(AsyncPlayerChatEvent event) {
         Player player = event.getPlayer();
-        if (this.gameHandler.getCurrentGameState() == GameState.IN_GAME) {
-            if (this.spectatorHandler.isSpectator(player)) {
+        Arena arena = this.arenaManager.getArena(player.getUniqueId());
+        GameHandler gameHandler = arena.getGameHandler();
+        if (gameHandler.getCurrentGameState() == GameState.IN_GAME) {
+            if (arena.getSpectatorHandler().isSpectator(player)) {
                 player.sendMessage(MiniMessage.miniMessage().deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du kannst als Zuschauer nicht im Chat schreiben."));
                 event.setCancelled(true);
                 return;
             }
 
-            TeamData teamData = this.teamHandler.getPlayerTeam(player);
+            TeamData teamData = arena.getTeamHandler().getPlayerTeam(player);
 
             if (teamData == null) return;
 
@@ -56,7 +53,7 @@ public class PlayerChatListener implements Listener {
                 message = message.replaceFirst("(?i)^(@all |@a |@ )", "");
             }
 
-            if (this.gameHandler.getPlayType().endsWith("1")) {
+            if (gameHandler.getPlayType().endsWith("1")) {
                 isGlobal = true;
             }
 
@@ -68,7 +65,7 @@ public class PlayerChatListener implements Listener {
             event.setCancelled(true);
 
             if (isGlobal) {
-                for (Player online : Bukkit.getOnlinePlayers()) {
+                for (Player online : arena.getPlayers()) {
                     online.sendMessage(formattedMessage);
                 }
             } else {
@@ -79,15 +76,15 @@ public class PlayerChatListener implements Listener {
             return;
         }
 
-        if (this.gameHandler.getCurrentGameState() == GameState.END) {
-            if (this.gameHandler.getWasInSpectator().contains(player.getUniqueId())) return;
+        if (gameHandler.getCurrentGameState() == GameState.END) {
+            if (gameHandler.getWasInSpectator().contains(player.getUniqueId())) return;
 
-            if (this.wroteGG.contains(player.getUniqueId())) return;
+            if (gameHandler.getGameId().equals(this.wroteGG.get(player.getUniqueId()))) return;
 
             if (event.getMessage().toLowerCase().contains("gg") ||
                     event.getMessage().toLowerCase().contains("goodgame") ||
                     event.getMessage().toLowerCase().contains("good game")) {
-                this.wroteGG.add(player.getUniqueId());
+                this.wroteGG.put(player.getUniqueId(), gameHandler.getGameId());
                 ServerAPI.getInstance().getNuggetManager().addNuggets(player.getUniqueId(), 15);
                 player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.8f, 1.0f);
             }
@@ -19,7 +19,7 @@ public class PlayerClickNPCListener implements Listener {
     public void onNPCClick(PlayerClickNPCEvent event) {
         Player player = event.getPlayer();
 
-        if (BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
+        if (BedWarsPlugin.getInstance().getArenaManager().getArena(player.getWorld()).getSpectatorHandler().isSpectator(player)) {
             return;
         }
 
@@ -2,9 +2,12 @@ package de.t0bx.eindino.listener.ingame;
 
 import de.eindino.server.api.scoreboard.PlayerScore;
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.game.GameHandler;
 import de.t0bx.eindino.game.GameState;
 import de.t0bx.eindino.player.PlayerHandler;
+import de.t0bx.eindino.spectator.SpectatorHandler;
 import de.t0bx.eindino.team.TeamData;
 import de.t0bx.eindino.team.TeamHandler;
 import net.kyori.adventure.text.Component;
@@ -17,82 +20,87 @@ import org.bukkit.event.entity.PlayerDeathEvent;
 
 public class PlayerDeathListener implements Listener {
 
-    private final GameHandler gameHandler;
-    private final TeamHandler teamHandler;
+    private final ArenaManager arenaManager;
     private final MiniMessage mm;
-    private final String prefix;
     private final PlayerHandler playerHandler;
 
     public PlayerDeathListener() {
         this.playerHandler = BedWarsPlugin.getInstance().getPlayerHandler();
-        this.gameHandler = BedWarsPlugin.getInstance().getGameHandler();
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
         this.mm = MiniMessage.miniMessage();
-        this.prefix = BedWarsPlugin.getInstance().getPrefix();
     }
 
-    public boolean isGame() {
-        return this.gameHandler.getCurrentGameState() == GameState.IN_GAME;
+    public boolean isGame(Arena arena) {
+        return arena.getGameHandler().getCurrentGameState() == GameState.IN_GAME;
     }
 
     @EventHandler
     public void onPlayerDeath(PlayerDeathEvent event) {
-        if (isGame()) {
+        Arena arena = this.arenaManager.getArena(event.getPlayer().getWorld());
+        if (isGame(arena)) {
+            GameHandler gameHandler = arena.getGameHandler();
+            TeamHandler teamHandler = arena.getTeamHandler();
+            SpectatorHandler spectatorHandler = arena.getSpectatorHandler();
             Player player = event.getPlayer();
             event.getDrops().clear();
-            TeamData teamData = this.teamHandler.getPlayerTeam(player);
+            TeamData teamData = teamHandler.getPlayerTeam(player);
             if (teamData.isBedDestroyed()) {
                 if (this.playerHandler.getFightMap().containsKey(player)) {
                     Player attacker = this.playerHandler.getFightMap().remove(player);
                     this.playerHandler.addKills(attacker.getUniqueId(), 1);
                     this.playerHandler.addDeaths(player.getUniqueId(), 1);
+                    gameHandler.getMatchRecord().addKill(attacker.getUniqueId());
+                    gameHandler.getMatchRecord().addDeath(player.getUniqueId());
                 }
                 teamData.getPlayersAlive().remove(player);
                 Bukkit.getScheduler().runTaskLater(BedWarsPlugin.getInstance(), () -> {
                     player.spigot().respawn();
 
-                    if (!BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
-                        BedWarsPlugin.getInstance().getSpectatorHandler().addSpectator(player);
+                    if (!spectatorHandler.isSpectator(player)) {
+                        spectatorHandler.addSpectator(player);
                     }
                 }, 1L);
-                event.deathMessage(this.mm.deserialize(this.prefix + "Der Spieler " + this.extractColorFromComponent(teamData.getDisplayName()) + player.getName() + " <gray>ist ausgeschieden."));
+                event.deathMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Der Spieler " + this.extractColorFromComponent(teamData.getDisplayName()) + player.getName() + " <gray>ist ausgeschieden."));
                 if (teamData.getPlayersAlive().isEmpty()) {
-                    for (Player players : Bukkit.getOnlinePlayers()) {
-                        players.sendMessage(this.mm.deserialize(this.prefix + "Das Team " + this.mm.serialize(teamData.getDisplayName()) + " <gray>ist <dark_red><u>ausgeschieden."));
+                    for (Player players : arena.getPlayers()) {
+                        players.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Das Team " + this.mm.serialize(teamData.getDisplayName()) + " <gray>ist <dark_red><u>ausgeschieden."));
                     }
 
                     Bukkit.getScheduler().runTaskLater(BedWarsPlugin.getInstance(), () -> {
                         player.spigot().respawn();
 
-                        if (this.teamHandler.getRemainingTeams().size() == 1) {
-                            TeamData winner = this.teamHandler.getRemainingTeams().getFirst();
-                            this.gameHandler.endGame(winner);
+                        if (teamHandler.getRemainingTeams().size() == 1) {
+                            TeamData winner = teamHandler.getRemainingTeams().getFirst();
+                            gameHandler.endGame(winner);
                         } else {
-                            if (!BedWarsPlugin.getInstance().getSpectatorHandler().isSpectator(player)) {
-                                BedWarsPlugin.getInstance().getSpectatorHandler().addSpectator(player);
+                            if (!spectatorHandler.isSpectator(player)) {
+                                spectatorHandler.addSpectator(player);
                             }
                         }
                     }, 1L);
                 }
-                this.updateScoreboard(teamData);
+                this.updateScoreboard(arena, teamData);
             } else {
                 if (this.playerHandler.getFightMap().containsKey(player)) {
                     Player attacker = this.playerHandler.getFightMap().remove(player);
-                    TeamData attackerTeam = this.teamHandler.getPlayerTeam(attacker);
+                    TeamData attackerTeam = teamHandler.getPlayerTeam(attacker);
                     this.playerHandler.addKills(attacker.getUniqueId(), 1);
                     this.playerHandler.addDeaths(player.getUniqueId(), 1);
+                    gameHandler.getMatchRecord().addKill(attacker.getUniqueId());
+                    gameHandler.getMatchRecord().addDeath(player.getUniqueId());
                     if (attackerTeam == null) return;
-                    event.deathMessage(this.mm.deserialize(this.prefix + "Der Spieler <green>" + this.extractColorFromComponent(teamData.getDisplayName()) + player.getName() + " <gray>wurde von <green>" + this.extractColorFromComponent(attackerTeam.getDisplayName()) + attacker.getName() + " <gray>getötet."));
+                    event.deathMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Der Spieler <green>" + this.extractColorFromComponent(teamData.getDisplayName()) + player.getName() + " <gray>wurde von <green>" + this.extractColorFromComponent(attackerTeam.getDisplayName()) + attacker.getName() + " <gray>getötet."));
                 } else {
-                    event.deathMessage(this.mm.deserialize(this.prefix + "Der Spieler <green>" + this.extractColorFromComponent(teamData.getDisplayName()) + player.getName() + " <gray>ist gestorben."));
+                    event.deathMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Der Spieler <green>" + this.extractColorFromComponent(teamData.getDisplayName()) + player.getName() + " <gray>ist gestorben."));
                     this.playerHandler.addDeaths(player.getUniqueId(), 1);
+                    gameHandler.getMatchRecord().addDeath(player.getUniqueId());
                 }
             }
 
             if (!teamData.isBedDestroyed()) {
                 Bukkit.getScheduler().runTaskLater(BedWarsPlugin.getInstance(), () -> {
                     player.spigot().respawn();
-                    player.teleport(this.teamHandler.getPlayerTeam(player).getSpawnLocation());
+                    player.teleport(teamHandler.getPlayerTeam(player).getSpawnLocation());
                 }, 1L);
             }
         }
@@ -111,9 +119,9 @@ public class PlayerDeathListener implements Listener {
         return null;
     }
 
-    private void updateScoreboard(TeamData team) {
+    private void updateScoreboard(Arena arena, TeamData team) {
         String display = MiniMessage.miniMessage().serialize(team.getDisplayName());
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : arena.getPlayers()) {
             if (player.hasMetadata("score")) {
                 PlayerScore score = (PlayerScore) player.getMetadata("score").getFirst().value();
                 if (score == null) continue;
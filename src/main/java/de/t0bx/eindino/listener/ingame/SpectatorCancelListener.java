@@ -1,7 +1,7 @@
 package de.t0bx.eindino.listener.ingame;
 
 import de.t0bx.eindino.BedWarsPlugin;
-import de.t0bx.eindino.spectator.SpectatorHandler;
+import de.t0bx.eindino.arena.ArenaManager;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -14,16 +14,16 @@ import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 
 public class SpectatorCancelListener implements Listener {
 
-    private final SpectatorHandler spectatorHandler;
+    private final ArenaManager arenaManager;
 
     public SpectatorCancelListener() {
-        this.spectatorHandler = BedWarsPlugin.getInstance().getSpectatorHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
     }
 
     @EventHandler
     public void onInteract(PlayerInteractEvent event) {
         Player player = event.getPlayer();
-        if (!this.spectatorHandler.isSpectator(player)) return;
+        if (!this.isSpectator(player)) return;
 
         event.setCancelled(true);
         if (event.getItem() == null) return;
@@ -36,7 +36,7 @@ public class SpectatorCancelListener implements Listener {
     @EventHandler
     public void onPickup(EntityPickupItemEvent event) {
         if (event.getEntity() instanceof Player player) {
-            if (this.spectatorHandler.isSpectator(player)) {
+            if (this.isSpectator(player)) {
                 event.setCancelled(true);
             }
         }
@@ -45,22 +45,26 @@ public class SpectatorCancelListener implements Listener {
     @EventHandler
     public void onPickupArrow(PlayerPickupArrowEvent event) {
         Player player = event.getPlayer();
-        if (this.spectatorHandler.isSpectator(player)) {
+        if (this.isSpectator(player)) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onItemDrop(PlayerDropItemEvent event) {
-        if (this.spectatorHandler.isSpectator(event.getPlayer())) {
+        if (this.isSpectator(event.getPlayer())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onSwapItems(PlayerSwapHandItemsEvent event) {
-        if (this.spectatorHandler.isSpectator(event.getPlayer())) {
+        if (this.isSpectator(event.getPlayer())) {
             event.setCancelled(true);
         }
     }
+
+    private boolean isSpectator(Player player) {
+        return this.arenaManager.getArena(player.getWorld()).getSpectatorHandler().isSpectator(player);
+    }
 }
@@ -1,9 +1,9 @@
 package de.t0bx.eindino.listener.ingame;
 
 import de.t0bx.eindino.BedWarsPlugin;
-import de.t0bx.eindino.spectator.SpectatorHandler;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.team.TeamData;
-import de.t0bx.eindino.team.TeamHandler;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -17,27 +17,24 @@ import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.Inventory;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class TeamChestListener implements Listener {
 
-    private final TeamHandler teamHandler;
-    private final SpectatorHandler spectatorHandler;
-    private final Map<TeamData, Inventory> teamChests = new HashMap<>();
+    private final ArenaManager arenaManager;
     private final Map<UUID, EnderChest> enderChests = new ConcurrentHashMap<>();
 
     public TeamChestListener() {
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
-        this.spectatorHandler = BedWarsPlugin.getInstance().getSpectatorHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
     }
 
     @EventHandler
     public void onChestOpen(PlayerInteractEvent event) {
         Player player = event.getPlayer();
-        if (this.spectatorHandler.isSpectator(player)) return;
+        Arena arena = this.arenaManager.getArena(player.getWorld());
+        if (arena.getSpectatorHandler().isSpectator(player)) return;
 
         if (event.getClickedBlock() == null) return;
         if (event.getClickedBlock().getType() != Material.ENDER_CHEST) return;
@@ -45,10 +42,15 @@ public class TeamChestListener implements Listener {
 
         if (event.getAction() != Action.RIGHT_CLICK_BLOCK) return;
 
-        TeamData teamData = this.teamHandler.getPlayerTeam(player);
+        TeamData teamData = arena.getTeamHandler().getPlayerTeam(player);
         if (teamData == null) return;
 
-        Inventory teamChest = this.teamChests.computeIfAbsent(teamData, _ -> Bukkit.createInventory(null, 27, MiniMessage.miniMessage().deserialize("<green>Team-Kiste")));
+        // kept in the team's custom data, so it is emptied when the teams are reset after the round
+        Inventory teamChest = (Inventory) teamData.getCustomData("teamChest");
+        if (teamChest == null) {
+            teamChest = Bukkit.createInventory(null, 27, MiniMessage.miniMessage().deserialize("<green>Team-Kiste"));
+            teamData.setCustomData("teamChest", teamChest);
+        }
         player.playSound(player.getLocation(), Sound.BLOCK_ENDER_CHEST_OPEN, 1.0f, 1.0f);
         player.openInventory(teamChest);
         if (event.getClickedBlock() instanceof EnderChest enderChest) {
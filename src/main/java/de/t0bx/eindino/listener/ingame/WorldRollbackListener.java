@@ -0,0 +1,123 @@
+package de.t0bx.eindino.listener.ingame;
+
+import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.ArenaManager;
+import de.t0bx.eindino.map.WorldRollback;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockMultiPlaceEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+
+public class WorldRollbackListener implements Listener {
+
+    private final ArenaManager arenaManager;
+
+    public WorldRollbackListener() {
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        if (event instanceof BlockMultiPlaceEvent multiPlaceEvent) {
+            for (BlockState state : multiPlaceEvent.getReplacedBlockStates()) {
+                this.getWorldRollback(state.getWorld()).recordState(state);
+            }
+            return;
+        }
+        this.getWorldRollback(event.getBlock().getWorld()).recordState(event.getBlockReplacedState());
+    }
+
+    /**
+     * Records the block before any other listener runs, as the bed and building block handling
+     * removes blocks itself while the event is handled.
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onBlockBreak(BlockBreakEvent event) {
+        this.getWorldRollback(event.getBlock().getWorld()).recordBlock(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        this.getWorldRollback(event.getBlock().getWorld()).recordBlock(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        this.getWorldRollback(event.getBlock().getWorld()).recordBlock(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        this.getWorldRollback(event.getBlock().getWorld()).recordBlock(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(BlockFromToEvent event) {
+        this.getWorldRollback(event.getToBlock().getWorld()).recordBlock(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(LeavesDecayEvent event) {
+        this.getWorldRollback(event.getBlock().getWorld()).recordBlock(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        this.getWorldRollback(event.getBlock().getWorld()).recordBlock(event.getBlock());
+    }
+
+    /**
+     * Records every block the explosion destroys. Listeners filtering the block list, e.g. to protect
+     * the map, have run already, so only the blocks which are really removed are recorded.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        WorldRollback worldRollback = this.getWorldRollback(event.getEntity().getWorld());
+        for (Block block : event.blockList()) {
+            worldRollback.recordBlock(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        WorldRollback worldRollback = this.getWorldRollback(event.getBlock().getWorld());
+        for (Block block : event.blockList()) {
+            worldRollback.recordBlock(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        this.getWorldRollback(event.getBlock().getWorld()).recordBlock(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent event) {
+        this.getWorldRollback(event.getBlock().getWorld()).recordBlock(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntitySpawn(EntitySpawnEvent event) {
+        this.getWorldRollback(event.getEntity().getWorld()).recordEntity(event.getEntity());
+    }
+
+    private WorldRollback getWorldRollback(World world) {
+        return this.arenaManager.getArena(world).getGameHandler().getWorldRollback();
+    }
+}
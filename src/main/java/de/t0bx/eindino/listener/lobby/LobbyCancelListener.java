@@ -1,8 +1,10 @@
 package de.t0bx.eindino.listener.lobby;
 
 import de.t0bx.eindino.BedWarsPlugin;
-import de.t0bx.eindino.game.GameHandler;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.game.GameState;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -20,89 +22,102 @@ import org.bukkit.event.player.PlayerMoveEvent;
 
 public class LobbyCancelListener implements Listener {
 
-    private final GameHandler gameHandler;
+    private final ArenaManager arenaManager;
 
     public LobbyCancelListener() {
-        this.gameHandler = BedWarsPlugin.getInstance().getGameHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
     }
 
-    private boolean isLobby() {
-        return this.gameHandler.getCurrentGameState() == GameState.LOBBY || this.gameHandler.getCurrentGameState() == GameState.END;
+    /**
+     * Checks whether the given entity is in the lobby. Players are in the lobby while their arena waits
+     * for or has finished a round; other entities are in the lobby unless their world is played in by an arena.
+     *
+     * @param entity the entity involved in the event
+     * @return true if the event has to be cancelled, otherwise false
+     */
+    private boolean isLobby(Entity entity) {
+        Arena arena = entity instanceof Player player
+                ? this.arenaManager.getArena(player.getUniqueId())
+                : this.arenaManager.getBoundArena(entity.getWorld());
+        if (arena == null) return true;
+
+        GameState gameState = arena.getGameHandler().getCurrentGameState();
+        return gameState == GameState.LOBBY || gameState == GameState.END;
     }
 
     @EventHandler
     public void onBlockPlace(BlockPlaceEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getPlayer())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onBlockBreak(BlockBreakEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getPlayer())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getWhoClicked())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onArmorStandManipulate(PlayerArmorStandManipulateEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getPlayer())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onEntityDamage(EntityDamageEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getEntity())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getEntity())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onPlayerInteract(PlayerInteractEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getPlayer())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onEntityInteract(EntityInteractEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getEntity())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onBurning(EntityCombustEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getEntity())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void PlayerDropItem(PlayerDropItemEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getPlayer())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        if (isLobby()) {
+        if (isLobby(event.getPlayer())) {
             Player player = event.getPlayer();
             if (player.getLocation().getY() <= 10) {
                 player.teleport(BedWarsPlugin.getInstance().getSpawnManager().getSpawn());
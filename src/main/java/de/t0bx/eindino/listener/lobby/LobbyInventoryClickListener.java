@@ -1,6 +1,8 @@
 package de.t0bx.eindino.listener.lobby;
 
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.team.TeamData;
 import de.t0bx.eindino.team.TeamHandler;
 import de.t0bx.eindino.vote.VotingHandler;
@@ -16,18 +18,14 @@ import org.bukkit.persistence.PersistentDataType;
 
 public class LobbyInventoryClickListener implements Listener {
 
-    private final String prefix;
     private final MiniMessage mm;
-    private final TeamHandler teamHandler;
-    private final VotingHandler votingHandler;
+    private final ArenaManager arenaManager;
     private final NamespacedKey teamKey;
     private final NamespacedKey voteKey;
 
     public LobbyInventoryClickListener() {
-        this.prefix = BedWarsPlugin.getInstance().getPrefix();
         this.mm = MiniMessage.miniMessage();
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
-        this.votingHandler = BedWarsPlugin.getInstance().getVotingHandler();
+        this.arenaManager = BedWarsPlugin.getInstance().getArenaManager();
         this.teamKey = new NamespacedKey("bedwars", "teams");
         this.voteKey = new NamespacedKey("bedwars", "votes");
     }
@@ -40,35 +38,39 @@ public class LobbyInventoryClickListener implements Listener {
 
         if (event.getCurrentItem().getItemMeta() == null) return;
 
+        Arena arena = this.arenaManager.getArena(player.getUniqueId());
+        TeamHandler teamHandler = arena.getTeamHandler();
+        VotingHandler votingHandler = arena.getVotingHandler();
+
         if (event.getView().title().equals(this.mm.deserialize("<gray>» <red>Teamauswahl <gray>«"))) {
             event.setCancelled(true);
             if (event.getCurrentItem().getPersistentDataContainer().has(this.teamKey)) {
                 String teamName = event.getCurrentItem().getPersistentDataContainer().get(this.teamKey, PersistentDataType.STRING);
-                if (this.teamHandler.getTeam(teamName) == null) return;
-                TeamData team = this.teamHandler.getTeam(teamName);
+                if (teamHandler.getTeam(teamName) == null) return;
+                TeamData team = teamHandler.getTeam(teamName);
                 if (team.isFull()) {
                     event.getView().close();
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Dieses Team ist bereits voll."));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Dieses Team ist bereits voll."));
                     player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                     return;
                 }
 
-                if (this.teamHandler.getPlayerTeam(player) != null) {
-                    if (this.teamHandler.getPlayerTeam(player).getName().equalsIgnoreCase(teamName)) {
+                if (teamHandler.getPlayerTeam(player) != null) {
+                    if (teamHandler.getPlayerTeam(player).getName().equalsIgnoreCase(teamName)) {
                         event.getView().close();
-                        player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du bist bereits in diesem Team."));
+                        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du bist bereits in diesem Team."));
                         player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                         return;
                     }
 
-                    this.teamHandler.removePlayerFromTeam(player);
+                    teamHandler.removePlayerFromTeam(player);
                 }
 
                 event.getView().close();
-                this.teamHandler.addPlayerToTeam(teamName, player);
-                player.sendMessage(this.mm.deserialize(this.prefix + "Du bist nun im Team " + this.mm.serialize(team.getDisplayName()) + "<gray>."));
+                teamHandler.addPlayerToTeam(teamName, player);
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Du bist nun im Team " + this.mm.serialize(team.getDisplayName()) + "<gray>."));
                 player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
-                this.teamHandler.updateScoreboardForAllPlayers();
+                teamHandler.updateScoreboardForAllPlayers();
             }
         }
 
@@ -87,60 +89,60 @@ public class LobbyInventoryClickListener implements Listener {
             event.setCancelled(true);
             if (event.getCurrentItem().getPersistentDataContainer().has(this.voteKey)) {
                 String mapName = event.getCurrentItem().getPersistentDataContainer().get(this.voteKey, PersistentDataType.STRING);
-                if (this.votingHandler.hasVotedForMap(player, mapName)) {
+                if (votingHandler.hasVotedForMap(player, mapName)) {
                     event.getView().close();
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du stimmst bereits für diese Map."));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du stimmst bereits für diese Map."));
                     player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                     return;
                 }
 
-                if (this.votingHandler.hasVoted(player)) {
-                    this.votingHandler.removeVote(player);
+                if (votingHandler.hasVoted(player)) {
+                    votingHandler.removeVote(player);
                 }
 
                 event.getView().close();
-                this.votingHandler.addVote(player, mapName);
-                player.sendMessage(this.mm.deserialize(this.prefix + "Du stimmst nun für die Map " + mapName + "."));
+                votingHandler.addVote(player, mapName);
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "Du stimmst nun für die Map " + mapName + "."));
                 player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
             }
         }
 
         if (event.getView().title().equals(this.mm.deserialize("<gray>» <green>Gold-Voting <gray>«"))) {
             if (event.getCurrentItem().getType() == Material.EMERALD) {
-                if (this.votingHandler.getVotedForGold(player)) {
+                if (votingHandler.getVotedForGold(player)) {
                     event.getView().close();
-                    player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du stimmst bereits für Gold in dieser Runde."));
+                    player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du stimmst bereits für Gold in dieser Runde."));
                     player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                     return;
                 }
 
-                if (this.votingHandler.hasVotedForGold(player)) {
-                    this.votingHandler.removeGoldVote(player);
+                if (votingHandler.hasVotedForGold(player)) {
+                    votingHandler.removeGoldVote(player);
                 }
 
                 event.getView().close();
-                this.votingHandler.addGoldVote(player, true);
-                player.sendMessage(this.mm.deserialize(this.prefix + "<green>Du stimmst nun für Gold in dieser Runde."));
+                votingHandler.addGoldVote(player, true);
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Du stimmst nun für Gold in dieser Runde."));
                 player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
             }
 
             if (event.getCurrentItem().getType() == Material.REDSTONE) {
-                if (this.votingHandler.hasVotedForGold(player)) {
-                    if (!this.votingHandler.getVotedForGold(player)) {
+                if (votingHandler.hasVotedForGold(player)) {
+                    if (!votingHandler.getVotedForGold(player)) {
                         event.getView().close();
-                        player.sendMessage(this.mm.deserialize(this.prefix + "<red>Du stimmst bereits gegen Gold in dieser Runde."));
+                        player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<red>Du stimmst bereits gegen Gold in dieser Runde."));
                         player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                         return;
                     }
                 }
 
-                if (this.votingHandler.hasVotedForGold(player)) {
-                    this.votingHandler.removeGoldVote(player);
+                if (votingHandler.hasVotedForGold(player)) {
+                    votingHandler.removeGoldVote(player);
                 }
 
                 event.getView().close();
-                this.votingHandler.addGoldVote(player, false);
-                player.sendMessage(this.mm.deserialize(this.prefix + "<green>Du stimmst nun gegen Gold in dieser Runde."));
+                votingHandler.addGoldVote(player, false);
+                player.sendMessage(this.mm.deserialize(BedWarsPlugin.getInstance().getPrefix() + "<green>Du stimmst nun gegen Gold in dieser Runde."));
                 player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
             }
         }
@@ -1,29 +1,30 @@
 package de.t0bx.eindino.listener.lobby;
 
-import de.t0bx.eindino.game.GameHandler;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.game.GameState;
 import de.t0bx.eindino.manager.ParkourManager;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 
 public class PlayerLobbyMoveListener implements Listener {
 
-    private final GameHandler gameHandler;
+    private final ArenaManager arenaManager;
     private final ParkourManager parkourManager;
 
-    public PlayerLobbyMoveListener(GameHandler gameHandler, ParkourManager parkourManager) {
-        this.gameHandler = gameHandler;
+    public PlayerLobbyMoveListener(ArenaManager arenaManager, ParkourManager parkourManager) {
+        this.arenaManager = arenaManager;
         this.parkourManager = parkourManager;
     }
 
-    private boolean isLobby() {
-        return this.gameHandler.getCurrentGameState() == GameState.LOBBY;
+    private boolean isLobby(Player player) {
+        return this.arenaManager.getArena(player.getUniqueId()).getGameHandler().getCurrentGameState() == GameState.LOBBY;
     }
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        if (this.isLobby()) {
+        if (this.isLobby(event.getPlayer())) {
             this.parkourManager.onMove(event.getPlayer());
         }
     }
@@ -0,0 +1,164 @@
+package de.t0bx.eindino.manager;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.player.BedwarsPlayer;
+import de.t0bx.eindino.player.PlayerHandler;
+import de.t0bx.eindino.utils.NameFetcher;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.Sign;
+import org.bukkit.block.Skull;
+import org.bukkit.block.data.Directional;
+import org.bukkit.profile.PlayerTextures;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+public class Top5WallManager {
+    private static final String UNKNOWN_TEXTURE_URL = "http://textures.minecraft.net/texture/d34e063cafb467a5c8de43ec78619399f369f4a52434da8017a983cdd92516a0";
+
+    private final PlayerHandler playerHandler;
+    private final List<Location> headLocations;
+    private final PlayerProfile unknownProfile;
+    private final WallEntry[] appliedEntries;
+    private final boolean[] applied;
+
+    /**
+     * Constructs a new Top5WallManager which renders the five best players by wins as skulls
+     * with a sign below each skull in the lobby.
+     *
+     * @param playerHandler the PlayerHandler the leaderboard and the stored names are read from
+     */
+    public Top5WallManager(PlayerHandler playerHandler) {
+        this.playerHandler = playerHandler;
+
+        World world = Bukkit.getWorld("world");
+        this.headLocations = List.of(
+                new Location(world, 81, 78, 43),
+                new Location(world, 82, 78, 43),
+                new Location(world, 83, 78, 43),
+                new Location(world, 84, 78, 43),
+                new Location(world, 85, 78, 43)
+        );
+        this.appliedEntries = new WallEntry[this.headLocations.size()];
+        this.applied = new boolean[this.headLocations.size()];
+        this.unknownProfile = this.createUnknownProfile();
+    }
+
+    /**
+     * Loads the leaderboard and resolves all names in one batched lookup before the wall is updated.
+     * Names are read from the stored names first, only players without a stored name are fetched
+     * from Mojang. All slots are applied together in a single tick on the main thread and slots
+     * whose contents did not change are not rewritten.
+     */
+    public void update() {
+        this.playerHandler.getTop5()
+                .thenCompose(top5 -> this.resolveNames(top5).thenApply(names -> this.toEntries(top5, names)))
+                .thenAccept(entries -> Bukkit.getScheduler().runTask(BedWarsPlugin.getInstance(), () -> this.apply(entries)))
+                .exceptionally(exception -> {
+                    BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "Failed to update the top 5 wall", exception);
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Map<UUID, String>> resolveNames(List<BedwarsPlayer> top5) {
+        List<UUID> uuids = top5.stream().map(BedwarsPlayer::getUuid).toList();
+
+        return this.playerHandler.findNames(uuids).exceptionally(exception -> Map.of()).thenCompose(storedNames -> {
+            Map<UUID, String> names = new ConcurrentHashMap<>(storedNames);
+            List<CompletableFuture<?>> fetches = new ArrayList<>();
+            for (UUID uuid : uuids) {
+                if (names.containsKey(uuid)) continue;
+
+                fetches.add(NameFetcher.getNameAsync(uuid).thenAccept(name -> {
+                    names.put(uuid, name);
+                    this.playerHandler.saveName(uuid, name);
+                }).exceptionally(exception -> null));
+            }
+            return CompletableFuture.allOf(fetches.toArray(new CompletableFuture[0])).thenApply(ignored -> names);
+        });
+    }
+
+    private List<WallEntry> toEntries(List<BedwarsPlayer> top5, Map<UUID, String> names) {
+        List<WallEntry> entries = new ArrayList<>();
+        for (int i = 0; i < this.headLocations.size(); i++) {
+            if (i >= top5.size()) {
+                entries.add(null);
+                continue;
+            }
+
+            BedwarsPlayer player = top5.get(i);
+            entries.add(new WallEntry(
+                    player.getUuid(),
+                    names.getOrDefault(player.getUuid(), "???"),
+                    player.getWins(),
+                    BedWarsPlugin.getInstance().getRoundedKD(player.getKills(), player.getDeaths())
+            ));
+        }
+        return entries;
+    }
+
+    private void apply(List<WallEntry> entries) {
+        for (int i = 0; i < entries.size(); i++) {
+            WallEntry entry = entries.get(i);
+            Location headLocation = this.headLocations.get(i);
+            if (this.applied[i] && Objects.equals(this.appliedEntries[i], entry)) continue;
+
+            Block headBlock = headLocation.getBlock();
+            headBlock.setType(Material.PLAYER_WALL_HEAD);
+
+            Skull skull = (Skull) headBlock.getState();
+
+            Directional directional = (Directional) skull.getBlockData();
+            directional.setFacing(BlockFace.SOUTH);
+            skull.setBlockData(directional);
+            skull.setOwnerProfile(entry != null ? Bukkit.createProfile(entry.uuid(), entry.name()) : this.unknownProfile);
+            skull.update();
+
+            Block signBlock = headLocation.clone().add(0, -1, 0).getBlock();
+            if (signBlock.getState() instanceof Sign sign) {
+                if (entry != null) {
+                    sign.setLine(0, "§6#" + (i + 1));
+                    sign.setLine(1, "§e" + entry.name());
+                    sign.setLine(2, "§7" + entry.wins() + " Wins");
+                    sign.setLine(3, "§7" + entry.kd() + " K/D");
+                } else {
+                    sign.setLine(0, "§6#???");
+                }
+                sign.update();
+            }
+            this.appliedEntries[i] = entry;
+            this.applied[i] = true;
+        }
+    }
+
+    private PlayerProfile createUnknownProfile() {
+        PlayerProfile profile = Bukkit.createProfile(UUID.randomUUID());
+        PlayerTextures textures = profile.getTextures();
+        try {
+            textures.setSkin(new URL(UNKNOWN_TEXTURE_URL));
+        } catch (MalformedURLException exception) {
+            exception.printStackTrace();
+        }
+        profile.setTextures(textures);
+        Bukkit.getScheduler().runTaskAsynchronously(BedWarsPlugin.getInstance(), () -> {
+            profile.complete();
+        });
+        return profile;
+    }
+
+    private record WallEntry(UUID uuid, String name, int wins, double kd) {}
+}
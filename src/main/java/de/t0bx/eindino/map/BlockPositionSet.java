@@ -0,0 +1,259 @@
+package de.t0bx.eindino.map;
+
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class BlockPositionSet {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<World, ChunkTable> worlds;
+    private int size;
+
+    /**
+     * Constructs a new, empty BlockPositionSet which stores block positions without keeping the blocks
+     * themselves. The positions are partitioned by chunk: every chunk gets its own open-addressing table
+     * of the positions inside it, packed into a primitive int, and the chunks of a world are found by
+     * their primitive long chunk key. Adding, looking up and removing a position never boxes and takes
+     * constant time regardless of how many positions are stored. Must be used on the main thread.
+     */
+    public BlockPositionSet() {
+        this.worlds = new HashMap<>();
+    }
+
+    /**
+     * Adds the position of the given block.
+     *
+     * @param block the block whose position is added
+     * @return true if the position was not contained yet, otherwise false
+     */
+    public boolean add(Block block) {
+        ChunkTable chunkTable = this.worlds.computeIfAbsent(block.getWorld(), _ -> new ChunkTable());
+        PositionBucket bucket = chunkTable.getOrCreate(Chunk.getChunkKey(block.getX() >> 4, block.getZ() >> 4));
+        if (!bucket.add(pack(block))) return false;
+
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Checks whether the position of the given block is contained.
+     *
+     * @param block the block to check
+     * @return true if the position is contained, otherwise false
+     */
+    public boolean contains(Block block) {
+        PositionBucket bucket = this.getBucket(block);
+        return bucket != null && bucket.contains(pack(block));
+    }
+
+    /**
+     * Removes the position of the given block.
+     *
+     * @param block the block whose position is removed
+     * @return true if the position was contained, otherwise false
+     */
+    public boolean remove(Block block) {
+        PositionBucket bucket = this.getBucket(block);
+        if (bucket == null || !bucket.remove(pack(block))) return false;
+
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Retrieves the number of contained positions.
+     *
+     * @return the number of positions
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether no position is contained.
+     *
+     * @return true if the set is empty, otherwise false
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes all positions. The tables of all chunks are dropped as a whole instead of being emptied one by one.
+     */
+    public void clear() {
+        this.worlds.clear();
+        this.size = 0;
+    }
+
+    private PositionBucket getBucket(Block block) {
+        ChunkTable chunkTable = this.worlds.get(block.getWorld());
+        if (chunkTable == null) return null;
+
+        return chunkTable.get(Chunk.getChunkKey(block.getX() >> 4, block.getZ() >> 4));
+    }
+
+    /**
+     * Packs the position of a block inside its chunk into an int: the height above the world's
+     * minimum in the upper bits, the z and x coordinate inside the chunk in the lower 8 bits.
+     */
+    private static int pack(Block block) {
+        return (block.getY() - block.getWorld().getMinHeight()) << 8 | (block.getZ() & 15) << 4 | (block.getX() & 15);
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * An open-addressing table with linear probing from chunk keys to the position buckets of the chunks.
+     * Buckets are never removed from it, an emptied chunk keeps its bucket until the whole set is cleared.
+     */
+    private static final class ChunkTable {
+
+        private long[] keys;
+        private PositionBucket[] buckets;
+        private int size;
+
+        private ChunkTable() {
+            this.keys = new long[INITIAL_CAPACITY];
+            this.buckets = new PositionBucket[INITIAL_CAPACITY];
+        }
+
+        private PositionBucket get(long chunkKey) {
+            int mask = this.keys.length - 1;
+            for (int slot = mix(chunkKey) & mask; this.buckets[slot] != null; slot = (slot + 1) & mask) {
+                if (this.keys[slot] == chunkKey) return this.buckets[slot];
+            }
+            return null;
+        }
+
+        private PositionBucket getOrCreate(long chunkKey) {
+            int mask = this.keys.length - 1;
+            int slot = mix(chunkKey) & mask;
+            for (; this.buckets[slot] != null; slot = (slot + 1) & mask) {
+                if (this.keys[slot] == chunkKey) return this.buckets[slot];
+            }
+
+            PositionBucket bucket = new PositionBucket();
+            this.keys[slot] = chunkKey;
+            this.buckets[slot] = bucket;
+            if (++this.size * 2 > this.keys.length) {
+                this.resize();
+            }
+            return bucket;
+        }
+
+        private void resize() {
+            long[] oldKeys = this.keys;
+            PositionBucket[] oldBuckets = this.buckets;
+            this.keys = new long[oldKeys.length * 2];
+            this.buckets = new PositionBucket[oldBuckets.length * 2];
+
+            int mask = this.keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldBuckets[i] == null) continue;
+
+                int slot = mix(oldKeys[i]) & mask;
+                while (this.buckets[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = oldKeys[i];
+                this.buckets[slot] = oldBuckets[i];
+            }
+        }
+    }
+
+    /**
+     * An open-addressing set with linear probing of the packed positions inside one chunk.
+     * Removed positions are not marked as deleted; the following entries of their probe sequence
+     * are shifted back instead, so lookups never have to skip over tombstones.
+     */
+    private static final class PositionBucket {
+
+        private static final int EMPTY = -1;
+
+        private int[] positions;
+        private int size;
+
+        private PositionBucket() {
+            this.positions = new int[INITIAL_CAPACITY];
+            Arrays.fill(this.positions, EMPTY);
+        }
+
+        private boolean contains(int position) {
+            return this.indexOf(position) != -1;
+        }
+
+        private boolean add(int position) {
+            int mask = this.positions.length - 1;
+            int slot = mix(position) & mask;
+            for (; this.positions[slot] != EMPTY; slot = (slot + 1) & mask) {
+                if (this.positions[slot] == position) return false;
+            }
+
+            this.positions[slot] = position;
+            if (++this.size * 2 > this.positions.length) {
+                this.resize();
+            }
+            return true;
+        }
+
+        private boolean remove(int position) {
+            int slot = this.indexOf(position);
+            if (slot == -1) return false;
+
+            int mask = this.positions.length - 1;
+            this.positions[slot] = EMPTY;
+            this.size--;
+
+            for (int next = (slot + 1) & mask; this.positions[next] != EMPTY; next = (next + 1) & mask) {
+                int ideal = mix(this.positions[next]) & mask;
+                // the entry may fill the gap if the gap lies between its ideal slot and its current slot
+                if (((next - ideal) & mask) >= ((next - slot) & mask)) {
+                    this.positions[slot] = this.positions[next];
+                    this.positions[next] = EMPTY;
+                    slot = next;
+                }
+            }
+            return true;
+        }
+
+        private int indexOf(int position) {
+            int mask = this.positions.length - 1;
+            for (int slot = mix(position) & mask; this.positions[slot] != EMPTY; slot = (slot + 1) & mask) {
+                if (this.positions[slot] == position) return slot;
+            }
+            return -1;
+        }
+
+        private void resize() {
+            int[] oldPositions = this.positions;
+            this.positions = new int[oldPositions.length * 2];
+            Arrays.fill(this.positions, EMPTY);
+
+            int mask = this.positions.length - 1;
+            for (int position : oldPositions) {
+                if (position == EMPTY) continue;
+
+                int slot = mix(position) & mask;
+                while (this.positions[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                this.positions[slot] = position;
+            }
+        }
+    }
+}
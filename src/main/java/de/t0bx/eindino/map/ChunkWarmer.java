@@ -0,0 +1,124 @@
+package de.t0bx.eindino.map;
+
+import de.t0bx.eindino.team.TeamConfig;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class ChunkWarmer {
+
+    private static final int RADIUS = 1;
+
+    private final Plugin plugin;
+    private final Map<World, Set<Long>> ticketedChunks;
+    private int generation;
+
+    /**
+     * Constructs a new ChunkWarmer which loads the chunks a round needs before it starts, so the
+     * teleport at the start of the round does not load them synchronously. The chunks are held
+     * with plugin chunk tickets until {@link #release()} is called. Must be used on the main thread.
+     *
+     * @param plugin the plugin owning the chunk tickets
+     */
+    public ChunkWarmer(Plugin plugin) {
+        this.plugin = plugin;
+        this.ticketedChunks = new HashMap<>();
+    }
+
+    /**
+     * Loads the chunks around every team spawn, both halves of every bed, every spawner, shop and the
+     * spectator location of the given map asynchronously and adds a plugin ticket to each of them once it is loaded.
+     * Chunks of a previous warm-up are released first.
+     *
+     * @param mapData the map of the upcoming round
+     * @return a CompletableFuture which completes once all chunks are loaded
+     */
+    public CompletableFuture<Void> warm(MapData mapData) {
+        this.release();
+        int currentGeneration = this.generation;
+
+        Map<World, Set<Long>> chunks = new HashMap<>();
+        for (Location location : this.collectLocations(mapData)) {
+            World world = location.getWorld();
+            if (world == null) continue;
+
+            int chunkX = location.getBlockX() >> 4;
+            int chunkZ = location.getBlockZ() >> 4;
+            Set<Long> worldChunks = chunks.computeIfAbsent(world, _ -> new HashSet<>());
+            for (int x = chunkX - RADIUS; x <= chunkX + RADIUS; x++) {
+                for (int z = chunkZ - RADIUS; z <= chunkZ + RADIUS; z++) {
+                    worldChunks.add(Chunk.getChunkKey(x, z));
+                }
+            }
+        }
+
+        long start = System.nanoTime();
+        List<CompletableFuture<?>> loading = new ArrayList<>();
+        for (Map.Entry<World, Set<Long>> entry : chunks.entrySet()) {
+            World world = entry.getKey();
+            for (long chunkKey : entry.getValue()) {
+                loading.add(world.getChunkAtAsync((int) chunkKey, (int) (chunkKey >> 32)).thenAccept(chunk -> {
+                    // the round may have ended before the chunk was loaded
+                    if (this.generation != currentGeneration) return;
+
+                    chunk.addPluginChunkTicket(this.plugin);
+                    this.ticketedChunks.computeIfAbsent(world, _ -> new HashSet<>()).add(chunkKey);
+                }));
+            }
+        }
+
+        int chunkCount = loading.size();
+        return CompletableFuture.allOf(loading.toArray(CompletableFuture[]::new)).whenComplete((ignored, exception) -> {
+            if (exception != null) {
+                this.plugin.getLogger().warning("Failed to pre-load the chunks of map " + mapData.getMapName() + ": " + exception.getMessage());
+                return;
+            }
+            this.plugin.getLogger().info(String.format("Pre-loaded %d chunks of map %s in %.1f ms",
+                    chunkCount, mapData.getMapName(), (System.nanoTime() - start) / 1_000_000D));
+        });
+    }
+
+    /**
+     * Removes the plugin tickets of all chunks loaded by the last warm-up, so the server may unload them again.
+     * Chunks which are still loading are not ticketed anymore.
+     */
+    public void release() {
+        this.generation++;
+        for (Map.Entry<World, Set<Long>> entry : this.ticketedChunks.entrySet()) {
+            for (long chunkKey : entry.getValue()) {
+                entry.getKey().removePluginChunkTicket((int) chunkKey, (int) (chunkKey >> 32), this.plugin);
+            }
+        }
+        this.ticketedChunks.clear();
+    }
+
+    private List<Location> collectLocations(MapData mapData) {
+        List<Location> locations = new ArrayList<>(mapData.getShops());
+        for (TeamConfig teamConfig : mapData.getTeams().values()) {
+            if (teamConfig.getSpawnLocation() != null) {
+                locations.add(teamConfig.getSpawnLocation());
+            }
+            if (teamConfig.getBedLocations() != null) {
+                for (Location bedLocation : teamConfig.getBedLocations()) {
+                    if (bedLocation != null) {
+                        locations.add(bedLocation);
+                    }
+                }
+            }
+        }
+        mapData.getSpawners().values().forEach(locations::addAll);
+        if (mapData.getSpectatorLocation() != null) {
+            locations.add(mapData.getSpectatorLocation());
+        }
+        return locations;
+    }
+}
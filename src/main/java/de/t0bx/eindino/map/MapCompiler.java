@@ -0,0 +1,323 @@
+package de.t0bx.eindino.map;
+
+import de.t0bx.eindino.utils.LocationData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Compiles map files into the binary {@code .bwmap} format and reads them back. The JSON file stays
+ * the source of truth, a compiled file is only used while it matches the size and modification time
+ * of the JSON file it was compiled from, its format version and its checksum.
+ *
+ * The file starts with a fixed header: magic, format version, size and modification time of the
+ * source file, length and CRC32 of the payload. The payload stores every world name once and refers
+ * to it by index, coordinates are stored as packed doubles and floats and spawner types by ordinal.
+ */
+public final class MapCompiler {
+
+    public static final String EXTENSION = ".bwmap";
+
+    private static final int MAGIC = 0x42574D50; // "BWMP"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 32;
+
+    private static final int FLAG_SPAWN = 1;
+    private static final int FLAG_BED_TOP = 1 << 1;
+    private static final int FLAG_BED_BOTTOM = 1 << 2;
+
+    private MapCompiler() {
+    }
+
+    /**
+     * Retrieves the compiled file which belongs to the given map file.
+     *
+     * @param source the JSON map file
+     * @return the {@code .bwmap} file next to it
+     */
+    public static File compiledFile(File source) {
+        String name = source.getName();
+        String baseName = name.endsWith(".json") ? name.substring(0, name.length() - ".json".length()) : name;
+        return new File(source.getParentFile(), baseName + EXTENSION);
+    }
+
+    /**
+     * Compiles a parsed map into the {@code .bwmap} file next to its source. The file is written to a
+     * temporary file first and then moved over the target.
+     *
+     * @param mapFile the parsed content of the source file
+     * @param source the JSON file the map was read from, it must already be written
+     * @throws IOException if the compiled file could not be written
+     * @throws IllegalArgumentException if the map contains an unknown spawner type
+     */
+    public static void compile(MapFile mapFile, File source) throws IOException {
+        byte[] payload = writePayload(mapFile, mapFile.isPlayable(source));
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        File target = compiledFile(source);
+        File temporary = new File(target.getParentFile(), target.getName() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(temporary.toPath()))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(source.length());
+            output.writeLong(source.lastModified());
+            output.writeInt(payload.length);
+            output.writeInt((int) crc.getValue());
+            output.write(payload);
+        }
+        Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the compiled form of a map file through a memory-mapped buffer.
+     *
+     * @param source the JSON map file
+     * @return the map, or {@code null} if there is no compiled file or it does not match the source,
+     *         the format version or its checksum, in which case the JSON file has to be read
+     * @throws IOException if the compiled file exists but could not be read
+     */
+    public static MapFile read(File source) throws IOException {
+        File compiled = compiledFile(source);
+        if (!compiled.isFile()) return null;
+
+        try (FileChannel channel = FileChannel.open(compiled.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = map(channel, source);
+            if (buffer == null) return null;
+
+            int checksum = buffer.getInt();
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice());
+            if ((int) crc.getValue() != checksum) return null;
+
+            return readPayload(buffer);
+        } catch (RuntimeException exception) {
+            // a damaged payload, the JSON file is read instead
+            return null;
+        }
+    }
+
+    /**
+     * Reads only the name, play type, playability and worlds of a compiled map, which are stored at the start of
+     * the payload. The checksum is not verified here, it is verified once the whole map is read.
+     *
+     * @param source the JSON map file
+     * @return the index entry of the map, or {@code null} if there is no matching compiled file
+     * @throws IOException if the compiled file exists but could not be read
+     */
+    public static MapIndexEntry readIndex(File source) throws IOException {
+        File compiled = compiledFile(source);
+        if (!compiled.isFile()) return null;
+
+        try (FileChannel channel = FileChannel.open(compiled.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = map(channel, source);
+            if (buffer == null) return null;
+
+            buffer.getInt(); // checksum
+            String mapName = readString(buffer);
+            String playType = readString(buffer);
+            boolean playable = buffer.get() != 0;
+            return new MapIndexEntry(mapName, playType, List.of(readWorlds(buffer)), playable, source);
+        } catch (RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Maps the compiled file and checks its header against the format and the source file.
+     *
+     * @return the buffer positioned at the checksum, or {@code null} if the header does not match
+     */
+    private static MappedByteBuffer map(FileChannel channel, File source) throws IOException {
+        if (channel.size() < HEADER_SIZE) return null;
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) return null;
+        if (buffer.getLong() != source.length() || buffer.getLong() != source.lastModified()) return null;
+        if (buffer.getInt() != buffer.remaining() - Integer.BYTES) return null;
+
+        return buffer;
+    }
+
+    private static byte[] writePayload(MapFile mapFile, boolean playable) throws IOException {
+        List<String> worlds = new ArrayList<>();
+        if (mapFile.shops() != null) {
+            mapFile.shops().values().forEach(location -> collectWorld(worlds, location));
+        }
+        collectWorld(worlds, mapFile.spectator());
+        if (mapFile.teams() != null) {
+            for (MapFile.Team team : mapFile.teams().values()) {
+                collectWorld(worlds, team.spawn());
+                if (team.bed() != null) {
+                    collectWorld(worlds, team.bed().top());
+                    collectWorld(worlds, team.bed().bottom());
+                }
+            }
+        }
+        if (mapFile.spawners() != null) {
+            mapFile.spawners().values().forEach(locations -> locations.values().forEach(location -> collectWorld(worlds, location)));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+
+        writeString(output, mapFile.mapname());
+        writeString(output, mapFile.playType());
+        output.writeBoolean(playable);
+
+        output.writeShort(worlds.size());
+        for (String world : worlds) {
+            writeString(output, world);
+        }
+
+        boolean hasSpectator = mapFile.spectator() != null && mapFile.spectator().world() != null;
+        output.writeBoolean(hasSpectator);
+        if (hasSpectator) {
+            writeLocation(output, worlds, mapFile.spectator());
+        }
+
+        Map<String, MapFile.Team> teams = mapFile.teams() != null ? mapFile.teams() : Map.of();
+        output.writeShort(teams.size());
+        for (Map.Entry<String, MapFile.Team> entry : teams.entrySet()) {
+            MapFile.Team team = entry.getValue();
+            LocationData top = team.bed() != null ? team.bed().top() : null;
+            LocationData bottom = team.bed() != null ? team.bed().bottom() : null;
+
+            writeString(output, entry.getKey());
+            output.writeBoolean(team.bed() != null);
+            output.writeByte((team.spawn() != null ? FLAG_SPAWN : 0) | (top != null ? FLAG_BED_TOP : 0) | (bottom != null ? FLAG_BED_BOTTOM : 0));
+            if (team.spawn() != null) writeLocation(output, worlds, team.spawn());
+            if (top != null) writeLocation(output, worlds, top);
+            if (bottom != null) writeLocation(output, worlds, bottom);
+        }
+
+        writeLocations(output, worlds, mapFile.shops());
+
+        Map<String, Map<String, LocationData>> spawners = mapFile.spawners() != null ? mapFile.spawners() : Map.of();
+        output.writeByte(spawners.size());
+        for (Map.Entry<String, Map<String, LocationData>> entry : spawners.entrySet()) {
+            output.writeByte(SpawnerType.fromKey(entry.getKey()).ordinal());
+            writeLocations(output, worlds, entry.getValue());
+        }
+
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private static MapFile readPayload(ByteBuffer buffer) {
+        String mapName = readString(buffer);
+        String playType = readString(buffer);
+        buffer.get(); // playable, only needed by the index
+
+        String[] worlds = readWorlds(buffer);
+
+        LocationData spectator = buffer.get() != 0 ? readLocation(buffer, worlds) : null;
+
+        int teamCount = Short.toUnsignedInt(buffer.getShort());
+        Map<String, MapFile.Team> teams = new LinkedHashMap<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            String teamName = readString(buffer);
+            boolean hasBed = buffer.get() != 0;
+            int flags = buffer.get();
+
+            LocationData spawn = (flags & FLAG_SPAWN) != 0 ? readLocation(buffer, worlds) : null;
+            LocationData top = (flags & FLAG_BED_TOP) != 0 ? readLocation(buffer, worlds) : null;
+            LocationData bottom = (flags & FLAG_BED_BOTTOM) != 0 ? readLocation(buffer, worlds) : null;
+            teams.put(teamName, new MapFile.Team(spawn, hasBed ? new MapFile.Bed(top, bottom) : null));
+        }
+
+        Map<String, LocationData> shops = readLocations(buffer, worlds);
+
+        int spawnerTypes = buffer.get();
+        Map<String, Map<String, LocationData>> spawners = new LinkedHashMap<>(spawnerTypes);
+        for (int i = 0; i < spawnerTypes; i++) {
+            SpawnerType spawnerType = SpawnerType.values()[buffer.get()];
+            spawners.put(spawnerType.getKey(), readLocations(buffer, worlds));
+        }
+
+        return new MapFile(mapName, playType, spectator, teams, shops, spawners);
+    }
+
+    private static String[] readWorlds(ByteBuffer buffer) {
+        String[] worlds = new String[Short.toUnsignedInt(buffer.getShort())];
+        for (int i = 0; i < worlds.length; i++) {
+            worlds[i] = readString(buffer);
+        }
+        return worlds;
+    }
+
+    private static void collectWorld(List<String> worlds, LocationData location) {
+        if (location != null && location.world() != null && !worlds.contains(location.world())) {
+            worlds.add(location.world());
+        }
+    }
+
+    private static void writeLocations(DataOutputStream output, List<String> worlds, Map<String, LocationData> locations) throws IOException {
+        if (locations == null) {
+            output.writeShort(0);
+            return;
+        }
+
+        output.writeShort(locations.size());
+        for (LocationData location : locations.values()) {
+            writeLocation(output, worlds, location);
+        }
+    }
+
+    private static Map<String, LocationData> readLocations(ByteBuffer buffer, String[] worlds) {
+        int size = Short.toUnsignedInt(buffer.getShort());
+        Map<String, LocationData> locations = new LinkedHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            locations.put(String.valueOf(i + 1), readLocation(buffer, worlds));
+        }
+        return locations;
+    }
+
+    private static void writeLocation(DataOutputStream output, List<String> worlds, LocationData location) throws IOException {
+        output.writeShort(worlds.indexOf(location.world()));
+        output.writeDouble(location.x());
+        output.writeDouble(location.y());
+        output.writeDouble(location.z());
+        output.writeFloat(location.yaw());
+        output.writeFloat(location.pitch());
+    }
+
+    private static LocationData readLocation(ByteBuffer buffer, String[] worlds) {
+        String world = worlds[buffer.getShort()];
+        return new LocationData(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getFloat(), buffer.getFloat(), world);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeShort(0xFFFF);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeShort(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == 0xFFFF) return null;
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
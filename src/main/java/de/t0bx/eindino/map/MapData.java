@@ -4,6 +4,7 @@ import de.t0bx.eindino.team.TeamConfig;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Location;
+import org.bukkit.World;
 
 import java.util.*;
 
@@ -201,13 +202,19 @@ public class MapData {
 
     /**
      * Retrieves a list of spawner locations associated with the specified spawner type.
+     * The map data is kept across rounds, so the locations are copies which callers may move,
+     * e.g. to drop items slightly above the spawners, without moving the spawners of the map.
      *
      * @param type the type of spawner whose locations are to be retrieved
-     * @return a list of {@link Location} objects for the specified spawner type;
+     * @return a new list of copied {@link Location} objects for the specified spawner type;
      *         if no spawners of the given type exist, an empty list is returned
      */
     public List<Location> getSpawners(String type) {
-        return spawners.getOrDefault(type, new ArrayList<>());
+        List<Location> locations = new ArrayList<>();
+        for (Location location : spawners.getOrDefault(type, new ArrayList<>())) {
+            locations.add(location.clone());
+        }
+        return locations;
     }
 
     /**
@@ -250,18 +257,39 @@ public class MapData {
         return spawners.containsKey(type) && !spawners.get(type).isEmpty();
     }
 
+    /**
+     * Retrieves the worlds this map is played in, taken from its shops, team spawns and spectator location.
+     *
+     * @return the worlds of the map, empty if no location is bound to a world
+     */
+    public Set<World> getWorlds() {
+        Set<World> worlds = new HashSet<>();
+        List<Location> locations = new ArrayList<>(this.shops);
+        this.teams.values().forEach(teamConfig -> locations.add(teamConfig.getSpawnLocation()));
+        locations.add(this.spectatorLocation);
+
+        for (Location location : locations) {
+            if (location != null && location.getWorld() != null) {
+                worlds.add(location.getWorld());
+            }
+        }
+        return worlds;
+    }
+
     /**
      * Determines whether the current map configuration is valid. A valid configuration
-     * requires the map name and play type to be non-null and non-empty, and the teams
-     * collection to have at least one entry.
+     * requires the map name and play type to be non-null and non-empty, the teams
+     * collection to have at least one entry, every team to be complete and at least one shop.
      *
      * @return true if the map name and play type are non-null and non-empty, and the
-     *         teams collection is not empty; false otherwise.
+     *         teams collection is not empty and complete, and a shop exists; false otherwise.
      */
     public boolean isValid() {
         return mapName != null && !mapName.isEmpty() &&
                 playType != null && !playType.isEmpty() &&
-                !teams.isEmpty();
+                !teams.isEmpty() &&
+                teams.values().stream().allMatch(TeamConfig::isComplete) &&
+                !shops.isEmpty();
     }
 
     /**
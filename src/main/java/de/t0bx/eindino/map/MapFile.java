@@ -0,0 +1,120 @@
+package de.t0bx.eindino.map;
+
+import de.t0bx.eindino.team.TeamConfig;
+import de.t0bx.eindino.utils.LocationData;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.File;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The content of a map file in {@code maps/}, read and written directly by Gson.
+ * Shops and spawners are stored as objects keyed by their position in the list, e.g. {@code "1"}.
+ *
+ * @param mapname the name of the map
+ * @param playType the play type the map was built for
+ * @param spectator the spawn of the spectators, may be null
+ * @param teams the spawn and bed of every team by team name
+ * @param shops the shop locations
+ * @param spawners the spawner locations by spawner type
+ */
+public record MapFile(String mapname, String playType, LocationData spectator, Map<String, Team> teams,
+                      Map<String, LocationData> shops, Map<String, Map<String, LocationData>> spawners) {
+
+    /**
+     * Retrieves the name of a map, falling back to the name of its file.
+     *
+     * @param file the file the map was read from
+     * @param mapName the name stored in the file, may be null
+     * @return the name of the map
+     */
+    public static String mapName(File file, String mapName) {
+        return mapName != null ? mapName : file.getName().replace(".json", "");
+    }
+
+    /**
+     * Constructs a MapData object from this file, including details such as map name, play type,
+     * spectator location, teams configurations, shop locations, and spawner configurations.
+     *
+     * @param file the file the map was read from, its name is used if the map has no name
+     * @param binder creates the Bukkit location of a stored location
+     * @return a MapData object constructed from this file
+     */
+    public MapData toMapData(File file, Function<LocationData, Location> binder) {
+        MapData mapData = new MapData(mapName(file, this.mapname), this.playType != null ? this.playType : "2x1");
+
+        // maps saved without a spectator contain an empty object
+        if (this.spectator != null && this.spectator.world() != null) {
+            mapData.setSpectatorLocation(binder.apply(this.spectator));
+        }
+
+        if (this.teams != null) {
+            for (Map.Entry<String, Team> teamEntry : this.teams.entrySet()) {
+                Team team = teamEntry.getValue();
+                TeamConfig teamConfig = new TeamConfig();
+
+                if (team.spawn() != null) {
+                    teamConfig.setSpawnLocation(binder.apply(team.spawn()));
+                }
+
+                if (team.bed() != null) {
+                    Location[] bedLocations = new Location[2];
+
+                    if (team.bed().top() != null) {
+                        bedLocations[0] = binder.apply(team.bed().top());
+                    }
+                    if (team.bed().bottom() != null) {
+                        bedLocations[1] = binder.apply(team.bed().bottom());
+                    }
+
+                    teamConfig.setBedLocations(bedLocations);
+                }
+
+                mapData.addTeam(teamEntry.getKey(), teamConfig);
+            }
+        }
+
+        if (this.shops != null) {
+            for (LocationData shop : this.shops.values()) {
+                mapData.addShop(binder.apply(shop));
+            }
+        }
+
+        if (this.spawners != null) {
+            for (Map.Entry<String, Map<String, LocationData>> spawnerTypeEntry : this.spawners.entrySet()) {
+                for (LocationData spawner : spawnerTypeEntry.getValue().values()) {
+                    mapData.addSpawner(spawnerTypeEntry.getKey(), binder.apply(spawner));
+                }
+            }
+        }
+
+        return mapData;
+    }
+
+    /**
+     * Checks whether the map can be played, see {@link MapData#isValid()}. The locations are not
+     * bound to their worlds, so this is safe to call from any thread.
+     *
+     * @param file the file the map was read from
+     * @return true if the map is complete enough to host a round
+     */
+    public boolean isPlayable(File file) {
+        return this.toMapData(file, location -> location.toLocation((World) null)).isValid();
+    }
+
+    /**
+     * @param spawn the spawn of the team, may be null
+     * @param bed the bed of the team, may be null
+     */
+    public record Team(LocationData spawn, Bed bed) {
+    }
+
+    /**
+     * @param top the location of the head of the bed
+     * @param bottom the location of the foot of the bed
+     */
+    public record Bed(LocationData top, LocationData bottom) {
+    }
+}
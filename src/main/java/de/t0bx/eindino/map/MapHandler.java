@@ -1,12 +1,11 @@
 package de.t0bx.eindino.map;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import de.t0bx.eindino.BedWarsPlugin;
 import de.t0bx.eindino.team.TeamConfig;
 import de.t0bx.eindino.team.TeamData;
 import de.t0bx.eindino.team.TeamHandler;
 import de.t0bx.eindino.utils.JsonDocument;
+import de.t0bx.eindino.utils.LocationData;
 import de.t0bx.sentienceEntity.SentienceEntity;
 import de.t0bx.sentienceEntity.hologram.HologramManager;
 import de.t0bx.sentienceEntity.npc.NPCsHandler;
@@ -18,34 +17,48 @@ import org.bukkit.entity.Entity;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class MapHandler {
 
+    private final Map<String, MapIndexEntry> mapIndex;
+    private final Map<String, List<String>> playableMaps;
     private final Map<String, MapData> loadedMaps;
+    private final Map<String, CompletableFuture<ParsedMap>> pendingLoads;
+    private final ExecutorService executor;
     @Getter
     private final File mapsFolder;
     private final NPCsHandler npCsHandler;
     private final HologramManager hologramManager;
-    private final List<String> npcNames;
+    private final Map<String, List<String>> npcNames;
     private String skinValue;
     private String skinSignature;
 
     /**
      * Constructs a new instance of MapHandler. Initializes the folder for storing map data files,
-     * loads existing map data, and sets up required managers and dependencies.
+     * reads the index of the existing maps, and sets up required managers and dependencies.
+     * The full map data is only loaded once a map is needed, see {@link #getMap(String)}.
      *
      * @param pluginDataFolder the root directory for the plugin's data, used to store and manage map files
      */
     public MapHandler(File pluginDataFolder) {
+        this.mapIndex = new LinkedHashMap<>();
+        this.playableMaps = new HashMap<>();
         this.loadedMaps = new HashMap<>();
+        this.pendingLoads = new HashMap<>();
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
         this.mapsFolder = new File(pluginDataFolder, "maps");
 
         if (!mapsFolder.exists()) {
             mapsFolder.mkdirs();
         }
-        this.loadAllMaps();
-        this.npcNames = new ArrayList<>();
+        this.loadIndex();
+        this.npcNames = new HashMap<>();
         this.npCsHandler = SentienceEntity.getInstance().getNpcshandler();
         this.hologramManager = SentienceEntity.getInstance().getHologramManager();
 
@@ -71,7 +84,7 @@ public class MapHandler {
     /**
      * Saves the provided map data to a JSON file on the filesystem.
      *
-     * The method converts the {@link MapData} object into a structured JSON format,
+     * The method converts the {@link MapData} object into a {@link MapFile},
      * including details about the map name, play type, teams, shops, spawners, and
      * the spectator location, if available. It then writes the JSON data into a
      * file named after the map in the designated maps folder.
@@ -80,63 +93,53 @@ public class MapHandler {
      * @throws IOException if an I/O error occurs during writing to the file
      */
     public void saveMap(MapData mapData) throws IOException {
-        JsonDocument document = new JsonDocument();
-
-        document.setString("mapname", mapData.getMapName());
-        document.setString("playType", mapData.getPlayType());
-
-        JsonObject spectator = new JsonObject();
-        if (mapData.getSpectatorLocation() != null) {
-            spectator.addProperty("world", mapData.getSpectatorLocation().getWorld().getName());
-            spectator.addProperty("x", mapData.getSpectatorLocation().getX());
-            spectator.addProperty("y", mapData.getSpectatorLocation().getY());
-            spectator.addProperty("z", mapData.getSpectatorLocation().getZ());
-            spectator.addProperty("yaw", mapData.getSpectatorLocation().getYaw());
-            spectator.addProperty("pitch", mapData.getSpectatorLocation().getPitch());
-        }
-        document.getJsonObject().add("spectator", spectator);
+        LocationData spectator = mapData.getSpectatorLocation() != null ? LocationData.of(mapData.getSpectatorLocation()) : null;
 
-        JsonObject teamsObject = new JsonObject();
+        Map<String, MapFile.Team> teams = new LinkedHashMap<>();
         for (Map.Entry<String, TeamConfig> entry : mapData.getTeams().entrySet()) {
-            JsonObject teamObject = new JsonObject();
             TeamConfig teamConfig = entry.getValue();
 
-            if (teamConfig.getSpawnLocation() != null) {
-                teamObject.add("spawn", locationToJson(teamConfig.getSpawnLocation()));
-            }
-
+            LocationData spawn = teamConfig.getSpawnLocation() != null ? LocationData.of(teamConfig.getSpawnLocation()) : null;
+            MapFile.Bed bed = null;
             if (teamConfig.getBedLocations() != null && teamConfig.getBedLocations().length >= 2) {
-                JsonObject bedObject = new JsonObject();
-                bedObject.add("top", locationToJson(teamConfig.getBedLocations()[0]));
-                bedObject.add("bottom", locationToJson(teamConfig.getBedLocations()[1]));
-                teamObject.add("bed", bedObject);
+                Location top = teamConfig.getBedLocations()[0];
+                Location bottom = teamConfig.getBedLocations()[1];
+                bed = new MapFile.Bed(top != null ? LocationData.of(top) : null, bottom != null ? LocationData.of(bottom) : null);
             }
 
-            teamsObject.add(entry.getKey(), teamObject);
+            teams.put(entry.getKey(), new MapFile.Team(spawn, bed));
         }
-        document.getJsonObject().add("teams", teamsObject);
 
-        JsonObject shopsObject = new JsonObject();
-        for (int i = 0; i < mapData.getShops().size(); i++) {
-            shopsObject.add(String.valueOf(i + 1), locationToJson(mapData.getShops().get(i)));
-        }
-        document.getJsonObject().add("shops", shopsObject);
+        Map<String, LocationData> shops = this.toIndexedMap(mapData.getShops());
 
-        JsonObject spawnersObject = new JsonObject();
+        Map<String, Map<String, LocationData>> spawners = new LinkedHashMap<>();
         for (Map.Entry<String, List<Location>> entry : mapData.getSpawners().entrySet()) {
-            JsonObject spawnerTypeObject = new JsonObject();
-            List<Location> locations = entry.getValue();
+            spawners.put(entry.getKey(), this.toIndexedMap(entry.getValue()));
+        }
 
-            for (int i = 0; i < locations.size(); i++) {
-                spawnerTypeObject.add(String.valueOf(i + 1), locationToJson(locations.get(i)));
-            }
+        MapFile mapFile = new MapFile(mapData.getMapName(), mapData.getPlayType(), spectator, teams, shops, spawners);
+        File file = new File(mapsFolder, mapData.getMapName() + ".json");
+        JsonDocument.save(file, mapFile);
+        MapCompiler.compile(mapFile, file);
+        this.mapIndex.put(mapData.getMapName(), this.indexEntry(file, mapFile));
+        this.rebuildPlayableMaps();
+    }
 
-            spawnersObject.add(entry.getKey(), spawnerTypeObject);
-        }
-        document.getJsonObject().add("spawners", spawnersObject);
+    /**
+     * Compiles the JSON file of a map into its binary {@code .bwmap} form, which is read
+     * instead of the JSON file on the next start as long as the JSON file is unchanged.
+     *
+     * @param mapName the name of the map to compile
+     * @return true if the map was compiled, false if there is no file for this map
+     * @throws IOException if the JSON file could not be read or the compiled file could not be written
+     */
+    public boolean compileMap(String mapName) throws IOException {
+        File file = new File(this.mapsFolder, mapName + ".json");
+        MapFile mapFile = JsonDocument.load(file, MapFile.class);
+        if (mapFile == null) return false;
 
-        File mapFile = new File(mapsFolder, mapData.getMapName() + ".json");
-        document.save(mapFile);
+        MapCompiler.compile(mapFile, file);
+        return true;
     }
 
     /**
@@ -146,181 +149,257 @@ public class MapHandler {
      * @param mapName the name of the map to be removed
      */
     public void removeMap(String mapName) {
-        if (!this.loadedMaps.containsKey(mapName)) return;
+        if (!this.hasMap(mapName)) return;
 
-        MapData mapData = this.loadedMaps.remove(mapName);
-        File file = new File(this.mapsFolder, mapData.getMapName() + ".json");
+        this.loadedMaps.remove(mapName);
+        MapIndexEntry entry = this.mapIndex.remove(mapName);
+        this.rebuildPlayableMaps();
+        File file = entry != null ? entry.file() : new File(this.mapsFolder, mapName + ".json");
         file.delete();
+        MapCompiler.compiledFile(file).delete();
     }
 
     /**
-     * Loads all maps from the specified folder and adds them to the collection of loaded maps.
-     * Each map is represented by a JSON file in the folder. If the file is valid and can be loaded
-     * successfully, the map data is added to the collection.
+     * Reads the index of all maps in the maps folder: name, play type and worlds of every map.
+     * For compiled maps only the start of the {@code .bwmap} file is read. Maps without an up-to-date
+     * compiled file are parsed once and compiled, so the next start reads the compiled file.
+     * The files are read in parallel on a worker pool, the calling thread must be the main thread.
+     * Maps whose worlds are not loaded are left out, like they were when all maps were loaded eagerly.
      *
-     * @return the number of maps successfully loaded.
+     * @return the number of maps in the index.
      */
-    public int loadAllMaps() {
-        loadedMaps.clear();
+    public int loadIndex() {
+        this.mapIndex.clear();
+        this.loadedMaps.clear();
 
         File[] files = mapsFolder.listFiles((dir, name) -> name.endsWith(".json"));
-        if (files == null) {
+        if (files == null || files.length == 0) {
             return 0;
         }
+        Arrays.sort(files);
 
-        int loaded = 0;
+        long start = System.nanoTime();
+        ExecutorService indexExecutor = Executors.newFixedThreadPool(Math.min(files.length, Runtime.getRuntime().availableProcessors()));
+        List<CompletableFuture<MapIndexEntry>> reading = new ArrayList<>(files.length);
         for (File file : files) {
+            reading.add(CompletableFuture.supplyAsync(() -> this.readIndexEntry(file), indexExecutor));
+        }
+        indexExecutor.shutdown();
+
+        for (int i = 0; i < files.length; i++) {
+            File file = files[i];
             try {
-                MapData mapData = loadMap(file);
-                if (mapData != null) {
-                    loadedMaps.put(mapData.getMapName(), mapData);
-                    loaded++;
+                MapIndexEntry entry = reading.get(i).join();
+                if (entry == null) continue;
+
+                for (String worldName : entry.worlds()) {
+                    if (Bukkit.getWorld(worldName) == null) {
+                        throw new IllegalArgumentException("Welt '" + worldName + "' wurde nicht gefunden!");
+                    }
                 }
+                this.mapIndex.put(entry.name(), entry);
             } catch (Exception e) {
-                System.err.println("Fehler beim Laden der Map " + file.getName() + ": " + e.getMessage());
-                e.printStackTrace();
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                System.err.println("Fehler beim Laden der Map " + file.getName() + ": " + cause.getMessage());
+                cause.printStackTrace();
             }
         }
 
-        return loaded;
+        this.rebuildPlayableMaps();
+        BedWarsPlugin.getInstance().getLogger().info(String.format("Indexed %d maps in %.1f ms",
+                this.mapIndex.size(), (System.nanoTime() - start) / 1_000_000D));
+        return this.mapIndex.size();
     }
 
     /**
-     * Loads map data from the specified JSON configuration file.
-     * The method parses the JSON structure to construct a MapData object,
-     * including details such as map name, play type, spectator location,
-     * teams configurations, shop locations, and spawner configurations.
-     *
-     * @param file the JSON configuration file containing map details
-     * @return a MapData object constructed from the parsed file,
-     *         or null if the file is invalid or cannot be loaded
+     * Partitions the playable maps of the index by their play type. Called whenever the index changes,
+     * so the voting never has to filter the whole map pool.
      */
-    private MapData loadMap(File file) {
-        JsonDocument document = JsonDocument.loadDocument(file);
-        if (document == null || document.getJsonObject() == null) {
-            return null;
-        }
-
-        JsonObject json = document.getJsonObject();
-
-        String mapName = json.has("mapname") ? json.get("mapname").getAsString() :
-                file.getName().replace(".json", "");
-        String playType = json.has("playType") ? json.get("playType").getAsString() : "2x1";
-
-        MapData mapData = new MapData(mapName, playType);
+    private void rebuildPlayableMaps() {
+        this.playableMaps.clear();
+        for (MapIndexEntry entry : this.mapIndex.values()) {
+            if (!entry.playable()) continue;
 
-        if (json.has("spectator") && json.get("spectator").isJsonObject()) {
-            JsonObject spectatorObject = json.get("spectator").getAsJsonObject();
-
-            mapData.setSpectatorLocation(new Location(
-                    Bukkit.getWorld(spectatorObject.get("world").getAsString()),
-                    spectatorObject.get("x").getAsDouble(),
-                    spectatorObject.get("y").getAsDouble(),
-                    spectatorObject.get("z").getAsDouble(),
-                    spectatorObject.get("yaw").getAsFloat(),
-                    spectatorObject.get("pitch").getAsFloat()
-            ));
+            this.playableMaps.computeIfAbsent(entry.playType().toLowerCase(), _ -> new ArrayList<>()).add(entry.name());
         }
+    }
 
-        if (json.has("teams") && json.get("teams").isJsonObject()) {
-            JsonObject teamsObject = json.getAsJsonObject("teams");
+    /**
+     * Starts loading the full data of a map in the background, e.g. for the current leader of the
+     * voting, so {@link #getMap(String)} does not have to read the file once the voting ends.
+     * The file is parsed on a worker thread and bound to its worlds on the main thread.
+     *
+     * @param mapName the name of the map to load
+     */
+    public void preloadMap(String mapName) {
+        if (mapName == null || this.loadedMaps.containsKey(mapName) || this.pendingLoads.containsKey(mapName)) return;
 
-            for (Map.Entry<String, JsonElement> teamEntry : teamsObject.entrySet()) {
-                String teamName = teamEntry.getKey();
-                JsonObject teamObject = teamEntry.getValue().getAsJsonObject();
+        MapIndexEntry entry = this.mapIndex.get(mapName);
+        if (entry == null) return;
 
-                TeamConfig teamConfig = new TeamConfig();
+        CompletableFuture<ParsedMap> parsing = CompletableFuture.supplyAsync(() -> this.parseMap(entry.file()), this.executor);
+        this.pendingLoads.put(mapName, parsing);
+        parsing.whenComplete((parsedMap, exception) -> Bukkit.getScheduler().runTask(BedWarsPlugin.getInstance(), () -> {
+            if (this.pendingLoads.remove(mapName, parsing) && exception == null) {
+                this.completeLoad(entry, parsedMap);
+            }
+        }));
+    }
 
-                if (teamObject.has("spawn")) {
-                    teamConfig.setSpawnLocation(jsonToLocation(teamObject.getAsJsonObject("spawn")));
-                }
+    /**
+     * Loads the full data of an indexed map on the calling thread, which must be the main thread.
+     * A preload that is still running is awaited instead of reading the file a second time.
+     *
+     * @param entry the index entry of the map
+     * @return the loaded map, or null if it could not be loaded
+     */
+    private MapData loadMap(MapIndexEntry entry) {
+        try {
+            CompletableFuture<ParsedMap> pending = this.pendingLoads.remove(entry.name());
+            ParsedMap parsedMap = pending != null ? pending.join() : this.parseMap(entry.file());
+            return this.completeLoad(entry, parsedMap);
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            System.err.println("Fehler beim Laden der Map " + entry.file().getName() + ": " + cause.getMessage());
+            cause.printStackTrace();
+            return null;
+        }
+    }
 
-                if (teamObject.has("bed") && teamObject.get("bed").isJsonObject()) {
-                    JsonObject bedObject = teamObject.getAsJsonObject("bed");
-                    Location[] bedLocations = new Location[2];
+    private MapData completeLoad(MapIndexEntry entry, ParsedMap parsedMap) {
+        MapData loaded = this.loadedMaps.get(entry.name());
+        if (loaded != null || parsedMap.mapFile() == null) return loaded;
 
-                    if (bedObject.has("top")) {
-                        bedLocations[0] = jsonToLocation(bedObject.getAsJsonObject("top"));
-                    }
-                    if (bedObject.has("bottom")) {
-                        bedLocations[1] = jsonToLocation(bedObject.getAsJsonObject("bottom"));
-                    }
+        long bindStart = System.nanoTime();
+        MapData mapData = this.bindMap(entry.file(), parsedMap.mapFile());
+        long bindNanos = System.nanoTime() - bindStart;
 
-                    teamConfig.setBedLocations(bedLocations);
-                }
+        this.loadedMaps.put(entry.name(), mapData);
+        BedWarsPlugin.getInstance().getLogger().info(String.format("Loaded map %s from %s (parsed in %.1f ms, bound in %.1f ms)",
+                mapData.getMapName(), parsedMap.compiled() ? MapCompiler.EXTENSION : "JSON", parsedMap.parseNanos() / 1_000_000D, bindNanos / 1_000_000D));
+        return mapData;
+    }
 
-                mapData.addTeam(teamName, teamConfig);
+    /**
+     * Reads the index entry of a map file. Safe to call from any thread.
+     *
+     * @param file the JSON configuration file containing map details
+     * @return the index entry, or null if the file is empty
+     * @throws UncheckedIOException if the file could not be read
+     */
+    private MapIndexEntry readIndexEntry(File file) {
+        try {
+            MapIndexEntry compiled = MapCompiler.readIndex(file);
+            if (compiled != null) {
+                return new MapIndexEntry(MapFile.mapName(file, compiled.name()), compiled.playType() != null ? compiled.playType() : "2x1",
+                        compiled.worlds(), compiled.playable(), file);
             }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
         }
 
-        if (json.has("shops") && json.get("shops").isJsonObject()) {
-            JsonObject shopsObject = json.getAsJsonObject("shops");
+        MapFile mapFile = this.parseMap(file).mapFile();
+        return mapFile != null ? this.indexEntry(file, mapFile) : null;
+    }
 
-            for (Map.Entry<String, JsonElement> shopEntry : shopsObject.entrySet()) {
-                Location shopLocation = jsonToLocation(shopEntry.getValue().getAsJsonObject());
-                mapData.addShop(shopLocation);
+    private MapIndexEntry indexEntry(File file, MapFile mapFile) {
+        Set<String> worlds = new LinkedHashSet<>();
+        if (mapFile.shops() != null) {
+            mapFile.shops().values().forEach(location -> worlds.add(location.world()));
+        }
+        if (mapFile.spectator() != null && mapFile.spectator().world() != null) {
+            worlds.add(mapFile.spectator().world());
+        }
+        if (mapFile.teams() != null) {
+            for (MapFile.Team team : mapFile.teams().values()) {
+                if (team.spawn() != null) worlds.add(team.spawn().world());
+                if (team.bed() != null && team.bed().top() != null) worlds.add(team.bed().top().world());
+                if (team.bed() != null && team.bed().bottom() != null) worlds.add(team.bed().bottom().world());
             }
         }
+        if (mapFile.spawners() != null) {
+            mapFile.spawners().values().forEach(locations -> locations.values().forEach(location -> worlds.add(location.world())));
+        }
+        worlds.remove(null);
 
-        if (json.has("spawners") && json.get("spawners").isJsonObject()) {
-            JsonObject spawnersObject = json.getAsJsonObject("spawners");
+        String playType = mapFile.playType() != null ? mapFile.playType() : "2x1";
+        return new MapIndexEntry(MapFile.mapName(file, mapFile.mapname()), playType, List.copyOf(worlds), mapFile.isPlayable(file), file);
+    }
 
-            for (Map.Entry<String, JsonElement> spawnerTypeEntry : spawnersObject.entrySet()) {
-                String spawnerType = spawnerTypeEntry.getKey();
-                JsonObject spawnerLocationsObject = spawnerTypeEntry.getValue().getAsJsonObject();
+    /**
+     * Reads a map file into its world-agnostic form. Safe to call from any thread.
+     * The compiled {@code .bwmap} file is preferred, if it is missing or outdated the JSON file
+     * is read and compiled again, so the next start can use the compiled file.
+     *
+     * @param file the JSON configuration file containing map details
+     * @return the parsed map and the time it took, the map is null if the file is empty
+     * @throws UncheckedIOException if the file could not be read
+     */
+    private ParsedMap parseMap(File file) {
+        long start = System.nanoTime();
+        try {
+            MapFile compiled = MapCompiler.read(file);
+            if (compiled != null) {
+                return new ParsedMap(compiled, true, System.nanoTime() - start);
+            }
 
-                for (Map.Entry<String, JsonElement> locationEntry : spawnerLocationsObject.entrySet()) {
-                    Location spawnerLocation = jsonToLocation(locationEntry.getValue().getAsJsonObject());
-                    mapData.addSpawner(spawnerType, spawnerLocation);
+            MapFile mapFile = JsonDocument.load(file, MapFile.class);
+            long parseNanos = System.nanoTime() - start;
+            if (mapFile != null) {
+                try {
+                    MapCompiler.compile(mapFile, file);
+                } catch (IOException | RuntimeException exception) {
+                    BedWarsPlugin.getInstance().getLogger().warning("Failed to compile map " + file.getName() + ": " + exception.getMessage());
                 }
             }
+            return new ParsedMap(mapFile, false, parseNanos);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
         }
+    }
 
-        return mapData;
+    /**
+     * Binds a parsed map file to the loaded worlds to construct a MapData object.
+     * Must be called on the main thread.
+     *
+     * @param file the file the map was read from, its name is used if the map has no name
+     * @param mapFile the parsed content of the file
+     * @return a MapData object constructed from the parsed file
+     * @throws IllegalArgumentException if a world of the map is not loaded
+     */
+    private MapData bindMap(File file, MapFile mapFile) {
+        return mapFile.toMapData(file, this::toLocation);
     }
 
     /**
-     * Converts the given Location object to its corresponding JSON representation.
+     * Stores a list of locations as an object keyed by their position, starting at {@code "1"}.
      *
-     * @param location the Location object to be converted to JSON
-     * @return a JsonObject representing the Location, including its coordinates (x, y, z),
-     *         orientation (yaw, pitch), and world name
+     * @param locations the locations to store
+     * @return the stored locations in list order
      */
-    private JsonObject locationToJson(Location location) {
-        JsonObject locationObject = new JsonObject();
-        locationObject.addProperty("x", location.getX());
-        locationObject.addProperty("y", location.getY());
-        locationObject.addProperty("z", location.getZ());
-        locationObject.addProperty("yaw", location.getYaw());
-        locationObject.addProperty("pitch", location.getPitch());
-        locationObject.addProperty("world", location.getWorld().getName());
-        return locationObject;
+    private Map<String, LocationData> toIndexedMap(List<Location> locations) {
+        Map<String, LocationData> indexed = new LinkedHashMap<>();
+        for (int i = 0; i < locations.size(); i++) {
+            indexed.put(String.valueOf(i + 1), LocationData.of(locations.get(i)));
+        }
+        return indexed;
     }
 
     /**
-     * Converts a JsonObject representation of a location into a Bukkit Location object.
+     * Converts a stored location into a Bukkit Location object.
      *
-     * @param locationObject the JsonObject containing the location data, which must include the
-     *                       fields "world" (String), "x" (double), "y" (double), "z" (double),
-     *                       "yaw" (float), and "pitch" (float)
-     * @return a Location object created from the data in the provided JsonObject
-     * @throws IllegalArgumentException if the world specified in the JsonObject cannot be found
+     * @param locationData the stored location
+     * @return a Location object in the stored world
+     * @throws IllegalArgumentException if the world of the location cannot be found
      */
-    private Location jsonToLocation(JsonObject locationObject) {
-        String worldName = locationObject.get("world").getAsString();
-        World world = Bukkit.getWorld(worldName);
+    private Location toLocation(LocationData locationData) {
+        World world = Bukkit.getWorld(locationData.world());
 
         if (world == null) {
-            throw new IllegalArgumentException("Welt '" + worldName + "' wurde nicht gefunden!");
+            throw new IllegalArgumentException("Welt '" + locationData.world() + "' wurde nicht gefunden!");
         }
 
-        double x = locationObject.get("x").getAsDouble();
-        double y = locationObject.get("y").getAsDouble();
-        double z = locationObject.get("z").getAsDouble();
-        float yaw = locationObject.get("yaw").getAsFloat();
-        float pitch = locationObject.get("pitch").getAsFloat();
-
-        return new Location(world, x, y, z, yaw, pitch);
+        return locationData.toLocation(world);
     }
 
     /**
@@ -331,8 +410,9 @@ public class MapHandler {
      * @param mapData an instance of {@code MapData} representing the map to be configured.
      *                Includes team configurations, shop locations, and other map-specific data.
      * @param teamHandler an instance of {@code TeamHandler} to manage team-related operations and store team-specific settings.
+     * @return the regions of the map in which players may not build: the team spawns, the spawners and the shops
      */
-    public void setupMapForGame(MapData mapData, TeamHandler teamHandler) {
+    public RegionIndex setupMapForGame(MapData mapData, TeamHandler teamHandler) {
         Location location = mapData.getShops().getFirst();
         World world = location.getWorld();
         if (world != null) {
@@ -368,54 +448,132 @@ public class MapHandler {
             }
         }
 
+        // the map name keeps the names unique while several arenas play at the same time
+        List<String> names = this.npcNames.computeIfAbsent(mapData.getMapName(), _ -> new ArrayList<>());
         int index = 0;
         for (Location entityLocation : mapData.getShops()) {
-            this.npCsHandler.createNPC("shop_" + index, entityLocation, this.skinValue, this.skinSignature);
-            String name = "shop_" + index;
+            String name = "shop_" + mapData.getMapName() + "_" + index;
+            this.npCsHandler.createNPC(name, entityLocation, this.skinValue, this.skinSignature);
             SentienceNPC npc = this.npCsHandler.getNPC(name);
             this.npCsHandler.updateLookAtPlayer(name);
             this.hologramManager.createHologram(name, npc.getLocation());
             this.hologramManager.addLine(name, "<gray>» <green>Shop <gray>«", false);
+            names.add(name);
             index++;
         }
+
+        return this.buildProtectedRegions(mapData, teamHandler);
+    }
+
+    /**
+     * Compiles the no-build zones of a map into a {@link RegionIndex}: three blocks around each team spawn,
+     * two blocks around each spawner and shop, each reaching two blocks above its location.
+     * The spawner regions are built from the map's own spawner locations, which stay unchanged across
+     * rounds since the map data only hands out copies of them, see {@link MapData#getSpawners(String)}.
+     *
+     * @param mapData the map of the upcoming round
+     * @param teamHandler the team handler whose teams already got their spawn locations
+     * @return the index of the protected regions
+     */
+    private RegionIndex buildProtectedRegions(MapData mapData, TeamHandler teamHandler) {
+        RegionIndex regionIndex = new RegionIndex();
+        for (TeamData team : teamHandler.getAllTeams()) {
+            regionIndex.addRegion("team_spawn", team.getSpawnLocation(), 3, 2);
+        }
+        for (List<Location> spawners : mapData.getSpawners().values()) {
+            for (Location spawner : spawners) {
+                regionIndex.addRegion("spawner", spawner, 2, 2);
+            }
+        }
+        for (Location shop : mapData.getShops()) {
+            regionIndex.addRegion("shop", shop, 2, 2);
+        }
+        return regionIndex;
+    }
+
+    /**
+     * Removes the shopkeepers and their holograms created by {@link #setupMapForGame(MapData, TeamHandler)},
+     * so the next round can set up its map on the same server.
+     *
+     * @param mapData the map of the round which has ended
+     */
+    public void cleanupMapAfterGame(MapData mapData) {
+        List<String> names = this.npcNames.remove(mapData.getMapName());
+        if (names == null) return;
+
+        for (String name : names) {
+            this.npCsHandler.removeNPC(name);
+            this.hologramManager.removeHologram(name);
+        }
     }
 
     /**
-     * Retrieves the map data associated with the specified map name.
+     * Retrieves the map data associated with the specified map name. A map which is only indexed
+     * is loaded on the calling thread, which must be the main thread.
      *
      * @param mapName the name of the map to retrieve
      * @return the {@code MapData} object associated with the given map name,
-     *         or {@code null} if no map with the specified name exists
+     *         or {@code null} if no map with the specified name exists or it could not be loaded
      */
     public MapData getMap(String mapName) {
-        return loadedMaps.get(mapName);
+        MapData mapData = loadedMaps.get(mapName);
+        if (mapData != null) return mapData;
+
+        MapIndexEntry entry = this.mapIndex.get(mapName);
+        return entry != null ? this.loadMap(entry) : null;
     }
 
     /**
-     * Retrieves all loaded maps managed by the handler.
+     * Retrieves the index entries of all saved maps without loading them.
      *
-     * @return a collection containing all MapData instances currently loaded.
+     * @return a collection containing the index entry of every saved map.
      */
-    public Collection<MapData> getAllMaps() {
-        return loadedMaps.values();
+    public Collection<MapIndexEntry> getMapIndex() {
+        return Collections.unmodifiableCollection(this.mapIndex.values());
     }
 
     /**
-     * Retrieves a list of all loaded map names.
+     * Retrieves the index entry of a saved map without loading it.
      *
-     * @return a list of strings containing the names of all currently loaded maps
+     * @param mapName the name of the map
+     * @return the index entry, or null if no map with this name is saved
+     */
+    public MapIndexEntry getIndexEntry(String mapName) {
+        return this.mapIndex.get(mapName);
+    }
+
+    /**
+     * Retrieves a list of all map names, the saved ones and the ones created but not saved yet.
+     *
+     * @return a list of strings containing the names of all maps
      */
     public List<String> getMapNames() {
-        return new ArrayList<>(loadedMaps.keySet());
+        Set<String> mapNames = new LinkedHashSet<>(this.mapIndex.keySet());
+        mapNames.addAll(this.loadedMaps.keySet());
+        return new ArrayList<>(mapNames);
     }
 
     /**
-     * Checks if a map with the given name exists in the loaded maps.
+     * Retrieves the names of all saved maps that are built for the given play type and complete
+     * enough to host a round, see {@link MapData#isValid()}.
+     *
+     * @param playType the play type of this server, e.g. {@code 4x2}
+     * @return an unmodifiable list of the playable map names, empty if there are none
+     */
+    public List<String> getPlayableMapNames(String playType) {
+        return Collections.unmodifiableList(this.playableMaps.getOrDefault(playType.toLowerCase(), List.of()));
+    }
+
+    /**
+     * Checks if a map with the given name exists, without loading it.
      *
      * @param mapName the name of the map to check for existence
-     * @return true if the map exists in the loaded maps, false otherwise
+     * @return true if the map exists, false otherwise
      */
     public boolean hasMap(String mapName) {
-        return loadedMaps.containsKey(mapName);
+        return this.mapIndex.containsKey(mapName) || this.loadedMaps.containsKey(mapName);
+    }
+
+    private record ParsedMap(MapFile mapFile, boolean compiled, long parseNanos) {
     }
 }
@@ -0,0 +1,17 @@
+package de.t0bx.eindino.map;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * The part of a map that is known without loading it: enough to offer the map in the voting,
+ * prepare its worlds and find its file once the full {@link MapData} is needed.
+ *
+ * @param name the name of the map
+ * @param playType the play type the map was built for
+ * @param worlds the names of all worlds the map uses
+ * @param playable whether the map is complete enough to host a round, see {@link MapData#isValid()}
+ * @param file the JSON file of the map
+ */
+public record MapIndexEntry(String name, String playType, List<String> worlds, boolean playable, File file) {
+}
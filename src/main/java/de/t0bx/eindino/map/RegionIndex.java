@@ -0,0 +1,147 @@
+package de.t0bx.eindino.map;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class RegionIndex {
+
+    private final Map<World, Map<Long, Region[]>> regions;
+
+    /**
+     * Constructs a new, empty RegionIndex. Regions are boxes of blocks with a type, e.g. the area
+     * around a team spawn where no blocks may be placed. Every region is stored in each chunk it
+     * overlaps, so looking up the regions of a block only needs the block's chunk and never scans
+     * the regions of the whole map. Must be used on the main thread.
+     */
+    public RegionIndex() {
+        this.regions = new HashMap<>();
+    }
+
+    /**
+     * Adds a region spanning the given block coordinates. Both corners are inclusive.
+     *
+     * @param type the type of the region, used by the rules checking it
+     * @param world the world of the region
+     * @param minX the lowest x coordinate
+     * @param minY the lowest y coordinate
+     * @param minZ the lowest z coordinate
+     * @param maxX the highest x coordinate
+     * @param maxY the highest y coordinate
+     * @param maxZ the highest z coordinate
+     */
+    public void addRegion(String type, World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        Region region = new Region(type, minX, minY, minZ, maxX, maxY, maxZ);
+        Map<Long, Region[]> worldRegions = this.regions.computeIfAbsent(world, _ -> new HashMap<>());
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                worldRegions.merge(Chunk.getChunkKey(chunkX, chunkZ), new Region[]{region}, (existing, added) -> {
+                    Region[] merged = Arrays.copyOf(existing, existing.length + 1);
+                    merged[existing.length] = added[0];
+                    return merged;
+                });
+            }
+        }
+    }
+
+    /**
+     * Adds a region around a location: the given radius around its block on the x and z axis,
+     * from its block up to the given height.
+     *
+     * @param type the type of the region, used by the rules checking it
+     * @param center the location the region is built around
+     * @param radius the horizontal distance in blocks the region reaches from the center
+     * @param height the number of blocks above the center's block the region reaches
+     */
+    public void addRegion(String type, Location center, int radius, int height) {
+        if (center == null || center.getWorld() == null) return;
+
+        int x = center.getBlockX();
+        int y = center.getBlockY();
+        int z = center.getBlockZ();
+        this.addRegion(type, center.getWorld(), x - radius, y, z - radius, x + radius, y + height, z + radius);
+    }
+
+    /**
+     * Retrieves the first region containing the given block.
+     *
+     * @param block the block to look up
+     * @return the region containing the block, or null if the block is in no region
+     */
+    public Region getRegion(Block block) {
+        return this.getRegion(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Retrieves the first region containing the given block coordinates.
+     *
+     * @param world the world of the block
+     * @param x the x coordinate of the block
+     * @param y the y coordinate of the block
+     * @param z the z coordinate of the block
+     * @return the region containing the coordinates, or null if they are in no region
+     */
+    public Region getRegion(World world, int x, int y, int z) {
+        Map<Long, Region[]> worldRegions = this.regions.get(world);
+        if (worldRegions == null) return null;
+
+        Region[] chunkRegions = worldRegions.get(Chunk.getChunkKey(x >> 4, z >> 4));
+        if (chunkRegions == null) return null;
+
+        for (Region region : chunkRegions) {
+            if (region.contains(x, y, z)) return region;
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the given block lies in any region.
+     *
+     * @param block the block to check
+     * @return true if the block is in a region, otherwise false
+     */
+    public boolean isInRegion(Block block) {
+        return this.getRegion(block) != null;
+    }
+
+    /**
+     * Removes all regions.
+     */
+    public void clear() {
+        this.regions.clear();
+    }
+
+    /**
+     * A box of blocks with a type. Both corners are inclusive.
+     *
+     * @param type the type of the region
+     * @param minX the lowest x coordinate
+     * @param minY the lowest y coordinate
+     * @param minZ the lowest z coordinate
+     * @param maxX the highest x coordinate
+     * @param maxY the highest y coordinate
+     * @param maxZ the highest z coordinate
+     */
+    public record Region(String type, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+
+        /**
+         * Checks whether the given block coordinates lie in this region.
+         *
+         * @param x the x coordinate of the block
+         * @param y the y coordinate of the block
+         * @param z the z coordinate of the block
+         * @return true if the coordinates are in this region, otherwise false
+         */
+        public boolean contains(int x, int y, int z) {
+            return x >= this.minX && x <= this.maxX
+                    && y >= this.minY && y <= this.maxY
+                    && z >= this.minZ && z <= this.maxZ;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package de.t0bx.eindino.map;
+
+import lombok.Getter;
+
+@Getter
+public enum SpawnerType {
+    BRONZE("bronze"),
+    IRON("iron"),
+    GOLD("gold");
+
+    private final String key;
+
+    SpawnerType(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Retrieves the spawner type with the given key.
+     *
+     * @param key the key used in the map files, e.g. {@code bronze}
+     * @return the matching spawner type
+     * @throws IllegalArgumentException if no spawner type has this key
+     */
+    public static SpawnerType fromKey(String key) {
+        for (SpawnerType spawnerType : values()) {
+            if (spawnerType.key.equalsIgnoreCase(key)) return spawnerType;
+        }
+        throw new IllegalArgumentException("Unknown spawner type " + key);
+    }
+}
@@ -0,0 +1,192 @@
+package de.t0bx.eindino.map;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class WorldRollback {
+
+    private static final long TICK_BUDGET_NANOS = 10_000_000L;
+    private static final int ENTITY_PRUNE_THRESHOLD = 1024;
+
+    private final Plugin plugin;
+    private final Set<World> trackedWorlds;
+    private final Map<World, Map<Long, ChunkChanges>> changes;
+    private final Set<Entity> entities;
+    private int changedBlocks;
+
+    /**
+     * Constructs a new WorldRollback which records the original state of every block changed during a round
+     * and every entity spawned during a round, so the map can be reset in memory after the round instead of
+     * restarting the server. Must be used on the main thread.
+     *
+     * @param plugin the plugin running the rollback task
+     */
+    public WorldRollback(Plugin plugin) {
+        this.plugin = plugin;
+        this.trackedWorlds = new HashSet<>();
+        this.changes = new HashMap<>();
+        this.entities = new LinkedHashSet<>();
+    }
+
+    /**
+     * Starts recording the changes in the worlds of the given map. Changes in other worlds are ignored.
+     *
+     * @param mapData the map of the round which is about to start
+     */
+    public void track(MapData mapData) {
+        this.trackedWorlds.clear();
+        this.trackedWorlds.addAll(mapData.getWorlds());
+    }
+
+    /**
+     * Checks whether changes in the given world are currently recorded.
+     *
+     * @param world the world to check
+     * @return true if the world belongs to the running round, otherwise false
+     */
+    public boolean isTracked(World world) {
+        return this.trackedWorlds.contains(world);
+    }
+
+    /**
+     * Records the current state of a block before it is changed.
+     *
+     * @param block the block which is about to change
+     */
+    public void recordBlock(Block block) {
+        if (!this.isTracked(block.getWorld())) return;
+
+        this.recordState(block.getState());
+    }
+
+    /**
+     * Records the original state of a block. Only the first state recorded for a position is kept,
+     * so a block changed several times during a round is reset to the state it had before the round.
+     *
+     * @param state the state of the block before it changed
+     */
+    public void recordState(BlockState state) {
+        World world = state.getWorld();
+        if (!this.isTracked(world)) return;
+
+        int chunkX = state.getX() >> 4;
+        int chunkZ = state.getZ() >> 4;
+        ChunkChanges chunkChanges = this.changes.computeIfAbsent(world, _ -> new HashMap<>())
+                .computeIfAbsent(Chunk.getChunkKey(chunkX, chunkZ), _ -> new ChunkChanges(world, chunkX, chunkZ, new HashMap<>()));
+
+        int position = (state.getY() - world.getMinHeight()) << 8 | (state.getZ() & 15) << 4 | (state.getX() & 15);
+        if (chunkChanges.originals().putIfAbsent(position, state) == null) {
+            this.changedBlocks++;
+        }
+    }
+
+    /**
+     * Records an entity spawned during the round, so it is removed by the rollback.
+     * Players are never recorded.
+     *
+     * @param entity the spawned entity
+     */
+    public void recordEntity(Entity entity) {
+        if (entity instanceof Player || !this.isTracked(entity.getWorld())) return;
+
+        // picked up items and landed projectiles are gone already, forget them from time to time
+        if (this.entities.size() >= ENTITY_PRUNE_THRESHOLD && this.entities.size() % ENTITY_PRUNE_THRESHOLD == 0) {
+            this.entities.removeIf(tracked -> !tracked.isValid());
+        }
+        this.entities.add(entity);
+    }
+
+    /**
+     * Stops recording and resets the map: all recorded entities are removed and all changed blocks
+     * are set back to their original state. The work is spread over several ticks, so a single tick
+     * never spends more than a few milliseconds on it. The affected chunks are loaded asynchronously first.
+     *
+     * @return a CompletableFuture which completes on the main thread once the map is reset
+     */
+    public CompletableFuture<Void> rollback() {
+        this.trackedWorlds.clear();
+
+        List<ChunkChanges> pendingChunks = new ArrayList<>();
+        this.changes.values().forEach(worldChanges -> pendingChunks.addAll(worldChanges.values()));
+        Deque<Entity> pendingEntities = new ArrayDeque<>(this.entities);
+        int blockCount = this.changedBlocks;
+        int entityCount = pendingEntities.size();
+        this.changes.clear();
+        this.entities.clear();
+        this.changedBlocks = 0;
+
+        long start = System.nanoTime();
+        List<CompletableFuture<?>> loading = new ArrayList<>();
+        for (ChunkChanges chunkChanges : pendingChunks) {
+            loading.add(chunkChanges.world().getChunkAtAsync(chunkChanges.chunkX(), chunkChanges.chunkZ())
+                    .thenAccept(chunk -> chunk.addPluginChunkTicket(this.plugin)));
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        CompletableFuture.allOf(loading.toArray(CompletableFuture[]::new)).whenComplete((ignored, exception) -> {
+            if (exception != null) {
+                this.plugin.getLogger().warning("Failed to load a chunk for the rollback: " + exception.getMessage());
+            }
+
+            Iterator<ChunkChanges> chunkIterator = pendingChunks.iterator();
+            int[] ticks = {0};
+            Bukkit.getScheduler().runTaskTimer(this.plugin, task -> {
+                long deadline = System.nanoTime() + TICK_BUDGET_NANOS;
+                ticks[0]++;
+
+                while (!pendingEntities.isEmpty() && System.nanoTime() < deadline) {
+                    Entity entity = pendingEntities.poll();
+                    if (entity.isValid()) {
+                        entity.remove();
+                    }
+                }
+
+                while (chunkIterator.hasNext() && System.nanoTime() < deadline) {
+                    ChunkChanges chunkChanges = chunkIterator.next();
+                    for (BlockState state : chunkChanges.originals().values()) {
+                        state.update(true, false);
+                    }
+                    chunkChanges.world().removePluginChunkTicket(chunkChanges.chunkX(), chunkChanges.chunkZ(), this.plugin);
+                }
+
+                if (pendingEntities.isEmpty() && !chunkIterator.hasNext()) {
+                    task.cancel();
+                    this.plugin.getLogger().info(String.format("Rolled back %d blocks in %d chunks and removed %d entities in %.1f ms over %d ticks",
+                            blockCount, pendingChunks.size(), entityCount, (System.nanoTime() - start) / 1_000_000D, ticks[0]));
+                    future.complete(null);
+                }
+            }, 0L, 1L);
+        });
+        return future;
+    }
+
+    /**
+     * The original states of the changed blocks of one chunk, keyed by their position packed into an int:
+     * the height above the world's minimum in the upper bits, the z and x coordinate inside the chunk in the lower 8 bits.
+     *
+     * @param world the world of the chunk
+     * @param chunkX the x coordinate of the chunk
+     * @param chunkZ the z coordinate of the chunk
+     * @param originals the original block states by packed position
+     */
+    private record ChunkChanges(World world, int chunkX, int chunkZ, Map<Integer, BlockState> originals) {
+    }
+}
@@ -0,0 +1,121 @@
+package de.t0bx.eindino.match;
+
+import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.database.DatabaseConnector;
+import de.t0bx.eindino.utils.UUIDConverter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+public class MatchHistoryRepository {
+
+    private static final String INSERT_MATCH = """
+            INSERT INTO bedwars_matches (gameId, map, playType, goldActive, ranked, startedAt, duration, winnerTeam)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_PARTICIPANT = """
+            INSERT INTO bedwars_match_players (gameId, uuid, team, kills, deaths, bedsDestroyed, won, leftEarly)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final DatabaseConnector databaseConnector;
+    private CompletableFuture<Void> pendingWrite;
+
+    /**
+     * Constructs a new MatchHistoryRepository which persists finished rounds
+     * together with the participation of every player.
+     *
+     * @param databaseConnector the connector opening the connection of each transaction
+     */
+    public MatchHistoryRepository(DatabaseConnector databaseConnector) {
+        this.databaseConnector = databaseConnector;
+        this.pendingWrite = CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Writes the finished round asynchronously. The match row and all participant rows
+     * are written in a single transaction, so a round is either stored completely or not at all.
+     *
+     * @param matchRecord the finished round
+     * @return a CompletableFuture which completes once the transaction has been committed
+     */
+    public synchronized CompletableFuture<Void> save(MatchRecord matchRecord) {
+        this.pendingWrite = this.pendingWrite.thenRunAsync(() -> {
+            try {
+                this.write(matchRecord);
+            } catch (Exception exception) {
+                BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "Failed to save match " + matchRecord.getGameId(), exception);
+            }
+        });
+        return this.pendingWrite;
+    }
+
+    /**
+     * Blocks until all pending writes are finished or the timeout has passed.
+     * Used on shutdown, since the server stops shortly after a round has ended.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of {@code timeout}
+     */
+    public void awaitPendingWrites(long timeout, TimeUnit unit) {
+        CompletableFuture<Void> pending;
+        synchronized (this) {
+            pending = this.pendingWrite;
+        }
+
+        try {
+            pending.get(timeout, unit);
+        } catch (Exception exception) {
+            BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "Pending match history writes did not finish in time", exception);
+        }
+    }
+
+    private void write(MatchRecord matchRecord) throws SQLException {
+        try (Connection connection = this.databaseConnector.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement matchStatement = connection.prepareStatement(INSERT_MATCH);
+                 PreparedStatement participantStatement = connection.prepareStatement(INSERT_PARTICIPANT)) {
+                matchStatement.setString(1, matchRecord.getGameId());
+                matchStatement.setString(2, matchRecord.getMap());
+                matchStatement.setString(3, matchRecord.getPlayType());
+                matchStatement.setBoolean(4, matchRecord.isGoldActive());
+                matchStatement.setBoolean(5, matchRecord.isRanked());
+                matchStatement.setLong(6, matchRecord.getStartedAt());
+                matchStatement.setInt(7, matchRecord.getDurationSeconds());
+                if (matchRecord.getWinnerTeam() != null) {
+                    matchStatement.setString(8, matchRecord.getWinnerTeam());
+                } else {
+                    matchStatement.setNull(8, Types.VARCHAR);
+                }
+                matchStatement.executeUpdate();
+
+                for (MatchParticipant participant : matchRecord.getParticipantList()) {
+                    participantStatement.setString(1, matchRecord.getGameId());
+                    participantStatement.setBytes(2, UUIDConverter.toBytes(participant.getUuid()));
+                    participantStatement.setString(3, participant.getTeam());
+                    participantStatement.setInt(4, participant.getKills());
+                    participantStatement.setInt(5, participant.getDeaths());
+                    participantStatement.setInt(6, participant.getBedsDestroyed());
+                    participantStatement.setBoolean(7, participant.isWon());
+                    participantStatement.setBoolean(8, participant.isLeft());
+                    participantStatement.addBatch();
+                }
+                participantStatement.executeBatch();
+
+                connection.commit();
+            } catch (SQLException exception) {
+                connection.rollback();
+                throw exception;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package de.t0bx.eindino.match;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+public class MatchParticipant {
+    private final UUID uuid;
+    private final String team;
+    private final int rating;
+    private int ratingChange;
+    private int kills;
+    private int deaths;
+    private int bedsDestroyed;
+    private boolean won;
+    private boolean left;
+
+    /**
+     * Constructs a new MatchParticipant for a player who took part in a round.
+     *
+     * @param uuid the unique identifier of the player
+     * @param team the name of the team the player played in
+     * @param rating the rating of the player when the round started
+     */
+    public MatchParticipant(UUID uuid, String team, int rating) {
+        this.uuid = uuid;
+        this.team = team;
+        this.rating = rating;
+    }
+}
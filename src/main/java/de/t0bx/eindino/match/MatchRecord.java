@@ -0,0 +1,139 @@
+package de.t0bx.eindino.match;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+public class MatchRecord {
+    private final String gameId;
+    private final String map;
+    private final String playType;
+    private final boolean goldActive;
+    private final long startedAt;
+    private final Map<UUID, MatchParticipant> participants;
+
+    private long endedAt;
+    private String winnerTeam;
+    private boolean ranked;
+
+    /**
+     * Constructs a new MatchRecord which collects everything that happens during a round in memory.
+     * The record is only accessed from the main thread while the round is running and written to the
+     * database once the round has ended.
+     *
+     * @param gameId the id of the round which is shown to the players
+     * @param map the name of the map the round is played on
+     * @param playType the play type of the round, e.g. {@code 2x1}
+     * @param goldActive whether gold was enabled for the round
+     */
+    public MatchRecord(String gameId, String map, String playType, boolean goldActive) {
+        this.gameId = gameId;
+        this.map = map;
+        this.playType = playType;
+        this.goldActive = goldActive;
+        this.startedAt = System.currentTimeMillis();
+        this.participants = new LinkedHashMap<>();
+    }
+
+    /**
+     * Registers a player who takes part in the round.
+     *
+     * @param uuid the unique identifier of the player
+     * @param team the name of the team the player plays in
+     * @param rating the rating of the player when the round starts
+     */
+    public void addParticipant(UUID uuid, String team, int rating) {
+        this.participants.putIfAbsent(uuid, new MatchParticipant(uuid, team, rating));
+    }
+
+    /**
+     * Counts a kill for the given player if the player takes part in the round.
+     *
+     * @param uuid the unique identifier of the player
+     */
+    public void addKill(UUID uuid) {
+        MatchParticipant participant = this.participants.get(uuid);
+        if (participant == null) return;
+
+        participant.setKills(participant.getKills() + 1);
+    }
+
+    /**
+     * Counts a death for the given player if the player takes part in the round.
+     *
+     * @param uuid the unique identifier of the player
+     */
+    public void addDeath(UUID uuid) {
+        MatchParticipant participant = this.participants.get(uuid);
+        if (participant == null) return;
+
+        participant.setDeaths(participant.getDeaths() + 1);
+    }
+
+    /**
+     * Counts a destroyed bed for the given player if the player takes part in the round.
+     *
+     * @param uuid the unique identifier of the player
+     */
+    public void addBedDestroyed(UUID uuid) {
+        MatchParticipant participant = this.participants.get(uuid);
+        if (participant == null) return;
+
+        participant.setBedsDestroyed(participant.getBedsDestroyed() + 1);
+    }
+
+    /**
+     * Marks the given player as having left the round before it ended.
+     *
+     * @param uuid the unique identifier of the player
+     */
+    public void markLeft(UUID uuid) {
+        MatchParticipant participant = this.participants.get(uuid);
+        if (participant == null) return;
+
+        participant.setLeft(true);
+    }
+
+    /**
+     * Completes the record when the round ends. All participants of the winning team which
+     * did not leave the round are marked as winners.
+     *
+     * @param winnerTeam the name of the winning team, or null if there is no winner
+     * @param ranked whether the statistics of the round are counted
+     */
+    public void finish(String winnerTeam, boolean ranked) {
+        this.endedAt = System.currentTimeMillis();
+        this.winnerTeam = winnerTeam;
+        this.ranked = ranked;
+        if (winnerTeam == null) return;
+
+        for (MatchParticipant participant : this.participants.values()) {
+            participant.setWon(!participant.isLeft() && winnerTeam.equals(participant.getTeam()));
+        }
+    }
+
+    /**
+     * Retrieves the duration of the round.
+     *
+     * @return the duration in seconds, or 0 if the round has not ended yet
+     */
+    public int getDurationSeconds() {
+        if (this.endedAt == 0) return 0;
+
+        return (int) ((this.endedAt - this.startedAt) / 1000);
+    }
+
+    /**
+     * Retrieves all participants of the round.
+     *
+     * @return an unmodifiable view of the participants
+     */
+    public Collection<MatchParticipant> getParticipantList() {
+        return Collections.unmodifiableCollection(this.participants.values());
+    }
+}
@@ -0,0 +1,66 @@
+package de.t0bx.eindino.match;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class RatingEngine {
+
+    private static final double K_FACTOR = 32;
+
+    /**
+     * Computes the rating changes of all participants of a finished round in one pass.
+     * Every team is rated with the average rating its members had when the round started.
+     * The winning team plays one Elo comparison against every other team, the K-factor is
+     * split across these comparisons so a round is worth the same regardless of the team count.
+     * Participants of the winning team who left early are rated like a losing team.
+     * The computed change is also stored on every {@link MatchParticipant}.
+     *
+     * @param matchRecord the finished round
+     * @return the rating change per participant, empty if the round has no winner or less than two teams
+     */
+    public Map<UUID, Integer> computeChanges(MatchRecord matchRecord) {
+        Map<UUID, Integer> changes = new LinkedHashMap<>();
+        String winnerTeam = matchRecord.getWinnerTeam();
+        if (winnerTeam == null) return changes;
+
+        Map<String, double[]> teamTotals = new HashMap<>();
+        for (MatchParticipant participant : matchRecord.getParticipantList()) {
+            double[] total = teamTotals.computeIfAbsent(participant.getTeam(), team -> new double[2]);
+            total[0] += participant.getRating();
+            total[1]++;
+        }
+        if (teamTotals.size() < 2 || !teamTotals.containsKey(winnerTeam)) return changes;
+
+        double kPerOpponent = K_FACTOR / (teamTotals.size() - 1);
+        double winnerRating = this.average(teamTotals.get(winnerTeam));
+
+        double winnerChange = 0;
+        Map<String, Double> loserChanges = new HashMap<>();
+        for (Map.Entry<String, double[]> entry : teamTotals.entrySet()) {
+            double teamRating = this.average(entry.getValue());
+            double change = kPerOpponent * (1 - this.expectedScore(winnerRating, teamRating));
+            loserChanges.put(entry.getKey(), -change);
+            if (!entry.getKey().equals(winnerTeam)) {
+                winnerChange += change;
+            }
+        }
+
+        for (MatchParticipant participant : matchRecord.getParticipantList()) {
+            double change = participant.isWon() ? winnerChange : loserChanges.get(participant.getTeam());
+            int rounded = (int) Math.round(change);
+            participant.setRatingChange(rounded);
+            changes.put(participant.getUuid(), rounded);
+        }
+        return changes;
+    }
+
+    private double average(double[] total) {
+        return total[0] / total[1];
+    }
+
+    private double expectedScore(double rating, double opponentRating) {
+        return 1 / (1 + Math.pow(10, (opponentRating - rating) / 400));
+    }
+}
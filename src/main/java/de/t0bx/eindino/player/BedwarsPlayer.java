@@ -1,5 +1,6 @@
 package de.t0bx.eindino.player;
 
+import de.t0bx.eindino.stats.StatType;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,4 +17,32 @@ public class BedwarsPlayer {
     private int wins;
     private int gamesPlayed;
     private int bedsDestroyed;
+    private int rating;
+
+    /**
+     * Creates the profile of a player who has not played yet.
+     *
+     * @param uuid the unique identifier of the player
+     * @return a profile with all counters at 0 and the default rating
+     */
+    public static BedwarsPlayer empty(UUID uuid) {
+        return new BedwarsPlayer(uuid, 0, 0, 0, 0, 0, StatType.RATING.getDefaultValue());
+    }
+
+    /**
+     * Adds the given amount to the counter of the specified statistic.
+     *
+     * @param type the statistic to increment
+     * @param amount the amount to add, may be negative to revert a change
+     */
+    public void add(StatType type, int amount) {
+        switch (type) {
+            case KILLS -> this.kills += amount;
+            case DEATHS -> this.deaths += amount;
+            case WINS -> this.wins += amount;
+            case GAMES_PLAYED -> this.gamesPlayed += amount;
+            case BEDS_DESTROYED -> this.bedsDestroyed += amount;
+            case RATING -> this.rating += amount;
+        }
+    }
 }
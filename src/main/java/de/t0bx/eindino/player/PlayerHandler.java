@@ -1,216 +1,318 @@
 package de.t0bx.eindino.player;
 
-import de.eindino.server.api.database.IMySQLManager;
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.stats.RankIndex;
+import de.t0bx.eindino.stats.RankType;
+import de.t0bx.eindino.stats.StatDelta;
+import de.t0bx.eindino.stats.StatType;
+import de.t0bx.eindino.stats.StatsBuffer;
+import de.t0bx.eindino.stats.StatsRepository;
+import de.t0bx.eindino.stats.StoredProfile;
+import de.t0bx.eindino.utils.ExpiringCache;
 import lombok.Getter;
-import lombok.Setter;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
-import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 
 public class PlayerHandler {
 
-    private final Map<UUID, BedwarsPlayer> loadedPlayers;
-    private final IMySQLManager mySQLManager;
+    private static final long LOAD_TIMEOUT_SECONDS = 5;
+    private static final int MAX_LOADED_PLAYERS = 256;
+    private static final long LOADED_PLAYER_TTL_MINUTES = 30;
+    private static final int MAX_OFFLINE_PLAYERS = 128;
+    private static final long OFFLINE_PLAYER_TTL_SECONDS = 60;
+
+    private final ExpiringCache<UUID, BedwarsPlayer> loadedPlayers;
+    private final ExpiringCache<UUID, BedwarsPlayer> offlinePlayers;
+    private final StatsRepository statsRepository;
 
     @Getter
     private final Map<Player, Player> fightMap;
 
-    @Setter
-    @Getter
-    private boolean statsEnabled;
+    private final StatsBuffer statsBuffer;
+    private final RankIndex rankIndex;
+    private final Set<UUID> unrankedPlayers;
+    private final Set<UUID> onlinePlayers;
 
     /**
      * The PlayerHandler class is responsible for managing player data within the BedWars plugin.
      * It initializes necessary data structures and dependencies for handling player stats and interactions.
-     * This includes loading players, managing player statistics, and interacting with the MySQLManager
+     * This includes loading players, managing player statistics, and interacting with the StatsRepository
      * to persist player data.
      *
-     * Constructs a new instance of the PlayerHandler class, initializing the internal player data storage
-     * and establishing a connection with the MySQLManager for database operations.
+     * Constructs a new instance of the PlayerHandler class using the StatsRepository configured in the plugin.
      */
     public PlayerHandler() {
-        this.loadedPlayers = new ConcurrentHashMap<>();
-        this.mySQLManager = BedWarsPlugin.getInstance().getMySQLManager();
-        this.fightMap = new ConcurrentHashMap<>();
-        this.setStatsEnabled(true);
+        this(BedWarsPlugin.getInstance().getStatsRepository());
     }
 
     /**
-     * Loads a player's data from the database and caches it for further use.
-     * If the player's data is already cached, this method will do nothing.
+     * Constructs a new instance of the PlayerHandler class, initializing the internal player data storage
+     * on top of the given StatsRepository.
      *
-     * @param uuid The unique identifier of the player whose data should be loaded.
-     */
-    public void loadPlayer(UUID uuid) {
-        if (this.loadedPlayers.containsKey(uuid)) return;
-
-        String sql = "SELECT * FROM bedwars_players WHERE uuid = ?";
-        this.mySQLManager.query(sql, resultSet -> {
-            try {
-                return this.loadedPlayers.put(uuid, new BedwarsPlayer(
-                        uuid,
-                        resultSet.getInt("kills"),
-                        resultSet.getInt("deaths"),
-                        resultSet.getInt("wins"),
-                        resultSet.getInt("gamesPlayed"),
-                        resultSet.getInt("bedsDestroyed")
-                ));
-            } catch (SQLException exception) {
-                exception.printStackTrace();
-                return null;
-            }
-        }, uuid.toString());
+     * @param statsRepository the repository the statistics are loaded from and written to
+     */
+    public PlayerHandler(StatsRepository statsRepository) {
+        // the cache evicts on the stats flush thread, where Bukkit's player lookup must not be used
+        this.onlinePlayers = ConcurrentHashMap.newKeySet();
+        Bukkit.getOnlinePlayers().forEach(player -> this.onlinePlayers.add(player.getUniqueId()));
+        this.loadedPlayers = new ExpiringCache<>(MAX_LOADED_PLAYERS, LOADED_PLAYER_TTL_MINUTES, TimeUnit.MINUTES,
+                this.onlinePlayers::contains, (uuid, bedwarsPlayer) -> this.flushStats(uuid));
+        this.offlinePlayers = new ExpiringCache<>(MAX_OFFLINE_PLAYERS, OFFLINE_PLAYER_TTL_SECONDS, TimeUnit.SECONDS);
+        this.statsRepository = statsRepository;
+        this.fightMap = new ConcurrentHashMap<>();
+        this.statsBuffer = new StatsBuffer(this.statsRepository);
+        this.rankIndex = new RankIndex(this.statsRepository);
+        this.unrankedPlayers = ConcurrentHashMap.newKeySet();
     }
 
     /**
      * Adds the specified number of kills to the player's total kills count.
-     * Updates both the in-memory data for the player and persists the change
-     * to the database asynchronously. If the player is not loaded or statistics
+     * Updates the in-memory data for the player and buffers the change so it is
+     * persisted with the next flush. If the player is not loaded or statistics
      * are disabled, the operation is skipped.
      *
      * @param uuid The unique identifier of the player whose kills are to be incremented.
      * @param kills The number of kills to add to the player's total kills count.
      */
     public void addKills(UUID uuid, int kills) {
-        if (!this.loadedPlayers.containsKey(uuid)) return;
-
-        if (!this.statsEnabled) return;
-        BedwarsPlayer bedwarsPlayer = this.loadedPlayers.get(uuid);
-        bedwarsPlayer.setKills(bedwarsPlayer.getKills() + kills);
-
-        String sql = "UPDATE bedwars_players SET kills = kills + ? WHERE uuid = ?";
-        this.mySQLManager.asyncUpdate(sql, kills, uuid.toString());
+        this.addStat(uuid, StatType.KILLS, kills);
     }
 
     /**
      * Adds the specified number of deaths to the player associated with the given UUID.
      * If the player is not loaded or statistics are not enabled, the operation is skipped.
-     * The updated death count is also synchronized with the database.
+     * The change is buffered and written to the database with the next flush.
      *
      * @param uuid The UUID of the player whose death count is to be incremented.
      * @param deaths The number of deaths to add to the player's total deaths.
      */
     public void addDeaths(UUID uuid, int deaths) {
-        if (!this.loadedPlayers.containsKey(uuid)) return;
-
-        if (!this.statsEnabled) return;
-        BedwarsPlayer bedwarsPlayer = this.loadedPlayers.get(uuid);
-        bedwarsPlayer.setDeaths(bedwarsPlayer.getDeaths() + deaths);
-
-        String sql = "UPDATE bedwars_players SET deaths = deaths + ? WHERE uuid = ?";
-        this.mySQLManager.asyncUpdate(sql, deaths, uuid.toString());
+        this.addStat(uuid, StatType.DEATHS, deaths);
     }
 
     /**
      * Adds the specified number of wins to the player associated with the given UUID.
      * If the player is not loaded or stats are not enabled, the operation is skipped.
-     * The player's updated win count is also synchronized with the database.
+     * The change is buffered and written to the database with the next flush.
      *
      * @param uuid The UUID of the player whose wins are to be incremented.
      * @param wins The number of wins to add to the player's total wins.
      */
     public void addWins(UUID uuid, int wins) {
-        if (!this.loadedPlayers.containsKey(uuid)) return;
-
-        if (!this.statsEnabled) return;
-        BedwarsPlayer bedwarsPlayer = this.loadedPlayers.get(uuid);
-        bedwarsPlayer.setWins(bedwarsPlayer.getWins() + wins);
-
-        String sql = "UPDATE bedwars_players SET wins = wins + ? WHERE uuid = ?";
-        this.mySQLManager.asyncUpdate(sql, wins, uuid.toString());
+        this.addStat(uuid, StatType.WINS, wins);
     }
 
     /**
      * Updates the number of games played for a specific player identified by their UUID.
-     * Adds the specified number of games to the player's current record in both the in-memory data structure
-     * and the database if the player data is loaded and statistics are enabled.
+     * Adds the specified number of games to the player's in-memory record and buffers the change
+     * for the next flush if the player data is loaded and statistics are enabled.
      *
      * @param uuid the unique identifier of the player whose games played are being updated
      * @param gamesPlayed the number of games to add to the player's record
      */
     public void addGamesPlayed(UUID uuid, int gamesPlayed) {
-        if (!this.loadedPlayers.containsKey(uuid)) return;
-
-        if (!this.statsEnabled) return;
-        BedwarsPlayer bedwarsPlayer = this.loadedPlayers.get(uuid);
-        bedwarsPlayer.setGamesPlayed(bedwarsPlayer.getGamesPlayed() + gamesPlayed);
-
-        String sql = "UPDATE bedwars_players SET gamesPlayed = gamesPlayed + ? WHERE uuid = ?";
-        this.mySQLManager.asyncUpdate(sql, gamesPlayed, uuid.toString());
+        this.addStat(uuid, StatType.GAMES_PLAYED, gamesPlayed);
     }
 
     /**
-     * Updates the number of beds destroyed for a specific player and persists the change to the database.
+     * Updates the number of beds destroyed for a specific player and buffers the change for the next flush.
      * If the player is not loaded or statistics are disabled, the method does nothing.
      *
      * @param uuid The unique identifier of the player whose beds destroyed count is being updated.
      * @param bedsDestroyed The number of additional beds destroyed to be added to the player's current count.
      */
     public void addBedsDestroyed(UUID uuid, int bedsDestroyed) {
-        if (!this.loadedPlayers.containsKey(uuid)) return;
+        this.addStat(uuid, StatType.BEDS_DESTROYED, bedsDestroyed);
+    }
+
+    /**
+     * Adds a rating change computed at the end of a round. Unlike the other statistics the change is
+     * buffered even if the player is not loaded anymore, so players who left the round still lose rating.
+     * Ratings are only applied for ranked rounds, which require the statistics of the round's arena.
+     *
+     * @param uuid the unique identifier of the player
+     * @param ratingChange the rating points to add, negative for a loss
+     */
+    public void addRating(UUID uuid, int ratingChange) {
+        if (ratingChange == 0) return;
 
-        if (!this.statsEnabled) return;
         BedwarsPlayer bedwarsPlayer = this.loadedPlayers.get(uuid);
-        bedwarsPlayer.setBedsDestroyed(bedwarsPlayer.getBedsDestroyed() + bedsDestroyed);
+        if (bedwarsPlayer != null) {
+            int[] previous = this.rankIndex.snapshot(bedwarsPlayer);
+            bedwarsPlayer.add(StatType.RATING, ratingChange);
+            this.updateRank(previous, bedwarsPlayer);
+        }
+        this.offlinePlayers.invalidate(uuid);
+        this.statsBuffer.add(uuid, StatType.RATING, ratingChange);
+    }
 
-        String sql = "UPDATE bedwars_players SET bedsDestroyed = bedsDestroyed + ? WHERE uuid = ?";
-        this.mySQLManager.asyncUpdate(sql, bedsDestroyed, uuid.toString());
+    /**
+     * Retrieves the current rating of a player from memory without querying the database.
+     * Loaded profiles already contain every buffered change of the running round. This is the read path
+     * of the lobby scoreboard and of the team distribution at the start of a round, online players are
+     * always loaded.
+     *
+     * @param uuid the unique identifier of the player
+     * @return the rating of the player, or the default rating if the player is not cached
+     */
+    public int getRating(UUID uuid) {
+        BedwarsPlayer bedwarsPlayer = this.loadedPlayers.get(uuid);
+        if (bedwarsPlayer == null) {
+            bedwarsPlayer = this.offlinePlayers.get(uuid);
+        }
+        return bedwarsPlayer != null ? bedwarsPlayer.getRating() : StatType.RATING.getDefaultValue();
     }
 
     /**
-     * Retrieves the placement of a player in the leaderboard based on their total wins
-     * compared to other players' win counts.
+     * Applies a stat change to the loaded player and merges it into the pending delta of the player.
+     * If the player is not loaded or statistics are disabled in the player's arena, the change is ignored.
      *
-     * @param uuid the unique identifier (UUID) of the player whose placement is being retrieved
-     * @return a CompletableFuture that, when completed, supplies the player's placement as an integer;
-     *         returns -1 if the player's data could not be found or an error occurs
-     */
-    public CompletableFuture<Integer> getPlacement(UUID uuid) {
-        String sql = "SELECT COUNT(*) + 1 AS placement FROM bedwars_players WHERE wins > (SELECT wins FROM bedwars_players WHERE uuid = ?)";
-
-        return this.mySQLManager.queryAsync(sql, resultSet -> {
-            try {
-                return resultSet.getInt("placement");
-            } catch (SQLException e) {
-                e.printStackTrace();
-                return -1;
-            }
-        }, uuid.toString()).thenApply(list -> list.isEmpty() ? -1 : list.getFirst());
+     * @param uuid the unique identifier of the player
+     * @param type the statistic to increment
+     * @param amount the amount to add
+     */
+    private void addStat(UUID uuid, StatType type, int amount) {
+        if (!this.isStatsEnabled(uuid)) return;
+
+        BedwarsPlayer bedwarsPlayer = this.loadedPlayers.get(uuid);
+        if (bedwarsPlayer == null) return;
+
+        int[] previous = this.rankIndex.snapshot(bedwarsPlayer);
+        bedwarsPlayer.add(type, amount);
+        this.updateRank(previous, bedwarsPlayer);
+        this.statsBuffer.add(uuid, type, amount);
     }
 
     /**
-     * Checks asynchronously whether a player with the given UUID exists in the database.
+     * Moves a player within the leaderboard index after a stat change. Players with an empty fallback
+     * profile are skipped: their stored values are unknown, so the index cannot tell where they are.
      *
-     * @param uuid the UUID of the player to check for existence
-     * @return a CompletableFuture that resolves to {@code true} if the player exists in the database,
-     *         otherwise {@code false}
-     */
-    public CompletableFuture<Boolean> doesPlayerExist(UUID uuid) {
-        final String query = "SELECT uuid FROM bedwars_players WHERE uuid = ?";
-
-        return this.mySQLManager.queryAsync(query, resultSet -> {
-            try {
-                return resultSet.getString("uuid");
-            } catch (SQLException exception) {
-                exception.printStackTrace();
-                return null;
-            }
-        },uuid.toString()).thenApply(result -> {
-            if (!result.isEmpty()) {
-                String dbUUID = result.getFirst();
-                return dbUUID.equals(uuid.toString());
+     * @param previous the ranked values of the player before the change
+     * @param bedwarsPlayer the player after the change
+     */
+    private void updateRank(int[] previous, BedwarsPlayer bedwarsPlayer) {
+        if (this.unrankedPlayers.contains(bedwarsPlayer.getUuid())) return;
+
+        this.rankIndex.update(previous, bedwarsPlayer);
+    }
+
+    /**
+     * Checks whether the statistics of a player are recorded, which is decided by the running round
+     * of the player's arena.
+     *
+     * @param uuid the unique identifier of the player
+     * @return true if stat changes of the player are recorded, otherwise false
+     */
+    public boolean isStatsEnabled(UUID uuid) {
+        return BedWarsPlugin.getInstance().getArenaManager().getArena(uuid).isStatsEnabled();
+    }
+
+    /**
+     * Drops the deltas of the given players that have not been flushed yet and reverts them on the
+     * loaded players. Called when the statistics of an arena's round are disabled, deltas of other
+     * players are kept.
+     *
+     * @param uuids the unique identifiers of the players whose changes are dropped
+     */
+    public void discardStats(Collection<UUID> uuids) {
+        for (UUID uuid : uuids) {
+            StatDelta delta = this.statsBuffer.discard(uuid);
+            if (delta == null) continue;
+
+            BedwarsPlayer bedwarsPlayer = this.loadedPlayers.get(uuid);
+            if (bedwarsPlayer == null) continue;
+
+            int[] previous = this.rankIndex.snapshot(bedwarsPlayer);
+            for (StatType type : StatType.values()) {
+                bedwarsPlayer.add(type, -delta.get(type));
             }
-            return false;
+            this.updateRank(previous, bedwarsPlayer);
+        }
+    }
+
+    /**
+     * Writes all buffered stat changes to the StatsRepository.
+     *
+     * @return a CompletableFuture which completes once the changes are stored
+     */
+    public CompletableFuture<Void> flushStats() {
+        return this.logFailure(this.statsBuffer.flush());
+    }
+
+    /**
+     * Writes the buffered stat changes of a single player to the StatsRepository.
+     *
+     * @param uuid the unique identifier of the player whose changes should be written
+     * @return a CompletableFuture which completes once the changes are stored
+     */
+    public CompletableFuture<Void> flushStats(UUID uuid) {
+        return this.logFailure(this.statsBuffer.flush(uuid));
+    }
+
+    private CompletableFuture<Void> logFailure(CompletableFuture<Void> future) {
+        return future.whenComplete((ignored, exception) -> {
+            if (exception == null) return;
+
+            BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "Failed to write buffered stats", exception);
         });
     }
 
+    /**
+     * Retrieves the placement of a loaded player in the wins leaderboard.
+     *
+     * @param uuid the unique identifier (UUID) of the player whose placement is being retrieved
+     * @return the player's placement, or -1 if the player is not loaded
+     */
+    public int getPlacement(UUID uuid) {
+        return this.getPlacement(uuid, RankType.WINS);
+    }
+
+    /**
+     * Retrieves the placement of a loaded player in the leaderboard of the given rank type.
+     * The placement is answered from the in-memory {@link RankIndex} without querying the database.
+     *
+     * @param uuid the unique identifier (UUID) of the player whose placement is being retrieved
+     * @param type the value the leaderboard is sorted by
+     * @return the player's placement, or -1 if the player is not loaded or the placement is not known
+     */
+    public int getPlacement(UUID uuid, RankType type) {
+        BedwarsPlayer bedwarsPlayer = this.loadedPlayers.get(uuid);
+        if (bedwarsPlayer == null || this.unrankedPlayers.contains(uuid)) return -1;
+
+        return this.getPlacement(bedwarsPlayer, type);
+    }
+
+    /**
+     * Retrieves the placement of the given profile in the leaderboard of the given rank type.
+     * Can be used for profiles returned by {@link #lookupPlayer(UUID)} which are not loaded.
+     *
+     * @param bedwarsPlayer the profile whose placement is being retrieved
+     * @param type the value the leaderboard is sorted by
+     * @return the player's placement starting at 1, or -1 if the leaderboard index is not seeded yet
+     */
+    public int getPlacement(BedwarsPlayer bedwarsPlayer, RankType type) {
+        return this.rankIndex.getPlacement(bedwarsPlayer, type);
+    }
+
+    /**
+     * Seeds the in-memory leaderboard index from the database without blocking. Must be called once during startup.
+     *
+     * @return a CompletableFuture which completes once the index is seeded
+     */
+    public CompletableFuture<Void> loadRankIndex() {
+        return this.rankIndex.seed();
+    }
+
     /**
      * Checks if a player with the given UUID is currently loaded in the system.
      *
@@ -218,7 +320,7 @@ public class PlayerHandler {
      * @return true if the player is loaded, otherwise false
      */
     public boolean isLoaded(UUID uuid) {
-        return this.loadedPlayers.containsKey(uuid);
+        return this.loadedPlayers.contains(uuid);
     }
 
     /**
@@ -232,51 +334,168 @@ public class PlayerHandler {
     }
 
     /**
-     * Creates a default Bedwars player entry in memory and the database.
-     * The player is initialized with all statistical values set to 0.
-     * This method is intended to be used for players who do not yet exist in the database.
+     * Loads the profile of a player from the StatsRepository and caches it, creating a default
+     * profile if the player does not exist yet. Missing players are returned with all values
+     * set to 0 and their row is created by the next stats flush. This method blocks and is meant to be called from the
+     * asynchronous pre-login thread. If the database cannot be reached, an empty profile is
+     * cached so that the buffered deltas of the round are still persisted later on.
      *
-     * @param uuid the unique identifier of the player to create a default profile for
+     * @param uuid the unique identifier of the player whose profile should be loaded
+     * @return the loaded or newly created {@code BedwarsPlayer}
      */
-    public void createDefaultPlayer(UUID uuid) {
-        this.loadedPlayers.put(uuid, new BedwarsPlayer(uuid, 0, 0, 0, 0, 0));
+    public BedwarsPlayer loadOrCreatePlayer(UUID uuid) {
+        BedwarsPlayer loaded = this.loadedPlayers.get(uuid);
+        if (loaded != null) return loaded;
+
+        BedwarsPlayer bedwarsPlayer;
+        boolean existing;
+        boolean fallback = false;
+        try {
+            StoredProfile profile = this.statsRepository.loadProfile(uuid).orTimeout(LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS).join();
+            bedwarsPlayer = profile.bedwarsPlayer();
+            existing = profile.existing();
+        } catch (Exception exception) {
+            BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "Failed to load profile of " + uuid + ", using an empty profile", exception);
+            bedwarsPlayer = BedwarsPlayer.empty(uuid);
+            existing = true;
+            fallback = true;
+        }
+
+        BedwarsPlayer previous = this.loadedPlayers.putIfAbsent(uuid, bedwarsPlayer);
+        if (previous != null) return previous;
+
+        if (fallback) {
+            this.unrankedPlayers.add(uuid);
+        } else if (!existing) {
+            this.rankIndex.insert(bedwarsPlayer);
+            this.statsBuffer.touch(uuid);
+        }
+        return bedwarsPlayer;
+    }
+
+    /**
+     * Stores the current name of a player in the StatsRepository.
+     *
+     * @param uuid the unique identifier of the player
+     * @param name the name the player logged in with
+     */
+    public void saveName(UUID uuid, String name) {
+        this.statsRepository.saveName(uuid, name);
+    }
 
-        String sql = "INSERT INTO bedwars_players(uuid) VALUES (?)";
-        this.mySQLManager.asyncUpdate(sql, uuid.toString());
+    /**
+     * Looks up the stored names of several players with a single query.
+     *
+     * @param uuids the unique identifiers of the players
+     * @return a CompletableFuture containing the names of all players with a stored name
+     */
+    public CompletableFuture<Map<UUID, String>> findNames(Collection<UUID> uuids) {
+        return this.statsRepository.findNames(uuids);
+    }
+
+    /**
+     * Removes the cached profile of a player when the login was denied after the profile had
+     * already been loaded during pre-login. A player created by the pre-login is forgotten
+     * completely: the pending row creation is dropped and the player is removed from the
+     * leaderboard index again. Changes buffered while the player was offline, e.g. the rating
+     * of a round the player left, are kept. Must be called on the main thread.
+     *
+     * @param uuid the unique identifier of the player whose profile should be removed
+     */
+    public void unloadPlayer(UUID uuid) {
+        // a denied second login must not unload the player who is still online
+        if (this.onlinePlayers.contains(uuid)) return;
+
+        BedwarsPlayer bedwarsPlayer = this.loadedPlayers.invalidate(uuid);
+        this.unrankedPlayers.remove(uuid);
+        if (this.statsBuffer.discardIfEmpty(uuid) && bedwarsPlayer != null) {
+            this.rankIndex.remove(bedwarsPlayer);
+        }
+    }
+
+    /**
+     * Marks a player as online, which keeps the profile of the player in the cache until {@link #evictPlayer(UUID)}
+     * is called, however long the player stays. Called when the player joins the server.
+     *
+     * @param uuid the unique identifier of the player who joined
+     */
+    public void markOnline(UUID uuid) {
+        this.onlinePlayers.add(uuid);
+    }
+
+    /**
+     * Writes the pending stat changes of a player and removes the profile from the cache.
+     * Called when the player leaves the server.
+     *
+     * @param uuid the unique identifier of the player whose profile should be evicted
+     */
+    public void evictPlayer(UUID uuid) {
+        this.onlinePlayers.remove(uuid);
+        this.flushStats(uuid);
+        this.loadedPlayers.invalidate(uuid);
+        this.offlinePlayers.invalidate(uuid);
+        this.unrankedPlayers.remove(uuid);
+    }
+
+    /**
+     * Looks up the profile of any player, e.g. for {@code /stats <name>}. Loaded profiles are
+     * returned directly, profiles of offline players are read from the database and kept in a
+     * short-lived read-only cache. Offline profiles are never added to the loaded players, so
+     * lookups cannot grow the cache of online players.
+     *
+     * @param uuid the unique identifier of the player to look up
+     * @return a CompletableFuture containing the profile, or null if the player does not exist
+     */
+    public CompletableFuture<BedwarsPlayer> lookupPlayer(UUID uuid) {
+        BedwarsPlayer loaded = this.loadedPlayers.get(uuid);
+        if (loaded != null) return CompletableFuture.completedFuture(loaded);
+
+        BedwarsPlayer cached = this.offlinePlayers.get(uuid);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        return this.statsRepository.findPlayer(uuid).thenApply(bedwarsPlayer -> {
+            if (bedwarsPlayer != null) {
+                this.offlinePlayers.put(uuid, bedwarsPlayer);
+            }
+            return bedwarsPlayer;
+        });
+    }
+
+    /**
+     * Evicts expired profiles from both caches. Expired profiles of players that are still
+     * online are kept, evicted profiles have their pending stat changes written first.
+     */
+    public void cleanUpCaches() {
+        this.loadedPlayers.cleanUp();
+        this.offlinePlayers.cleanUp();
+    }
+
+    /**
+     * Retrieves the hit, miss and eviction counters of the cache holding the profiles of online players.
+     *
+     * @return a snapshot of the counters
+     */
+    public ExpiringCache.CacheStats getLoadedPlayerStats() {
+        return this.loadedPlayers.getStats();
+    }
+
+    /**
+     * Retrieves the hit, miss and eviction counters of the read-only cache used for offline lookups.
+     *
+     * @return a snapshot of the counters
+     */
+    public ExpiringCache.CacheStats getOfflinePlayerStats() {
+        return this.offlinePlayers.getStats();
     }
 
     /**
      * Asynchronously retrieves the top 5 Bedwars players based on the number of wins.
-     * The players are retrieved from the database and returned as a list of {@code BedwarsPlayer} objects.
-     * Players with data that cannot be parsed are excluded from the result.
+     * The players are retrieved from the StatsRepository and returned as a list of {@code BedwarsPlayer} objects.
      *
      * @return a {@code CompletableFuture} containing a {@code List} of the top 5 {@code BedwarsPlayer} objects,
      *         sorted in descending order of wins.
      */
     public CompletableFuture<List<BedwarsPlayer>> getTop5() {
-        String sql = "SELECT * FROM bedwars_players ORDER by wins DESC LIMIT 5";
-
-        return this.mySQLManager.queryAsync(sql, resultSet -> {
-           try {
-               UUID uuid = UUID.fromString(resultSet.getString("uuid"));
-               int kills = resultSet.getInt("kills");
-               int deaths = resultSet.getInt("deaths");
-               int wins = resultSet.getInt("wins");
-               int gamesPlayed = resultSet.getInt("gamesPlayed");
-               int bedsDestroyed = resultSet.getInt("bedsDestroyed");
-
-               return new BedwarsPlayer(
-                               uuid,
-                               kills,
-                               deaths,
-                               wins,
-                               gamesPlayed,
-                               bedsDestroyed
-                       );
-           } catch (SQLException exception) {
-               exception.printStackTrace();
-               return null;
-           }
-        }).thenApply(list -> list.stream().filter(Objects::nonNull).toList());
+        return this.statsRepository.getTopPlayers(RankType.WINS, 5);
     }
 }
@@ -0,0 +1,101 @@
+package de.t0bx.eindino.player;
+
+import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.utils.ProfileCache;
+import de.t0bx.eindino.utils.UUIDFetcher;
+import eu.cloudnetservice.modules.bridge.player.CloudOfflinePlayer;
+import eu.cloudnetservice.modules.bridge.player.PlayerManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ProfileResolver {
+
+    private final PlayerManager playerManager;
+    private final ProfileCache profileCache;
+    private final ExecutorService executor;
+    private final Map<Stage, LongAdder> hits;
+
+    /**
+     * Constructs a new ProfileResolver which resolves player names to UUIDs with the cheapest source first:
+     * players online on this server, the CloudNet player registry, the persisted {@link ProfileCache}
+     * and only then the remote APIs of {@link UUIDFetcher}. Every stage counts its hits, so it can be
+     * verified that most lookups finish without any HTTP request.
+     */
+    public ProfileResolver() {
+        this.playerManager = BedWarsPlugin.getInstance().getPlayerManager();
+        this.profileCache = ProfileCache.getInstance();
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.hits = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            this.hits.put(stage, new LongAdder());
+        }
+    }
+
+    /**
+     * Resolves the UUID of a player by name. Should be called from the main thread, the online
+     * players are checked synchronously and all further stages run asynchronously.
+     *
+     * @param name the name of the player, with the dot prefix for Bedrock players
+     * @return a CompletableFuture containing the UUID, completed exceptionally if no stage knows the player
+     */
+    public CompletableFuture<UUID> resolveUUID(String name) {
+        Player online = Bukkit.getPlayerExact(name);
+        if (online != null) {
+            return CompletableFuture.completedFuture(this.hit(Stage.ONLINE, online.getUniqueId()));
+        }
+
+        return CompletableFuture.supplyAsync(() -> this.findInCloud(name), this.executor).thenCompose(uuid -> {
+            if (uuid != null) return CompletableFuture.completedFuture(this.hit(Stage.CLOUD, uuid));
+
+            UUID cached = this.profileCache.getUUID(name);
+            if (cached != null) return CompletableFuture.completedFuture(this.hit(Stage.CACHE, cached));
+
+            return UUIDFetcher.getUUIDAsync(name).thenApply(fetched -> this.hit(Stage.REMOTE, fetched));
+        });
+    }
+
+    /**
+     * Retrieves how many lookups were answered by each stage since the server started.
+     *
+     * @return the number of hits per stage
+     */
+    public Map<Stage, Long> getHits() {
+        Map<Stage, Long> snapshot = new EnumMap<>(Stage.class);
+        this.hits.forEach((stage, counter) -> snapshot.put(stage, counter.sum()));
+        return snapshot;
+    }
+
+    private UUID findInCloud(String name) {
+        try {
+            CloudOfflinePlayer cloudPlayer = this.playerManager.firstOfflinePlayer(name);
+            if (cloudPlayer == null) return null;
+
+            this.profileCache.put(cloudPlayer.uniqueId(), cloudPlayer.name());
+            return cloudPlayer.uniqueId();
+        } catch (RuntimeException exception) {
+            return null;
+        }
+    }
+
+    private UUID hit(Stage stage, UUID uuid) {
+        if (uuid != null) {
+            this.hits.get(stage).increment();
+        }
+        return uuid;
+    }
+
+    public enum Stage {
+        ONLINE,
+        CLOUD,
+        CACHE,
+        REMOTE
+    }
+}
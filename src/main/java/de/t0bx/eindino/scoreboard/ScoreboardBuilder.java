@@ -2,31 +2,28 @@ package de.t0bx.eindino.scoreboard;
 
 import de.eindino.server.api.scoreboard.PlayerScore;
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
 import de.t0bx.eindino.player.BedwarsPlayer;
 import de.t0bx.eindino.player.PlayerHandler;
 import de.t0bx.eindino.team.TeamData;
-import de.t0bx.eindino.team.TeamHandler;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.entity.Player;
 
 public class ScoreboardBuilder {
 
-    private final TeamHandler teamHandler;
     private final PlayerHandler playerHandler;
 
     /**
      * Constructs a ScoreboardBuilder instance and initializes its dependencies.
-     *
-     * @param teamHandler the TeamHandler object used to manage team-related operations
+     * The teams, the map and the gold state shown in-game are taken from the arena of the player.
      */
-    public ScoreboardBuilder(TeamHandler teamHandler) {
-        this.teamHandler = teamHandler;
+    public ScoreboardBuilder() {
         this.playerHandler = BedWarsPlugin.getInstance().getPlayerHandler();
     }
 
     /**
      * Builds and displays the lobby scoreboard for the specified player.
-     * The scoreboard includes detailed statistics such as kills, games played, and win rate.
+     * The scoreboard includes detailed statistics such as kills, games played, win rate and rating.
      * Additionally, it adds aesthetic elements like gradients and a promotional link.
      *
      * @param player the player for whom the lobby scoreboard will be built
@@ -38,16 +35,19 @@ public class ScoreboardBuilder {
 
             score.createSidebar("<gradient:#54fc54:#38ae38><b>einDino</b></gradient>.<gradient:#ffffff:#b0b0b0><b>net</b></gradient> <dark_gray>| <gradient:#00aaaa:#55ffff><b>BedWars</b></gradient>");
 
-            score.setScore("<dark_gray>――――――――――――", 11);
+            score.setScore("<dark_gray>――――――――――――", 14);
+            score.setScore("", 13);
+            score.setScore("<green>» <white><b>Kills<gray>:", 12);
+            score.setScore("   <green>" + bedwarsPlayer.getKills(), 11);
             score.setScore("", 10);
-            score.setScore("<green>» <white><b>Kills<gray>:", 9);
-            score.setScore("   <green>" + bedwarsPlayer.getKills(), 8);
+            score.setScore("<green>» <white><b>Spiele<gray>:", 9);
+            score.setScore("   <green>" + bedwarsPlayer.getGamesPlayed(), 8);
             score.setScore("", 7);
-            score.setScore("<green>» <white><b>Spiele<gray>:", 6);
-            score.setScore("   <green>" + bedwarsPlayer.getGamesPlayed(), 5);
+            score.setScore("<green>» <white><b>Siegesquote<gray>:", 6);
+            score.setScore("   <green>" + this.calculateWinRate(bedwarsPlayer.getWins(), bedwarsPlayer.getGamesPlayed()) + "%", 5);
             score.setScore("", 4);
-            score.setScore("<green>» <white><b>Siegesquote<gray>:", 3);
-            score.setScore("   <green>" + this.calculateWinRate(bedwarsPlayer.getWins(), bedwarsPlayer.getGamesPlayed()) + "%", 2);
+            score.setScore("<green>» <white><b>Wertung<gray>:", 3);
+            score.setScore("   <green>" + this.playerHandler.getRating(player.getUniqueId()), 2);
             score.setScore("", 1);
 
             String shopText = "shop.einDino.net";
@@ -84,10 +84,11 @@ public class ScoreboardBuilder {
     public void buildInGameScoreboard(Player player) {
         if (player.hasMetadata("score")) {
             PlayerScore score = (PlayerScore) player.getMetadata("score").getFirst().value();
+            Arena arena = BedWarsPlugin.getInstance().getArenaManager().getArena(player.getUniqueId());
             score.createSidebar("<gradient:#54fc54:#38ae38><b>einDino</b></gradient>.<gradient:#ffffff:#b0b0b0><b>net</b></gradient> <dark_gray>| <gradient:#00aaaa:#55ffff><b>BedWars</b></gradient>");
 
             int index = 4;
-            for (TeamData teamData : this.teamHandler.getAllTeams()) {
+            for (TeamData teamData : arena.getTeamHandler().getAllTeams()) {
                 teamData.setScore(index);
                 if (teamData.isBedDestroyed()) {
                     if (!teamData.getPlayersAlive().isEmpty()) {
@@ -103,12 +104,12 @@ public class ScoreboardBuilder {
 
             score.setScore("", index + 4);
             score.setScore("<green>» <white><b>Map<gray>:", index + 3);
-            score.setScore("   <green>" + BedWarsPlugin.getInstance().getGameHandler().getCurrentMap(), index + 2);
+            score.setScore("   <green>" + arena.getGameHandler().getCurrentMap(), index + 2);
             score.setScore("", index + 1);
 
             score.setScore("", 3);
             score.setScore("<green>» <white><b>Gold<gray>:", 2);
-            score.setScore("    " + (BedWarsPlugin.getInstance().getGameHandler().isGoldActive() ? "<green>✔ <gray>| <green>Aktiviert" : "<red>✘ <gray>| <red>Deaktiviert"), 1);
+            score.setScore("    " + (arena.getGameHandler().isGoldActive() ? "<green>✔ <gray>| <green>Aktiviert" : "<red>✘ <gray>| <red>Deaktiviert"), 1);
 
             String shopText = "shop.einDino.net";
             int totalWidth = 32;
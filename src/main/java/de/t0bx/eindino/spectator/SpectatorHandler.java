@@ -1,6 +1,7 @@
 package de.t0bx.eindino.spectator;
 
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
 import de.t0bx.eindino.game.GameHandler;
 import de.t0bx.eindino.map.MapHandler;
 import de.t0bx.eindino.team.TeamHandler;
@@ -22,14 +23,16 @@ public class SpectatorHandler {
 
     /**
      * Constructs a new instance of the SpectatorHandler class.
-     * This class is responsible for managing game spectators in the BedWars plugin.
+     * This class is responsible for managing the spectators of an arena's rounds.
      * It initializes the required handlers and a thread-safe list to track spectators.
+     *
+     * @param arena the arena whose spectators are managed, its game and team handler must exist already
      */
-    public SpectatorHandler() {
+    public SpectatorHandler(Arena arena) {
         this.spectators = new CopyOnWriteArrayList<>();
-        this.gameHandler = BedWarsPlugin.getInstance().getGameHandler();
+        this.gameHandler = arena.getGameHandler();
         this.mapHandler = BedWarsPlugin.getInstance().getMapHandler();
-        this.teamHandler = BedWarsPlugin.getInstance().getTeamHandler();
+        this.teamHandler = arena.getTeamHandler();
     }
 
     /**
@@ -105,6 +108,7 @@ public class SpectatorHandler {
      *    (e.g., the player is offline), it skips to the next spectator.
      * 3. For players that are found, calls the `removeSpectator` method to perform cleanup and remove them
      *    from spectator mode.
+     * Offline spectators are dropped as well, so the next round starts without spectators.
      */
     public void removeAll() {
         for (UUID uuid : this.spectators) {
@@ -113,5 +117,6 @@ public class SpectatorHandler {
             if (player == null) continue;
             this.removeSpectator(player);
         }
+        this.spectators.clear();
     }
 }
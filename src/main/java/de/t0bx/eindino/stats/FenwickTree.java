@@ -0,0 +1,100 @@
+package de.t0bx.eindino.stats;
+
+import java.util.Arrays;
+
+public class FenwickTree {
+
+    private final int maxValue;
+    private long[] counts;
+    private long[] tree;
+    private long total;
+
+    /**
+     * Constructs a new FenwickTree (binary indexed tree) which counts how many entries
+     * exist per value between 0 and the given maximum. The tree grows automatically when
+     * larger values are added, but never beyond the maximum.
+     *
+     * @param initialCapacity the number of values the tree can hold before it has to grow
+     * @param maxValue the highest value counted separately, higher values are counted as this value
+     */
+    public FenwickTree(int initialCapacity, int maxValue) {
+        this.maxValue = maxValue;
+        this.counts = new long[Math.max(16, Math.min(initialCapacity, maxValue + 1))];
+        this.tree = new long[this.counts.length + 1];
+    }
+
+    /**
+     * Adds the given amount of entries for the specified value. Values are clamped to the range
+     * of the tree and the count of a value never drops below 0.
+     *
+     * @param value the value whose count should change
+     * @param amount the number of entries to add, may be negative to remove entries
+     */
+    public void add(int value, long amount) {
+        value = this.clamp(value);
+        if (value >= this.counts.length) {
+            this.grow(value);
+        }
+
+        if (this.counts[value] + amount < 0) {
+            amount = -this.counts[value];
+        }
+        if (amount == 0) return;
+
+        this.counts[value] += amount;
+        this.total += amount;
+        for (int i = value + 1; i < this.tree.length; i += i & -i) {
+            this.tree[i] += amount;
+        }
+    }
+
+    /**
+     * Counts all entries whose value is strictly greater than the given value.
+     *
+     * @param value the value to compare against
+     * @return the number of entries above the value
+     */
+    public long countGreaterThan(int value) {
+        if (value < 0) return this.total;
+
+        value = this.clamp(value);
+        if (value >= this.counts.length) return 0;
+
+        long prefix = 0;
+        for (int i = value + 1; i > 0; i -= i & -i) {
+            prefix += this.tree[i];
+        }
+        return this.total - prefix;
+    }
+
+    /**
+     * Removes all entries from the tree.
+     */
+    public void clear() {
+        Arrays.fill(this.counts, 0);
+        Arrays.fill(this.tree, 0);
+        this.total = 0;
+    }
+
+    private int clamp(int value) {
+        return Math.clamp(value, 0, this.maxValue);
+    }
+
+    private void grow(int value) {
+        int capacity = this.counts.length;
+        while (capacity <= value) {
+            capacity <<= 1;
+        }
+        capacity = Math.min(capacity, this.maxValue + 1);
+
+        this.counts = Arrays.copyOf(this.counts, capacity);
+        this.tree = new long[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            this.tree[i] += this.counts[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                this.tree[parent] += this.tree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package de.t0bx.eindino.stats;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class FileStatsRepository extends InMemoryStatsRepository {
+
+    private final File file;
+    private final FileOutputStream outputStream;
+    private final ExecutorService writer;
+
+    /**
+     * Constructs a new FileStatsRepository which appends every delta as one line to a local file.
+     * The file is replayed into memory when the repository is created, all reads are served from memory.
+     * Each line has the format {@code batchId;uuid;kills;deaths;wins;gamesPlayed;bedsDestroyed;rating}.
+     * Lines without a batch id or without the rating, as written by older versions, are still replayed.
+     *
+     * @param file the file the deltas are appended to, created if it does not exist
+     * @throws IOException if the file cannot be read or opened for appending
+     */
+    public FileStatsRepository(File file) throws IOException {
+        this.file = file;
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        this.replay();
+        this.outputStream = new FileOutputStream(file, true);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "bedwars-stats-file"));
+    }
+
+    /**
+     * Appends the deltas to the file on a dedicated writer thread and forces them to disk
+     * before they are applied in memory and the returned future completes.
+     */
+    @Override
+    public CompletableFuture<Void> saveDeltas(StatBatch batch) {
+        if (batch.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        return CompletableFuture.runAsync(() -> {
+            if (this.isApplied(batch.id())) return;
+
+            StringBuilder lines = new StringBuilder();
+            for (StatDelta delta : batch.deltas()) {
+                lines.append(batch.id()).append(';').append(delta.getUuid());
+                for (StatType type : StatType.values()) {
+                    lines.append(';').append(delta.get(type));
+                }
+                lines.append('\n');
+            }
+
+            try {
+                this.outputStream.write(lines.toString().getBytes(StandardCharsets.UTF_8));
+                this.outputStream.getChannel().force(false);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            this.markApplied(batch.id());
+            batch.deltas().forEach(this::apply);
+        }, this.writer);
+    }
+
+    @Override
+    public void close() {
+        this.writer.shutdown();
+        try {
+            this.writer.awaitTermination(5, TimeUnit.SECONDS);
+            this.outputStream.close();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (IOException exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    private void replay() throws IOException {
+        if (!this.file.exists()) return;
+
+        StatType[] types = StatType.values();
+        try (BufferedReader reader = Files.newBufferedReader(this.file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(";");
+                int offset = parts.length > 1 && parts[1].length() == 36 ? 1 : 0;
+                int valueCount = parts.length - offset - 1;
+                if (valueCount != types.length && valueCount != types.length - 1) continue;
+
+                try {
+                    if (offset == 1) {
+                        this.markApplied(UUID.fromString(parts[0]));
+                    }
+
+                    StatDelta delta = new StatDelta(UUID.fromString(parts[offset]));
+                    for (int i = 0; i < valueCount; i++) {
+                        delta.add(types[i], Integer.parseInt(parts[offset + i + 1]));
+                    }
+                    this.apply(delta);
+                } catch (IllegalArgumentException ignored) {
+                    // a torn last line after a crash, the delta was never acknowledged
+                }
+            }
+        }
+    }
+}
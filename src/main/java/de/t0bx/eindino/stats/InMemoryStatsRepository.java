@@ -0,0 +1,144 @@
+package de.t0bx.eindino.stats;
+
+import de.t0bx.eindino.player.BedwarsPlayer;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class InMemoryStatsRepository implements StatsRepository {
+
+    private final Map<UUID, AtomicIntegerArray> rows;
+    private final Set<UUID> appliedBatches;
+    private final Map<UUID, String> names;
+
+    /**
+     * Constructs a new InMemoryStatsRepository which keeps all statistics in memory.
+     * Every player is stored as an {@link AtomicIntegerArray} indexed by {@link StatType#ordinal()},
+     * so concurrent deltas are applied without locks. Used for load tests and benchmarks.
+     */
+    public InMemoryStatsRepository() {
+        this.rows = new ConcurrentHashMap<>();
+        this.appliedBatches = ConcurrentHashMap.newKeySet();
+        this.names = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public CompletableFuture<StoredProfile> loadProfile(UUID uuid) {
+        AtomicIntegerArray row = this.rows.get(uuid);
+        if (row == null) {
+            return CompletableFuture.completedFuture(new StoredProfile(BedwarsPlayer.empty(uuid), false));
+        }
+        return CompletableFuture.completedFuture(new StoredProfile(this.toPlayer(uuid, row), true));
+    }
+
+    @Override
+    public CompletableFuture<BedwarsPlayer> findPlayer(UUID uuid) {
+        AtomicIntegerArray row = this.rows.get(uuid);
+        return CompletableFuture.completedFuture(row != null ? this.toPlayer(uuid, row) : null);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveDeltas(StatBatch batch) {
+        if (this.markApplied(batch.id())) {
+            batch.deltas().forEach(this::apply);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Map<Integer, Long>> loadHistogram(RankType type) {
+        Map<Integer, Long> histogram = new HashMap<>();
+        this.rows.forEach((uuid, row) -> histogram.merge(type.getValue(this.toPlayer(uuid, row)), 1L, Long::sum));
+        return CompletableFuture.completedFuture(histogram);
+    }
+
+    @Override
+    public CompletableFuture<List<BedwarsPlayer>> getTopPlayers(RankType type, int limit) {
+        List<BedwarsPlayer> players = this.rows.entrySet().stream()
+                .map(entry -> this.toPlayer(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(type::getValue).reversed())
+                .limit(limit)
+                .toList();
+        return CompletableFuture.completedFuture(players);
+    }
+
+    @Override
+    public void saveName(UUID uuid, String name) {
+        this.names.put(uuid, name);
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, String>> findNames(Collection<UUID> uuids) {
+        Map<UUID, String> found = new HashMap<>();
+        for (UUID uuid : uuids) {
+            String name = this.names.get(uuid);
+            if (name != null) {
+                found.put(uuid, name);
+            }
+        }
+        return CompletableFuture.completedFuture(found);
+    }
+
+    /**
+     * Checks whether a batch was already applied.
+     *
+     * @param batchId the unique identifier of the batch
+     * @return true if the batch was applied before, false otherwise
+     */
+    protected boolean isApplied(UUID batchId) {
+        return this.appliedBatches.contains(batchId);
+    }
+
+    /**
+     * Remembers the id of a batch.
+     *
+     * @param batchId the unique identifier of the batch
+     * @return true if the batch was not applied before, false otherwise
+     */
+    protected boolean markApplied(UUID batchId) {
+        return this.appliedBatches.add(batchId);
+    }
+
+    /**
+     * Adds a single delta to the stored counters, creating the player if necessary.
+     *
+     * @param delta the delta to apply
+     */
+    protected void apply(StatDelta delta) {
+        AtomicIntegerArray row = this.rows.computeIfAbsent(delta.getUuid(), uuid -> this.createRow());
+        for (StatType type : StatType.values()) {
+            int amount = delta.get(type);
+            if (amount != 0) {
+                row.addAndGet(type.ordinal(), amount);
+            }
+        }
+    }
+
+    private AtomicIntegerArray createRow() {
+        AtomicIntegerArray row = new AtomicIntegerArray(StatType.values().length);
+        for (StatType type : StatType.values()) {
+            row.set(type.ordinal(), type.getDefaultValue());
+        }
+        return row;
+    }
+
+    private BedwarsPlayer toPlayer(UUID uuid, AtomicIntegerArray row) {
+        return new BedwarsPlayer(
+                uuid,
+                row.get(StatType.KILLS.ordinal()),
+                row.get(StatType.DEATHS.ordinal()),
+                row.get(StatType.WINS.ordinal()),
+                row.get(StatType.GAMES_PLAYED.ordinal()),
+                row.get(StatType.BEDS_DESTROYED.ordinal()),
+                row.get(StatType.RATING.ordinal())
+        );
+    }
+}
@@ -0,0 +1,174 @@
+package de.t0bx.eindino.stats;
+
+import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.player.BedwarsPlayer;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+public class JournaledStatsRepository implements StatsRepository {
+
+    private static final long COMPACT_THRESHOLD_BYTES = 1024 * 1024;
+    private static final long DRAIN_TIMEOUT_SECONDS = 10;
+
+    private final StatsRepository delegate;
+    private final StatsJournal journal;
+    private final Map<UUID, StatBatch> unacknowledged;
+    private final Set<UUID> inFlight;
+
+    /**
+     * Constructs a new JournaledStatsRepository which makes the writes of the given repository crash-safe.
+     * Every batch is forced to the local journal before it is sent to the delegate and only acknowledged
+     * in the journal once the delegate has committed it. Batches which failed are kept and retried with
+     * {@link #retryPending()}, batches left over after a crash are written again with {@link #replay()}.
+     * Since the delegate ignores batches it has already applied, writing a batch twice is safe.
+     *
+     * @param delegate the repository the batches are written to
+     * @param journal the local journal
+     */
+    public JournaledStatsRepository(StatsRepository delegate, StatsJournal journal) {
+        this.delegate = delegate;
+        this.journal = journal;
+        this.unacknowledged = new ConcurrentHashMap<>();
+        this.inFlight = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Writes all batches which are still unacknowledged in the journal to the delegate.
+     * Called once during startup before any new batch is written.
+     *
+     * @return a CompletableFuture which completes once all replayed batches are committed
+     * @throws IOException if the journal cannot be read
+     */
+    public CompletableFuture<Void> replay() throws IOException {
+        List<StatBatch> batches = this.journal.readUnacknowledged();
+        if (!batches.isEmpty()) {
+            BedWarsPlugin.getInstance().getLogger().info("Replaying " + batches.size() + " unacknowledged stat batches from the journal");
+        }
+
+        CompletableFuture<?>[] writes = new CompletableFuture<?>[batches.size()];
+        for (int i = 0; i < batches.size(); i++) {
+            StatBatch batch = batches.get(i);
+            this.unacknowledged.put(batch.id(), batch);
+            writes[i] = this.write(batch);
+        }
+        return CompletableFuture.allOf(writes);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveDeltas(StatBatch batch) {
+        if (batch.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        // registered before the append, so a compaction queued behind the append never drops its record
+        this.unacknowledged.put(batch.id(), batch);
+        return this.journal.append(batch).handle((ignored, exception) -> {
+            if (exception != null) {
+                BedWarsPlugin.getInstance().getLogger().log(Level.WARNING, "Failed to journal stat batch " + batch.id() + ", writing it without the journal", exception);
+                this.unacknowledged.remove(batch.id());
+                return false;
+            }
+            return true;
+        }).thenCompose(journaled -> journaled ? this.write(batch) : this.delegate.saveDeltas(batch));
+    }
+
+    /**
+     * Writes all journaled batches again which have not been committed yet, e.g. because the
+     * database was not reachable. Batches which are currently being written are skipped.
+     */
+    public void retryPending() {
+        for (StatBatch batch : this.unacknowledged.values()) {
+            this.write(batch);
+        }
+    }
+
+    /**
+     * Blocks until all journaled batches are committed or the timeout has passed.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of {@code timeout}
+     * @return true if all batches are committed, false if some batches remain in the journal
+     */
+    public boolean awaitDrained(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!this.unacknowledged.isEmpty() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return this.unacknowledged.isEmpty();
+    }
+
+    @Override
+    public CompletableFuture<StoredProfile> loadProfile(UUID uuid) {
+        return this.delegate.loadProfile(uuid);
+    }
+
+    @Override
+    public CompletableFuture<BedwarsPlayer> findPlayer(UUID uuid) {
+        return this.delegate.findPlayer(uuid);
+    }
+
+    @Override
+    public CompletableFuture<Map<Integer, Long>> loadHistogram(RankType type) {
+        return this.delegate.loadHistogram(type);
+    }
+
+    @Override
+    public CompletableFuture<List<BedwarsPlayer>> getTopPlayers(RankType type, int limit) {
+        return this.delegate.getTopPlayers(type, limit);
+    }
+
+    @Override
+    public void saveName(UUID uuid, String name) {
+        this.delegate.saveName(uuid, name);
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, String>> findNames(Collection<UUID> uuids) {
+        return this.delegate.findNames(uuids);
+    }
+
+    @Override
+    public void runMaintenance() {
+        this.delegate.runMaintenance();
+    }
+
+    /**
+     * Waits a bounded time for all journaled batches to be committed before closing the journal.
+     * Batches which are still pending stay in the journal and are replayed on the next start.
+     */
+    @Override
+    public void close() {
+        if (!this.awaitDrained(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            BedWarsPlugin.getInstance().getLogger().warning(this.unacknowledged.size() + " stat batches are not committed yet, they will be replayed on the next start");
+        }
+        this.journal.close();
+        this.delegate.close();
+    }
+
+    private CompletableFuture<Void> write(StatBatch batch) {
+        if (!this.inFlight.add(batch.id())) return CompletableFuture.completedFuture(null);
+
+        return this.delegate.saveDeltas(batch).whenComplete((ignored, exception) -> {
+            this.inFlight.remove(batch.id());
+            if (exception != null) return;
+
+            this.unacknowledged.remove(batch.id());
+            this.journal.acknowledge(batch.id());
+            if (this.unacknowledged.isEmpty()) {
+                this.journal.compact(COMPACT_THRESHOLD_BYTES, this.unacknowledged::isEmpty);
+            }
+        });
+    }
+}
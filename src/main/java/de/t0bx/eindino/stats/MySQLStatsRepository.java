@@ -0,0 +1,291 @@
+package de.t0bx.eindino.stats;
+
+import de.eindino.server.api.database.IMySQLManager;
+import de.t0bx.eindino.database.DatabaseConnector;
+import de.t0bx.eindino.player.BedwarsPlayer;
+import de.t0bx.eindino.utils.UUIDConverter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class MySQLStatsRepository implements StatsRepository {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    private static final long APPLIED_BATCH_RETENTION_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+    private final IMySQLManager mySQLManager;
+    private final DatabaseConnector databaseConnector;
+    private final ExecutorService writer;
+
+    /**
+     * Constructs a new MySQLStatsRepository which stores the statistics in the {@code bedwars_players} table.
+     * The ids of applied batches are kept in {@code bedwars_stat_batches} for a week, which is far longer
+     * than any batch can stay unacknowledged in the local journal, they are removed by {@link #runMaintenance()}.
+     * The flush transactions block on JDBC, so they run on a dedicated writer thread.
+     *
+     * @param mySQLManager the MySQLManager used for all queries
+     * @param databaseConnector the connector opening the connection of each flush transaction
+     */
+    public MySQLStatsRepository(IMySQLManager mySQLManager, DatabaseConnector databaseConnector) {
+        this.mySQLManager = mySQLManager;
+        this.databaseConnector = databaseConnector;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "bedwars-stats-mysql"));
+    }
+
+    /**
+     * Removes the ids of batches applied more than a week ago from {@code bedwars_stat_batches}.
+     */
+    @Override
+    public void runMaintenance() {
+        this.mySQLManager.asyncUpdate("DELETE FROM bedwars_stat_batches WHERE appliedAt < ?", System.currentTimeMillis() - APPLIED_BATCH_RETENTION_MILLIS);
+    }
+
+    /**
+     * Loads the profile with a single statement which always returns exactly one row,
+     * missing players are returned with all values set to 0.
+     */
+    @Override
+    public CompletableFuture<StoredProfile> loadProfile(UUID uuid) {
+        String sql = """
+                SELECT p.uuid IS NOT NULL AS existing,
+                COALESCE(p.kills, 0) AS kills,
+                COALESCE(p.deaths, 0) AS deaths,
+                COALESCE(p.wins, 0) AS wins,
+                COALESCE(p.gamesPlayed, 0) AS gamesPlayed,
+                COALESCE(p.bedsDestroyed, 0) AS bedsDestroyed,
+                COALESCE(p.rating, ?) AS rating
+                FROM (SELECT ? AS uuid) AS requested
+                LEFT JOIN bedwars_players p ON p.uuid = requested.uuid
+                """;
+
+        return this.mySQLManager.queryAsync(sql, resultSet -> {
+            try {
+                return new StoredProfile(new BedwarsPlayer(
+                        uuid,
+                        resultSet.getInt("kills"),
+                        resultSet.getInt("deaths"),
+                        resultSet.getInt("wins"),
+                        resultSet.getInt("gamesPlayed"),
+                        resultSet.getInt("bedsDestroyed"),
+                        resultSet.getInt("rating")
+                ), resultSet.getBoolean("existing"));
+            } catch (SQLException exception) {
+                exception.printStackTrace();
+                return null;
+            }
+        }, StatType.RATING.getDefaultValue(), UUIDConverter.toBytes(uuid)).thenApply(result -> {
+            StoredProfile profile = result.isEmpty() ? null : result.getFirst();
+            if (profile == null) {
+                throw new IllegalStateException("no profile row returned for " + uuid);
+            }
+            return profile;
+        });
+    }
+
+    @Override
+    public CompletableFuture<BedwarsPlayer> findPlayer(UUID uuid) {
+        String sql = "SELECT kills, deaths, wins, gamesPlayed, bedsDestroyed, rating FROM bedwars_players WHERE uuid = ?";
+
+        return this.mySQLManager.queryAsync(sql, resultSet -> {
+            try {
+                return new BedwarsPlayer(
+                        uuid,
+                        resultSet.getInt("kills"),
+                        resultSet.getInt("deaths"),
+                        resultSet.getInt("wins"),
+                        resultSet.getInt("gamesPlayed"),
+                        resultSet.getInt("bedsDestroyed"),
+                        resultSet.getInt("rating")
+                );
+            } catch (SQLException exception) {
+                exception.printStackTrace();
+                return null;
+            }
+        }, UUIDConverter.toBytes(uuid)).thenApply(result -> result.isEmpty() ? null : result.getFirst());
+    }
+
+    /**
+     * Writes the deltas as multi-row upserts of at most {@value #MAX_ROWS_PER_STATEMENT} rows
+     * in a single transaction. The id of the batch is inserted in the same transaction, a batch
+     * which was already applied is skipped. The returned future completes once the transaction is committed.
+     * New rows are inserted with the default value plus the delta, existing rows only get the delta added,
+     * so stats with a non-zero default such as the rating stay additive.
+     */
+    @Override
+    public CompletableFuture<Void> saveDeltas(StatBatch batch) {
+        if (batch.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        List<StatDelta> deltas = batch.deltas();
+        return CompletableFuture.runAsync(() -> {
+            try (Connection connection = this.databaseConnector.getConnection()) {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    if (!this.markApplied(connection, batch)) {
+                        connection.rollback();
+                        return;
+                    }
+
+                    for (int from = 0; from < deltas.size(); from += MAX_ROWS_PER_STATEMENT) {
+                        this.writeChunk(connection, deltas.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, deltas.size())));
+                    }
+                    connection.commit();
+                } catch (SQLException exception) {
+                    connection.rollback();
+                    throw exception;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            } catch (SQLException exception) {
+                throw new CompletionException(exception);
+            }
+        }, this.writer);
+    }
+
+    @Override
+    public CompletableFuture<Map<Integer, Long>> loadHistogram(RankType type) {
+        String sql = "SELECT " + type.getSqlExpression() + " AS value, COUNT(*) AS amount FROM bedwars_players GROUP BY value";
+
+        return this.mySQLManager.queryAsync(sql, resultSet -> {
+            try {
+                return new long[]{resultSet.getLong("value"), resultSet.getLong("amount")};
+            } catch (SQLException exception) {
+                exception.printStackTrace();
+                return null;
+            }
+        }).thenApply(buckets -> {
+            Map<Integer, Long> histogram = new HashMap<>();
+            buckets.stream().filter(Objects::nonNull).forEach(bucket -> histogram.merge((int) bucket[0], bucket[1], Long::sum));
+            return histogram;
+        });
+    }
+
+    @Override
+    public void saveName(UUID uuid, String name) {
+        String sql = """
+                INSERT INTO bedwars_player_names (uuid, name, updatedAt) VALUES (?, ?, ?)
+                ON DUPLICATE KEY UPDATE name = VALUES(name), updatedAt = VALUES(updatedAt)
+                """;
+        this.mySQLManager.asyncUpdate(sql, UUIDConverter.toBytes(uuid), name, System.currentTimeMillis());
+    }
+
+    /**
+     * Looks up all names with a single {@code IN} query.
+     */
+    @Override
+    public CompletableFuture<Map<UUID, String>> findNames(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) return CompletableFuture.completedFuture(Collections.emptyMap());
+
+        String sql = "SELECT uuid, name FROM bedwars_player_names WHERE uuid IN (" + String.join(", ", Collections.nCopies(uuids.size(), "?")) + ")";
+        Object[] params = uuids.stream().map(UUIDConverter::toBytes).toArray();
+
+        return this.mySQLManager.queryAsync(sql, resultSet -> {
+            try {
+                UUID uuid = UUIDConverter.fromBytes(resultSet.getBytes("uuid"));
+                return uuid != null ? Map.entry(uuid, resultSet.getString("name")) : null;
+            } catch (SQLException exception) {
+                exception.printStackTrace();
+                return null;
+            }
+        }, params).thenApply(entries -> {
+            Map<UUID, String> names = new HashMap<>();
+            entries.stream().filter(Objects::nonNull).forEach(entry -> names.put(entry.getKey(), entry.getValue()));
+            return names;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<BedwarsPlayer>> getTopPlayers(RankType type, int limit) {
+        String sql = "SELECT * FROM bedwars_players ORDER BY " + type.getSqlExpression() + " DESC LIMIT ?";
+
+        return this.mySQLManager.queryAsync(sql, resultSet -> {
+            try {
+                UUID uuid = UUIDConverter.fromBytes(resultSet.getBytes("uuid"));
+                if (uuid == null) return null;
+
+                return new BedwarsPlayer(
+                        uuid,
+                        resultSet.getInt("kills"),
+                        resultSet.getInt("deaths"),
+                        resultSet.getInt("wins"),
+                        resultSet.getInt("gamesPlayed"),
+                        resultSet.getInt("bedsDestroyed"),
+                        resultSet.getInt("rating")
+                );
+            } catch (SQLException exception) {
+                exception.printStackTrace();
+                return null;
+            }
+        }, limit).thenApply(list -> list.stream().filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * Waits for the running flush transactions and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        this.writer.shutdown();
+        try {
+            this.writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean markApplied(Connection connection, StatBatch batch) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT IGNORE INTO bedwars_stat_batches (batchId, appliedAt) VALUES (?, ?)")) {
+            statement.setBytes(1, UUIDConverter.toBytes(batch.id()));
+            statement.setLong(2, System.currentTimeMillis());
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    private void writeChunk(Connection connection, List<StatDelta> deltas) throws SQLException {
+        StatType[] types = StatType.values();
+        StringBuilder sql = new StringBuilder("INSERT INTO bedwars_players (uuid");
+        for (StatType type : types) {
+            sql.append(", ").append(type.getColumn());
+        }
+        sql.append(") VALUES ");
+
+        String row = "(?" + ", ?".repeat(types.length) + ")";
+        for (int i = 0; i < deltas.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(row);
+        }
+
+        sql.append(" ON DUPLICATE KEY UPDATE ");
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) sql.append(", ");
+            String column = types[i].getColumn();
+            sql.append(column).append(" = ").append(column).append(" + VALUES(").append(column).append(")");
+            if (types[i].getDefaultValue() != 0) {
+                sql.append(" - ").append(types[i].getDefaultValue());
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (StatDelta delta : deltas) {
+                statement.setBytes(index++, UUIDConverter.toBytes(delta.getUuid()));
+                for (StatType type : types) {
+                    statement.setInt(index++, type.getDefaultValue() + delta.get(type));
+                }
+            }
+            statement.executeUpdate();
+        }
+    }
+}
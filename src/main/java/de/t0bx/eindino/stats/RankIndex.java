@@ -0,0 +1,148 @@
+package de.t0bx.eindino.stats;
+
+import de.t0bx.eindino.player.BedwarsPlayer;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class RankIndex {
+
+    private final StatsRepository statsRepository;
+    private final Map<RankType, FenwickTree> trees;
+    private final Map<RankType, Map<Integer, Long>> pendingChanges;
+    private boolean seeded;
+
+    /**
+     * Constructs a new RankIndex which keeps a histogram per {@link RankType} in memory,
+     * so leaderboard placements can be answered in O(log n) without querying the database.
+     *
+     * @param statsRepository the repository used to seed the histograms once
+     */
+    public RankIndex(StatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+        this.trees = new EnumMap<>(RankType.class);
+        this.pendingChanges = new EnumMap<>(RankType.class);
+        for (RankType type : RankType.values()) {
+            this.trees.put(type, new FenwickTree(1024, type.getMaxValue()));
+            this.pendingChanges.put(type, new HashMap<>());
+        }
+    }
+
+    /**
+     * Seeds all histograms from the repository without blocking. Each rank type is loaded as a histogram,
+     * so only one entry per distinct value is transferred. Changes made while the histograms are loading
+     * are collected and applied on top of them, placements are not available until the seed has completed.
+     *
+     * @return a CompletableFuture which completes once the histograms are seeded
+     */
+    public CompletableFuture<Void> seed() {
+        Map<RankType, CompletableFuture<Map<Integer, Long>>> histograms = new EnumMap<>(RankType.class);
+        for (RankType type : RankType.values()) {
+            histograms.put(type, this.statsRepository.loadHistogram(type));
+        }
+
+        return CompletableFuture.allOf(histograms.values().toArray(CompletableFuture[]::new))
+                .thenRun(() -> this.applySeed(histograms));
+    }
+
+    /**
+     * Checks whether the histograms have been seeded, see {@link #seed()}.
+     *
+     * @return true if placements can be answered, otherwise false
+     */
+    public synchronized boolean isSeeded() {
+        return this.seeded;
+    }
+
+    /**
+     * Adds a player which does not exist in the database yet to all histograms.
+     *
+     * @param bedwarsPlayer the newly created player
+     */
+    public synchronized void insert(BedwarsPlayer bedwarsPlayer) {
+        for (RankType type : RankType.values()) {
+            this.change(type, type.getValue(bedwarsPlayer), 1);
+        }
+    }
+
+    /**
+     * Removes a player added with {@link #insert(BedwarsPlayer)} from all histograms again.
+     *
+     * @param bedwarsPlayer the player to remove
+     */
+    public synchronized void remove(BedwarsPlayer bedwarsPlayer) {
+        for (RankType type : RankType.values()) {
+            this.change(type, type.getValue(bedwarsPlayer), -1);
+        }
+    }
+
+    /**
+     * Captures the ranked values of a player before a stat change is applied.
+     *
+     * @param bedwarsPlayer the player that is about to change
+     * @return the ranked values of the player, indexed by {@link RankType#ordinal()}
+     */
+    public int[] snapshot(BedwarsPlayer bedwarsPlayer) {
+        RankType[] types = RankType.values();
+        int[] values = new int[types.length];
+        for (RankType type : types) {
+            values[type.ordinal()] = type.getValue(bedwarsPlayer);
+        }
+        return values;
+    }
+
+    /**
+     * Moves a player within the histograms after a stat change.
+     *
+     * @param previous the values captured with {@link #snapshot(BedwarsPlayer)} before the change
+     * @param bedwarsPlayer the player after the change
+     */
+    public synchronized void update(int[] previous, BedwarsPlayer bedwarsPlayer) {
+        for (RankType type : RankType.values()) {
+            int oldValue = previous[type.ordinal()];
+            int newValue = type.getValue(bedwarsPlayer);
+            if (oldValue == newValue) continue;
+
+            this.change(type, oldValue, -1);
+            this.change(type, newValue, 1);
+        }
+    }
+
+    /**
+     * Retrieves the leaderboard placement of a player for the given rank type.
+     * Players sharing the same value share the same placement.
+     *
+     * @param bedwarsPlayer the player whose placement should be calculated
+     * @param type the value the leaderboard is sorted by
+     * @return the placement of the player starting at 1, or -1 if the index is not seeded yet
+     */
+    public synchronized int getPlacement(BedwarsPlayer bedwarsPlayer, RankType type) {
+        if (!this.seeded) return -1;
+
+        return (int) this.trees.get(type).countGreaterThan(type.getValue(bedwarsPlayer)) + 1;
+    }
+
+    private synchronized void applySeed(Map<RankType, CompletableFuture<Map<Integer, Long>>> histograms) {
+        for (RankType type : RankType.values()) {
+            FenwickTree tree = this.trees.get(type);
+            tree.clear();
+            histograms.get(type).join().forEach(tree::add);
+
+            Map<Integer, Long> changes = this.pendingChanges.get(type);
+            changes.forEach(tree::add);
+            changes.clear();
+        }
+        this.seeded = true;
+    }
+
+    private void change(RankType type, int value, long amount) {
+        if (this.seeded) {
+            this.trees.get(type).add(value, amount);
+            return;
+        }
+        // the histograms are still loading, the change is applied once they are there
+        this.pendingChanges.get(type).merge(value, amount, Long::sum);
+    }
+}
@@ -0,0 +1,47 @@
+package de.t0bx.eindino.stats;
+
+import de.t0bx.eindino.player.BedwarsPlayer;
+import lombok.Getter;
+
+import java.util.function.ToIntFunction;
+
+public enum RankType {
+    WINS("wins", 1 << 17, BedwarsPlayer::getWins),
+    KILLS("kills", 1 << 17, BedwarsPlayer::getKills),
+    KD("IF(deaths = 0, kills * 100, ROUND(kills * 100 / deaths))", 10_000, player -> player.getDeaths() == 0
+            ? player.getKills() * 100
+            : (int) Math.round(player.getKills() * 100.0 / player.getDeaths())),
+    BEDS_DESTROYED("bedsDestroyed", 1 << 17, BedwarsPlayer::getBedsDestroyed),
+    RATING("rating", 1 << 14, BedwarsPlayer::getRating);
+
+    /**
+     * The SQL expression computing the ranked value from a row of {@code bedwars_players}.
+     * K/D is ranked in hundredths, matching the two decimals shown to players.
+     */
+    @Getter
+    private final String sqlExpression;
+
+    /**
+     * The highest value the leaderboard distinguishes. Higher values share the first placement,
+     * which keeps the histogram small, e.g. a K/D above 100 when a player has many kills and no deaths.
+     */
+    @Getter
+    private final int maxValue;
+    private final ToIntFunction<BedwarsPlayer> valueFunction;
+
+    RankType(String sqlExpression, int maxValue, ToIntFunction<BedwarsPlayer> valueFunction) {
+        this.sqlExpression = sqlExpression;
+        this.maxValue = maxValue;
+        this.valueFunction = valueFunction;
+    }
+
+    /**
+     * Computes the ranked value of the given player.
+     *
+     * @param bedwarsPlayer the player whose value should be computed
+     * @return the value the player is ranked by
+     */
+    public int getValue(BedwarsPlayer bedwarsPlayer) {
+        return this.valueFunction.applyAsInt(bedwarsPlayer);
+    }
+}
@@ -0,0 +1,33 @@
+package de.t0bx.eindino.stats;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A batch of deltas which is written as one unit. The id makes writes idempotent,
+ * a repository applies every batch at most once even if it is saved again after a crash.
+ *
+ * @param id the unique identifier of the batch
+ * @param deltas the deltas of the batch
+ */
+public record StatBatch(UUID id, List<StatDelta> deltas) {
+
+    /**
+     * Creates a new batch with a random id.
+     *
+     * @param deltas the deltas of the batch
+     * @return the new batch
+     */
+    public static StatBatch of(List<StatDelta> deltas) {
+        return new StatBatch(UUID.randomUUID(), List.copyOf(deltas));
+    }
+
+    /**
+     * Checks whether the batch contains no deltas.
+     *
+     * @return true if there is nothing to write, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.deltas.isEmpty();
+    }
+}
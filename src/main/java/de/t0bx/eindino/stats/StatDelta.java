@@ -0,0 +1,55 @@
+package de.t0bx.eindino.stats;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+public class StatDelta {
+
+    @Getter
+    private final UUID uuid;
+    private final int[] values;
+
+    /**
+     * Constructs an empty StatDelta for the given player. All counters start at zero,
+     * an empty delta still results in a row being created when it is flushed.
+     *
+     * @param uuid the unique identifier of the player this delta belongs to
+     */
+    public StatDelta(UUID uuid) {
+        this.uuid = uuid;
+        this.values = new int[StatType.values().length];
+    }
+
+    /**
+     * Adds the given amount to the counter of the specified statistic.
+     *
+     * @param type the statistic to increment
+     * @param amount the amount to add
+     */
+    public void add(StatType type, int amount) {
+        this.values[type.ordinal()] += amount;
+    }
+
+    /**
+     * Retrieves the accumulated amount for the specified statistic.
+     *
+     * @param type the statistic to read
+     * @return the accumulated amount since this delta was created
+     */
+    public int get(StatType type) {
+        return this.values[type.ordinal()];
+    }
+
+    /**
+     * Checks whether no counter of this delta has changed, e.g. if it was only created to create the row of a player.
+     *
+     * @return true if all counters are zero, otherwise false
+     */
+    public boolean isEmpty() {
+        for (int value : this.values) {
+            if (value != 0) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package de.t0bx.eindino.stats;
+
+import lombok.Getter;
+
+@Getter
+public enum StatType {
+    KILLS("kills"),
+    DEATHS("deaths"),
+    WINS("wins"),
+    GAMES_PLAYED("gamesPlayed"),
+    BEDS_DESTROYED("bedsDestroyed"),
+    RATING("rating", 1000);
+
+    private final String column;
+
+    /**
+     * The value a new player starts with. Deltas are always added on top of it.
+     */
+    private final int defaultValue;
+
+    StatType(String column) {
+        this(column, 0);
+    }
+
+    StatType(String column, int defaultValue) {
+        this.column = column;
+        this.defaultValue = defaultValue;
+    }
+}
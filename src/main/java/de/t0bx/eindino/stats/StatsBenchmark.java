@@ -0,0 +1,121 @@
+package de.t0bx.eindino.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class StatsBenchmark {
+
+    private static final int DELTAS_PER_BATCH = 500;
+
+    private final int players;
+
+    /**
+     * Constructs a new StatsBenchmark which measures the stats pipeline of a {@link StatsRepository}
+     * with the given number of synthetic players, so the backends can be compared on the same workload.
+     * Does not depend on the server and blocks the calling thread, so it must run asynchronously.
+     *
+     * @param players the number of synthetic players written and read per run
+     */
+    public StatsBenchmark(int players) {
+        this.players = players;
+    }
+
+    /**
+     * Writes one delta per synthetic player in batches of {@value #DELTAS_PER_BATCH}, as a flush does,
+     * then loads every profile one after another and finally loads one histogram.
+     * The synthetic players stay in the repository, so it must only be used with throwaway repositories.
+     *
+     * @param backend the name of the backend shown in the result
+     * @param repository the repository to measure
+     * @return the measured durations
+     */
+    public Result run(String backend, StatsRepository repository) {
+        List<UUID> uuids = this.createUuids();
+
+        long start = System.nanoTime();
+        for (int from = 0; from < uuids.size(); from += DELTAS_PER_BATCH) {
+            List<StatDelta> deltas = new ArrayList<>();
+            for (UUID uuid : uuids.subList(from, Math.min(from + DELTAS_PER_BATCH, uuids.size()))) {
+                deltas.add(this.createDelta(uuid));
+            }
+            repository.saveDeltas(StatBatch.of(deltas)).join();
+        }
+        long writeNanos = System.nanoTime() - start;
+
+        return this.measureReads(backend, repository, uuids, writeNanos);
+    }
+
+    /**
+     * Measures only the reads of {@link #run(String, StatsRepository)}. The profiles of random players
+     * which do not exist are loaded, so this is safe to run against the live repository.
+     *
+     * @param backend the name of the backend shown in the result
+     * @param repository the repository to measure
+     * @return the measured durations without a write duration
+     */
+    public Result runReadOnly(String backend, StatsRepository repository) {
+        return this.measureReads(backend, repository, this.createUuids(), -1);
+    }
+
+    private Result measureReads(String backend, StatsRepository repository, List<UUID> uuids, long writeNanos) {
+        long start = System.nanoTime();
+        for (UUID uuid : uuids) {
+            repository.loadProfile(uuid).join();
+        }
+        long readNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        repository.loadHistogram(RankType.WINS).join();
+        long histogramNanos = System.nanoTime() - start;
+
+        return new Result(backend, this.players, writeNanos, readNanos, histogramNanos);
+    }
+
+    private List<UUID> createUuids() {
+        List<UUID> uuids = new ArrayList<>(this.players);
+        for (int i = 0; i < this.players; i++) {
+            uuids.add(UUID.randomUUID());
+        }
+        return uuids;
+    }
+
+    private StatDelta createDelta(UUID uuid) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StatDelta delta = new StatDelta(uuid);
+        delta.add(StatType.KILLS, random.nextInt(10));
+        delta.add(StatType.DEATHS, random.nextInt(10));
+        delta.add(StatType.WINS, random.nextInt(2));
+        delta.add(StatType.GAMES_PLAYED, 1);
+        delta.add(StatType.BEDS_DESTROYED, random.nextInt(3));
+        delta.add(StatType.RATING, random.nextInt(-20, 21));
+        return delta;
+    }
+
+    /**
+     * The durations of one benchmark run.
+     *
+     * @param backend the name of the measured backend
+     * @param players the number of synthetic players
+     * @param writeNanos the time needed to save all deltas, or -1 if the run did not write
+     * @param readNanos the time needed to load all profiles one after another
+     * @param histogramNanos the time needed to load one histogram
+     */
+    public record Result(String backend, int players, long writeNanos, long readNanos, long histogramNanos) {
+
+        /**
+         * Formats the result as one line, e.g. {@code file: write 120ms, read 35ms, histogram 2ms}.
+         *
+         * @return the formatted result
+         */
+        public String format() {
+            String write = this.writeNanos < 0 ? "-" : toMillis(this.writeNanos) + "ms";
+            return this.backend + ": write " + write + ", read " + toMillis(this.readNanos) + "ms, histogram " + toMillis(this.histogramNanos) + "ms";
+        }
+
+        private static long toMillis(long nanos) {
+            return nanos / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package de.t0bx.eindino.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class StatsBuffer {
+
+    private final Map<UUID, StatDelta> pendingDeltas;
+    private final StatsRepository statsRepository;
+
+    /**
+     * Constructs a new StatsBuffer which collects stat changes per player in memory
+     * and writes them to the repository in batches instead of one update per change.
+     *
+     * @param statsRepository the repository used to persist the buffered deltas
+     */
+    public StatsBuffer(StatsRepository statsRepository) {
+        this.pendingDeltas = new ConcurrentHashMap<>();
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * Merges the given amount into the pending delta of the player. Deltas are only
+     * mutated inside {@link Map#compute}, so a concurrent flush either sees the change
+     * or leaves it in a fresh delta for the next flush.
+     *
+     * @param uuid the unique identifier of the player
+     * @param type the statistic that changed
+     * @param amount the amount to add
+     */
+    public void add(UUID uuid, StatType type, int amount) {
+        this.pendingDeltas.compute(uuid, (key, delta) -> {
+            if (delta == null) {
+                delta = new StatDelta(key);
+            }
+            delta.add(type, amount);
+            return delta;
+        });
+    }
+
+    /**
+     * Marks a player as pending without changing any counter, which makes the next flush
+     * create the database row of the player if it does not exist yet.
+     *
+     * @param uuid the unique identifier of the player
+     */
+    public void touch(UUID uuid) {
+        this.pendingDeltas.computeIfAbsent(uuid, StatDelta::new);
+    }
+
+    /**
+     * Removes the pending delta of a player if it does not contain any change, so the row
+     * of a player marked with {@link #touch(UUID)} is not created by the next flush.
+     *
+     * @param uuid the unique identifier of the player
+     * @return true if an empty delta was removed, otherwise false
+     */
+    public boolean discardIfEmpty(UUID uuid) {
+        boolean[] removed = {false};
+        this.pendingDeltas.computeIfPresent(uuid, (key, delta) -> {
+            if (!delta.isEmpty()) return delta;
+
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Checks whether the player has changes that have not been written yet.
+     *
+     * @param uuid the unique identifier of the player
+     * @return true if there is a pending delta for the player, false otherwise
+     */
+    public boolean hasPending(UUID uuid) {
+        return this.pendingDeltas.containsKey(uuid);
+    }
+
+    /**
+     * Writes all pending deltas to the repository as one batch and removes them from the buffer.
+     *
+     * @return a CompletableFuture which completes once the batch is stored
+     */
+    public CompletableFuture<Void> flush() {
+        List<StatDelta> deltas = this.drain();
+        if (deltas.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        return this.statsRepository.saveDeltas(StatBatch.of(deltas));
+    }
+
+    /**
+     * Writes the pending delta of a single player to the repository, e.g. when the player leaves the server.
+     *
+     * @param uuid the unique identifier of the player
+     * @return a CompletableFuture which completes once the delta is stored
+     */
+    public CompletableFuture<Void> flush(UUID uuid) {
+        StatDelta delta = this.pendingDeltas.remove(uuid);
+        if (delta == null) return CompletableFuture.completedFuture(null);
+
+        return this.statsRepository.saveDeltas(StatBatch.of(List.of(delta)));
+    }
+
+    /**
+     * Removes the pending delta of a player without writing it.
+     *
+     * @param uuid the unique identifier of the player
+     * @return the delta that was dropped, so callers can revert in-memory changes, or null if there was none
+     */
+    public StatDelta discard(UUID uuid) {
+        return this.pendingDeltas.remove(uuid);
+    }
+
+    private List<StatDelta> drain() {
+        List<StatDelta> deltas = new ArrayList<>(this.pendingDeltas.size());
+        for (UUID uuid : this.pendingDeltas.keySet()) {
+            StatDelta delta = this.pendingDeltas.remove(uuid);
+            if (delta != null) {
+                deltas.add(delta);
+            }
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,216 @@
+package de.t0bx.eindino.stats;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class StatsJournal {
+
+    private static final String BATCH_RECORD = "B";
+    private static final String ACK_RECORD = "A";
+
+    private final File file;
+    private final FileChannel channel;
+    private final ExecutorService writer;
+    private final List<JournalEntry> queue;
+    private boolean drainScheduled;
+
+    /**
+     * Constructs a new StatsJournal, an append-only local file of stat batches which have not been
+     * committed to the database yet. Every batch is written as one line before it is sent to the
+     * database and an acknowledgement line is appended once the database has committed it.
+     * Writes are group committed: all records queued while the writer thread is busy are forced
+     * to disk with a single fsync.
+     *
+     * @param file the journal file, created if it does not exist
+     * @throws IOException if the file cannot be opened
+     */
+    public StatsJournal(File file) throws IOException {
+        this.file = file;
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "bedwars-stats-journal"));
+        this.queue = new ArrayList<>();
+    }
+
+    /**
+     * Reads all batches from the journal which have not been acknowledged. A torn last line
+     * after a crash is skipped, since the batch of that line was never sent to the database.
+     *
+     * @return the unacknowledged batches in the order they were written
+     * @throws IOException if the journal cannot be read
+     */
+    public List<StatBatch> readUnacknowledged() throws IOException {
+        Map<UUID, StatBatch> batches = new LinkedHashMap<>();
+        StatType[] types = StatType.values();
+        try (BufferedReader reader = Files.newBufferedReader(this.file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(";");
+                try {
+                    if (parts[0].equals(ACK_RECORD) && parts.length == 2) {
+                        batches.remove(UUID.fromString(parts[1]));
+                        continue;
+                    }
+                    if (!parts[0].equals(BATCH_RECORD) || parts.length < 2) continue;
+
+                    List<StatDelta> deltas = new ArrayList<>();
+                    for (int i = 2; i < parts.length; i++) {
+                        String[] values = parts[i].split(",");
+                        int valueCount = values.length - 1;
+                        if (valueCount != types.length && valueCount != types.length - 1) throw new IllegalArgumentException("torn delta");
+
+                        StatDelta delta = new StatDelta(UUID.fromString(values[0]));
+                        for (int j = 0; j < valueCount; j++) {
+                            delta.add(types[j], Integer.parseInt(values[j + 1]));
+                        }
+                        deltas.add(delta);
+                    }
+
+                    UUID batchId = UUID.fromString(parts[1]);
+                    batches.put(batchId, new StatBatch(batchId, List.copyOf(deltas)));
+                } catch (IllegalArgumentException ignored) {
+                    // a torn line, the batch was never acknowledged to the caller
+                }
+            }
+        }
+        return new ArrayList<>(batches.values());
+    }
+
+    /**
+     * Appends a batch to the journal.
+     *
+     * @param batch the batch that is about to be sent to the database
+     * @return a CompletableFuture which completes once the batch is forced to disk
+     */
+    public CompletableFuture<Void> append(StatBatch batch) {
+        StringBuilder line = new StringBuilder(BATCH_RECORD).append(';').append(batch.id());
+        for (StatDelta delta : batch.deltas()) {
+            line.append(';').append(delta.getUuid());
+            for (StatType type : StatType.values()) {
+                line.append(',').append(delta.get(type));
+            }
+        }
+        return this.enqueue(new JournalEntry(line.append('\n').toString(), null));
+    }
+
+    /**
+     * Appends the acknowledgement of a batch which was committed to the database.
+     * Losing an acknowledgement is harmless, the batch is replayed and ignored by the database.
+     *
+     * @param batchId the unique identifier of the committed batch
+     */
+    public void acknowledge(UUID batchId) {
+        this.enqueue(new JournalEntry(ACK_RECORD + ";" + batchId + "\n", null));
+    }
+
+    /**
+     * Truncates the journal on the writer thread if it has grown beyond the given size and the
+     * condition still holds once all previously queued records are written.
+     *
+     * @param thresholdBytes the size from which the journal is truncated
+     * @param condition checked on the writer thread, should be true if no batch is unacknowledged
+     */
+    public void compact(long thresholdBytes, BooleanSupplier condition) {
+        this.enqueue(new JournalEntry(null, () -> {
+            if (this.channel.size() >= thresholdBytes && condition.getAsBoolean()) {
+                this.channel.truncate(0);
+                this.channel.force(true);
+            }
+        }));
+    }
+
+    /**
+     * Stops the writer thread after all queued records are written and closes the file.
+     */
+    public void close() {
+        this.writer.shutdown();
+        try {
+            this.writer.awaitTermination(5, TimeUnit.SECONDS);
+            this.channel.close();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (IOException exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    private CompletableFuture<Void> enqueue(JournalEntry entry) {
+        synchronized (this.queue) {
+            this.queue.add(entry);
+            if (!this.drainScheduled) {
+                this.drainScheduled = true;
+                this.writer.execute(this::drain);
+            }
+        }
+        return entry.future;
+    }
+
+    private void drain() {
+        List<JournalEntry> entries;
+        synchronized (this.queue) {
+            entries = new ArrayList<>(this.queue);
+            this.queue.clear();
+            this.drainScheduled = false;
+        }
+
+        try {
+            boolean dirty = false;
+            for (JournalEntry entry : entries) {
+                if (entry.line != null) {
+                    ByteBuffer buffer = ByteBuffer.wrap(entry.line.getBytes(StandardCharsets.UTF_8));
+                    while (buffer.hasRemaining()) {
+                        this.channel.write(buffer);
+                    }
+                    dirty = true;
+                } else {
+                    if (dirty) {
+                        this.channel.force(false);
+                        dirty = false;
+                    }
+                    entry.action.run();
+                }
+            }
+            if (dirty) {
+                this.channel.force(false);
+            }
+            entries.forEach(entry -> entry.future.complete(null));
+        } catch (IOException exception) {
+            entries.forEach(entry -> entry.future.completeExceptionally(exception));
+        }
+    }
+
+    @FunctionalInterface
+    private interface JournalAction {
+        void run() throws IOException;
+    }
+
+    private static final class JournalEntry {
+        private final String line;
+        private final JournalAction action;
+        private final CompletableFuture<Void> future;
+
+        private JournalEntry(String line, JournalAction action) {
+            this.line = line;
+            this.action = action;
+            this.future = new CompletableFuture<>();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package de.t0bx.eindino.stats;
+
+import de.t0bx.eindino.player.BedwarsPlayer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The storage backend of the player statistics. {@link de.t0bx.eindino.player.PlayerHandler},
+ * {@link StatsBuffer} and {@link RankIndex} only talk to this interface, so the stats pipeline
+ * can run against MySQL, a plain in-memory store or a local file.
+ */
+public interface StatsRepository {
+
+    /**
+     * Loads the profile of a player. Missing players are returned with all values set to 0
+     * and {@link StoredProfile#existing()} set to false, their row is created by the first delta.
+     *
+     * @param uuid the unique identifier of the player
+     * @return a CompletableFuture containing the stored profile
+     */
+    CompletableFuture<StoredProfile> loadProfile(UUID uuid);
+
+    /**
+     * Looks up the profile of a player without creating it.
+     *
+     * @param uuid the unique identifier of the player
+     * @return a CompletableFuture containing the profile, or null if the player does not exist
+     */
+    CompletableFuture<BedwarsPlayer> findPlayer(UUID uuid);
+
+    /**
+     * Adds the deltas of the batch to the stored counters, creating missing players.
+     * Deltas are additive, so the order in which batches complete does not matter.
+     * A batch whose id was already applied must be ignored, so saving a batch again is safe.
+     *
+     * @param batch the batch to persist
+     * @return a CompletableFuture which completes once the batch is durably stored
+     */
+    CompletableFuture<Void> saveDeltas(StatBatch batch);
+
+    /**
+     * Counts how many players share each value of the given rank type.
+     *
+     * @param type the value the leaderboard is sorted by
+     * @return a CompletableFuture containing the number of players per value
+     */
+    CompletableFuture<Map<Integer, Long>> loadHistogram(RankType type);
+
+    /**
+     * Retrieves the best players of the given rank type.
+     *
+     * @param type the value the leaderboard is sorted by
+     * @param limit the maximum number of players to return
+     * @return a CompletableFuture containing the players, sorted in descending order
+     */
+    CompletableFuture<List<BedwarsPlayer>> getTopPlayers(RankType type, int limit);
+
+    /**
+     * Stores the last known name of a player, so leaderboards can be rendered without asking Mojang.
+     *
+     * @param uuid the unique identifier of the player
+     * @param name the current name of the player
+     */
+    void saveName(UUID uuid, String name);
+
+    /**
+     * Looks up the stored names of several players at once.
+     *
+     * @param uuids the unique identifiers of the players
+     * @return a CompletableFuture containing the names of all players with a stored name
+     */
+    CompletableFuture<Map<UUID, String>> findNames(Collection<UUID> uuids);
+
+    /**
+     * Cleans up data this repository only keeps for a limited time. Called once on startup,
+     * the backends without such data do nothing.
+     */
+    default void runMaintenance() {}
+
+    /**
+     * Releases the resources of this repository. Called once when the plugin is disabled.
+     */
+    default void close() {}
+}
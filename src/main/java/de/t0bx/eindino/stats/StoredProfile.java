@@ -0,0 +1,11 @@
+package de.t0bx.eindino.stats;
+
+import de.t0bx.eindino.player.BedwarsPlayer;
+
+/**
+ * A profile as returned by {@link StatsRepository#loadProfile(java.util.UUID)}.
+ *
+ * @param bedwarsPlayer the stored values of the player
+ * @param existing whether the player already exists in the repository
+ */
+public record StoredProfile(BedwarsPlayer bedwarsPlayer, boolean existing) {}
@@ -136,6 +136,17 @@ public class TeamData {
         }
     }
 
+    /**
+     * Resets the state this team collected during a round, so it can take part in the next round
+     * on the same server. The spawn and bed locations are set again when the next map is set up.
+     */
+    public void reset() {
+        this.playersAlive.clear();
+        this.customData.clear();
+        this.score = 0;
+        this.setBedDestroyed(true);
+    }
+
     /**
      * Gets a copy of the players list
      * @return list of players in this team
@@ -1,24 +1,31 @@
 package de.t0bx.eindino.team;
 
+import de.t0bx.eindino.arena.Arena;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.Team;
 
 import java.util.*;
+import java.util.function.ToIntFunction;
 
 public class TeamHandler {
 
+    private final Arena arena;
     private final Map<String, TeamData> teams;
 
     /**
      * Initializes a new instance of the TeamHandler class.
-     * This constructor sets up an empty collection to manage teams.
+     * This constructor sets up an empty collection to manage the teams of an arena.
+     * The scoreboard teams are only written to the scoreboards of the arena's players,
+     * so arenas using the same team names don't overwrite each other's entries.
+     *
+     * @param arena the arena whose teams are managed
      */
-    public TeamHandler() {
+    public TeamHandler(Arena arena) {
+        this.arena = arena;
         this.teams = new HashMap<>();
     }
 
@@ -70,7 +77,7 @@ public class TeamHandler {
     }
 
     /**
-     * Updates the scoreboards for all online players by synchronizing with the team data
+     * Updates the scoreboards for all players of the arena by synchronizing with the team data
      * associated with the specified team name.
      *
      * @param teamName the name of the team whose scoreboard entries should be updated.
@@ -82,7 +89,7 @@ public class TeamHandler {
 
         String teamId = teamName.length() > 16 ? teamName.substring(0, 16) : teamName;
 
-        for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
+        for (Player onlinePlayer : this.arena.getPlayers()) {
             Scoreboard playerScoreboard = onlinePlayer.getScoreboard();
 
             Team scoreboardTeam = playerScoreboard.getTeam(teamId);
@@ -166,7 +173,7 @@ public class TeamHandler {
                 String teamId = teamData.getName().length() > 16 ?
                         teamData.getName().substring(0, 16) : teamData.getName();
 
-                for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
+                for (Player onlinePlayer : this.arena.getPlayers()) {
                     Scoreboard playerScoreboard = onlinePlayer.getScoreboard();
                     Team scoreboardTeam = playerScoreboard.getTeam(teamId);
                     if (scoreboardTeam != null) {
@@ -217,6 +224,13 @@ public class TeamHandler {
         return this.teams.values().stream().filter(t -> !t.getName().equalsIgnoreCase("999spectator")).toList();
     }
 
+    /**
+     * Resets the round state of all teams after a round has ended.
+     */
+    public void resetTeams() {
+        this.teams.values().forEach(TeamData::reset);
+    }
+
     /**
      * Retrieves a list of teams that still have at least one alive player.
      *
@@ -227,14 +241,16 @@ public class TeamHandler {
     }
 
     /**
-     * Distributes a list of players across all available teams.
-     * First clears each player from all teams, then assigns players
-     * to teams in a shuffled order while respecting team capacity limits.
-     * Updates the scoreboard for all players after redistribution.
+     * Distributes a list of players across all available teams so that the summed rating of the teams
+     * stays as even as possible. First clears each player from all teams, then assigns the players from
+     * the highest to the lowest rating, each to the team with the lowest summed rating which still has space.
+     * Players who already picked a team count towards the sum of their team, players with the same
+     * rating are assigned in a shuffled order. Updates the scoreboard for all players after redistribution.
      *
      * @param players the list of players to be distributed across teams
+     * @param rating retrieves the rating of a player, must not query the database
      */
-    public void distributePlayers(List<Player> players) {
+    public void distributePlayers(List<Player> players, ToIntFunction<Player> rating) {
         for (Player player : players) {
             removePlayerFromAllTeamsQuietly(player);
         }
@@ -244,22 +260,28 @@ public class TeamHandler {
             return;
         }
 
-        List<Player> shuffledPlayers = new ArrayList<>(players);
-        Collections.shuffle(shuffledPlayers);
+        Map<TeamData, Integer> teamRatings = new HashMap<>();
+        for (TeamData team : teamList) {
+            teamRatings.put(team, team.getPlayers().stream().mapToInt(rating).sum());
+        }
+
+        List<Player> sortedPlayers = new ArrayList<>(players);
+        Collections.shuffle(sortedPlayers);
+        sortedPlayers.sort(Comparator.comparingInt(rating).reversed());
 
-        int teamIndex = 0;
-        for (Player player : shuffledPlayers) {
-            while (teamIndex < teamList.size()) {
-                TeamData team = teamList.get(teamIndex);
-                if (team.addPlayer(player)) {
-                    break;
+        for (Player player : sortedPlayers) {
+            TeamData weakestTeam = null;
+            for (TeamData team : teamList) {
+                if (team.isFull()) continue;
+                if (weakestTeam == null || teamRatings.get(team) < teamRatings.get(weakestTeam)) {
+                    weakestTeam = team;
                 }
-                teamIndex++;
             }
 
-            if (teamIndex >= teamList.size()) {
-                teamIndex = 0;
+            if (weakestTeam == null || !weakestTeam.addPlayer(player)) {
+                continue;
             }
+            teamRatings.merge(weakestTeam, rating.applyAsInt(player), Integer::sum);
         }
 
         updateScoreboardForAllPlayers();
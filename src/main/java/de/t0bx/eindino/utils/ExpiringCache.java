@@ -0,0 +1,192 @@
+package de.t0bx.eindino.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * A small size- and time-bounded cache. Entries expire after they have not been accessed
+ * for the configured duration and the least recently used entries are evicted once the
+ * maximum size is exceeded. Pinned entries are never evicted automatically, they can only
+ * be removed with {@link #invalidate(Object)}.
+ *
+ * All methods are synchronized, the cache is meant for small maps with cheap operations.
+ */
+public class ExpiringCache<K, V> {
+
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    private final int maxSize;
+    private final long expireAfterAccessNanos;
+    private final Predicate<K> pinned;
+    private final BiConsumer<K, V> evictionListener;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a new ExpiringCache without pinned entries and without an eviction listener.
+     *
+     * @param maxSize the maximum number of entries before the least recently used entry is evicted
+     * @param expireAfterAccess the time after the last access after which an entry expires
+     * @param unit the unit of {@code expireAfterAccess}
+     */
+    public ExpiringCache(int maxSize, long expireAfterAccess, TimeUnit unit) {
+        this(maxSize, expireAfterAccess, unit, key -> false, (key, value) -> {});
+    }
+
+    /**
+     * Constructs a new ExpiringCache.
+     *
+     * @param maxSize the maximum number of entries before the least recently used entry is evicted
+     * @param expireAfterAccess the time after the last access after which an entry expires
+     * @param unit the unit of {@code expireAfterAccess}
+     * @param pinned a predicate deciding whether an entry must not be evicted automatically
+     * @param evictionListener called for every entry that is evicted automatically, while the cache is locked
+     */
+    public ExpiringCache(int maxSize, long expireAfterAccess, TimeUnit unit, Predicate<K> pinned, BiConsumer<K, V> evictionListener) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.maxSize = maxSize;
+        this.expireAfterAccessNanos = unit.toNanos(expireAfterAccess);
+        this.pinned = pinned;
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Retrieves the value of the given key and refreshes its access time.
+     * Expired entries are evicted and reported as a miss.
+     *
+     * @param key the key to look up
+     * @return the cached value, or null if there is no valid entry
+     */
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = this.entries.get(key);
+        if (entry == null) {
+            this.misses++;
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (this.isExpired(entry, now) && !this.pinned.test(key)) {
+            this.entries.remove(key);
+            this.evict(key, entry);
+            this.misses++;
+            return null;
+        }
+
+        entry.lastAccess = now;
+        this.hits++;
+        return entry.value;
+    }
+
+    /**
+     * Checks whether a valid entry exists for the given key without counting a hit or miss.
+     *
+     * @param key the key to look up
+     * @return true if an entry exists, false otherwise
+     */
+    public synchronized boolean contains(K key) {
+        CacheEntry<V> entry = this.entries.get(key);
+        return entry != null && (!this.isExpired(entry, System.nanoTime()) || this.pinned.test(key));
+    }
+
+    /**
+     * Stores the value for the given key, replacing any previous value.
+     *
+     * @param key the key to store the value for
+     * @param value the value to store
+     */
+    public synchronized void put(K key, V value) {
+        this.entries.put(key, new CacheEntry<>(value, System.nanoTime()));
+        this.evictOverflow();
+    }
+
+    /**
+     * Stores the value for the given key if there is no valid entry yet.
+     *
+     * @param key the key to store the value for
+     * @param value the value to store
+     * @return the existing value, or null if the given value was stored
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        if (this.contains(key)) {
+            CacheEntry<V> entry = this.entries.get(key);
+            entry.lastAccess = System.nanoTime();
+            return entry.value;
+        }
+
+        this.put(key, value);
+        return null;
+    }
+
+    /**
+     * Removes the entry of the given key without notifying the eviction listener.
+     *
+     * @param key the key to remove
+     * @return the removed value, or null if there was no entry
+     */
+    public synchronized V invalidate(K key) {
+        CacheEntry<V> entry = this.entries.remove(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Evicts all expired entries which are not pinned. Should be called periodically,
+     * since expired entries are otherwise only removed when they are accessed.
+     */
+    public synchronized void cleanUp() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<K, CacheEntry<V>>> iterator = this.entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+            if (this.isExpired(entry.getValue(), now) && !this.pinned.test(entry.getKey())) {
+                iterator.remove();
+                this.evict(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Retrieves the current counters of this cache.
+     *
+     * @return a snapshot of the hit, miss and eviction counters and the current size
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(this.hits, this.misses, this.evictions, this.entries.size());
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, CacheEntry<V>>> iterator = this.entries.entrySet().iterator();
+        while (this.entries.size() > this.maxSize && iterator.hasNext()) {
+            Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+            if (this.pinned.test(entry.getKey())) continue;
+
+            iterator.remove();
+            this.evict(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void evict(K key, CacheEntry<V> entry) {
+        this.evictions++;
+        this.evictionListener.accept(key, entry.value);
+    }
+
+    private boolean isExpired(CacheEntry<V> entry, long now) {
+        return now - entry.lastAccess > this.expireAfterAccessNanos;
+    }
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private long lastAccess;
+
+        private CacheEntry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    public record CacheStats(long hits, long misses, long evictions, int size) {}
+}
@@ -1,53 +1,55 @@
 package de.t0bx.eindino.utils;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
 import de.t0bx.eindino.BedWarsPlugin;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 public class JsonDocument {
 
+    /**
+     * The Gson instance shared by all documents and typed loads. Gson is thread-safe and caches
+     * its type adapters, so building one per document only wasted allocations.
+     * HTML escaping is disabled and the output is pretty printed.
+     */
+    public static final Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+
     @Getter
     @Setter
     private JsonObject jsonObject;
 
-    private final Gson gson;
-
     /**
      * Constructs a new, empty {@code JsonDocument} instance.
-     *
-     * This constructor initializes the underlying {@code JsonObject} to an empty object
-     * and configures the {@code Gson} instance with specific settings:
-     * - Disables HTML escaping.
-     * - Enables pretty printing of JSON data.
      */
     public JsonDocument() {
         this.jsonObject = new JsonObject();
-        this.gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
     }
 
     /**
      * Constructs a new {@code JsonDocument} instance using the provided {@code JsonObject}.
-     * This constructor initializes the internal {@code jsonObject} field and configures
-     * a Gson instance with specific settings such as disabling HTML escaping and enabling
-     * pretty printing.
      *
      * @param jsonObject the {@code JsonObject} to be used as the underlying data structure
      *                   for this {@code JsonDocument}. Cannot be null.
      */
     public JsonDocument(JsonObject jsonObject) {
         this.jsonObject = jsonObject;
-        this.gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
     }
 
     /**
-     * Loads a JSON document from the specified file.
+     * Loads a JSON document from the specified file, which is read as UTF-8.
      *
      * This method attempts to parse the provided file into a {@code JsonDocument} object.
      * In case of any exceptions (e.g., invalid JSON format or file read errors), it returns {@code null}.
@@ -56,27 +58,75 @@ public class JsonDocument {
      * @return the loaded {@code JsonDocument} instance, or {@code null} if an error occurs during loading
      */
     public static JsonDocument loadDocument(File file) {
-        try{
-            return new JsonDocument((JsonObject) JsonParser.parseReader(new FileReader(file)));
-        }catch(Exception e){
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            JsonElement element = JsonParser.parseReader(reader);
+            return element.isJsonObject() ? new JsonDocument(element.getAsJsonObject()) : null;
+        } catch (IOException | RuntimeException exception) {
             return null;
         }
     }
 
+    /**
+     * Reads the specified file straight into an object of the given type. The file is streamed
+     * through a {@link JsonReader}, so no intermediate {@code JsonObject} tree is built.
+     * Records are supported, missing keys keep the default value of their component.
+     *
+     * @param file the file to read, encoded in UTF-8
+     * @param type the class of the object to create
+     * @return the read object, or {@code null} if the file does not exist or is empty
+     * @throws IOException if the file could not be read
+     * @throws JsonParseException if the file is not valid JSON or does not match the type
+     */
+    public static <T> T load(File file, Class<T> type) throws IOException {
+        try (JsonReader jsonReader = new JsonReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            return GSON.fromJson(jsonReader, type);
+        } catch (NoSuchFileException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the given object to the specified file, see {@link #save(File)}.
+     *
+     * @param file the file to write
+     * @param value the object to serialize with the shared Gson instance
+     * @throws IOException if an I/O error occurs during the file writing process.
+     */
+    public static void save(File file, Object value) throws IOException {
+        writeAtomically(file, writer -> GSON.toJson(value, writer));
+    }
+
     /**
      * Saves the contents of the JsonObject to the specified file. If the parent directory
      * of the file does not exist, it will be created. The content is saved in UTF-8 encoding.
+     * The document is written to a temporary file first which then replaces the target,
+     * so a crash while saving never leaves a half-written file behind.
      *
      * @param file the file to which the JsonObject should be saved; must not be null.
      * @throws IOException if an I/O error occurs during the file writing process.
      */
     public void save(File file) throws IOException {
-        if (!file.getParentFile().exists()) {
-            file.getParentFile().mkdir();
-        }
+        writeAtomically(file, writer -> GSON.toJson(this.jsonObject, writer));
+    }
+
+    private static void writeAtomically(File file, Consumer<Writer> content) throws IOException {
+        Path target = file.toPath().toAbsolutePath();
+        Files.createDirectories(target.getParent());
+
+        Path temp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                content.accept(writer);
+            }
 
-        try (OutputStreamWriter outputStreamWriter = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
-            gson.toJson(jsonObject, outputStreamWriter);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(temp);
+            throw exception;
         }
     }
 
@@ -193,7 +243,7 @@ public class JsonDocument {
                     case Boolean b -> parentObj.addProperty(lastPart, b);
                     case JsonElement element -> parentObj.add(lastPart, element);
                     case null -> parentObj.add(lastPart, JsonNull.INSTANCE);
-                    default -> parentObj.add(lastPart, gson.toJsonTree(value));
+                    default -> parentObj.add(lastPart, GSON.toJsonTree(value));
                 }
 
             }
@@ -220,6 +270,6 @@ public class JsonDocument {
      */
     @Override
     public String toString() {
-        return gson.toJson(jsonObject);
+        return GSON.toJson(jsonObject);
     }
 }
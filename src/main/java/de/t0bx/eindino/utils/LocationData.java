@@ -0,0 +1,48 @@
+package de.t0bx.eindino.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * A location as it is stored in the JSON files, bound to a world by name only.
+ * Gson reads and writes it directly, the components are in the order of the existing files.
+ *
+ * @param x the x coordinate
+ * @param y the y coordinate
+ * @param z the z coordinate
+ * @param yaw the yaw
+ * @param pitch the pitch
+ * @param world the name of the world
+ */
+public record LocationData(double x, double y, double z, float yaw, float pitch, String world) {
+
+    /**
+     * Creates the stored form of a Bukkit location.
+     *
+     * @param location the location to store, must have a world
+     * @return the stored form of the location
+     */
+    public static LocationData of(Location location) {
+        return new LocationData(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch(), location.getWorld().getName());
+    }
+
+    /**
+     * Creates a Bukkit location in the given world.
+     *
+     * @param world the world to bind the location to, may be null
+     * @return a new location with the stored coordinates
+     */
+    public Location toLocation(World world) {
+        return new Location(world, this.x, this.y, this.z, this.yaw, this.pitch);
+    }
+
+    /**
+     * Creates a Bukkit location in the world with the stored name.
+     *
+     * @return a new location, its world is null if the world is not loaded
+     */
+    public Location toLocation() {
+        return this.toLocation(Bukkit.getWorld(this.world));
+    }
+}
@@ -1,32 +1,24 @@
 package de.t0bx.eindino.utils;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
 
 /**
  * A utility class that retrieves player names based on UUIDs from either
  * the Minecraft Java Edition API or the Bedrock Edition API.
  *
- * It performs caching for efficient repeated lookups and supports
- * asynchronous retrieval for better performance in multi-threaded environments.
+ * Lookups are cached in the shared {@link ProfileCache} and concurrent lookups of the same
+ * UUID share a single request. The requests are sent with the shared {@link ProfileHttpClient}.
  */
 public class NameFetcher {
     private static final String MINECRAFT_API_URL = "https://sessionserver.mojang.com/session/minecraft/profile/";
     private static final String XBOX_API_URL = "https://mcprofile.io/api/v1/bedrock/fuid/";
-    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool();
-    private static final ConcurrentHashMap<UUID, String> UUID_NAME_CACHE = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<UUID, Boolean> BEDROCK_PLAYER_CACHE = new ConcurrentHashMap<>();
+    private static final ProfileHttpClient HTTP_CLIENT = ProfileHttpClient.getInstance();
+    private static final ProfileCache PROFILE_CACHE = ProfileCache.getInstance();
 
     /**
      * Retrieves the name associated with the given UUID. The method checks if the name is
@@ -41,35 +33,28 @@ public class NameFetcher {
             throw new IllegalArgumentException("UUID cannot be null");
         }
 
-        if (UUID_NAME_CACHE.containsKey(uuid)) {
-            String name = UUID_NAME_CACHE.get(uuid);
-            boolean isBedrock = BEDROCK_PLAYER_CACHE.getOrDefault(uuid, false);
-            return isBedrock ? "." + name : name;
-        }
-
         try {
-            return fetchJavaName(uuid);
-        } catch (Exception e) {
-            return fetchBedrockName(uuid);
+            return getNameAsync(uuid).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
         }
     }
 
     /**
      * Retrieves the name associated with the given UUID asynchronously.
-     * This method executes the name retrieval process in a separate thread using the configured executor.
+     * Cached names are returned immediately, otherwise the Java API is asked first and the Bedrock API
+     * if the Java lookup fails. Concurrent calls for the same UUID share one request.
      *
      * @param uuid the UUID for which the name should be retrieved; must not be null
      * @return a CompletableFuture that will complete with the name associated with the given UUID,
      *         or complete exceptionally if an error occurs during name retrieval
      */
     public static CompletableFuture<String> getNameAsync(UUID uuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getName(uuid);
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to fetch name for " + uuid, e);
-            }
-        }, EXECUTOR);
+        if (uuid == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("UUID cannot be null"));
+        }
+
+        return PROFILE_CACHE.resolveName(uuid, () -> fetchJavaName(uuid).exceptionallyCompose(e -> fetchBedrockName(uuid)));
     }
 
     /**
@@ -77,56 +62,33 @@ public class NameFetcher {
      *
      * The method sends a HTTP GET request to the Minecraft API to retrieve the
      * name associated with the specified UUID. If the request is successful,
-     * the player's name is cached for future use. In case of an error, an
-     * exception will be thrown.
+     * the player's name is cached for future use.
      *
      * @param uuid the UUID of the Java edition Minecraft player
-     * @return the name of the Java edition Minecraft player
-     * @throws Exception if there is an error during the HTTP request or response parsing
+     * @return a CompletableFuture containing the name of the Java edition Minecraft player,
+     *         completed exceptionally if the request fails
      */
-    private static String fetchJavaName(UUID uuid) throws Exception {
-        HttpURLConnection connection = (HttpURLConnection) new URL(MINECRAFT_API_URL + uuid.toString().replace("-", "")).openConnection();
-        connection.setRequestMethod("GET");
-
-        if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-                JsonObject response = JsonParser.parseReader(reader).getAsJsonObject();
-                String name = response.get("name").getAsString();
-
-                UUID_NAME_CACHE.put(uuid, name);
-                BEDROCK_PLAYER_CACHE.put(uuid, false);
-
-                return name;
-            }
-        } else {
-            throw new Exception("failed to fetch name " + connection.getResponseCode());
-        }
+    private static CompletableFuture<String> fetchJavaName(UUID uuid) {
+        return HTTP_CLIENT.getJson(URI.create(MINECRAFT_API_URL + uuid.toString().replace("-", ""))).thenApply(response -> {
+            String name = response.get("name").getAsString();
+            PROFILE_CACHE.put(uuid, name);
+            return name;
+        });
     }
 
     /**
      * Fetches the Bedrock gamertag of a player based on their UUID by making an HTTP request to the Xbox API.
-     * Caches the result for future use and marks the player as a Bedrock player in the cache.
+     * Caches the result for future use, prefixed with a dot to mark the player as a Bedrock player.
      *
      * @param uuid the unique identifier (UUID) of the player whose Bedrock gamertag is to be fetched
-     * @return the Bedrock gamertag of the player prefixed with a dot (e.g., ".gamertag")
-     * @throws Exception if the request fails or the response code is not HTTP 200 (OK)
+     * @return a CompletableFuture containing the Bedrock gamertag of the player prefixed with a dot (e.g., ".gamertag"),
+     *         completed exceptionally if the request fails
      */
-    private static String fetchBedrockName(UUID uuid) throws Exception {
-        HttpURLConnection connection = (HttpURLConnection) new URL(XBOX_API_URL + uuid.toString()).openConnection();
-        connection.setRequestMethod("GET");
-
-        if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-                JsonObject response = JsonParser.parseReader(reader).getAsJsonObject();
-                String name = response.get("gamertag").getAsString();
-
-                UUID_NAME_CACHE.put(uuid, name);
-                BEDROCK_PLAYER_CACHE.put(uuid, true);
-
-                return "." + name;
-            }
-        } else {
-            throw new Exception("failed to fetch name " + connection.getResponseCode());
-        }
+    private static CompletableFuture<String> fetchBedrockName(UUID uuid) {
+        return HTTP_CLIENT.getJson(URI.create(XBOX_API_URL + uuid)).thenApply(response -> {
+            String name = "." + response.get("gamertag").getAsString();
+            PROFILE_CACHE.put(uuid, name);
+            return name;
+        });
     }
-}
\ No newline at end of file
+}
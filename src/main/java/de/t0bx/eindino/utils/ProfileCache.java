@@ -0,0 +1,236 @@
+package de.t0bx.eindino.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A bidirectional cache of player names and UUIDs shared by {@link NameFetcher} and {@link UUIDFetcher}.
+ * Entries expire after a fixed time, since names can change. The cache is persisted to a small binary
+ * file, so lookups survive the restart after every round. Concurrent misses for the same key share a
+ * single in-flight request instead of each firing their own HTTP call.
+ *
+ * Bedrock players are stored with the dot prefix in their name, exactly as they are returned by the fetchers.
+ */
+public class ProfileCache {
+
+    private static final int FILE_VERSION = 1;
+    private static final long TTL_MILLIS = TimeUnit.DAYS.toMillis(7);
+    private static final int MAX_PERSISTED_ENTRIES = 10_000;
+
+    private static final ProfileCache INSTANCE = new ProfileCache();
+
+    private final Map<UUID, Entry> byUUID;
+    private final Map<String, Entry> byName;
+    private final Map<UUID, CompletableFuture<String>> pendingNames;
+    private final Map<String, CompletableFuture<UUID>> pendingUUIDs;
+
+    private volatile File file;
+    private volatile boolean dirty;
+
+    private ProfileCache() {
+        this.byUUID = new ConcurrentHashMap<>();
+        this.byName = new ConcurrentHashMap<>();
+        this.pendingNames = new ConcurrentHashMap<>();
+        this.pendingUUIDs = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Retrieves the cache shared by all fetchers.
+     *
+     * @return the shared ProfileCache
+     */
+    public static ProfileCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Retrieves the cached name of a player.
+     *
+     * @param uuid the unique identifier of the player
+     * @return the name, or null if the player is not cached or the entry has expired
+     */
+    public String getName(UUID uuid) {
+        Entry entry = this.byUUID.get(uuid);
+        return entry != null && !entry.isExpired() ? entry.name() : null;
+    }
+
+    /**
+     * Retrieves the cached UUID of a player. Names are compared case-insensitively.
+     *
+     * @param name the name of the player, with the dot prefix for Bedrock players
+     * @return the UUID, or null if the name is not cached or the entry has expired
+     */
+    public UUID getUUID(String name) {
+        Entry entry = this.byName.get(this.normalize(name));
+        return entry != null && !entry.isExpired() ? entry.uuid() : null;
+    }
+
+    /**
+     * Stores a name and UUID pair in both directions. An older name of the same player is removed.
+     *
+     * @param uuid the unique identifier of the player
+     * @param name the name of the player, with the dot prefix for Bedrock players
+     */
+    public void put(UUID uuid, String name) {
+        this.put(new Entry(uuid, name, System.currentTimeMillis()));
+        this.dirty = true;
+    }
+
+    /**
+     * Resolves the name of a player, sharing the request with all concurrent callers for the same UUID.
+     *
+     * @param uuid the unique identifier of the player
+     * @param loader starts the remote lookup if the name is neither cached nor already requested
+     * @return a CompletableFuture containing the name
+     */
+    public CompletableFuture<String> resolveName(UUID uuid, Supplier<CompletableFuture<String>> loader) {
+        String cached = this.getName(uuid);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        return this.coalesce(this.pendingNames, uuid, loader);
+    }
+
+    /**
+     * Resolves the UUID of a player, sharing the request with all concurrent callers for the same name.
+     *
+     * @param name the name of the player, with the dot prefix for Bedrock players
+     * @param loader starts the remote lookup if the UUID is neither cached nor already requested
+     * @return a CompletableFuture containing the UUID
+     */
+    public CompletableFuture<UUID> resolveUUID(String name, Supplier<CompletableFuture<UUID>> loader) {
+        UUID cached = this.getUUID(name);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        return this.coalesce(this.pendingUUIDs, this.normalize(name), loader);
+    }
+
+    /**
+     * Loads the persisted entries from the given file in the background. Entries which are put
+     * while the file is loading take precedence over the persisted ones.
+     *
+     * @param file the file the cache is persisted to
+     * @return a CompletableFuture which completes once the file is loaded
+     */
+    public CompletableFuture<Void> load(File file) {
+        this.file = file;
+        return CompletableFuture.runAsync(() -> {
+            if (!file.exists()) return;
+
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+                if (input.readInt() != FILE_VERSION) return;
+
+                int size = input.readInt();
+                for (int i = 0; i < size; i++) {
+                    Entry entry = new Entry(new UUID(input.readLong(), input.readLong()), input.readUTF(), input.readLong());
+                    if (entry.isExpired()) continue;
+
+                    this.byUUID.putIfAbsent(entry.uuid(), entry);
+                    this.byName.putIfAbsent(this.normalize(entry.name()), entry);
+                }
+            } catch (EOFException ignored) {
+                // a truncated file, the entries read so far are kept
+            } catch (IOException exception) {
+                exception.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Writes all valid entries to the file if anything changed since the last save. The newest entries
+     * are kept if the cache is larger than the persisted limit. The file is replaced atomically, so a
+     * crash while saving never leaves a broken file behind.
+     */
+    public synchronized void save() {
+        File target = this.file;
+        if (target == null || !this.dirty) return;
+        this.dirty = false;
+
+        List<Entry> entries = new ArrayList<>();
+        for (Entry entry : this.byUUID.values()) {
+            if (!entry.isExpired()) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::fetchedAt).reversed());
+        if (entries.size() > MAX_PERSISTED_ENTRIES) {
+            entries = entries.subList(0, MAX_PERSISTED_ENTRIES);
+        }
+
+        File temporary = new File(target.getParentFile(), target.getName() + ".tmp");
+        try {
+            if (target.getParentFile() != null) {
+                target.getParentFile().mkdirs();
+            }
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary.toPath())))) {
+                output.writeInt(FILE_VERSION);
+                output.writeInt(entries.size());
+                for (Entry entry : entries) {
+                    output.writeLong(entry.uuid().getMostSignificantBits());
+                    output.writeLong(entry.uuid().getLeastSignificantBits());
+                    output.writeUTF(entry.name());
+                    output.writeLong(entry.fetchedAt());
+                }
+            }
+            Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            this.dirty = true;
+            exception.printStackTrace();
+        }
+    }
+
+    private void put(Entry entry) {
+        Entry previous = this.byUUID.put(entry.uuid(), entry);
+        if (previous != null && !previous.name().equalsIgnoreCase(entry.name())) {
+            this.byName.remove(this.normalize(previous.name()), previous);
+        }
+        this.byName.put(this.normalize(entry.name()), entry);
+    }
+
+    private <K, V> CompletableFuture<V> coalesce(Map<K, CompletableFuture<V>> pending, K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = pending.putIfAbsent(key, future);
+        if (existing != null) return existing;
+
+        try {
+            loader.get().whenComplete((value, exception) -> {
+                pending.remove(key, future);
+                if (exception != null) {
+                    future.completeExceptionally(exception);
+                } else {
+                    future.complete(value);
+                }
+            });
+        } catch (RuntimeException exception) {
+            pending.remove(key, future);
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    private String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(UUID uuid, String name, long fetchedAt) {
+        private boolean isExpired() {
+            return System.currentTimeMillis() - this.fetchedAt > TTL_MILLIS;
+        }
+    }
+}
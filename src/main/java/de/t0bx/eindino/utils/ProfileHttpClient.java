@@ -0,0 +1,138 @@
+package de.t0bx.eindino.utils;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The HTTP client used by {@link NameFetcher} and {@link UUIDFetcher} for profile lookups.
+ * All requests share one pooled {@link HttpClient} and run on virtual threads, so a slow endpoint
+ * can never pile up platform threads. Every request has a connect and a response timeout, the number
+ * of concurrent requests is limited and rate limited (429) or unavailable (5xx) responses are retried
+ * with exponential backoff, honouring the {@code Retry-After} header.
+ *
+ * The limits are passed to the constructor, so the client can be run against a local stub server.
+ */
+public class ProfileHttpClient {
+
+    private static final ProfileHttpClient INSTANCE = new ProfileHttpClient(
+            Duration.ofSeconds(3), Duration.ofSeconds(5), 8, 4, Duration.ofMillis(250), Duration.ofSeconds(10));
+
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final Semaphore permits;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    /**
+     * Constructs a new ProfileHttpClient.
+     *
+     * @param connectTimeout the maximum time to establish a connection
+     * @param requestTimeout the maximum time to wait for a response
+     * @param maxConcurrentRequests the maximum number of requests in flight at the same time
+     * @param maxAttempts the maximum number of attempts per request, including the first one
+     * @param initialBackoff the delay before the first retry, doubled for every further retry
+     * @param maxBackoff the upper bound of a single delay, also applied to {@code Retry-After}
+     */
+    public ProfileHttpClient(Duration connectTimeout, Duration requestTimeout, int maxConcurrentRequests,
+                             int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bedwars-profile-http-", 0).factory());
+        this.httpClient = HttpClient.newBuilder()
+                .executor(this.executor)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.requestTimeout = requestTimeout;
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Retrieves the client shared by all fetchers.
+     *
+     * @return the shared ProfileHttpClient
+     */
+    public static ProfileHttpClient getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sends a GET request and parses the response body as a JSON object.
+     *
+     * @param uri the URI to request
+     * @return a CompletableFuture containing the response, completed exceptionally with an
+     *         {@link IOException} if the request failed or the status code was not 200
+     */
+    public CompletableFuture<JsonObject> getJson(URI uri) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(this.requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return JsonParser.parseString(this.send(request)).getAsJsonObject();
+            } catch (IOException exception) {
+                throw new CompletionException(exception);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(exception);
+            }
+        }, this.executor);
+    }
+
+    private String send(HttpRequest request) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            HttpResponse<String> response;
+            this.permits.acquire();
+            try {
+                response = this.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            } finally {
+                this.permits.release();
+            }
+
+            int status = response.statusCode();
+            if (status == 200) return response.body();
+
+            boolean retryable = status == 429 || status >= 500;
+            if (!retryable || attempt >= this.maxAttempts) {
+                throw new IOException("Request to " + request.uri() + " failed with status " + status);
+            }
+            Thread.sleep(this.getBackoff(response, attempt).toMillis());
+        }
+    }
+
+    private Duration getBackoff(HttpResponse<?> response, int attempt) {
+        Optional<String> retryAfter = response.headers().firstValue("Retry-After");
+        if (retryAfter.isPresent()) {
+            try {
+                Duration delay = Duration.ofSeconds(Long.parseLong(retryAfter.get().trim()));
+                return delay.compareTo(this.maxBackoff) > 0 ? this.maxBackoff : delay;
+            } catch (NumberFormatException ignored) {
+                // an HTTP date, fall back to the exponential backoff
+            }
+        }
+
+        long backoffMillis = Math.min(this.maxBackoff.toMillis(), this.initialBackoff.toMillis() << (attempt - 1));
+        long jitterMillis = ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+        return Duration.ofMillis(backoffMillis / 2 + jitterMillis);
+    }
+}
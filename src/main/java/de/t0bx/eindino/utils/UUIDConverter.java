@@ -0,0 +1,33 @@
+package de.t0bx.eindino.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+public class UUIDConverter {
+
+    /**
+     * Converts a UUID into the 16 byte representation stored in {@code BINARY(16)} columns.
+     *
+     * @param uuid the UUID to convert
+     * @return the 16 bytes of the UUID, most significant bits first
+     */
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Converts the 16 byte representation of a {@code BINARY(16)} column back into a UUID.
+     *
+     * @param bytes the 16 bytes of the UUID
+     * @return the UUID, or null if the bytes are null or not 16 bytes long
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) return null;
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -1,18 +1,13 @@
 package de.t0bx.eindino.utils;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
 
 /**
  * A utility class for fetching UUIDs associated with Minecraft player names.
@@ -21,11 +16,12 @@ import java.util.concurrent.Executors;
  * names are handled using an external API.
  *
  * The class provides both synchronous and asynchronous methods for fetching UUIDs.
- * It also maintains a cache to optimize and reduce repeated API calls for the same player names.
+ * Results are kept in the shared {@link ProfileCache} to reduce repeated API calls for the same player names,
+ * concurrent lookups of the same name share a single request.
  *
  * Thread-safety:
- * - The class is thread-safe as it uses a {@link ConcurrentHashMap} for caching and an
- *   {@link ExecutorService} for asynchronous requests.
+ * - The class is thread-safe as it uses the thread-safe {@link ProfileCache} and the shared
+ *   {@link ProfileHttpClient} for asynchronous requests.
  *
  * Methods Summary:
  * - `getUUID(String name)` - Retrieves the UUID for a player name, supports both Java and Bedrock Edition.
@@ -34,8 +30,8 @@ import java.util.concurrent.Executors;
 public class UUIDFetcher {
     private static final String MINECRAFT_API_URL = "https://api.mojang.com/users/profiles/minecraft/";
     private static final String XBOX_API_URL = "https://mcprofile.io/api/v1/bedrock/gamertag/";
-    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool();
-    private static final ConcurrentHashMap<String, UUID> NAME_UUID_CACHE = new ConcurrentHashMap<>();
+    private static final ProfileHttpClient HTTP_CLIENT = ProfileHttpClient.getInstance();
+    private static final ProfileCache PROFILE_CACHE = ProfileCache.getInstance();
 
     /**
      * Retrieves a UUID for the given player name. The name can represent
@@ -54,17 +50,10 @@ public class UUIDFetcher {
             throw new IllegalArgumentException("Name cannot be null or empty.");
         }
 
-        if (NAME_UUID_CACHE.containsKey(name)) {
-            return NAME_UUID_CACHE.get(name);
-        }
-
-        boolean isBedrock = name.startsWith(".");
-        String actualName = isBedrock ? name.substring(1) : name;
-
-        if (isBedrock) {
-            return fetchBedrockUUID(actualName);
-        } else {
-            return fetchJavaUUID(actualName);
+        try {
+            return getUUIDAsync(name).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
         }
     }
 
@@ -73,19 +62,21 @@ public class UUIDFetcher {
      * represent either a Java or a Bedrock player. If the name begins with a
      * period ("."), it is considered a Bedrock player name. This method uses a
      * completable future to perform the operation in a non-blocking manner.
+     * Cached UUIDs are returned immediately and concurrent calls for the same name share one request.
      *
      * @param name the player's name whose UUID is to be fetched; must not be null or empty.
      *             If it starts with ".", the name is treated as a Bedrock player's name.
      * @return a {@code CompletableFuture} containing the UUID associated with the given name.
      */
     public static CompletableFuture<UUID> getUUIDAsync(String name) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getUUID(name);
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to fetch uuid for " + name, e);
-            }
-        }, EXECUTOR);
+        if (name == null || name.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Name cannot be null or empty."));
+        }
+
+        boolean isBedrock = name.startsWith(".");
+        String actualName = isBedrock ? name.substring(1) : name;
+
+        return PROFILE_CACHE.resolveUUID(name, () -> isBedrock ? fetchBedrockUUID(actualName) : fetchJavaUUID(actualName));
     }
 
     /**
@@ -96,28 +87,17 @@ public class UUIDFetcher {
      *
      * @param name The name of the Java Minecraft player for which the UUID is to be fetched.
      *             Must not be null or empty.
-     * @return The UUID associated with the given Java player name.
-     * @throws Exception If the UUID could not be retrieved from the Mojang API
-     *                   or in case of HTTP errors.
+     * @return a CompletableFuture containing the UUID associated with the given Java player name,
+     *         completed exceptionally if the request fails
      */
-    private static UUID fetchJavaUUID(String name) throws Exception {
-        HttpURLConnection connection = (HttpURLConnection) new URL(MINECRAFT_API_URL + name).openConnection();
-        connection.setRequestMethod("GET");
-
-        if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-                JsonObject response = JsonParser.parseReader(reader).getAsJsonObject();
-                String id = response.get("id").getAsString();
-
-                UUID uuid = UUID.fromString(id.replaceAll("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})", "$1-$2-$3-$4-$5"));
-                NAME_UUID_CACHE.put(name, uuid);
-                NAME_UUID_CACHE.put("." + name, uuid);
-
-                return uuid;
-            }
-        } else {
-            throw new Exception("Failed to fetch UUID " + connection.getResponseCode());
-        }
+    private static CompletableFuture<UUID> fetchJavaUUID(String name) {
+        return HTTP_CLIENT.getJson(URI.create(MINECRAFT_API_URL + encode(name))).thenApply(response -> {
+            String id = response.get("id").getAsString();
+
+            UUID uuid = UUID.fromString(id.replaceAll("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})", "$1-$2-$3-$4-$5"));
+            PROFILE_CACHE.put(uuid, response.get("name").getAsString());
+            return uuid;
+        });
     }
 
     /**
@@ -127,25 +107,18 @@ public class UUIDFetcher {
      *
      * @param name The name of the Bedrock Minecraft player for which the UUID is to be fetched.
      *             Must not be null or empty.
-     * @return The UUID associated with the given Bedrock player name.
-     * @throws Exception If the UUID cannot be retrieved from the API or in case of HTTP errors.
+     * @return a CompletableFuture containing the UUID associated with the given Bedrock player name,
+     *         completed exceptionally if the request fails
      */
-    private static UUID fetchBedrockUUID(String name) throws Exception {
-        HttpURLConnection connection = (HttpURLConnection) new URL(XBOX_API_URL + name).openConnection();
-        connection.setRequestMethod("GET");
-
-        if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-                JsonObject response = JsonParser.parseReader(reader).getAsJsonObject();
-                String id = response.get("floodgateuid").getAsString();
-
-                UUID uuid = UUID.fromString(id);
-                NAME_UUID_CACHE.put("." + name, uuid);
+    private static CompletableFuture<UUID> fetchBedrockUUID(String name) {
+        return HTTP_CLIENT.getJson(URI.create(XBOX_API_URL + encode(name))).thenApply(response -> {
+            UUID uuid = UUID.fromString(response.get("floodgateuid").getAsString());
+            PROFILE_CACHE.put(uuid, "." + name);
+            return uuid;
+        });
+    }
 
-                return uuid;
-            }
-        } else {
-            throw new Exception("Failed to get UUID" + connection.getResponseCode());
-        }
+    private static String encode(String name) {
+        return URLEncoder.encode(name, StandardCharsets.UTF_8).replace("+", "%20");
     }
 }
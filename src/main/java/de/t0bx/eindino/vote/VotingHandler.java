@@ -1,18 +1,23 @@
 package de.t0bx.eindino.vote;
 
 import de.t0bx.eindino.BedWarsPlugin;
+import de.t0bx.eindino.arena.Arena;
+import de.t0bx.eindino.arena.ArenaManager;
 import de.t0bx.eindino.map.MapHandler;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.entity.Player;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class VotingHandler {
+    private final Arena arena;
     private final MapHandler mapHandler;
+    private final String playType;
     private final ConcurrentHashMap<Player, String> mapVotes;
     private final ConcurrentHashMap<Player, Boolean> goldVotes;
 
@@ -24,25 +29,49 @@ public class VotingHandler {
     @Setter
     private String forceMapName;
 
-    public VotingHandler() {
+    public VotingHandler(Arena arena) {
+        this.arena = arena;
         this.mapHandler = BedWarsPlugin.getInstance().getMapHandler();
+        this.playType = arena.getPlayType();
         this.mapVotes = new ConcurrentHashMap<>();
         this.goldVotes = new ConcurrentHashMap<>();
         this.isForceMap = false;
         this.forceMapName = null;
     }
 
+    /**
+     * Retrieves the maps that can be voted for in this arena: saved, complete maps that are
+     * built for the arena's play type and not played by another arena right now.
+     *
+     * @return the names of the maps in the voting pool
+     */
+    public List<String> getMapPool() {
+        ArenaManager arenaManager = BedWarsPlugin.getInstance().getArenaManager();
+        return this.mapHandler.getPlayableMapNames(this.playType).stream()
+                .filter(mapName -> !arenaManager.isMapInUse(mapName, this.arena))
+                .toList();
+    }
+
     public void forceMap(String forceMapName) {
         this.setForceMapName(forceMapName);
         if (!this.isForceMap) {
             this.setForceMap(true);
         }
+        this.mapHandler.preloadMap(forceMapName);
     }
 
+    /**
+     * Adds the vote of a player and starts loading the map that currently leads the voting,
+     * so the winning map is usually loaded already once the voting ends.
+     *
+     * @param player the voting player
+     * @param mapName the name of the map the player voted for
+     */
     public void addVote(Player player, String mapName) {
-        if (this.mapHandler.getMap(mapName) != null) {
+        if (this.getMapPool().contains(mapName)) {
             if (!this.mapVotes.containsKey(player)) {
                 this.mapVotes.put(player, mapName);
+                this.mapHandler.preloadMap(this.getVotedMap());
             }
         }
     }
@@ -83,6 +112,16 @@ public class VotingHandler {
         this.mapVotes.clear();
     }
 
+    /**
+     * Resets all map and gold votes as well as a forced map, so the next round starts a fresh voting.
+     */
+    public void resetVoting() {
+        this.mapVotes.clear();
+        this.goldVotes.clear();
+        this.setForceMap(false);
+        this.setForceMapName(null);
+    }
+
     public boolean hasVoted(Player player) {
         return this.mapVotes.containsKey(player);
     }
@@ -117,7 +156,7 @@ public class VotingHandler {
 
     public int getVotesFromMap(String mapName) {
         int votes = 0;
-        if (this.mapHandler.getMap(mapName) != null) {
+        if (this.getMapPool().contains(mapName)) {
             for (Map.Entry<Player, String> entry : this.mapVotes.entrySet()) {
                 if (entry.getValue().equals(mapName)) {
                     votes++;
@@ -128,21 +167,25 @@ public class VotingHandler {
     }
 
     public String getVotedMap() {
-        if (this.mapHandler.getMapNames().isEmpty()) {
+        List<String> mapPool = this.getMapPool();
+        if (mapPool.isEmpty()) {
             return "NO MAP";
         } else {
-            if (!this.isForceMap) {
+            // a forced map may have been taken by another arena in the meantime
+            if (!this.isForceMap || !mapPool.contains(this.getForceMapName())) {
                 if (this.mapVotes.isEmpty()) {
-                    if (this.mapHandler.getMapNames().size() == 1) {
-                        return this.mapHandler.getMapNames().getFirst();
+                    if (mapPool.size() == 1) {
+                        return mapPool.getFirst();
                     }
 
-                    int randomNumber = new Random().nextInt(0, this.mapHandler.getMapNames().size());
-                    return this.mapHandler.getMapNames().get(randomNumber);
+                    int randomNumber = new Random().nextInt(0, mapPool.size());
+                    return mapPool.get(randomNumber);
                 } else {
                     Map<String, Integer> voteCount = new HashMap<>();
 
                     for (String mapName : this.mapVotes.values()) {
+                        if (!mapPool.contains(mapName)) continue;
+
                         voteCount.put(mapName, voteCount.getOrDefault(mapName, 0) + 1);
                     }
 
@@ -156,7 +199,7 @@ public class VotingHandler {
                         }
                     }
 
-                    return mostVotedMap;
+                    return mostVotedMap != null ? mostVotedMap : mapPool.get(new Random().nextInt(0, mapPool.size()));
                 }
             } else {
                 return this.getForceMapName();